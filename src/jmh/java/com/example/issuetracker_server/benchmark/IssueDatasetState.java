@@ -0,0 +1,72 @@
+package com.example.issuetracker_server.benchmark;
+
+import com.example.issuetracker_server.IssueTrackerServerApplication;
+import com.example.issuetracker_server.datagen.DatasetSpec;
+import com.example.issuetracker_server.datagen.GeneratedDataset;
+import com.example.issuetracker_server.datagen.SyntheticDataGenerator;
+import com.example.issuetracker_server.storage.MemoryStore;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트와 데이터셋.
+ * 포크마다 웹 서버 없이 컨텍스트를 띄우고, 인메모리 H2 에 SyntheticDataGenerator 로 {@link #dataset} 크기의 데이터를 채운다.
+ * 측정은 이슈가 가장 많은 프로젝트({@link #projectId})를 대상으로 한다.
+ * storage=memory 이면 memory 프로필로 띄우고 같은 데이터를 MemoryStore 로 옮겨 그쪽 리포지토리로 잰다.
+ */
+@State(Scope.Benchmark)
+public class IssueDatasetState {
+
+    // small/medium/large = 전체 이슈 1천/10만/100만 개
+    @Param({"small", "medium", "large"})
+    public String dataset;
+
+    // jpa = H2/Hibernate, memory = MemoryStore
+    @Param({"jpa", "memory"})
+    public String storage;
+
+    public ConfigurableApplicationContext context;
+
+    public GeneratedDataset generated;
+
+    public Long projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(IssueTrackerServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:jmh_" + dataset + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "sql.monitor.slow-request-ms=" + Long.MAX_VALUE,
+                        "storage.memory.dir=build/tmp/jmh-memory-store/" + dataset + "-" + System.nanoTime(),
+                        "storage.memory.snapshot-interval-s=0");
+        if ("memory".equals(storage))
+            application.profiles("memory");
+        context = application.run();
+        generated = context.getBean(SyntheticDataGenerator.class)
+                .generate(DatasetSpec.preset(dataset, DatasetSpec.DEFAULT_SEED, null));
+        if ("memory".equals(storage))
+            MemoryDatasetCopier.copy(context.getBean(JdbcTemplate.class), context.getBean(MemoryStore.class));
+        projectId = generated.largestProject().id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
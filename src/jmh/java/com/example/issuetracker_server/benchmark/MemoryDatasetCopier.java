@@ -0,0 +1,67 @@
+package com.example.issuetracker_server.benchmark;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.storage.MemoryRecords.CommentRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.IssueRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberProjectRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.ProjectRecord;
+import com.example.issuetracker_server.storage.MemoryStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * SyntheticDataGenerator 가 H2 에 만든 데이터셋을 MemoryStore 로 그대로 옮긴다 (id 유지).
+ * 두 저장 엔진을 같은 데이터로 비교하기 위해 storage=memory 일 때만 쓴다.
+ */
+final class MemoryDatasetCopier {
+
+    private MemoryDatasetCopier() {
+    }
+
+    static void copy(JdbcTemplate jdbcTemplate, MemoryStore store) {
+        jdbcTemplate.query("SELECT id, password, name, mail FROM member", (ResultSet rs) -> {
+            MemberRecord member = new MemberRecord(rs.getString("id"), rs.getString("password"),
+                    rs.getString("name"), rs.getString("mail"));
+            store.putMember(member.id(), current -> member);
+        });
+        jdbcTemplate.query("SELECT id, title, created_date, modified_date FROM project", (ResultSet rs) -> {
+            ProjectRecord project = new ProjectRecord(rs.getLong("id"), rs.getString("title"),
+                    dateTime(rs, "created_date"), dateTime(rs, "modified_date"));
+            store.putProject(project.id(), current -> project);
+        });
+        jdbcTemplate.query("SELECT id, member_id, project_id, role FROM member_project", (ResultSet rs) -> {
+            MemberProjectRecord memberProject = new MemberProjectRecord(rs.getLong("id"), rs.getString("member_id"),
+                    rs.getLong("project_id"), Role.valueOf(rs.getString("role")));
+            store.putMemberProject(memberProject.id(), current -> memberProject);
+        });
+        jdbcTemplate.query("SELECT id, project_id, title, description, reporter_id, assignee_id, fixer_id, priority, state, " +
+                "created_date, modified_date, version FROM issue", (ResultSet rs) -> {
+            String priority = rs.getString("priority");
+            IssueRecord issue = new IssueRecord(rs.getLong("id"), rs.getLong("project_id"), rs.getString("title"),
+                    rs.getString("description"), rs.getString("reporter_id"), rs.getString("assignee_id"),
+                    rs.getString("fixer_id"), priority != null ? Priority.valueOf(priority) : null,
+                    State.valueOf(rs.getString("state")), dateTime(rs, "created_date"), dateTime(rs, "modified_date"),
+                    rs.getLong("version"));
+            store.putIssue(issue.id(), current -> issue);
+        });
+        jdbcTemplate.query("SELECT id, author_id, issue_id, content, created_date, modified_date, version FROM comment",
+                (ResultSet rs) -> {
+                    CommentRecord comment = new CommentRecord(rs.getLong("id"), rs.getString("author_id"),
+                            rs.getLong("issue_id"), rs.getString("content"), dateTime(rs, "created_date"),
+                            dateTime(rs, "modified_date"), rs.getLong("version"));
+                    store.putComment(comment.id(), current -> comment);
+                });
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueColumnScan 을 한 스레드와 fork/join 으로 훑는 시간 비교.
+ * 결과 타입이 패키지 전용이라 Blackhole 로 넘긴다. DB 를 거치지 않고 열 배열을 직접 만든다 (프로젝트 크기는 한쪽으로 몰리게, 담당자는 20% 가 비어 있게).
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class IssueColumnScanBenchmark {
+
+    private static final int PROJECTS = 2_000;
+
+    private static final int ASSIGNEES = 20_000;
+
+    private static final State[] STATES = State.values();
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    @Param({"1000000", "10000000"})
+    public int issues;
+
+    private IssueColumns columns;
+
+    // 가장 큰 프로젝트 하나만
+    private boolean[] largestProject;
+
+    private long now;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] assigneeIds = new String[ASSIGNEES];
+        for (int i = 0; i < ASSIGNEES; i++)
+            assigneeIds[i] = String.format("user%05d", i);
+        LocalDateTime anchor = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+        IssueColumnsBuilder builder = new IssueColumnsBuilder(issues);
+        for (int id = 1; id <= issues; id++) {
+            double skew = random.nextDouble();
+            long projectId = 1 + (long) (PROJECTS * skew * skew * skew);
+            LocalDateTime created = anchor.minusMinutes(random.nextInt(3 * 365 * 24 * 60));
+            builder.append(id, projectId, STATES[random.nextInt(STATES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    random.nextInt(5) == 0 ? null : assigneeIds[random.nextInt(ASSIGNEES)],
+                    created, created.plusMinutes(random.nextInt(60 * 24 * 30)));
+        }
+        columns = builder.build(anchor);
+        largestProject = new boolean[columns.projectDictionary.length];
+        largestProject[columns.projectCode(1)] = true;
+        now = IssueColumnsBuilder.epochSecond(anchor);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public void scanSequential(Blackhole blackhole) {
+        blackhole.consume(IssueColumnScan.sequential(columns, null, now));
+    }
+
+    @Benchmark
+    public void scanParallel(Blackhole blackhole) {
+        blackhole.consume(IssueColumnScan.parallel(pool, columns, null, now));
+    }
+
+    @Benchmark
+    public void scanOneProjectParallel(Blackhole blackhole) {
+        blackhole.consume(IssueColumnScan.parallel(pool, columns, largestProject, now));
+    }
+}
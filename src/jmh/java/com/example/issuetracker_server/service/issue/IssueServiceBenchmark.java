@@ -0,0 +1,79 @@
+package com.example.issuetracker_server.service.issue;
+
+import com.example.issuetracker_server.benchmark.IssueDatasetState;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueServiceImpl 의 조회 경로 벤치마크.
+ * 같은 포크 안에서는 데이터셋을 한 번만 만들고, 측정 대상 메서드만 반복 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class IssueServiceBenchmark {
+
+    // toDto 는 데이터셋 크기와 무관하므로 고정 크기 묶음으로 잰다
+    private static final int MAPPING_BATCH = 10_000;
+
+    private IssueServiceImpl issueService;
+
+    private List<Issue> mappingBatch;
+
+    @Setup(Level.Trial)
+    public void setUp(IssueDatasetState dataset) {
+        issueService = dataset.getBean(IssueServiceImpl.class);
+        // 연관 엔티티는 프록시로 남지만 toDto 는 id 만 읽으므로 세션 밖에서도 초기화가 일어나지 않는다
+        mappingBatch = dataset.getBean(IssueRepository.class)
+                .findAll(PageRequest.of(0, MAPPING_BATCH))
+                .getContent();
+    }
+
+    @Benchmark
+    public void toDto(Blackhole blackhole) {
+        for (Issue issue : mappingBatch)
+            blackhole.consume(issueService.toDto(issue));
+    }
+
+    @Benchmark
+    public List<IssueResponseDto> getIssues(IssueDatasetState dataset) {
+        return issueService.getIssues(dataset.projectId, null, null);
+    }
+
+    @Benchmark
+    public List<IssueResponseDto> getIssuesByState(IssueDatasetState dataset) {
+        return issueService.getIssues(dataset.projectId, "state", "ASSIGNED");
+    }
+
+    @Benchmark
+    public IssueStatisticResponseDto getStatistic(IssueDatasetState dataset) {
+        return issueService.getStatistic(dataset.projectId);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> getRecommendAssignee(IssueDatasetState dataset) {
+        return issueService.getRecommendAssignee(dataset.projectId, null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.issuetracker_server.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 서버 호출과 지연 기록. endpoint 는 경로 변수를 뺀 이름("GET /project/{projectId}/issue")으로 집계한다.
+ * 인증은 서버와 같이 쿼리 파라미터 id/pw 로 넘긴다.
+ */
+class ApiClient {
+
+    record Response(int status, String body, String eTag) {
+
+        boolean ok() {
+            return status == 200;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final URI baseUrl;
+
+    private final String password;
+
+    private final LoadReport report;
+
+    ApiClient(URI baseUrl, String password, LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.report = report;
+    }
+
+    Response get(String endpoint, String path, String memberId, boolean readBody) {
+        return send(endpoint, request(path, memberId).GET(), readBody);
+    }
+
+    Response post(String endpoint, String path, String memberId, String json) {
+        return send(endpoint, request(path, memberId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)), false);
+    }
+
+    Response put(String endpoint, String path, String memberId, String ifMatch, String json) {
+        HttpRequest.Builder builder = request(path, memberId)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json));
+        if (ifMatch != null)
+            builder.header("If-Match", ifMatch);
+        return send(endpoint, builder, false);
+    }
+
+    // 캡처한 요청을 그대로 보낼 때 (인증 파라미터는 pathAndQuery 에 이미 들어 있다)
+    Response exchange(String endpoint, String method, String pathAndQuery, String contentType, byte[] body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(pathAndQuery))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (contentType != null && !contentType.isEmpty())
+            builder.header("Content-Type", contentType);
+        return send(endpoint, builder, false);
+    }
+
+    private HttpRequest.Builder request(String path, String memberId) {
+        String separator = path.contains("?") ? "&" : "?";
+        return HttpRequest.newBuilder(baseUrl.resolve(path + separator + "id=" + memberId + "&pw=" + password))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder builder, boolean readBody) {
+        long start = System.nanoTime();
+        try {
+            Response response;
+            if (readBody) {
+                HttpResponse<String> http = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+                response = new Response(http.statusCode(), http.body(), http.headers().firstValue("ETag").orElse(null));
+            } else {
+                HttpResponse<Void> http = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+                response = new Response(http.statusCode(), null, http.headers().firstValue("ETag").orElse(null));
+            }
+            report.record(endpoint, response.status(), System.nanoTime() - start);
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, null, null);
+        } catch (Exception e) {
+            report.record(endpoint, -1, System.nanoTime() - start);
+            return new Response(-1, null, null);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.issuetracker_server.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 지연 히스토그램(마이크로초, 유효숫자 3자리)과 상태 코드별 횟수.
+ * 5xx 와 연결 실패(-1)만 오류로 센다. 412/400 같은 4xx 는 경합 중 정상적으로 나오는 결과다.
+ */
+class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = 60_000_000L;
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private final LongAdder errors = new LongAdder();
+
+    void record(int status, long nanos) {
+        latency.recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, nanos / 1_000)));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status < 0 || status >= 500)
+            errors.increment();
+    }
+
+    long requests() {
+        return latency.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> result = new TreeMap<>();
+        statuses.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.issuetracker_server.loadgen;
+
+import com.example.issuetracker_server.datagen.GeneratedDataset;
+import com.example.issuetracker_server.datagen.GeneratedDataset.GeneratedProject;
+import com.example.issuetracker_server.datagen.SyntheticDataGenerator;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 서버에 역할별 사용자 여정을 재생하고 엔드포인트별 처리량/지연 리포트를 남긴다.
+ * 대상 데이터는 datagen 프로필이 남긴 manifest 로 알아낸다 (프로젝트, 역할별 계정).
+ * 사용자는 ramp-up 동안 고르게 늘어나며, 측정은 ramp-up 이 끝난 뒤 duration 동안만 한다.
+ */
+public class LoadGenerator {
+
+    // 역할 비율: TESTER 45%, DEV 40%, PL 15%
+    private static final int TESTER_PERCENT = 45;
+    private static final int DEV_PERCENT = 40;
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        GeneratedDataset dataset = objectMapper.readValue(options.manifest().toFile(), GeneratedDataset.class);
+        List<GeneratedProject> projects = dataset.projects()
+                .subList(0, Math.min(options.projects(), dataset.projects().size()));
+
+        LoadReport report = new LoadReport();
+        ApiClient api = new ApiClient(options.baseUrl(), SyntheticDataGenerator.PASSWORD, report);
+        long rampUpNanos = options.rampUp().toNanos();
+        long stopAt = System.nanoTime() + rampUpNanos + options.duration().toNanos();
+
+        System.out.printf("load: %d users over %d projects, ramp-up %ds, duration %ds against %s%n", options.users(),
+                projects.size(), options.rampUp().toSeconds(), options.duration().toSeconds(), options.baseUrl());
+        ExecutorService users = Executors.newFixedThreadPool(options.users());
+        long start = System.nanoTime();
+        for (int u = 0; u < options.users(); u++) {
+            SplittableRandom random = new SplittableRandom(options.seed() * 1_000_003 + u);
+            GeneratedProject project = projects.get(u % projects.size());
+            Role role = role(random);
+            String memberId = member(project, role, random);
+            users.execute(new VirtualUser(api, objectMapper, project, role, memberId, random,
+                    options.thinkTime().toMillis(), stopAt));
+
+            long nextStart = start + rampUpNanos * (u + 1) / options.users();
+            long wait = nextStart - System.nanoTime();
+            if (wait > 0)
+                TimeUnit.NANOSECONDS.sleep(wait);
+        }
+
+        long rampUpEnd = start + rampUpNanos;
+        if (rampUpEnd > System.nanoTime())
+            TimeUnit.NANOSECONDS.sleep(rampUpEnd - System.nanoTime());
+        report.startRecording();
+        long measureStart = System.nanoTime();
+        users.shutdown();
+        users.awaitTermination(options.duration().toSeconds() + 60, TimeUnit.SECONDS);
+        report.stopRecording();
+        users.shutdownNow();
+
+        Duration measured = Duration.ofNanos(Math.min(System.nanoTime(), stopAt) - measureStart);
+        ObjectNode result = report.toJson(objectMapper, options.toJson(objectMapper), measured);
+        report.write(result, objectMapper, options.report());
+        LoadReport.print(result);
+        System.out.println("report: " + options.report().toAbsolutePath());
+        if (options.baseline() != null) {
+            JsonNode baseline = objectMapper.readTree(options.baseline().toFile());
+            LoadReport.compare(baseline, result);
+        }
+    }
+
+    private static Role role(SplittableRandom random) {
+        int dice = random.nextInt(100);
+        if (dice < TESTER_PERCENT)
+            return Role.TESTER;
+        if (dice < TESTER_PERCENT + DEV_PERCENT)
+            return Role.DEV;
+        return Role.PL;
+    }
+
+    private static String member(GeneratedProject project, Role role, SplittableRandom random) {
+        List<String> candidates = switch (role) {
+            case TESTER -> project.testers();
+            case DEV -> project.devs();
+            default -> List.of(project.pl());
+        };
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
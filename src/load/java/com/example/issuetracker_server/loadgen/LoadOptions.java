@@ -0,0 +1,73 @@
+package com.example.issuetracker_server.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형식의 실행 옵션.
+ *
+ * @param users     동시 가상 사용자 수
+ * @param rampUp    사용자를 0 명에서 users 명까지 늘리는 시간 (이 구간은 측정하지 않는다)
+ * @param duration  ramp-up 이후 측정 시간
+ * @param thinkTime 요청 사이 평균 대기 시간 (지수 분포)
+ * @param projects  이슈가 많은 순서로 앞에서부터 부하를 걸 프로젝트 수
+ * @param baseline  비교할 이전 리포트 (없으면 null)
+ */
+record LoadOptions(URI baseUrl, Path manifest, int users, Duration rampUp, Duration duration, Duration thinkTime,
+                   int projects, long seed, Path report, Path baseline) {
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = arguments(args);
+        String baseline = values.get("baseline");
+        return new LoadOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Path.of(values.getOrDefault("manifest", "build/datagen/manifest.json")),
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                duration(values.getOrDefault("ramp-up", "30s")),
+                duration(values.getOrDefault("duration", "2m")),
+                duration(values.getOrDefault("think-time", "500ms")),
+                Integer.parseInt(values.getOrDefault("projects", "10")),
+                Long.parseLong(values.getOrDefault("seed", "1")),
+                Path.of(values.getOrDefault("report", "build/reports/load/report.json")),
+                baseline == null ? null : Path.of(baseline));
+    }
+
+    ObjectNode toJson(ObjectMapper objectMapper) {
+        ObjectNode config = objectMapper.createObjectNode();
+        config.put("base_url", baseUrl.toString());
+        config.put("users", users);
+        config.put("ramp_up_s", rampUp.toSeconds());
+        config.put("duration_s", duration.toSeconds());
+        config.put("think_time_ms", thinkTime.toMillis());
+        config.put("projects", projects);
+        config.put("seed", seed);
+        return config;
+    }
+
+    static Map<String, String> arguments(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return values;
+    }
+
+    // 500ms / 30s / 2m
+    static Duration duration(String value) {
+        if (value.endsWith("ms"))
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s"))
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m"))
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        throw new IllegalArgumentException("Unknown duration: " + value);
+    }
+}
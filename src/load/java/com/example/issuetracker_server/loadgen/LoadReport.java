@@ -0,0 +1,148 @@
+package com.example.issuetracker_server.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 엔드포인트별 처리량/지연 집계와 JSON 리포트.
+ * 리포트는 실행 설정과 함께 남기므로 같은 설정으로 돌린 두 리포트를 --baseline 으로 비교할 수 있다.
+ */
+class LoadReport {
+
+    // 히스토그램 버킷 상한(ms), 마지막 버킷은 그 이상 전부
+    private static final long[] BUCKETS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000};
+
+    // 이 값들이 다르면 두 리포트를 그대로 비교할 수 없다
+    private static final List<String> COMPARED_CONFIG = List.of("users", "duration_s", "think_time_ms", "projects", "seed", "trace", "speed");
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    void record(String endpoint, int status, long nanos) {
+        if (recording)
+            endpoints.computeIfAbsent(endpoint, e -> new EndpointStats()).record(status, nanos);
+    }
+
+    ObjectNode toJson(ObjectMapper objectMapper, ObjectNode config, Duration measured) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("finished_at", Instant.now().toString());
+        root.set("config", config);
+
+        double seconds = measured.toNanos() / 1e9;
+        long requests = endpoints.values().stream().mapToLong(EndpointStats::requests).sum();
+        long errors = endpoints.values().stream().mapToLong(EndpointStats::errors).sum();
+        ObjectNode total = root.putObject("total");
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("throughput_rps", round(requests / seconds));
+
+        ObjectNode byEndpoint = root.putObject("endpoints");
+        new ConcurrentSkipListMap<>(endpoints).forEach((name, stats) -> {
+            ObjectNode node = byEndpoint.putObject(name);
+            node.put("requests", stats.requests());
+            node.put("errors", stats.errors());
+            node.put("throughput_rps", round(stats.requests() / seconds));
+            ObjectNode statuses = node.putObject("statuses");
+            stats.statuses().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+
+            Histogram latency = stats.latency();
+            ObjectNode percentiles = node.putObject("latency_ms");
+            percentiles.put("mean", round(latency.getMean() / 1_000));
+            percentiles.put("p50", millis(latency, 50));
+            percentiles.put("p90", millis(latency, 90));
+            percentiles.put("p99", millis(latency, 99));
+            percentiles.put("p999", millis(latency, 99.9));
+            percentiles.put("max", round(latency.getMaxValue() / 1_000.0));
+
+            ArrayNode histogram = node.putArray("histogram");
+            long lower = 0;
+            for (long upperMs : BUCKETS_MS) {
+                ObjectNode bucket = histogram.addObject();
+                bucket.put("le_ms", upperMs);
+                bucket.put("count", latency.getCountBetweenValues(lower, upperMs * 1_000));
+                lower = upperMs * 1_000 + 1;
+            }
+            ObjectNode overflow = histogram.addObject();
+            overflow.put("le_ms", "+Inf");
+            overflow.put("count", latency.getCountBetweenValues(lower, Long.MAX_VALUE));
+        });
+        return root;
+    }
+
+    void write(ObjectNode report, ObjectMapper objectMapper, Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null)
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    static void print(JsonNode report) {
+        System.out.printf("%-55s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        report.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode node = entry.getValue();
+            JsonNode latency = node.path("latency_ms");
+            System.out.printf("%-55s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", entry.getKey(), node.path("requests").asLong(),
+                    node.path("errors").asLong(), node.path("throughput_rps").asDouble(),
+                    latency.path("p50").asDouble(), latency.path("p99").asDouble(), latency.path("max").asDouble());
+        });
+        JsonNode total = report.path("total");
+        System.out.printf("total: %d requests, %d errors, %.1f req/s%n", total.path("requests").asLong(),
+                total.path("errors").asLong(), total.path("throughput_rps").asDouble());
+    }
+
+    // 양수는 baseline 보다 큰 값 (처리량은 좋아짐, 지연은 나빠짐)
+    static void compare(JsonNode baseline, JsonNode current) {
+        for (String key : COMPARED_CONFIG) {
+            if (!baseline.path("config").path(key).equals(current.path("config").path(key))) {
+                System.out.println("warning: baseline was run with a different " + key);
+            }
+        }
+        System.out.printf("%-55s %12s %12s %12s%n", "endpoint", "req/s", "p50", "p99");
+        current.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path("endpoints").path(entry.getKey());
+            if (before.isMissingNode())
+                return;
+            JsonNode after = entry.getValue();
+            System.out.printf("%-55s %12s %12s %12s%n", entry.getKey(),
+                    delta(before.path("throughput_rps"), after.path("throughput_rps")),
+                    delta(before.path("latency_ms").path("p50"), after.path("latency_ms").path("p50")),
+                    delta(before.path("latency_ms").path("p99"), after.path("latency_ms").path("p99")));
+        });
+    }
+
+    private static String delta(JsonNode before, JsonNode after) {
+        double b = before.asDouble();
+        if (b == 0)
+            return "n/a";
+        return String.format("%+.1f%%", (after.asDouble() - b) / b * 100);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
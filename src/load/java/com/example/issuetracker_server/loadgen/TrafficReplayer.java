@@ -0,0 +1,106 @@
+package com.example.issuetracker_server.loadgen;
+
+import com.example.issuetracker_server.monitoring.capture.CapturedRequest;
+import com.example.issuetracker_server.monitoring.capture.TrafficCaptureFilter;
+import com.example.issuetracker_server.monitoring.capture.TrafficLogReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrafficCaptureFilter 가 남긴 로그를 원래 간격대로(speed 배속) 테스트 서버에 다시 보낸다.
+ * 앞 요청의 응답을 기다리지 않고 예정 시각에 보내며(open-loop), 지연은 LoadGenerator 와 같은 형식의 리포트로 남긴다.
+ * 가려진 비밀번호 파라미터는 --password 값으로 바꿔 보낸다.
+ *
+ * <pre>
+ * --trace=logs/traffic --base-url=http://localhost:8080 --speed=1 (0 이면 최대 속도) --password=password
+ * --concurrency=200 --report=build/reports/load/replay.json --baseline=이전 리포트
+ * </pre>
+ */
+public class TrafficReplayer {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadOptions.arguments(args);
+        Path trace = Path.of(options.getOrDefault("trace", "logs/traffic"));
+        URI baseUrl = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        String password = options.getOrDefault("password", "password");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        Path reportFile = Path.of(options.getOrDefault("report", "build/reports/load/replay.json"));
+
+        List<CapturedRequest> requests = TrafficLogReader.readAll(trace).stream()
+                .sorted(Comparator.comparingLong(CapturedRequest::timestampMicros))
+                .toList();
+        if (requests.isEmpty()) {
+            System.out.println("replay: no requests in " + trace.toAbsolutePath());
+            return;
+        }
+        long firstMicros = requests.get(0).timestampMicros();
+        System.out.printf("replay: %d requests spanning %ds at %sx against %s%n", requests.size(),
+                (requests.get(requests.size() - 1).timestampMicros() - firstMicros) / 1_000_000,
+                speed == 0 ? "max" : speed, baseUrl);
+
+        LoadReport report = new LoadReport();
+        ApiClient api = new ApiClient(baseUrl, password, report);
+        ExecutorService senders = Executors.newFixedThreadPool(concurrency);
+        report.startRecording();
+        long start = System.nanoTime();
+        long maxLagNanos = 0;
+        for (CapturedRequest request : requests) {
+            if (speed > 0) {
+                long due = start + (long) ((request.timestampMicros() - firstMicros) * 1_000 / speed);
+                long wait = due - System.nanoTime();
+                if (wait > 0)
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                else
+                    maxLagNanos = Math.max(maxLagNanos, -wait);
+            }
+            String endpoint = request.method() + " " + (request.pattern().isEmpty() ? request.path() : request.pattern());
+            String pathAndQuery = request.path() + query(request.parameters(), password);
+            senders.execute(() -> api.exchange(endpoint, request.method(), pathAndQuery, request.contentType(), request.body()));
+        }
+        senders.shutdown();
+        senders.awaitTermination(10, TimeUnit.MINUTES);
+        report.stopRecording();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode config = objectMapper.createObjectNode();
+        config.put("base_url", baseUrl.toString());
+        config.put("trace", trace.toString());
+        config.put("speed", speed);
+        config.put("requests", requests.size());
+        ObjectNode result = report.toJson(objectMapper, config, Duration.ofNanos(System.nanoTime() - start));
+        // 보내는 쪽이 예정 시각을 얼마나 놓쳤는지 (크면 배속이나 concurrency 를 낮춰야 결과를 믿을 수 있다)
+        result.put("max_schedule_lag_ms", maxLagNanos / 1_000_000);
+        report.write(result, objectMapper, reportFile);
+        LoadReport.print(result);
+        System.out.println("report: " + reportFile.toAbsolutePath());
+        if (options.containsKey("baseline")) {
+            JsonNode baseline = objectMapper.readTree(Path.of(options.get("baseline")).toFile());
+            LoadReport.compare(baseline, result);
+        }
+    }
+
+    private static String query(Map<String, List<String>> parameters, String password) {
+        if (parameters.isEmpty())
+            return "";
+        StringJoiner query = new StringJoiner("&", "?", "");
+        parameters.forEach((name, values) -> values.forEach(value -> query.add(
+                URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(
+                        TrafficCaptureFilter.REDACTED.equals(value) ? password : value, StandardCharsets.UTF_8))));
+        return query.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.issuetracker_server.loadgen;
+
+import com.example.issuetracker_server.datagen.GeneratedDataset.GeneratedProject;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+/**
+ * 프로젝트 하나에서 한 역할로 움직이는 사용자.
+ * - TESTER: 목록/상세/코멘트 조회, 이슈 생성, 코멘트 작성, 자기가 올린 FIXED 이슈를 RESOLVED 로
+ * - DEV: 목록/상세 조회, 자기에게 배정된 ASSIGNED/REOPEN 이슈를 FIXED 로, 코멘트 작성
+ * - PL: 목록/통계 조회, NEW 이슈에 추천 담당자 배정, RESOLVED 이슈를 CLOSED 로
+ * 상태를 바꿀 때는 상세 조회로 받은 ETag 를 If-Match 로 넘긴다.
+ */
+class VirtualUser implements Runnable {
+
+    private static final String ISSUES = "GET /project/{projectId}/issue";
+    private static final String ISSUES_FILTERED = "GET /project/{projectId}/issue?filterBy";
+    private static final String ISSUE = "GET /project/{projectId}/issue/{issueId}";
+    private static final String STATISTIC = "GET /project/{projectId}/issue/statistic";
+    private static final String RECOMMEND = "GET /project/{projectId}/issue/{issueId}/recommend";
+    private static final String COMMENTS = "GET /project/{projectId}/issue/{issueId}/comment";
+    private static final String CREATE_ISSUE = "POST /project/{projectId}/issue";
+    private static final String CREATE_COMMENT = "POST /project/{projectId}/issue/{issueId}/comment";
+    private static final String ASSIGN = "PUT /project/{projectId}/issue/{issueId}/assign";
+    private static final String UPDATE_STATE = "PUT /project/{projectId}/issue/{issueId}/state";
+
+    private final ApiClient api;
+
+    private final ObjectMapper objectMapper;
+
+    private final GeneratedProject project;
+
+    private final Role role;
+
+    private final String memberId;
+
+    private final SplittableRandom random;
+
+    private final long meanThinkMillis;
+
+    private final long stopAt;
+
+    VirtualUser(ApiClient api, ObjectMapper objectMapper, GeneratedProject project, Role role, String memberId,
+                SplittableRandom random, long meanThinkMillis, long stopAt) {
+        this.api = api;
+        this.objectMapper = objectMapper;
+        this.project = project;
+        this.role = role;
+        this.memberId = memberId;
+        this.random = random;
+        this.meanThinkMillis = meanThinkMillis;
+        this.stopAt = stopAt;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+            int dice = random.nextInt(100);
+            switch (role) {
+                case TESTER -> {
+                    if (dice < 35) pollIssues();
+                    else if (dice < 55) viewIssue();
+                    else if (dice < 70) createIssue();
+                    else if (dice < 85) comment();
+                    else moveState(State.FIXED, issue -> memberId.equals(issue.path("reporter_id").asText()), State.RESOLVED);
+                }
+                case DEV -> {
+                    if (dice < 35) pollIssues();
+                    else if (dice < 55) viewIssue();
+                    else if (dice < 80) fixAssigned();
+                    else comment();
+                }
+                default -> {
+                    if (dice < 30) pollIssues();
+                    else if (dice < 45) statistic();
+                    else if (dice < 65) viewIssue();
+                    else if (dice < 85) assignNew();
+                    else moveState(State.RESOLVED, issue -> true, State.CLOSED);
+                }
+            }
+            if (!think())
+                return;
+        }
+    }
+
+    private void pollIssues() {
+        api.get(ISSUES, issuesPath(), memberId, false);
+    }
+
+    private void statistic() {
+        api.get(STATISTIC, issuesPath() + "/statistic", memberId, false);
+    }
+
+    private void viewIssue() {
+        Long issueId = randomIssueId();
+        if (issueId == null)
+            return;
+        api.get(ISSUE, issuesPath() + "/" + issueId, memberId, false);
+        api.get(COMMENTS, issuesPath() + "/" + issueId + "/comment", memberId, false);
+    }
+
+    private void createIssue() {
+        String title = "Load test issue " + random.nextInt(1_000_000);
+        api.post(CREATE_ISSUE, issuesPath(), memberId,
+                "{\"title\":\"" + title + "\",\"description\":\"Created by the load generator\"}");
+    }
+
+    private void comment() {
+        Long issueId = randomIssueId();
+        if (issueId == null)
+            return;
+        api.post(CREATE_COMMENT, issuesPath() + "/" + issueId + "/comment", memberId,
+                "{\"content\":\"Load test comment " + random.nextInt(1_000_000) + "\"}");
+    }
+
+    private void fixAssigned() {
+        JsonNode issue = pick(api.get(ISSUES_FILTERED, issuesPath() + "?filterBy=assignee&filterValue=" + memberId, memberId, true),
+                candidate -> memberId.equals(candidate.path("assignee_id").asText())
+                        && (State.ASSIGNED.name().equals(candidate.path("state").asText())
+                        || State.REOPEN.name().equals(candidate.path("state").asText())));
+        if (issue != null)
+            changeState(issue.path("id").asLong(), State.FIXED);
+    }
+
+    private void assignNew() {
+        JsonNode issue = pick(api.get(ISSUES_FILTERED, issuesPath() + "?filterBy=state&filterValue=" + State.NEW, memberId, true),
+                candidate -> true);
+        if (issue == null)
+            return;
+        long issueId = issue.path("id").asLong();
+        ApiClient.Response recommend = api.get(RECOMMEND, issuesPath() + "/" + issueId + "/recommend", memberId, true);
+        String assignee = project.devs().get(random.nextInt(project.devs().size()));
+        if (recommend.ok()) {
+            JsonNode devs = readTree(recommend.body()).path("dev_ids");
+            if (devs.size() > 0)
+                assignee = devs.get(0).asText();
+        }
+        ApiClient.Response current = api.get(ISSUE, issuesPath() + "/" + issueId, memberId, false);
+        if (current.ok())
+            api.put(ASSIGN, issuesPath() + "/" + issueId + "/assign", memberId, current.eTag(),
+                    "{\"user_id\":\"" + assignee + "\",\"priority\":\"MAJOR\"}");
+    }
+
+    private void moveState(State from, Predicate<JsonNode> filter, State to) {
+        JsonNode issue = pick(api.get(ISSUES_FILTERED, issuesPath() + "?filterBy=state&filterValue=" + from, memberId, true), filter);
+        if (issue != null)
+            changeState(issue.path("id").asLong(), to);
+    }
+
+    private void changeState(long issueId, State state) {
+        ApiClient.Response current = api.get(ISSUE, issuesPath() + "/" + issueId, memberId, false);
+        if (current.ok())
+            api.put(UPDATE_STATE, issuesPath() + "/" + issueId + "/state", memberId, current.eTag(),
+                    "{\"state\":\"" + state + "\"}");
+    }
+
+    private JsonNode pick(ApiClient.Response response, Predicate<JsonNode> filter) {
+        if (!response.ok())
+            return null;
+        List<JsonNode> candidates = new ArrayList<>();
+        readTree(response.body()).forEach(issue -> {
+            if (filter.test(issue))
+                candidates.add(issue);
+        });
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return objectMapper.createArrayNode();
+        }
+    }
+
+    // 생성기가 만든 이슈 id 는 프로젝트마다 연속 구간이다
+    private Long randomIssueId() {
+        if (project.firstIssueId() == null)
+            return null;
+        return project.firstIssueId() + random.nextInt(project.issues());
+    }
+
+    private String issuesPath() {
+        return "/project/" + project.id() + "/issue";
+    }
+
+    // 지수 분포 대기, 종료 시각을 넘기면 false
+    private boolean think() {
+        long sleep = (long) (-Math.log(1 - random.nextDouble()) * meanThinkMillis);
+        long remaining = (stopAt - System.nanoTime()) / 1_000_000;
+        if (remaining <= 0)
+            return false;
+        try {
+            Thread.sleep(Math.min(sleep, remaining));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
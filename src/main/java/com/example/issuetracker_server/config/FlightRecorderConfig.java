@@ -0,0 +1,15 @@
+package com.example.issuetracker_server.config;
+
+import com.example.issuetracker_server.monitoring.jfr.ServiceCallEventPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlightRecorderConfig {
+
+    // 서비스 호출마다 JFR 이벤트 (recording 이 없으면 기록하지 않는다)
+    @Bean
+    public static ServiceCallEventPostProcessor serviceCallEventPostProcessor() {
+        return new ServiceCallEventPostProcessor();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.issuetracker_server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class JobConfig {
+
+    // 백그라운드 작업 워커 풀 (job.worker.threads 로 동시 실행 수 조정)
+    // spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드를 띄우고 동시 실행 수만 제한한다
+    @Bean(name = "jobExecutor")
+    public TaskExecutor jobExecutor(@Value("${job.worker.threads:2}") int threads, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("job-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("job-");
+        return executor;
+    }
+
+    // 주기적인 갱신 작업(열 단위 스냅샷 등)을 돌리는 스케줄러. 종료할 때 돌던 작업은 기다리지 않는다
+    @Bean(name = "maintenanceScheduler")
+    public ThreadPoolTaskScheduler maintenanceScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("maintenance-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.issuetracker_server.config;
+
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.storage.MemoryCommentRepository;
+import com.example.issuetracker_server.storage.MemoryIssueRepository;
+import com.example.issuetracker_server.storage.MemoryMemberProjectRepository;
+import com.example.issuetracker_server.storage.MemoryMemberRepository;
+import com.example.issuetracker_server.storage.MemoryProjectRepository;
+import com.example.issuetracker_server.storage.MemoryStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * memory 프로필: 회원/프로젝트/멤버십/이슈/코멘트를 H2 대신 MemoryStore 에 둔다.
+ * JPA 리포지토리 빈은 그대로 생기지만 여기 @Primary 리포지토리가 주입된다. 백그라운드 작업(Job)은 계속 H2 에 남는다.
+ */
+@Configuration
+@Profile("memory")
+public class MemoryStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public MemoryStore memoryStore(@Value("${storage.memory.dir:memory-store}") String dir,
+                                   @Value("${storage.memory.fsync-interval-ms:100}") long fsyncIntervalMs,
+                                   @Value("${storage.memory.snapshot-interval-s:300}") long snapshotIntervalSeconds) throws IOException {
+        return MemoryStore.open(Path.of(dir), fsyncIntervalMs, snapshotIntervalSeconds);
+    }
+
+    @Bean
+    @Primary
+    public MemberRepository memoryMemberRepository(MemoryStore memoryStore) {
+        return new MemoryMemberRepository(memoryStore);
+    }
+
+    @Bean
+    @Primary
+    public ProjectRepository memoryProjectRepository(MemoryStore memoryStore) {
+        return new MemoryProjectRepository(memoryStore);
+    }
+
+    @Bean
+    @Primary
+    public MemberProjectRepository memoryMemberProjectRepository(MemoryStore memoryStore) {
+        return new MemoryMemberProjectRepository(memoryStore);
+    }
+
+    @Bean
+    @Primary
+    public IssueRepository memoryIssueRepository(MemoryStore memoryStore) {
+        return new MemoryIssueRepository(memoryStore);
+    }
+
+    @Bean
+    @Primary
+    public CommentRepository memoryCommentRepository(MemoryStore memoryStore) {
+        return new MemoryCommentRepository(memoryStore);
+    }
+}
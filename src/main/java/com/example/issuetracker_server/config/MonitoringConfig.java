@@ -0,0 +1,37 @@
+package com.example.issuetracker_server.config;
+
+import com.example.issuetracker_server.monitoring.AllocationAccountingFilter;
+import com.example.issuetracker_server.monitoring.AllocationStatistics;
+import com.example.issuetracker_server.monitoring.SqlStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class MonitoringConfig {
+
+    // 요청별 SQL 수/시간 측정 (sql.monitor.response-headers 는 dev 프로필에서만 켠다)
+    @Bean
+    public SqlStatisticsFilter sqlStatisticsFilter(@Value("${sql.monitor.slow-request-ms:1000}") long slowRequestThresholdMs,
+                                                   @Value("${sql.monitor.response-headers:false}") boolean responseHeaders) {
+        return new SqlStatisticsFilter(slowRequestThresholdMs, responseHeaders);
+    }
+
+    @Bean
+    public AllocationStatistics allocationStatistics() {
+        return new AllocationStatistics();
+    }
+
+    // 요청별 할당 바이트 (GET /admin/allocations, http_server_requests_allocation_bytes)
+    // 경고 로그의 쿼리는 트래픽 캡처와 같은 파라미터를 가린다
+    @Bean
+    public AllocationAccountingFilter allocationAccountingFilter(MeterRegistry meterRegistry,
+                                                                 AllocationStatistics allocationStatistics,
+                                                                 @Value("${allocation.monitor.outlier-mb:64}") long outlierMb,
+                                                                 @Value("${traffic.capture.redact:pw,password}") Set<String> redactedNames) {
+        return new AllocationAccountingFilter(meterRegistry, allocationStatistics, outlierMb * 1024 * 1024, redactedNames);
+    }
+}
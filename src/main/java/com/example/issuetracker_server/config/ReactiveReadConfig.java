@@ -0,0 +1,48 @@
+package com.example.issuetracker_server.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * reactive 프로필의 비동기 조회 경로용 R2DBC 설정.
+ * JPA 와 같은 H2 파일 DB 를 같은 JVM 안에서 R2DBC 드라이버로 함께 연다.
+ * ConnectionFactory 를 빈으로 등록하면 DataSource 자동 설정이 빠지므로 풀은 이 클래스 안에만 둔다.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveReadConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${spring.datasource.url}") String jdbcUrl,
+                                                 @Value("${spring.datasource.username}") String username,
+                                                 @Value("${spring.datasource.password:}") String password,
+                                                 @Value("${reactive.r2dbc.pool.initial-size:4}") int initialSize,
+                                                 @Value("${reactive.r2dbc.pool.max-size:20}") int maxSize) {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring("jdbc:h2:".length()))
+                .username(username)
+                .password(password)
+                .build());
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void closePool() {
+        if (pool != null)
+            pool.dispose();
+    }
+}
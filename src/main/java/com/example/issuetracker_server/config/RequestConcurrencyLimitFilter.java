@@ -0,0 +1,51 @@
+package com.example.issuetracker_server.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리 중인 요청 수를 제한한다.
+ * 가상 스레드 모드에서는 Tomcat 스레드 풀이 상한 역할을 하지 못하므로,
+ * 요청이 한꺼번에 몰려 모두 커넥션 풀 대기열에 쌓이기 전에 여기서 막고 503 을 돌려준다.
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutMs;
+
+    public RequestConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.issuetracker_server.config;
+
+import com.example.issuetracker_server.monitoring.capture.TrafficCaptureFilter;
+import com.example.issuetracker_server.monitoring.capture.TrafficLogWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * traffic.capture.enabled=true 일 때만 요청을 traffic.capture.dir 에 기록한다.
+ * 기록한 로그는 ./gradlew replayTraffic 으로 테스트 서버에 다시 보낼 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "traffic.capture.enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+
+    @Bean(destroyMethod = "close")
+    public TrafficLogWriter trafficLogWriter(@Value("${traffic.capture.dir:logs/traffic}") String directory,
+                                             @Value("${traffic.capture.max-file-mb:64}") long maxFileMb,
+                                             @Value("${traffic.capture.max-files:20}") int maxFiles,
+                                             @Value("${traffic.capture.queue-capacity:10000}") int queueCapacity) {
+        return new TrafficLogWriter(Path.of(directory), maxFileMb * 1024 * 1024, maxFiles, queueCapacity);
+    }
+
+    @Bean
+    public TrafficCaptureFilter trafficCaptureFilter(TrafficLogWriter trafficLogWriter, ObjectMapper objectMapper,
+                                                     @Value("${traffic.capture.redact:pw,password}") Set<String> redactedNames,
+                                                     @Value("${traffic.capture.exclude:/actuator,/h2-console}") List<String> excludedPrefixes,
+                                                     @Value("${traffic.capture.max-body-bytes:16384}") int maxBodyBytes) {
+        return new TrafficCaptureFilter(trafficLogWriter, objectMapper, redactedNames, excludedPrefixes, maxBodyBytes);
+    }
+}
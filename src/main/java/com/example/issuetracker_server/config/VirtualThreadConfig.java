@@ -0,0 +1,24 @@
+package com.example.issuetracker_server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.threads.virtual.enabled=true (virtual 프로필) 일 때만 적용된다.
+ * Tomcat 요청 처리와 백그라운드 작업(JobConfig) 은 Spring Boot 가 가상 스레드로 바꾸고,
+ * 여기서는 H2 에 동시 접근이 몰리지 않도록 요청 수 상한만 건다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public RequestConcurrencyLimitFilter requestConcurrencyLimitFilter(
+            @Value("${request.limit.max-concurrent:400}") int maxConcurrentRequests,
+            @Value("${request.limit.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        return new RequestConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeoutMs);
+    }
+}
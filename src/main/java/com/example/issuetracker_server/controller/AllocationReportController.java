@@ -0,0 +1,34 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.allocation.EndpointAllocationDto;
+import com.example.issuetracker_server.service.allocation.AllocationReportService;
+import com.example.issuetracker_server.service.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Objects;
+
+// 요청당 할당량이 큰 엔드포인트 (admin 만)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/allocations")
+public class AllocationReportController {
+
+    private final AllocationReportService allocationReportService;
+
+    private final MemberService memberService;
+
+    @GetMapping
+    public ResponseEntity<List<EndpointAllocationDto>> getWorstEndpoints(@RequestParam String id, @RequestParam String pw,
+                                                                         @RequestParam(defaultValue = "10") int limit) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        if (!Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        return ResponseEntity.ok(allocationReportService.getWorstEndpoints(Math.max(1, limit)));
+    }
+}
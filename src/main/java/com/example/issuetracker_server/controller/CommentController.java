@@ -10,6 +10,7 @@ import com.example.issuetracker_server.service.issue.IssueService;
 import com.example.issuetracker_server.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -73,7 +74,8 @@ public class CommentController {
     }
 
     @PutMapping("/{commentId}")
-    public ResponseEntity<?> updateComment(@PathVariable Long projectId, @PathVariable Long issueId, @PathVariable Long commentId, @RequestParam String id, @RequestParam String pw, @RequestBody CommentRequestDto requestDto) {
+    public ResponseEntity<?> updateComment(@PathVariable Long projectId, @PathVariable Long issueId, @PathVariable Long commentId, @RequestParam String id, @RequestParam String pw,
+                                           @RequestHeader(value = "If-Match", required = false) String ifMatch, @RequestBody CommentRequestDto requestDto) {
         if (!memberService.login(id, pw)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -84,11 +86,22 @@ public class CommentController {
         Optional<Comment> optionalComment = commentService.findById(commentId);
         if (optionalComment.isPresent()) {
             Comment comment = optionalComment.get();
+            if (!belongsTo(comment, projectId, issueId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
             if (!comment.getAuthor().getId().equals(id)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
+            Long version = VersionETag.parseIfMatch(ifMatch);
+            if (version != null && !version.equals(comment.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
             comment.setContent(requestDto.getContent());
-            commentService.save(comment);
+            try {
+                commentService.save(comment);
+            } catch (OptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
             return ResponseEntity.status(HttpStatus.OK).build();
         }
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -107,15 +120,24 @@ public class CommentController {
         Optional<Comment> optionalComment = commentService.findById(commentId);
         if (optionalComment.isPresent()) {
             Comment comment = optionalComment.get();
+            if (!belongsTo(comment, projectId, issueId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
             if (!comment.getAuthor().getId().equals(id)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
-            commentService.delete(commentId);
+            commentService.delete(comment);
             return ResponseEntity.status(HttpStatus.OK).build();
         }
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
 
     }
 
+    // 경로의 이슈/프로젝트가 코멘트의 것과 다르면 없는 코멘트로 본다 (이슈는 코멘트와 같이 읽었고 프로젝트 id 는 외래 키다)
+    private static boolean belongsTo(Comment comment, Long projectId, Long issueId) {
+        Issue issue = comment.getIssue();
+        return issue.getId().equals(issueId) && issue.getProject().getId().equals(projectId);
+    }
+
 
 }
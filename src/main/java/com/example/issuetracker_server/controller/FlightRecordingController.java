@@ -0,0 +1,93 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.jfr.RecordingStatusDto;
+import com.example.issuetracker_server.service.jfr.FlightRecordingService;
+import com.example.issuetracker_server.service.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+// JFR 기록 시작/상태/덤프/중지 (admin 만)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/jfr")
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    private final MemberService memberService;
+
+    @GetMapping
+    public ResponseEntity<RecordingStatusDto> getStatus(@RequestParam String id, @RequestParam String pw) {
+        HttpStatus denied = checkAdmin(id, pw);
+        if (denied != null)
+            return ResponseEntity.status(denied).build();
+
+        Optional<RecordingStatusDto> status = flightRecordingService.getStatus();
+        return status.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // settings: JDK 에 들어 있는 "default"(오버헤드 1% 안팎) 또는 "profile"(더 자세함)
+    @PostMapping("/start")
+    public ResponseEntity<RecordingStatusDto> start(@RequestParam String id, @RequestParam String pw,
+                                                    @RequestParam(defaultValue = "profile") String settings) {
+        HttpStatus denied = checkAdmin(id, pw);
+        if (denied != null)
+            return ResponseEntity.status(denied).build();
+
+        Optional<RecordingStatusDto> started;
+        try {
+            started = flightRecordingService.start(settings);
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return started.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dump(@RequestParam String id, @RequestParam String pw) throws IOException {
+        HttpStatus denied = checkAdmin(id, pw);
+        if (denied != null)
+            return ResponseEntity.status(denied).build();
+
+        return download(flightRecordingService.dump());
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<Resource> stop(@RequestParam String id, @RequestParam String pw) throws IOException {
+        HttpStatus denied = checkAdmin(id, pw);
+        if (denied != null)
+            return ResponseEntity.status(denied).build();
+
+        return download(flightRecordingService.stop());
+    }
+
+    private HttpStatus checkAdmin(String id, String pw) {
+        if (!memberService.login(id, pw))
+            return HttpStatus.UNAUTHORIZED;
+        if (!Objects.equals(id, "admin"))
+            return HttpStatus.FORBIDDEN;
+        return null;
+    }
+
+    private ResponseEntity<Resource> download(Optional<Path> file) {
+        if (file.isEmpty())
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.get().getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file.get()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.analytics.IssueAnalyticsResponseDto;
+import com.example.issuetracker_server.service.analytics.IssueAnalyticsService;
+import com.example.issuetracker_server.service.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Objects;
+
+// 프로젝트를 가로지르는 이슈 통계 (admin 만)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/analytics/issues")
+public class IssueAnalyticsController {
+
+    private final IssueAnalyticsService issueAnalyticsService;
+
+    private final MemberService memberService;
+
+    @GetMapping
+    public ResponseEntity<IssueAnalyticsResponseDto> getIssueAnalytics(@RequestParam String id, @RequestParam String pw,
+                                                                       @RequestParam(required = false) List<Long> projectId,
+                                                                       @RequestParam(defaultValue = "10") int limit) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        if (!Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        return ResponseEntity.ok(issueAnalyticsService.getIssueAnalytics(projectId, Math.max(1, limit)));
+    }
+
+    // 다음 주기를 기다리지 않고 스냅샷을 새로 만든다 (full 이면 전체를 다시 읽는다)
+    @PostMapping("/refresh")
+    public ResponseEntity<IssueAnalyticsResponseDto> refresh(@RequestParam String id, @RequestParam String pw,
+                                                             @RequestParam(defaultValue = "false") boolean full) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        if (!Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        issueAnalyticsService.refresh(full);
+        return ResponseEntity.ok(issueAnalyticsService.getIssueAnalytics(null, 10));
+    }
+}
@@ -3,13 +3,17 @@ package com.example.issuetracker_server.controller;
 import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.dto.issue.*;
 import com.example.issuetracker_server.service.issue.IssueService;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
 import com.example.issuetracker_server.service.member.MemberService;
 import com.example.issuetracker_server.service.memberproject.MemberProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +25,8 @@ public class IssueController {
 
     private final IssueService issueService;
 
+    private final IssueHistoryService issueHistoryService;
+
     private final MemberService memberService;
 
     private final MemberProjectService memberProjectService;
@@ -48,7 +54,10 @@ public class IssueController {
                                                             @RequestParam String id,
                                                             @RequestParam String pw,
                                                             @RequestParam(required = false) String filterBy,
-                                                            @RequestParam(required = false) String filterValue) {
+                                                            @RequestParam(required = false) String filterValue,
+                                                            @RequestParam(required = false) String q,
+                                                            @RequestParam(required = false)
+                                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
         if (!memberService.login(id, pw))
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
@@ -56,14 +65,47 @@ public class IssueController {
         if (role.isEmpty())
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
+        boolean query = q != null && !q.isBlank();
+        // 검색식은 현재 목록에만 쓴다
+        if (query && asOf != null)
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
         try {
-            List<IssueResponseDto> issues = issueService.getIssues(projectId, filterBy, filterValue);
+            // asOf 가 있으면 이슈 히스토리를 그 시점까지 재생한 목록, q 가 없으면 filterBy/filterValue
+            List<IssueResponseDto> issues;
+            if (asOf != null)
+                issues = issueHistoryService.getIssuesAsOf(projectId, asOf, filterBy, filterValue);
+            else if (query)
+                issues = issueService.searchIssues(projectId, id, q);
+            else
+                issues = issueService.getIssues(projectId, filterBy, filterValue);
             return ResponseEntity.ok(issues);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
 
+    // 목록 화면의 필터 옆 개수 (getIssues 와 같은 filterBy/filterValue)
+    @GetMapping("/facets")
+    public ResponseEntity<IssueFacetResponseDto> getFacets(@PathVariable Long projectId,
+                                                           @RequestParam String id,
+                                                           @RequestParam String pw,
+                                                           @RequestParam(required = false) String filterBy,
+                                                           @RequestParam(required = false) String filterValue) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        try {
+            return ResponseEntity.ok(issueService.getFacets(projectId, filterBy, filterValue));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     @GetMapping("/{issueId}")
     public ResponseEntity<IssueResponseDto> getIssue(@PathVariable Long projectId, @PathVariable Long issueId,
                                                      @RequestParam String id, @RequestParam String pw) {
@@ -76,12 +118,14 @@ public class IssueController {
         Optional<IssueResponseDto> issue = issueService.getIssue(projectId, issueId);
 
         if (issue.isPresent())
-            return ResponseEntity.ok(issue.get());
+            return VersionETag.withETag(ResponseEntity.ok(), issue.get().getVersion()).body(issue.get());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
     @GetMapping("/statistic")
-    public ResponseEntity<IssueStatisticResponseDto> getStatistic(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+    public ResponseEntity<IssueStatisticResponseDto> getStatistic(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw,
+                                                                  @RequestParam(required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
         if (!memberService.login(id, pw))
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
@@ -89,6 +133,14 @@ public class IssueController {
         if (role.isEmpty())
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
+        if (asOf != null) {
+            try {
+                return ResponseEntity.ok(issueHistoryService.getStatisticAsOf(projectId, asOf));
+            } catch (IllegalArgumentException e) {
+                // 히스토리 시작 전
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+        }
         return ResponseEntity.ok(issueService.getStatistic(projectId));
     }
 
@@ -109,6 +161,7 @@ public class IssueController {
 
     @PutMapping("/{issueId}/assign")
     public ResponseEntity<Void> assignIssue(@PathVariable Long projectId, @PathVariable Long issueId, @RequestParam String id, @RequestParam String pw,
+                                            @RequestHeader(value = "If-Match", required = false) String ifMatch,
                                             @RequestBody IssueAssignRequestDto request) {
         if (!memberService.login(id, pw))
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -117,7 +170,13 @@ public class IssueController {
         if (role.isEmpty() || role.get() != Role.PL)
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
-        boolean result = issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority());
+        boolean result;
+        try {
+            result = issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority(),
+                    VersionETag.parseIfMatch(ifMatch));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         if (result)
             return ResponseEntity.ok().build();
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -125,6 +184,7 @@ public class IssueController {
 
     @PutMapping("/{issueId}/content")
     public ResponseEntity<Void> updateIssueContent(@PathVariable Long projectId, @PathVariable Long issueId, @RequestParam String id, @RequestParam String pw,
+                                                   @RequestHeader(value = "If-Match", required = false) String ifMatch,
                                                    @RequestBody IssueCreateRequestDto request) {
         if (!memberService.login(id, pw))
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -133,7 +193,13 @@ public class IssueController {
         if (role.isEmpty() || role.get() != Role.TESTER)
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
-        boolean result = issueService.updateIssue(id, projectId, issueId, request.getTitle(), request.getDescription());
+        boolean result;
+        try {
+            result = issueService.updateIssue(id, projectId, issueId, request.getTitle(), request.getDescription(),
+                    VersionETag.parseIfMatch(ifMatch));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         if (result)
             return ResponseEntity.ok().build();
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -141,6 +207,7 @@ public class IssueController {
 
     @PutMapping("/{issueId}/state")
     public ResponseEntity<Void> updateIssueState(@PathVariable Long projectId, @PathVariable Long issueId, @RequestParam String id, @RequestParam String pw,
+                                                 @RequestHeader(value = "If-Match", required = false) String ifMatch,
                                                  @RequestBody IssueStateRequest request) {
         if (!memberService.login(id, pw))
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -149,7 +216,13 @@ public class IssueController {
         if (role.isEmpty())
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
-        boolean result = issueService.updateIssueState(projectId, issueId, id, role.get(), request.getState());
+        boolean result;
+        try {
+            result = issueService.updateIssueState(projectId, issueId, id, role.get(), request.getState(),
+                    VersionETag.parseIfMatch(ifMatch));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         if (result)
             return ResponseEntity.ok().build();
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
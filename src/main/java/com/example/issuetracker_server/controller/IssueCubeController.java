@@ -0,0 +1,71 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueCubeResponseDto;
+import com.example.issuetracker_server.service.issuecube.IssueCubeService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/project/{projectId}/issue/cube")
+public class IssueCubeController {
+
+    private final IssueCubeService issueCubeService;
+
+    private final JobService jobService;
+
+    private final MemberService memberService;
+
+    private final MemberProjectService memberProjectService;
+
+    // 예: ?groupBy=assignee,week&state=FIXED&priority=CRITICAL (목록은 쉼표로 구분)
+    @GetMapping
+    public ResponseEntity<IssueCubeResponseDto> query(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw,
+                                                      @RequestParam(required = false) List<String> groupBy,
+                                                      @RequestParam(required = false) List<String> state,
+                                                      @RequestParam(required = false) List<String> priority,
+                                                      @RequestParam(required = false) List<String> assignee,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        try {
+            return ResponseEntity.ok(issueCubeService.query(projectId, groupBy, state, priority, assignee, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    // 변경 기록 이전의 이슈까지 넣어 큐브를 다시 채운다 (진행 상황은 GET /jobs/{jobId})
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuild(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw) || !Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Long jobId = jobService.submit(JobType.REBUILD_ISSUE_CUBE, String.valueOf(projectId), id);
+        Map<String, Long> response = new HashMap<>();
+        response.put("job_id", jobId);
+        return ResponseEntity.accepted().location(URI.create("/jobs/" + jobId)).body(response);
+    }
+}
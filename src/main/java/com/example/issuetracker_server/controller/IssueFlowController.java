@@ -0,0 +1,66 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueFlowResponseDto;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/project/{projectId}/issue/flow")
+public class IssueFlowController {
+
+    private final IssueFlowService issueFlowService;
+
+    private final JobService jobService;
+
+    private final MemberService memberService;
+
+    private final MemberProjectService memberProjectService;
+
+    // 번다운/누적 흐름도용 날짜별 상태 수
+    @GetMapping
+    public ResponseEntity<IssueFlowResponseDto> getFlow(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        try {
+            return ResponseEntity.ok(issueFlowService.getFlow(projectId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    // 전이 기록 이전의 이슈까지 넣어 버킷을 다시 채운다 (진행 상황은 GET /jobs/{jobId})
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuild(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw) || !Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Long jobId = jobService.submit(JobType.REBUILD_ISSUE_FLOW, String.valueOf(projectId), id);
+        Map<String, Long> response = new HashMap<>();
+        response.put("job_id", jobId);
+        return ResponseEntity.accepted().location(URI.create("/jobs/" + jobId)).body(response);
+    }
+}
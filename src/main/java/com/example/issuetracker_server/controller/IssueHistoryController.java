@@ -0,0 +1,61 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueEventResponseDto;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/project/{projectId}/issue")
+public class IssueHistoryController {
+
+    private final IssueHistoryService issueHistoryService;
+
+    private final JobService jobService;
+
+    private final MemberService memberService;
+
+    private final MemberProjectService memberProjectService;
+
+    @GetMapping("/{issueId}/history")
+    public ResponseEntity<List<IssueEventResponseDto>> getHistory(@PathVariable Long projectId, @PathVariable Long issueId,
+                                                                  @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        // 히스토리를 남기기 전부터 있던 이슈는 IMPORTED 이벤트부터 시작한다
+        return ResponseEntity.ok(issueHistoryService.getHistory(projectId, issueId));
+    }
+
+    // 이슈 테이블을 히스토리로 다시 맞춘다 (진행 상황은 GET /jobs/{jobId})
+    @PostMapping("/history/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildProjection(@PathVariable Long projectId,
+                                                               @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw) || !Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Long jobId = jobService.submit(JobType.REBUILD_ISSUE_PROJECTION, String.valueOf(projectId), id);
+        Map<String, Long> response = new HashMap<>();
+        response.put("job_id", jobId);
+        return ResponseEntity.accepted().location(URI.create("/jobs/" + jobId)).body(response);
+    }
+}
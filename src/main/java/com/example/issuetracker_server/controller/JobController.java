@@ -0,0 +1,38 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.job.JobResponseDto;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    private final MemberService memberService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobResponseDto> getJob(@PathVariable Long jobId, @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<JobResponseDto> job = jobService.getJob(jobId);
+        if (job.isEmpty())
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+
+        // 작업을 요청한 사람과 admin 만 조회 가능
+        if (!Objects.equals(job.get().getRequester_id(), id) && !Objects.equals(id, "admin"))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        return ResponseEntity.ok(job.get());
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.issuetracker_server.controller;
 
+import com.example.issuetracker_server.domain.job.JobType;
 import com.example.issuetracker_server.domain.memberproject.MemberProject;
 import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.dto.project.ProjectDto;
 import com.example.issuetracker_server.dto.project.ProjectRequestDto;
 import com.example.issuetracker_server.dto.project.UserRoleDto;
+import com.example.issuetracker_server.service.job.JobService;
 import com.example.issuetracker_server.service.member.MemberService;
 import com.example.issuetracker_server.service.memberproject.MemberProjectService;
 import com.example.issuetracker_server.service.project.ProjectService;
@@ -15,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,6 +28,7 @@ public class ProjectController {
     private final ProjectService projectService;
     private final MemberProjectService memberprojectService;
     private final MemberService memberService;
+    private final JobService jobService;
 
     @PostMapping
     public ResponseEntity<Void> save(@RequestBody ProjectRequestDto requestDto, @RequestParam String id, @RequestParam String pw) throws JsonProcessingException {
@@ -89,14 +93,11 @@ public class ProjectController {
 
         Optional<Project> optionalProject = projectService.findById(projectId);
         if (optionalProject.isPresent()) {
-            //관련된 MemberProject 삭제
-            List<MemberProject> memberProjects = memberprojectService.getMemberProjectByProjectId(projectId);
-            memberprojectService.deleteAll(memberProjects);
-
-            // project 삭제
-            projectService.delete(projectId);
-
-            return ResponseEntity.status(HttpStatus.OK).build();
+            // 큰 프로젝트는 삭제에 오래 걸리므로 백그라운드 작업으로 넘기고 바로 응답 (진행 상황은 GET /jobs/{jobId})
+            Long jobId = jobService.submit(JobType.DELETE_PROJECT, String.valueOf(projectId), id);
+            Map<String, Long> response = new HashMap<>();
+            response.put("job_id", jobId);
+            return ResponseEntity.accepted().location(URI.create("/jobs/" + jobId)).body(response);
         }
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -0,0 +1,42 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+// 이슈/코멘트 목록을 폴링하는 대신 구독하는 변경 알림 (Server-Sent Events)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/project/{projectId}/events")
+public class ProjectEventController {
+
+    private final ProjectEventStream projectEventStream;
+
+    private final MemberService memberService;
+
+    private final MemberProjectService memberProjectService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        Optional<SseEmitter> emitter = projectEventStream.subscribe(projectId);
+        if (emitter.isEmpty())
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        return ResponseEntity.ok(emitter.get());
+    }
+}
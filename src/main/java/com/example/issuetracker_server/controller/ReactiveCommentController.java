@@ -0,0 +1,26 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.comment.CommentResponseDto;
+import com.example.issuetracker_server.service.reactive.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+// CommentController 조회 API 의 비동기 버전 (reactive 프로필)
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/reactive/project/{projectId}/issue/{issueId}/comment")
+public class ReactiveCommentController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CommentResponseDto> getComments(@PathVariable Long projectId, @PathVariable Long issueId,
+                                                @RequestParam String id, @RequestParam String pw) {
+        return ReactiveMemberCheck.checkMember(reactiveReadService, projectId, id, pw)
+                .thenMany(Flux.defer(() -> reactiveReadService.getComments(issueId)));
+    }
+}
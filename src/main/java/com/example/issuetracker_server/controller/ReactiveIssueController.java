@@ -0,0 +1,51 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import com.example.issuetracker_server.service.reactive.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * IssueController 조회 API 의 비동기 버전 (reactive 프로필).
+ * Accept: application/x-ndjson 이면 목록을 한 건씩 흘려보내고(back-pressure 적용), 그 외에는 JSON 배열로 모아서 반환한다.
+ */
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/reactive/project/{projectId}/issue")
+public class ReactiveIssueController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<IssueResponseDto> getIssues(@PathVariable Long projectId,
+                                            @RequestParam String id,
+                                            @RequestParam String pw,
+                                            @RequestParam(required = false) String filterBy,
+                                            @RequestParam(required = false) String filterValue) {
+        return ReactiveMemberCheck.checkMember(reactiveReadService, projectId, id, pw)
+                .thenMany(Flux.defer(() -> reactiveReadService.getIssues(projectId, filterBy, filterValue)))
+                .onErrorMap(IllegalArgumentException.class, e -> new ResponseStatusException(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping("/{issueId}")
+    public Mono<IssueResponseDto> getIssue(@PathVariable Long projectId, @PathVariable Long issueId,
+                                           @RequestParam String id, @RequestParam String pw) {
+        return ReactiveMemberCheck.checkMember(reactiveReadService, projectId, id, pw)
+                .then(reactiveReadService.getIssue(projectId, issueId))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    @GetMapping("/statistic")
+    public Mono<IssueStatisticResponseDto> getStatistic(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+        return ReactiveMemberCheck.checkMember(reactiveReadService, projectId, id, pw)
+                .then(reactiveReadService.getStatistic(projectId));
+    }
+}
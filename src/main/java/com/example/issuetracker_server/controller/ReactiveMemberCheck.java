@@ -0,0 +1,25 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.service.reactive.ReactiveReadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 컨트롤러가 같이 쓰는 권한 확인.
+ * 로그인 실패는 401, 프로젝트 멤버가 아니면 403 (IssueController, CommentController 와 동일).
+ */
+final class ReactiveMemberCheck {
+
+    private ReactiveMemberCheck() {
+    }
+
+    static Mono<Role> checkMember(ReactiveReadService reactiveReadService, Long projectId, String id, String pw) {
+        return reactiveReadService.login(id, pw)
+                .flatMap(loggedIn -> loggedIn
+                        ? reactiveReadService.getRole(id, projectId)
+                        .switchIfEmpty(Mono.<Role>error(new ResponseStatusException(HttpStatus.FORBIDDEN)))
+                        : Mono.<Role>error(new ResponseStatusException(HttpStatus.UNAUTHORIZED)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterRequestDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterResponseDto;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+// 회원마다 저장해 두고 다시 여는 이슈 검색식 (예: "내 미해결 블로커" = state:NEW,ASSIGNED,REOPEN priority:BLOCKER assignee:me)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/project/{projectId}/filter")
+public class SavedFilterController {
+
+    private final SavedFilterService savedFilterService;
+
+    private final MemberService memberService;
+
+    private final MemberProjectService memberProjectService;
+
+    @PostMapping
+    public ResponseEntity<SavedFilterResponseDto> createFilter(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw,
+                                                               @RequestBody SavedFilterRequestDto request) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(savedFilterService.create(projectId, id, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedFilterResponseDto>> getFilters(@PathVariable Long projectId, @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        return ResponseEntity.ok(savedFilterService.getFilters(projectId, id));
+    }
+
+    @GetMapping("/{filterId}/issues")
+    public ResponseEntity<List<IssueResponseDto>> getIssues(@PathVariable Long projectId, @PathVariable Long filterId,
+                                                            @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        Optional<List<IssueResponseDto>> issues = savedFilterService.getIssues(projectId, id, filterId);
+        if (issues.isEmpty())
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        return ResponseEntity.ok(issues.get());
+    }
+
+    @DeleteMapping("/{filterId}")
+    public ResponseEntity<?> deleteFilter(@PathVariable Long projectId, @PathVariable Long filterId,
+                                          @RequestParam String id, @RequestParam String pw) {
+        if (!memberService.login(id, pw))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Optional<Role> role = memberProjectService.getRole(id, projectId);
+        if (role.isEmpty())
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        if (savedFilterService.delete(projectId, id, filterId))
+            return ResponseEntity.status(HttpStatus.OK).build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+}
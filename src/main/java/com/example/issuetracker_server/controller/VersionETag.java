@@ -0,0 +1,47 @@
+package com.example.issuetracker_server.controller;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 엔티티의 @Version 값을 ETag 로 내보내고 If-Match 헤더를 기대 버전으로 해석한다.
+ * ETag 는 버전 숫자를 따옴표로 감싼 형태("3")이며, weak 태그(W/"3")도 같은 버전으로 취급한다.
+ */
+final class VersionETag {
+
+    /**
+     * If-Match 값이 어떤 버전과도 일치할 수 없을 때 쓰는 값.
+     * 버전은 0 부터 증가하므로 항상 412 로 이어진다.
+     */
+    static final long UNMATCHABLE = -1L;
+
+    private VersionETag() {
+    }
+
+    /**
+     * @return 헤더가 없거나 "*" 이면 null (버전 검사 생략), 해석할 수 없으면 {@link #UNMATCHABLE}
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank())
+            return null;
+
+        String tag = ifMatch.trim();
+        if (tag.equals("*"))
+            return null;
+        if (tag.startsWith("W/"))
+            tag = tag.substring(2);
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\""))
+            tag = tag.substring(1, tag.length() - 1);
+
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE;
+        }
+    }
+
+    static <B extends ResponseEntity.HeadersBuilder<B>> B withETag(B builder, Long version) {
+        if (version != null)
+            builder.eTag(String.valueOf(version));
+        return builder;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.issuetracker_server.datagen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.LocalDate;
+
+/**
+ * --spring.profiles.active=datagen 으로 실행하면 설정된 DB 에 합성 데이터를 채우고
+ * 부하 테스트가 읽을 manifest(JSON)를 남긴 뒤 종료한다.
+ */
+@Component
+@Profile("datagen")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGeneratorRunner.class);
+
+    private final SyntheticDataGenerator generator;
+
+    private final ObjectMapper objectMapper;
+
+    private final ConfigurableApplicationContext context;
+
+    @Value("${datagen.size:medium}")
+    private String size;
+
+    @Value("${datagen.seed:" + DatasetSpec.DEFAULT_SEED + "}")
+    private long seed;
+
+    // 비워 두면 오늘 날짜 (같은 시드라도 기준일이 다르면 날짜 컬럼이 달라진다)
+    @Value("${datagen.anchor:}")
+    private String anchor;
+
+    @Value("${datagen.reset:false}")
+    private boolean reset;
+
+    @Value("${datagen.manifest:build/datagen/manifest.json}")
+    private String manifest;
+
+    public DataGeneratorRunner(SyntheticDataGenerator generator, ObjectMapper objectMapper,
+                               ConfigurableApplicationContext context) {
+        this.generator = generator;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DatasetSpec spec = DatasetSpec.preset(size, seed, anchor.isBlank() ? null : LocalDate.parse(anchor));
+        if (reset)
+            generator.clear();
+
+        long start = System.nanoTime();
+        GeneratedDataset dataset = generator.generate(spec);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Generated {} members, {} projects, {} issues, {} comments in {} ms (seed={}, anchor={})",
+                dataset.members(), dataset.projects().size(), dataset.issues(), dataset.comments(), elapsedMs,
+                spec.seed(), spec.anchor());
+
+        File file = new File(manifest);
+        if (file.getAbsoluteFile().getParentFile() != null)
+            file.getAbsoluteFile().getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, dataset);
+        log.info("Wrote dataset manifest to {}", file.getAbsolutePath());
+
+        System.exit(SpringApplication.exit(context));
+    }
+}
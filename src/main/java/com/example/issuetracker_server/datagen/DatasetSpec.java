@@ -0,0 +1,33 @@
+package com.example.issuetracker_server.datagen;
+
+import java.time.LocalDate;
+
+/**
+ * 합성 데이터셋의 크기와 시드.
+ * 시드와 기준일(anchor)이 같으면 같은 데이터가 만들어진다. 생성일은 기준일로부터 최근 days 일에 걸쳐 분포한다.
+ */
+public record DatasetSpec(long seed, int members, int projects, int issues, int days, LocalDate anchor) {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    public DatasetSpec {
+        if (members < 3 || projects < 1 || issues < 0 || days < 1)
+            throw new IllegalArgumentException("Invalid dataset spec");
+        if (anchor == null)
+            anchor = LocalDate.now();
+    }
+
+    /**
+     * 벤치마크와 부하 테스트가 같이 쓰는 크기.
+     * small/medium/large 는 이슈 1천/10만/100만 개, xlarge 는 대형 설치 규모다.
+     */
+    public static DatasetSpec preset(String size, long seed, LocalDate anchor) {
+        return switch (size.toLowerCase()) {
+            case "small" -> new DatasetSpec(seed, 100, 10, 1_000, 365, anchor);
+            case "medium" -> new DatasetSpec(seed, 1_000, 100, 100_000, 365, anchor);
+            case "large" -> new DatasetSpec(seed, 5_000, 300, 1_000_000, 730, anchor);
+            case "xlarge" -> new DatasetSpec(seed, 10_000, 500, 3_000_000, 1_095, anchor);
+            default -> throw new IllegalArgumentException("Unknown dataset size: " + size);
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.datagen;
+
+import java.util.List;
+
+/**
+ * 생성 결과 요약. 부하 테스트가 로그인할 계정과 프로젝트별 역할을 여기서 찾는다.
+ * projects 는 이슈 수가 많은 순서다. 모든 계정의 비밀번호는 {@link SyntheticDataGenerator#PASSWORD} 이다.
+ */
+public record GeneratedDataset(DatasetSpec spec, int members, long issues, long comments, List<GeneratedProject> projects) {
+
+    public record GeneratedProject(Long id, String title, int issues, Long firstIssueId,
+                                   String pl, List<String> devs, List<String> testers) {
+    }
+
+    public GeneratedProject largestProject() {
+        return projects.get(0);
+    }
+}
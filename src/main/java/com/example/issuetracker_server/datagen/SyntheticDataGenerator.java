@@ -0,0 +1,264 @@
+package com.example.issuetracker_server.datagen;
+
+import com.example.issuetracker_server.datagen.GeneratedDataset.GeneratedProject;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 도메인 엔티티 테이블(member, project, member_project, issue, comment)에 현실적인 분포의 합성 데이터를 채운다.
+ * - 프로젝트 크기는 Zipf 분포(소수의 큰 프로젝트와 다수의 작은 프로젝트)
+ * - 이슈 상태/우선순위는 운영 중인 트래커에 가까운 비율, 코멘트 수는 멱법칙(대부분 0~2개, 일부는 수십 개)
+ * JPA 의 IDENTITY 생성은 JDBC 배치를 쓰지 못하므로 id 를 직접 정해 JdbcTemplate 배치 insert 로 넣고,
+ * 끝나면 identity 를 그 다음 값부터 다시 시작하게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    public static final String PASSWORD = "password";
+
+    static final int BATCH_SIZE = 1_000;
+
+    private static final double PROJECT_SIZE_SKEW = 1.1;
+    private static final double COMMENT_POWER_LAW_ALPHA = 2.5;
+    private static final int MAX_COMMENTS_PER_ISSUE = 300;
+    private static final int MAX_TEAM_SIZE = 60;
+
+    private static final State[] STATES = State.values();
+    // NEW, ASSIGNED, FIXED, RESOLVED, CLOSED, DISPOSED, REOPEN
+    private static final double[] STATE_WEIGHTS = {0.10, 0.15, 0.08, 0.07, 0.50, 0.05, 0.05};
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    // BLOCKER, CRITICAL, MAJOR, MINOR, TRIVIAL
+    private static final double[] PRIORITY_WEIGHTS = {0.02, 0.08, 0.50, 0.30, 0.10};
+
+    private static final String[] COMPONENTS = {"Login", "Dashboard", "Search", "Issue list", "Comments", "Settings",
+            "Profile", "Export", "Notifications", "API", "Mobile", "Admin"};
+    private static final String[] PROBLEMS = {"crashes on submit", "shows wrong count", "is slow to load",
+            "loses unsaved changes", "ignores filter", "returns 500", "layout broken", "times out",
+            "shows stale data", "fails on empty input", "duplicates entries", "missing translation"};
+    private static final String[] REMARKS = {"Reproduced on my machine.", "Cannot reproduce.",
+            "Looks related to the last release.", "Fixed in the latest build, please verify.",
+            "Adding logs from production.", "Is this still happening?", "Workaround: reload the page.",
+            "Raising priority, customers are affected.", "Verified, closing.", "Needs more information."};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 비어 있는 DB 에만 넣는다. 기존 데이터를 지우려면 먼저 {@link #clear()} 를 호출한다.
+     */
+    public GeneratedDataset generate(DatasetSpec spec) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+        if (existing != null && existing > 0)
+            throw new IllegalStateException("Database is not empty (" + existing + " members)");
+
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        LocalDateTime anchor = spec.anchor().atStartOfDay();
+
+        List<String> memberIds = insertMembers(spec);
+        int[] projectSizes = projectSizes(spec);
+        List<GeneratedProject> projects = new ArrayList<>(spec.projects());
+        IssueWriter writer = new IssueWriter();
+        long projectId = 0;
+        for (int p = 0; p < spec.projects(); p++) {
+            projectId++;
+            LocalDateTime projectCreated = anchor.minusDays(spec.days());
+            String title = "Project " + (p + 1);
+            jdbcTemplate.update("INSERT INTO project (id, title, created_date, modified_date) VALUES (?, ?, ?, ?)",
+                    projectId, title, Timestamp.valueOf(projectCreated), Timestamp.valueOf(projectCreated));
+
+            Team team = insertTeam(random, projectId, memberIds, projectSizes[p]);
+            long firstIssueId = writer.nextIssueId;
+            for (int i = 0; i < projectSizes[p]; i++)
+                writer.addIssue(random, spec, anchor, projectId, team);
+            projects.add(new GeneratedProject(projectId, title, projectSizes[p],
+                    projectSizes[p] > 0 ? firstIssueId : null, team.pl, team.devs, team.testers));
+        }
+        writer.flush();
+
+        restartIdentity("project", projectId + 1);
+        restartIdentity("issue", writer.nextIssueId);
+        restartIdentity("comment", writer.nextCommentId);
+        return new GeneratedDataset(spec, memberIds.size() + 1, writer.nextIssueId - 1, writer.nextCommentId - 1, projects);
+    }
+
+    // 이슈에서 파생된 테이블(히스토리, 집계, 저장된 필터)을 먼저 비우고 외래키 순서대로 지운다
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM issue_event");
+        jdbcTemplate.update("DELETE FROM issue_snapshot");
+        jdbcTemplate.update("DELETE FROM issue_flow_daily");
+        jdbcTemplate.update("DELETE FROM issue_cube_cell");
+        jdbcTemplate.update("DELETE FROM saved_filter");
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM issue");
+        jdbcTemplate.update("DELETE FROM member_project");
+        jdbcTemplate.update("DELETE FROM project");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    private List<String> insertMembers(DatasetSpec spec) {
+        List<String> ids = new ArrayList<>(spec.members());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        // admin 은 프로젝트 생성/삭제 시나리오용
+        batch.add(new Object[]{"admin", PASSWORD, "Admin", "admin@example.com"});
+        for (int m = 1; m <= spec.members(); m++) {
+            String id = String.format("user%05d", m);
+            ids.add(id);
+            batch.add(new Object[]{id, PASSWORD, "User " + m, id + "@example.com"});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO member (id, password, name, mail) VALUES (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty())
+            jdbcTemplate.batchUpdate("INSERT INTO member (id, password, name, mail) VALUES (?, ?, ?, ?)", batch);
+        return ids;
+    }
+
+    // 순위 r 프로젝트의 비중을 1 / r^s 로 두고, 나머지는 가장 큰 프로젝트에 몰아준다
+    private int[] projectSizes(DatasetSpec spec) {
+        double[] weights = new double[spec.projects()];
+        double sum = 0;
+        for (int p = 0; p < weights.length; p++) {
+            weights[p] = 1.0 / Math.pow(p + 1, PROJECT_SIZE_SKEW);
+            sum += weights[p];
+        }
+        int[] sizes = new int[weights.length];
+        int assigned = 0;
+        for (int p = 0; p < weights.length; p++) {
+            sizes[p] = (int) (spec.issues() * weights[p] / sum);
+            assigned += sizes[p];
+        }
+        sizes[0] += spec.issues() - assigned;
+        return sizes;
+    }
+
+    // 팀 크기는 이슈 수에 따라 3 ~ 60 명: PL 1명, 나머지의 60% DEV, 40% TESTER
+    private Team insertTeam(SplittableRandom random, long projectId, List<String> memberIds, int issues) {
+        int size = Math.min(memberIds.size(), Math.max(3, Math.min(MAX_TEAM_SIZE, 3 + issues / 2_000)));
+        List<String> picked = sample(random, memberIds, size);
+        int devs = Math.max(1, (int) Math.round((size - 1) * 0.6));
+        Team team = new Team(picked.get(0), new ArrayList<>(picked.subList(1, 1 + devs)),
+                new ArrayList<>(picked.subList(1 + devs, size)));
+        if (team.testers.isEmpty())
+            team.testers.add(team.pl);
+
+        List<Object[]> batch = new ArrayList<>(size);
+        batch.add(new Object[]{team.pl, projectId, Role.PL.name()});
+        team.devs.forEach(dev -> batch.add(new Object[]{dev, projectId, Role.DEV.name()}));
+        picked.subList(1 + devs, size).forEach(tester -> batch.add(new Object[]{tester, projectId, Role.TESTER.name()}));
+        jdbcTemplate.batchUpdate("INSERT INTO member_project (member_id, project_id, role) VALUES (?, ?, ?)", batch);
+        return team;
+    }
+
+    // 앞쪽 size 개만 섞는 부분 Fisher-Yates
+    private static List<String> sample(SplittableRandom random, List<String> pool, int size) {
+        String[] copy = pool.toArray(new String[0]);
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(copy.length - i);
+            String tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return List.of(copy).subList(0, size);
+    }
+
+    private static int pick(SplittableRandom random, double[] weights) {
+        double u = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            u -= weights[i];
+            if (u < 0)
+                return i;
+        }
+        return weights.length - 1;
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    // 이산 파레토: P(k 이상) ~ k^-(alpha-1)
+    private static int commentCount(SplittableRandom random) {
+        double u = random.nextDouble();
+        int count = (int) Math.floor(Math.pow(1 - u, -1.0 / (COMMENT_POWER_LAW_ALPHA - 1))) - 1;
+        return Math.min(count, MAX_COMMENTS_PER_ISSUE);
+    }
+
+    private static LocalDateTime between(SplittableRandom random, LocalDateTime from, LocalDateTime to) {
+        long seconds = Duration.between(from, to).getSeconds();
+        return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds));
+    }
+
+    private void restartIdentity(String table, long next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + Math.max(1, next));
+    }
+
+    private record Team(String pl, List<String> devs, List<String> testers) {
+    }
+
+    /**
+     * 이슈/코멘트 행을 모아 BATCH_SIZE 단위로 insert 한다. 코멘트의 issue_id 가 먼저 들어가도록 이슈부터 비운다.
+     */
+    private class IssueWriter {
+
+        private static final String ISSUE_SQL = "INSERT INTO issue (id, project_id, title, description, reporter_id, " +
+                "assignee_id, fixer_id, priority, state, created_date, modified_date, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        private static final String COMMENT_SQL = "INSERT INTO comment (id, author_id, issue_id, content, " +
+                "created_date, modified_date, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+        private final List<Object[]> issues = new ArrayList<>(BATCH_SIZE);
+        private final List<Object[]> comments = new ArrayList<>(BATCH_SIZE);
+
+        private long nextIssueId = 1;
+        private long nextCommentId = 1;
+
+        void addIssue(SplittableRandom random, DatasetSpec spec, LocalDateTime anchor, long projectId, Team team) {
+            long issueId = nextIssueId++;
+            State state = STATES[pick(random, STATE_WEIGHTS)];
+            Priority priority = PRIORITIES[pick(random, PRIORITY_WEIGHTS)];
+            String reporter = pick(random, team.testers);
+            String assignee = state == State.NEW ? null : pick(random, team.devs);
+            String fixer = state == State.FIXED || state == State.RESOLVED || state == State.CLOSED ? assignee : null;
+            LocalDateTime created = between(random, anchor.minusDays(spec.days()), anchor);
+            LocalDateTime modified = between(random, created, anchor);
+            String component = COMPONENTS[random.nextInt(COMPONENTS.length)];
+            String problem = PROBLEMS[random.nextInt(PROBLEMS.length)];
+
+            issues.add(new Object[]{issueId, projectId, "[" + component + "] " + problem,
+                    component + " " + problem + " (case " + issueId + ")", reporter, assignee, fixer,
+                    priority.name(), state.name(), Timestamp.valueOf(created), Timestamp.valueOf(modified)});
+
+            int count = commentCount(random);
+            for (int c = 0; c < count; c++) {
+                String author = random.nextInt(3) == 0 ? reporter : pick(random, team.devs);
+                LocalDateTime at = between(random, created, anchor);
+                comments.add(new Object[]{nextCommentId++, author, issueId, REMARKS[random.nextInt(REMARKS.length)],
+                        Timestamp.valueOf(at), Timestamp.valueOf(at)});
+            }
+
+            if (issues.size() >= BATCH_SIZE || comments.size() >= BATCH_SIZE)
+                flush();
+        }
+
+        void flush() {
+            if (!issues.isEmpty())
+                jdbcTemplate.batchUpdate(ISSUE_SQL, issues);
+            if (!comments.isEmpty())
+                jdbcTemplate.batchUpdate(COMMENT_SQL, comments);
+            issues.clear();
+            comments.clear();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.issuetracker_server.domain.issue.Issue;
 import com.example.issuetracker_server.domain.member.Member;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -28,4 +29,8 @@ public class Comment extends BaseTimeEntity {
 
     @Column(length = 1000, nullable = false)
     private String content;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
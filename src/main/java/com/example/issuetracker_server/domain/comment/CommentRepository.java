@@ -1,9 +1,29 @@
 package com.example.issuetracker_server.domain.comment;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 응답에 작성자 이름이 들어가므로 작성자를 같이 읽는다 (작성자마다 추가 조회하지 않도록)
+    @EntityGraph(attributePaths = "author")
     List<Comment> findByIssueId(Long issueId);
+
+    // 수정/삭제 전에 경로의 프로젝트/이슈와 맞는지 보므로 이슈를 같이 읽는다 (이슈의 프로젝트 id 는 외래 키라 추가 조회가 없다)
+    @EntityGraph(attributePaths = "issue")
+    Optional<Comment> findWithIssueById(Long id);
+
+    // 엔티티를 읽지 않는 벌크 삭제 (영속성 컨텍스트와 cascade 를 거치지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.issue.id = :issueId")
+    int deleteAllByIssueIdInBatch(@Param("issueId") Long issueId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.issue.id in (select i.id from Issue i where i.project.id = :projectId)")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
 }
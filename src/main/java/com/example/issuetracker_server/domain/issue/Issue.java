@@ -6,6 +6,7 @@ import com.example.issuetracker_server.domain.member.Member;
 import com.example.issuetracker_server.domain.project.Project;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -52,4 +53,9 @@ public class Issue extends BaseTimeEntity {
 
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
+
+    // 낙관적 락: 동시 수정 시 먼저 커밋된 쪽만 반영되고 나머지는 충돌로 처리 (ETag 로 노출)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
@@ -0,0 +1,38 @@
+package com.example.issuetracker_server.domain.issue;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 이슈 검색식(q=)을 컴파일한 조건 하나. IssueQuery 는 이 조건들을 모두 AND 로 묶는다.
+ * 문자열 조건의 part 는 이미 소문자이고, 목록 필터처럼 대소문자 없이 포함되면 맞는다.
+ */
+public sealed interface IssueCondition {
+
+    // 그 중 하나. 비어 있으면 아무것도 맞지 않는다
+    record StateIn(Set<State> states) implements IssueCondition {
+    }
+
+    record PriorityIn(Set<Priority> priorities) implements IssueCondition {
+    }
+
+    // part 가 null 이면 비어 있는 (담당자가 없는) 이슈
+    record MemberContains(MemberField field, String part) implements IssueCondition {
+    }
+
+    // withDescription 이면 제목이나 본문 중 하나에 포함
+    record TextContains(boolean withDescription, String part) implements IssueCondition {
+    }
+
+    // [from, until), null 인 쪽은 열려 있다 (둘 다 null 이면 안 된다)
+    record DateRange(DateField field, LocalDateTime from, LocalDateTime until) implements IssueCondition {
+    }
+
+    enum MemberField {
+        ASSIGNEE, REPORTER, FIXER
+    }
+
+    enum DateField {
+        CREATED, MODIFIED
+    }
+}
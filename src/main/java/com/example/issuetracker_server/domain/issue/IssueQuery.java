@@ -0,0 +1,113 @@
+package com.example.issuetracker_server.domain.issue;
+
+import com.example.issuetracker_server.domain.member.Member;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 컴파일된 이슈 검색식. 조건을 JPQL 한 문장(프로젝트 조건 + 조건마다 AND 하나, id 순)과 파라미터로 미리 만들어 둔다.
+ * 문장은 값이 아니라 조건의 모양에만 따라 달라지므로 Hibernate 의 쿼리 계획 캐시도 같이 재사용된다.
+ */
+public record IssueQuery(String normalized, List<IssueCondition> conditions, String jpql, List<Object> parameters) {
+
+    public static IssueQuery compile(String normalized, List<IssueCondition> conditions) {
+        StringBuilder jpql = new StringBuilder("select i from Issue i where i.project.id = :projectId");
+        List<Object> parameters = new ArrayList<>();
+        for (IssueCondition condition : conditions) {
+            jpql.append(" and ");
+            if (condition instanceof IssueCondition.StateIn stateIn) {
+                if (stateIn.states().isEmpty())
+                    jpql.append("1 = 0");
+                else
+                    jpql.append("i.state in (:").append(parameter(parameters, stateIn.states())).append(")");
+            } else if (condition instanceof IssueCondition.PriorityIn priorityIn) {
+                if (priorityIn.priorities().isEmpty())
+                    jpql.append("1 = 0");
+                else
+                    jpql.append("i.priority in (:").append(parameter(parameters, priorityIn.priorities())).append(")");
+            } else if (condition instanceof IssueCondition.MemberContains member) {
+                String path = switch (member.field()) {
+                    case ASSIGNEE -> "i.assignee";
+                    case REPORTER -> "i.reporter";
+                    case FIXER -> "i.fixer";
+                };
+                if (member.part() == null)
+                    jpql.append(path).append(" is null");
+                else
+                    jpql.append("locate(:").append(parameter(parameters, member.part()))
+                            .append(", lower(").append(path).append(".id)) > 0");
+            } else if (condition instanceof IssueCondition.TextContains text) {
+                String name = parameter(parameters, text.part());
+                if (text.withDescription())
+                    jpql.append("(locate(:").append(name).append(", lower(i.title)) > 0 or locate(:")
+                            .append(name).append(", lower(i.description)) > 0)");
+                else
+                    jpql.append("locate(:").append(name).append(", lower(i.title)) > 0");
+            } else if (condition instanceof IssueCondition.DateRange range) {
+                String path = range.field() == IssueCondition.DateField.CREATED ? "i.createdDate" : "i.modifiedDate";
+                if (range.from() != null)
+                    jpql.append(path).append(" >= :").append(parameter(parameters, range.from()));
+                if (range.from() != null && range.until() != null)
+                    jpql.append(" and ");
+                if (range.until() != null)
+                    jpql.append(path).append(" < :").append(parameter(parameters, range.until()));
+            }
+        }
+        jpql.append(" order by i.id");
+        return new IssueQuery(normalized, List.copyOf(conditions), jpql.toString(), List.copyOf(parameters));
+    }
+
+    // JPQL 과 같은 뜻으로 이슈 하나를 메모리에서 검사한다 (저장된 필터를 쓰기마다 고칠 때)
+    public boolean matches(Issue issue) {
+        for (IssueCondition condition : conditions) {
+            if (!matches(issue, condition))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(Issue issue, IssueCondition condition) {
+        if (condition instanceof IssueCondition.StateIn stateIn)
+            return stateIn.states().contains(issue.getState());
+        if (condition instanceof IssueCondition.PriorityIn priorityIn)
+            return issue.getPriority() != null && priorityIn.priorities().contains(issue.getPriority());
+        if (condition instanceof IssueCondition.MemberContains member) {
+            Member value = switch (member.field()) {
+                case ASSIGNEE -> issue.getAssignee();
+                case REPORTER -> issue.getReporter();
+                case FIXER -> issue.getFixer();
+            };
+            if (member.part() == null)
+                return value == null;
+            return value != null && contains(value.getId(), member.part());
+        }
+        if (condition instanceof IssueCondition.TextContains text)
+            return contains(issue.getTitle(), text.part())
+                    || (text.withDescription() && contains(issue.getDescription(), text.part()));
+        if (condition instanceof IssueCondition.DateRange range) {
+            LocalDateTime value = range.field() == IssueCondition.DateField.CREATED ? issue.getCreatedDate() : issue.getModifiedDate();
+            return value != null
+                    && (range.from() == null || !value.isBefore(range.from()))
+                    && (range.until() == null || value.isBefore(range.until()));
+        }
+        return false;
+    }
+
+    // part 는 이미 소문자
+    private static boolean contains(String value, String part) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(part);
+    }
+
+    // 파라미터 이름은 순서대로 p0, p1, ...
+    public static String parameterName(int index) {
+        return "p" + index;
+    }
+
+    private static String parameter(List<Object> parameters, Object value) {
+        parameters.add(value);
+        return parameterName(parameters.size() - 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.issuetracker_server.domain.issue;
+
+import java.util.List;
+
+// IssueRepository 에 붙는 검색식 조회 (JPA 는 IssueQueryRepositoryImpl, memory 프로필은 MemoryIssueRepository)
+public interface IssueQueryRepository {
+
+    // 프로젝트에서 조건에 모두 맞는 이슈 (id 순)
+    List<Issue> search(Long projectId, IssueQuery query);
+}
@@ -0,0 +1,24 @@
+package com.example.issuetracker_server.domain.issue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+// Spring Data 가 이름(IssueQueryRepository + Impl)으로 찾아 IssueRepository 에 붙인다
+class IssueQueryRepositoryImpl implements IssueQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Issue> search(Long projectId, IssueQuery query) {
+        TypedQuery<Issue> typed = entityManager.createQuery(query.jpql(), Issue.class)
+                .setParameter("projectId", projectId);
+        List<Object> parameters = query.parameters();
+        for (int i = 0; i < parameters.size(); i++)
+            typed.setParameter(IssueQuery.parameterName(i), parameters.get(i));
+        return typed.getResultList();
+    }
+}
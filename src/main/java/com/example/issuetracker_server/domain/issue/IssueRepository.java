@@ -1,10 +1,13 @@
 package com.example.issuetracker_server.domain.issue;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, IssueQueryRepository {
     List<Issue> findByProjectId(Long projectId);
 
     List<Issue> findByProjectIdAndTitleContainingIgnoreCase(Long projectId, String title);
@@ -15,4 +18,50 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 
     List<Issue> findByProjectIdAndState(Long projectId, State state);
 
+    // 목록 필터(findByProjectIdAnd...)와 같은 조건으로 (상태, 우선순위, 담당자) 별 이슈 수. null 인 조건은 건너뛴다
+    @Query("select i.state as state, i.priority as priority, i.assignee.id as assigneeId, count(i) as count from Issue i " +
+            "where i.project.id = :projectId " +
+            "and (:title is null or locate(lower(:title), lower(i.title)) > 0) " +
+            "and (:reporter is null or locate(lower(:reporter), lower(i.reporter.id)) > 0) " +
+            "and (:assignee is null or locate(lower(:assignee), lower(i.assignee.id)) > 0) " +
+            "and (:state is null or i.state = :state) " +
+            "group by i.state, i.priority, i.assignee.id")
+    List<FacetCount> countFacets(@Param("projectId") Long projectId, @Param("title") String title,
+                                 @Param("reporter") String reporter, @Param("assignee") String assignee,
+                                 @Param("state") State state);
+
+    // 비트맵 색인(IssueBitmapIndex)을 만들 때 필요한 열만
+    @Query("select i.id as id, i.state as state, i.priority as priority, i.assignee.id as assigneeId, " +
+            "i.reporter.id as reporterId, i.version as version from Issue i where i.project.id = :projectId")
+    List<IndexEntry> findIndexEntriesByProjectId(@Param("projectId") Long projectId);
+
+    // 코멘트를 먼저 지운 뒤 호출해야 한다 (comment.issue_id 외래키)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Issue i where i.project.id = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+
+    interface FacetCount {
+        State getState();
+
+        Priority getPriority();
+
+        // 담당자가 없으면 null
+        String getAssigneeId();
+
+        Long getCount();
+    }
+
+    interface IndexEntry {
+        Long getId();
+
+        State getState();
+
+        Priority getPriority();
+
+        String getAssigneeId();
+
+        String getReporterId();
+
+        Long getVersion();
+    }
 }
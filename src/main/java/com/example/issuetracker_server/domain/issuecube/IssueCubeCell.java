@@ -0,0 +1,53 @@
+package com.example.issuetracker_server.domain.issuecube;
+
+import com.example.issuetracker_server.domain.issue.State;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * (프로젝트, 상태, 우선순위, 담당자, 날짜) 칸 하나. 이슈가 이 칸으로 들어오거나 나간 수를 더해 둔다.
+ * 조회는 이 테이블만 읽고 issue 테이블은 건드리지 않는다. 쓰기는 IssueCubeLog 가 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_issue_cube_cell",
+        columnNames = {"project_id", "bucket_date", "state", "priority", "assignee_id"}))
+public class IssueCubeCell {
+
+    // 담당자 없음. 유니크 제약이 걸리도록 null 대신 쓴다
+    public static final String UNASSIGNED = "";
+
+    // 우선순위 없음 (우선순위 없이 배정된 이슈). 같은 이유로 null 대신 쓴다
+    public static final String NO_PRIORITY = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private State state;
+
+    // Priority 이름 또는 NO_PRIORITY
+    @Column(length = 20, nullable = false)
+    private String priority;
+
+    @Column(name = "assignee_id", length = 50, nullable = false)
+    private String assigneeId;
+
+    private int entered;
+
+    private int exited;
+}
@@ -0,0 +1,12 @@
+package com.example.issuetracker_server.domain.issuecube;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IssueCubeCellRepository extends JpaRepository<IssueCubeCell, Long> {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IssueCubeCell c where c.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,45 @@
+package com.example.issuetracker_server.domain.issueflow;
+
+import com.example.issuetracker_server.domain.issue.State;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트/날짜/상태별 전이 수. 전이가 일어날 때 IssueFlowLog 가 더해 나가므로 보고서는 이 행들만 범위로 읽는다.
+ * 그 날 끝의 상태별 이슈 수는 그 날까지의 (entered - exited) 누적이다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_issue_flow_daily",
+        columnNames = {"project_id", "bucket_date", "state"}))
+public class IssueFlowDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private State state;
+
+    // 이 상태로 들어온 수 (생성 포함)
+    private int entered;
+
+    // 이 상태에서 나간 수 (삭제 포함)
+    private int exited;
+
+    // 들어온 이슈들의 생성 후 경과 시간 합 (FIXED 는 평균 수정 시간, CLOSED 는 평균 종료 시간이 된다)
+    private long enteredAgeSeconds;
+}
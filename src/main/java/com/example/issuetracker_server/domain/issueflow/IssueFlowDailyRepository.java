@@ -0,0 +1,29 @@
+package com.example.issuetracker_server.domain.issueflow;
+
+import com.example.issuetracker_server.domain.issue.State;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IssueFlowDailyRepository extends JpaRepository<IssueFlowDaily, Long> {
+    List<IssueFlowDaily> findByProjectIdAndBucketDateBetweenOrderByBucketDateAsc(Long projectId, LocalDate from, LocalDate to);
+
+    // before 전날 끝의 상태별 이슈 수
+    @Query("select f.state as state, sum(f.entered) - sum(f.exited) as count from IssueFlowDaily f " +
+            "where f.projectId = :projectId and f.bucketDate < :before group by f.state")
+    List<StateCount> countByStateBefore(@Param("projectId") Long projectId, @Param("before") LocalDate before);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IssueFlowDaily f where f.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+
+    interface StateCount {
+        State getState();
+
+        Long getCount();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.issuetracker_server.domain.issuehistory;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이슈 변경 하나. 추가만 하고 고치지 않는다.
+ * 변경 후 이슈의 전체 필드를 같이 남기므로 이벤트 하나만으로 그 시점의 이슈를 만들 수 있다.
+ * 쓰기는 IssueEventLog 가 JDBC 배치로 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = {
+        @Index(name = "idx_issue_event_project", columnList = "project_id, id"),
+        @Index(name = "idx_issue_event_issue", columnList = "issue_id, id")
+})
+public class IssueEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "issue_id", nullable = false)
+    private Long issueId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private IssueEventType type;
+
+    // 변경한 회원 (배정처럼 서비스가 알 수 없으면 null)
+    @Column(length = 50)
+    private String actorId;
+
+    @Column(length = 50)
+    private String title;
+
+    @Column(length = 5000)
+    private String description;
+
+    @Column(length = 50)
+    private String reporterId;
+
+    @Column(length = 50)
+    private String assigneeId;
+
+    @Column(length = 50)
+    private String fixerId;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    private State state;
+
+    private LocalDateTime issueCreatedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
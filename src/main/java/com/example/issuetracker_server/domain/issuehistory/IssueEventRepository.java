@@ -0,0 +1,36 @@
+package com.example.issuetracker_server.domain.issuehistory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IssueEventRepository extends JpaRepository<IssueEvent, Long> {
+    List<IssueEvent> findByIssueIdOrderByIdAsc(Long issueId);
+
+    List<IssueEvent> findByProjectIdAndIdGreaterThanOrderByIdAsc(Long projectId, Long afterId);
+
+    List<IssueEvent> findByProjectIdAndIdBetweenOrderByIdAsc(Long projectId, Long fromId, Long toId);
+
+    List<IssueEvent> findByProjectIdAndIdGreaterThanAndOccurredAtLessThanEqualOrderByIdAsc(Long projectId, Long afterId, LocalDateTime asOf);
+
+    List<IssueEvent> findByProjectIdAndIdBetweenAndOccurredAtLessThanEqualOrderByIdAsc(Long projectId, Long fromId, Long toId, LocalDateTime asOf);
+
+    @Query("select distinct e.issueId from IssueEvent e where e.projectId = :projectId")
+    List<Long> findIssueIds(@Param("projectId") Long projectId);
+
+    // 이 시각부터 프로젝트의 모든 이슈가 히스토리에 있다: 마지막으로 가져온(IMPORTED) 시각, 가져온 적이 없으면 첫 이벤트 시각
+    @Query("select coalesce(max(case when e.type = com.example.issuetracker_server.domain.issuehistory.IssueEventType.IMPORTED then e.occurredAt end), min(e.occurredAt))"
+            + " from IssueEvent e where e.projectId = :projectId")
+    LocalDateTime findHistoryStart(@Param("projectId") Long projectId);
+
+    @Query("select max(e.id) from IssueEvent e where e.projectId = :projectId and e.occurredAt <= :before")
+    Long findLastEventId(@Param("projectId") Long projectId, @Param("before") LocalDateTime before);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IssueEvent e where e.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+}
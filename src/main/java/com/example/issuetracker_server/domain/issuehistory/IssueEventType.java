@@ -0,0 +1,10 @@
+package com.example.issuetracker_server.domain.issuehistory;
+
+public enum IssueEventType {
+    CREATED,
+    ASSIGNED,
+    CONTENT_UPDATED,
+    STATE_CHANGED,
+    DELETED,
+    IMPORTED    // 히스토리를 남기기 전부터 있던 이슈를 가져올 때의 행 (IssueHistoryService.importIssues)
+}
@@ -0,0 +1,42 @@
+package com.example.issuetracker_server.domain.issuehistory;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 프로젝트의 이슈 히스토리를 lastEventId 까지 접은 결과.
+ * 재생은 가장 가까운 스냅샷에서 시작해 그 뒤 이벤트만 읽는다. 지난 시점 조회에 쓰도록 예전 스냅샷도 지우지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = @Index(name = "idx_issue_snapshot_project", columnList = "project_id, last_event_id"))
+public class IssueSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 이 id 까지의 (이 프로젝트) 이벤트가 반영되어 있다
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    // 반영된 마지막 이벤트의 시각
+    @Column(nullable = false)
+    private LocalDateTime lastEventAt;
+
+    private int issueCount;
+
+    // 지워지지 않은 이슈들의 상태 (JSON 배열)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+}
@@ -0,0 +1,23 @@
+package com.example.issuetracker_server.domain.issuehistory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IssueSnapshotRepository extends JpaRepository<IssueSnapshot, Long> {
+    Optional<IssueSnapshot> findFirstByProjectIdOrderByLastEventIdDesc(Long projectId);
+
+    // asOf 이전 이벤트만 담은 가장 최근 스냅샷 (lastEventAt 은 lastEventId 를 따라 커진다)
+    Optional<IssueSnapshot> findFirstByProjectIdAndLastEventAtLessThanEqualOrderByLastEventIdDesc(Long projectId, LocalDateTime asOf);
+
+    // asOf 이후 이벤트가 처음 들어간 스냅샷
+    Optional<IssueSnapshot> findFirstByProjectIdAndLastEventAtGreaterThanOrderByLastEventIdAsc(Long projectId, LocalDateTime asOf);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IssueSnapshot s where s.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,45 @@
+package com.example.issuetracker_server.domain.job;
+
+import com.example.issuetracker_server.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private JobState state;
+
+    // 작업 대상 (예: DELETE_PROJECT 는 projectId)
+    @Column(length = 1000)
+    private String payload;
+
+    @Column(length = 50, nullable = false)
+    private String requesterId;
+
+    // 0 ~ 100
+    private int progress;
+
+    @Column(length = 1000)
+    private String message;
+
+    // 워커 여러 개가 같은 작업을 동시에 가져가지 않도록 한다
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+}
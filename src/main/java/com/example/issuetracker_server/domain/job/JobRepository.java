@@ -0,0 +1,11 @@
+package com.example.issuetracker_server.domain.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+    List<Job> findByStateOrderByIdAsc(JobState state);
+
+    boolean existsByType(JobType type);
+}
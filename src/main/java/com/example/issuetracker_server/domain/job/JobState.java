@@ -0,0 +1,8 @@
+package com.example.issuetracker_server.domain.job;
+
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
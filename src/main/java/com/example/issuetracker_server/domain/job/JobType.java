@@ -0,0 +1,9 @@
+package com.example.issuetracker_server.domain.job;
+
+public enum JobType {
+    DELETE_PROJECT,             // payload: projectId
+    REBUILD_ISSUE_PROJECTION,   // payload: projectId
+    REBUILD_ISSUE_FLOW,         // payload: projectId
+    REBUILD_ISSUE_CUBE,         // payload: projectId
+    IMPORT_ISSUE_HISTORY        // payload: 없음 (모든 프로젝트)
+}
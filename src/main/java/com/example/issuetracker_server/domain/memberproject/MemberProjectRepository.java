@@ -1,6 +1,10 @@
 package com.example.issuetracker_server.domain.memberproject;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +14,13 @@ public interface MemberProjectRepository extends JpaRepository<MemberProject, Lo
 
     List<MemberProject> findByProjectIdAndRole(Long projectId, Role role);
     
+    @EntityGraph(attributePaths = "project")
     List<MemberProject> findByMemberId(String member_id);
 
+    @EntityGraph(attributePaths = "member")
     List<MemberProject> findByProjectId(Long project_id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MemberProject mp where mp.project.id = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
 }
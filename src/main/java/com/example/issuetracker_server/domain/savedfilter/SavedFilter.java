@@ -0,0 +1,35 @@
+package com.example.issuetracker_server.domain.savedfilter;
+
+import com.example.issuetracker_server.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원이 프로젝트에 저장해 둔 검색식(q=). 맞는 이슈 id 는 DB 가 아니라 SavedFilterIndex 가 메모리에 들고 있다.
+ * 이름은 (프로젝트, 회원) 안에서 겹치지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_saved_filter_name", columnNames = {"project_id", "member_id", "name"}))
+public class SavedFilter extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "member_id", length = 50, nullable = false)
+    private String memberId;
+
+    @Column(length = 50, nullable = false)
+    private String name;
+
+    @Column(length = 500, nullable = false)
+    private String query;
+}
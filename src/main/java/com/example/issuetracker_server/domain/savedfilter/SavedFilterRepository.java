@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.domain.savedfilter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SavedFilterRepository extends JpaRepository<SavedFilter, Long> {
+    List<SavedFilter> findByProjectIdAndMemberIdOrderById(Long projectId, String memberId);
+
+    boolean existsByProjectIdAndMemberIdAndName(Long projectId, String memberId, String name);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SavedFilter f where f.projectId = :projectId")
+    int deleteAllByProjectIdInBatch(@Param("projectId") Long projectId);
+}
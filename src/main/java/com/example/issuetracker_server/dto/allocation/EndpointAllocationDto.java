@@ -0,0 +1,17 @@
+package com.example.issuetracker_server.dto.allocation;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointAllocationDto {
+
+    private String endpoint;
+    private long requests;
+    private long total_bytes;
+    private long mean_bytes;
+    private long max_bytes;
+}
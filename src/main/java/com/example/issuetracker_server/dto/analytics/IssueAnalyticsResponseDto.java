@@ -0,0 +1,23 @@
+package com.example.issuetracker_server.dto.analytics;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueAnalyticsResponseDto {
+
+    private LocalDateTime snapshot_at;
+    private long issue_count;
+    private long open_count;
+    private Map<String, Long> by_state;
+    private Map<String, Long> by_priority;
+    private Map<Long, Long> by_project;
+    private Map<String, Long> open_age_days;
+    private Map<String, Long> top_open_assignees;
+}
@@ -12,4 +12,5 @@ public class CommentResponseDto {
     public String author_name;
     public String content;
     public String created_date;
+    public Long version;
 }
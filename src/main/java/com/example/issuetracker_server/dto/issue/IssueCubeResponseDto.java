@@ -0,0 +1,16 @@
+package com.example.issuetracker_server.dto.issue;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueCubeResponseDto {
+
+    private List<String> group_by;
+    private List<IssueCubeRowResponseDto> rows;
+}
@@ -0,0 +1,25 @@
+package com.example.issuetracker_server.dto.issue;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueCubeRowResponseDto {
+
+    // 묶지 않은 차원은 null
+    private State state;
+    private Priority priority;
+    private String assignee_id;
+    // day 는 날짜, week 는 그 주 월요일, month 는 yyyy-MM
+    private String period;
+    // 기간 안에 이 칸으로 들어온 수 / 나간 수
+    private int entered;
+    private int exited;
+    // entered - exited. 기간을 처음부터 잡으면 지금 이 칸에 있는 이슈 수
+    private int net;
+}
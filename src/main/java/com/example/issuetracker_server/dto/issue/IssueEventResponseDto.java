@@ -0,0 +1,27 @@
+package com.example.issuetracker_server.dto.issue;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueEventResponseDto {
+
+    private Long event_id;
+    private Long issue_id;
+    private IssueEventType type;
+    private String actor_id;
+    private String title;
+    private String description;
+    private String reporter_id;
+    private String assignee_id;
+    private String fixer_id;
+    private Priority priority;
+    private State state;
+    private String occurred_at;
+}
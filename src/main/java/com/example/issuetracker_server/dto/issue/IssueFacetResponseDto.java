@@ -0,0 +1,19 @@
+package com.example.issuetracker_server.dto.issue;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFacetResponseDto {
+
+    private long total;
+    private Map<String, Long> state;
+    private Map<String, Long> priority;
+    private Map<String, Long> assignee;
+    private long unassigned;
+}
@@ -0,0 +1,22 @@
+package com.example.issuetracker_server.dto.issue;
+
+import com.example.issuetracker_server.domain.issue.State;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFlowDayResponseDto {
+
+    private String date;
+    // 그 날 끝의 상태별 이슈 수 (누적 흐름도)
+    private Map<State, Integer> states;
+    // 그 날 각 상태로 들어온 수
+    private Map<State, Integer> entered;
+    // CLOSED, DISPOSED 가 아닌 이슈 수 (번다운)
+    private int open_issues;
+}
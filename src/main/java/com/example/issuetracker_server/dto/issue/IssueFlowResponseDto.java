@@ -0,0 +1,22 @@
+package com.example.issuetracker_server.dto.issue;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFlowResponseDto {
+
+    private String from;
+    private String to;
+    private List<IssueFlowDayResponseDto> days;
+    // 기간 안에 FIXED/CLOSED 가 된 횟수와 생성부터 그때까지의 평균 시간 (없으면 null)
+    private int fixed_count;
+    private Double mean_time_to_fix_hours;
+    private int closed_count;
+    private Double mean_time_to_close_hours;
+}
@@ -22,4 +22,5 @@ public class IssueResponseDto {
     private State state;
     private String created_date;
     private String modified_date;
+    private Long version;
 }
\ No newline at end of file
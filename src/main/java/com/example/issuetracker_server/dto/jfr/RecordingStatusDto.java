@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.dto.jfr;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatusDto {
+
+    private Long recording_id;
+    private String name;
+    private String state;
+    private String settings;
+    private String started_at;
+    private Long size_bytes;
+}
@@ -0,0 +1,22 @@
+package com.example.issuetracker_server.dto.job;
+
+import com.example.issuetracker_server.domain.job.JobState;
+import com.example.issuetracker_server.domain.job.JobType;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponseDto {
+
+    private Long job_id;
+    private JobType type;
+    private JobState state;
+    private String requester_id;
+    private int progress;
+    private String message;
+    private String created_date;
+    private String modified_date;
+}
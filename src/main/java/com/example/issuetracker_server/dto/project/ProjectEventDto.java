@@ -0,0 +1,26 @@
+package com.example.issuetracker_server.dto.project;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+// GET /project/{projectId}/events 로 보내는 변경 알림. 바뀐 것만 알리고 본문은 보내지 않는다 (필요하면 클라이언트가 다시 읽는다)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectEventDto {
+
+    private ProjectEventType type;
+    private Long project_id;
+    private Long issue_id;
+    private Long comment_id;
+    private State state;
+    private Priority priority;
+    private String assignee_id;
+    private Long version;
+}
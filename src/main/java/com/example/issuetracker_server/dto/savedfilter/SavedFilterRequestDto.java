@@ -0,0 +1,14 @@
+package com.example.issuetracker_server.dto.savedfilter;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterRequestDto {
+    private String name;
+
+    // GET /project/{projectId}/issue 의 q= 와 같은 검색식
+    private String query;
+}
@@ -0,0 +1,17 @@
+package com.example.issuetracker_server.dto.savedfilter;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterResponseDto {
+
+    private Long filter_id;
+    private Long project_id;
+    private String name;
+    private String query;
+    private String created_date;
+}
@@ -0,0 +1,112 @@
+package com.example.issuetracker_server.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 요청을 처리한 스레드가 그동안 할당한 바이트를 ThreadMXBean 으로 재서 컨트롤러 매핑별로 모은다.
+ * - http.server.requests.allocation (method, uri 태그) 메트릭
+ * - AllocationStatistics (GET /admin/allocations 리포트)
+ * - outlierBytes 이상이면 allocation 로거에 경고 (쿼리의 redactedNames 파라미터 값은 가린다)
+ * 요청 스레드 밖(비동기 응답, 백그라운드 작업)에서 일어난 할당과, 값을 주지 않는 가상 스레드는 세지 않는다.
+ */
+public class AllocationAccountingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.requests.allocation";
+
+    private static final Logger allocationLog = LoggerFactory.getLogger("allocation");
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AllocationStatistics statistics;
+
+    private final long outlierBytes;
+
+    private final Set<String> redactedNames;
+
+    public AllocationAccountingFilter(MeterRegistry meterRegistry, AllocationStatistics statistics, long outlierBytes,
+                                      Set<String> redactedNames) {
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() ? bean : null;
+        if (threads != null && !threads.isThreadAllocatedMemoryEnabled())
+            threads.setThreadAllocatedMemoryEnabled(true);
+        this.meterRegistry = meterRegistry;
+        this.statistics = statistics;
+        this.outlierBytes = outlierBytes;
+        this.redactedNames = redactedNames;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threads == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long after = threads.getCurrentThreadAllocatedBytes();
+            if (before >= 0 && after >= before)
+                record(request, response, after - before);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long bytes) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated by the request thread")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(bytes);
+        statistics.record(request.getMethod() + " " + uri, bytes);
+
+        if (bytes >= outlierBytes)
+            allocationLog.warn("{} {} allocated {} bytes (status {}, query {})", request.getMethod(),
+                    request.getRequestURI(), bytes, response.getStatus(), redactedQuery(request));
+    }
+
+    // TrafficCaptureFilter 와 같은 이름 목록을 쓴다. 이름은 디코딩해서 비교한다 (pass%77ord 도 가린다)
+    private String redactedQuery(HttpServletRequest request) {
+        String query = request.getQueryString();
+        if (query == null)
+            return "";
+        StringJoiner redacted = new StringJoiner("&");
+        for (String pair : query.split("&", -1)) {
+            int eq = pair.indexOf('=');
+            String name = eq >= 0 ? pair.substring(0, eq) : pair;
+            redacted.add(redactedNames.contains(decode(name)) ? name + "=***" : pair);
+        }
+        return redacted.toString();
+    }
+
+    private static String decode(String name) {
+        try {
+            return URLDecoder.decode(name, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.issuetracker_server.monitoring;
+
+import com.example.issuetracker_server.dto.allocation.EndpointAllocationDto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트("GET /project/{projectId}/issue")별 요청당 할당 바이트 누적. 서버가 뜬 뒤부터의 합계다.
+ */
+public class AllocationStatistics {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long bytes) {
+        endpoints.computeIfAbsent(endpoint, e -> new Endpoint()).record(bytes);
+    }
+
+    // 총 할당량이 큰 순서
+    public List<EndpointAllocationDto> worst(int limit) {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingLong(EndpointAllocationDto::getTotal_bytes).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static class Endpoint {
+
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder totalBytes = new LongAdder();
+
+        private final AtomicLong maxBytes = new AtomicLong();
+
+        void record(long bytes) {
+            requests.increment();
+            totalBytes.add(bytes);
+            maxBytes.accumulateAndGet(bytes, Math::max);
+        }
+
+        EndpointAllocationDto toDto(String endpoint) {
+            long count = requests.sum();
+            long total = totalBytes.sum();
+            return EndpointAllocationDto.builder()
+                    .endpoint(endpoint)
+                    .requests(count)
+                    .total_bytes(total)
+                    .mean_bytes(count == 0 ? 0 : total / count)
+                    .max_bytes(maxBytes.get())
+                    .build();
+        }
+    }
+}
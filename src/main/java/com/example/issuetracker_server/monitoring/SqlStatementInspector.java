@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 현재 요청의 SqlStatistics 에 기록한다. SQL 자체는 바꾸지 않는다.
+ * hibernate.session_factory.statement_inspector 로 등록.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null)
+            statistics.recordStatement(sql);
+        return sql;
+    }
+}
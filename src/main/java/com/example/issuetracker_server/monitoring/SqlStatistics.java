@@ -0,0 +1,89 @@
+package com.example.issuetracker_server.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 문 수, JDBC 실행 시간, 문장 지문(fingerprint)별 횟수.
+ * SqlStatementInspector 와 SqlTimingSessionListener 가 채우고 SqlStatisticsFilter 가 요청 단위로 시작/종료한다.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    // 요청 하나가 서로 다른 문장을 이보다 많이 만들면 나머지는 지문 없이 개수만 센다
+    private static final int MAX_FINGERPRINTS = 100;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount;
+
+    private long jdbcNanos;
+
+    private final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+
+    private SqlStatistics() {
+    }
+
+    // 이미 측정 중이면 새로 시작하지 않고 바깥 측정에 합산되도록 null 을 돌려준다
+    public static SqlStatistics start() {
+        if (CURRENT.get() != null)
+            return null;
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void stop(SqlStatistics statistics) {
+        if (statistics != null && CURRENT.get() == statistics)
+            CURRENT.remove();
+    }
+
+    // Hibernate 를 거치지 않고 JdbcTemplate 로 직접 실행한 문을 현재 요청의 통계에 남긴다 (측정 중이 아니면 무시)
+    public static void recordJdbcStatement(String sql) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null)
+            statistics.recordStatement(sql);
+    }
+
+    public void recordStatement(String sql) {
+        statementCount++;
+        String fingerprint = fingerprint(sql);
+        if (fingerprints.containsKey(fingerprint) || fingerprints.size() < MAX_FINGERPRINTS)
+            fingerprints.merge(fingerprint, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public Map<String, Integer> getFingerprints() {
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
+    // 리터럴과 IN 목록 길이를 지워서 같은 모양의 쿼리를 하나로 묶는다
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.issuetracker_server.monitoring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청마다 SQL 문 수와 JDBC 시간을 측정한다.
+ * - responseHeaders 가 켜져 있으면(dev 프로필) X-Sql-Count / X-Sql-Time-Ms 응답 헤더를 붙인다.
+ * - 처리 시간이 slowRequestThresholdMs 이상이면 slow-request 로거에 JSON 한 줄로 SQL 지문과 함께 남긴다.
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String SQL_COUNT_HEADER = "X-Sql-Count";
+    public static final String SQL_TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger slowRequestLog = LoggerFactory.getLogger("slow-request");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long slowRequestThresholdMs;
+
+    private final boolean responseHeaders;
+
+    public SqlStatisticsFilter(long slowRequestThresholdMs, boolean responseHeaders) {
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatistics started = SqlStatistics.start();
+        SqlStatistics statistics = started != null ? started : SqlStatistics.current();
+        StatisticsHeaderResponse headerResponse = responseHeaders ? new StatisticsHeaderResponse(response, statistics) : null;
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, headerResponse != null ? headerResponse : response);
+        } finally {
+            SqlStatistics.stop(started);
+            if (headerResponse != null)
+                headerResponse.addHeaders();
+
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            if (elapsedMs >= slowRequestThresholdMs && !request.isAsyncStarted())
+                logSlowRequest(request, response, statistics, elapsedMs);
+        }
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, SqlStatistics statistics, long elapsedMs) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("method", request.getMethod());
+        entry.put("uri", request.getRequestURI());
+        entry.put("status", response.getStatus());
+        entry.put("duration_ms", elapsedMs);
+        entry.put("sql_count", statistics.getStatementCount());
+        entry.put("sql_time_ms", statistics.getJdbcNanos() / 1_000_000);
+        List<Map<String, Object>> statements = new ArrayList<>();
+        statistics.getFingerprints().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(fingerprint -> {
+                    Map<String, Object> statement = new LinkedHashMap<>();
+                    statement.put("sql", fingerprint.getKey());
+                    statement.put("count", fingerprint.getValue());
+                    statements.add(statement);
+                });
+        entry.put("statements", statements);
+        try {
+            slowRequestLog.warn(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            slowRequestLog.warn("{} {} took {} ms with {} statements", request.getMethod(), request.getRequestURI(),
+                    elapsedMs, statistics.getStatementCount());
+        }
+    }
+
+    /**
+     * 응답 본문을 쓰기 시작하는 순간(커밋 직전)에 헤더를 붙인다.
+     * 본문을 버퍼링하지 않으므로 스트리밍 응답에도 쓸 수 있다. 헤더 값은 그 시점까지의 합계다.
+     */
+    private static class StatisticsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatistics statistics;
+
+        private boolean headersAdded;
+
+        StatisticsHeaderResponse(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        void addHeaders() {
+            if (headersAdded || isCommitted())
+                return;
+            headersAdded = true;
+            setHeader(SQL_COUNT_HEADER, String.valueOf(statistics.getStatementCount()));
+            setHeader(SQL_TIME_HEADER, String.format(Locale.ROOT, "%.3f", statistics.getJdbcNanos() / 1e6));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addHeaders();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.issuetracker_server.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션마다 생성되어 JDBC 실행(단건/배치) 시간을 현재 요청의 SqlStatistics 에 더한다.
+ * hibernate.session.events.auto 로 등록.
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordElapsed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordElapsed();
+    }
+
+    private void recordElapsed() {
+        if (executeStart < 0)
+            return;
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null)
+            statistics.recordJdbcTime(System.nanoTime() - executeStart);
+        executeStart = -1;
+    }
+}
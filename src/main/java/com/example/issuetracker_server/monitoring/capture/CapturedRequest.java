@@ -0,0 +1,17 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트래픽 로그의 레코드 하나.
+ *
+ * @param timestampMicros 요청 시작 시각 (epoch 마이크로초)
+ * @param pattern         매칭된 컨트롤러 경로 패턴 (없으면 빈 문자열)
+ * @param parameters      쿼리 파라미터, 비밀번호 값은 {@link TrafficCaptureFilter#REDACTED} 로 바뀌어 있다
+ * @param body            요청 본문 (캡처 상한을 넘는 부분은 잘린다)
+ */
+public record CapturedRequest(long timestampMicros, String method, String path, String pattern,
+                              Map<String, List<String>> parameters, String contentType, byte[] body,
+                              int status, long durationMicros) {
+}
@@ -0,0 +1,113 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청(메서드, 경로, 파라미터, 본문, 상태 코드, 처리 시간)을 TrafficLogWriter 로 넘긴다.
+ * 비밀번호 파라미터와 JSON 본문의 같은 이름 필드는 값을 {@link #REDACTED} 로 바꿔서 남긴다.
+ * 본문은 컨트롤러가 읽은 만큼만 캐시되며 maxBodyBytes 를 넘는 부분은 잘린다.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    public static final String REDACTED = "[REDACTED]";
+
+    private final TrafficLogWriter writer;
+
+    private final ObjectMapper objectMapper;
+
+    private final Set<String> redactedNames;
+
+    private final List<String> excludedPrefixes;
+
+    private final int maxBodyBytes;
+
+    public TrafficCaptureFilter(TrafficLogWriter writer, ObjectMapper objectMapper, Set<String> redactedNames,
+                                List<String> excludedPrefixes, int maxBodyBytes) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.redactedNames = redactedNames;
+        this.excludedPrefixes = excludedPrefixes;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPrefixes.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingRequestWrapper cachingRequest = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        long timestampMicros = System.currentTimeMillis() * 1_000;
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(cachingRequest, response);
+        } finally {
+            long durationMicros = (System.nanoTime() - start) / 1_000;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            writer.offer(new CapturedRequest(timestampMicros, request.getMethod(),
+                    request.getRequestURI().substring(request.getContextPath().length()),
+                    pattern != null ? pattern.toString() : "",
+                    parameters(request), request.getContentType(), body(cachingRequest),
+                    response.getStatus(), durationMicros));
+        }
+    }
+
+    // 폼 본문이 아니라 쿼리 문자열의 파라미터만 남긴다 (본문은 따로 저장)
+    private Map<String, List<String>> parameters(HttpServletRequest request) {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        request.getParameterMap().forEach((name, values) ->
+                parameters.put(name, redactedNames.contains(name)
+                        ? Arrays.stream(values).map(value -> REDACTED).toList()
+                        : List.of(values)));
+        return parameters;
+    }
+
+    private byte[] body(ContentCachingRequestWrapper request) {
+        byte[] body = request.getContentAsByteArray();
+        if (body.length == 0 || request.getContentType() == null || !request.getContentType().contains("json"))
+            return body;
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            if (!redact(json))
+                return body;
+            return objectMapper.writeValueAsBytes(json);
+        } catch (IOException e) {
+            // 잘린 JSON 은 비밀번호 필드가 남아 있을 수 있으므로 본문을 남기지 않는다
+            return new byte[0];
+        }
+    }
+
+    private boolean redact(JsonNode node) {
+        boolean changed = false;
+        if (node instanceof ObjectNode object) {
+            for (String name : redactedNames) {
+                if (object.has(name)) {
+                    object.put(name, REDACTED);
+                    changed = true;
+                }
+            }
+        }
+        for (JsonNode child : node)
+            changed |= redact(child);
+        return changed;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트래픽 로그 파일 형식.
+ * 파일 머리에 매직 "ITRC" 와 형식 버전, 이후 레코드가 이어진다.
+ * 정수는 가변 길이(LEB128), 문자열은 길이 + UTF-8 바이트로 쓴다.
+ * 쓰는 도중 끊긴 마지막 레코드는 읽을 때 버린다.
+ */
+public final class TrafficLogFormat {
+
+    static final int MAGIC = 0x49545243; // "ITRC"
+    static final int VERSION = 1;
+
+    private TrafficLogFormat() {
+    }
+
+    static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+    }
+
+    static void readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a traffic log");
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException("Unsupported traffic log version: " + version);
+    }
+
+    static void write(DataOutputStream out, CapturedRequest request) throws IOException {
+        writeVarLong(out, request.timestampMicros());
+        writeString(out, request.method());
+        writeString(out, request.path());
+        writeString(out, request.pattern());
+        writeVarLong(out, request.parameters().size());
+        for (Map.Entry<String, List<String>> parameter : request.parameters().entrySet()) {
+            writeString(out, parameter.getKey());
+            writeVarLong(out, parameter.getValue().size());
+            for (String value : parameter.getValue())
+                writeString(out, value);
+        }
+        writeString(out, request.contentType());
+        writeVarLong(out, request.body().length);
+        out.write(request.body());
+        writeVarLong(out, request.status());
+        writeVarLong(out, request.durationMicros());
+    }
+
+    /**
+     * @return 파일 끝이거나 마지막 레코드가 잘려 있으면 null
+     */
+    static CapturedRequest read(DataInputStream in) throws IOException {
+        try {
+            long timestamp = readVarLong(in);
+            String method = readString(in);
+            String path = readString(in);
+            String pattern = readString(in);
+            int parameterCount = (int) readVarLong(in);
+            Map<String, List<String>> parameters = new LinkedHashMap<>();
+            for (int p = 0; p < parameterCount; p++) {
+                String name = readString(in);
+                int valueCount = (int) readVarLong(in);
+                List<String> values = new ArrayList<>(valueCount);
+                for (int v = 0; v < valueCount; v++)
+                    values.add(readString(in));
+                parameters.put(name, values);
+            }
+            String contentType = readString(in);
+            byte[] body = new byte[(int) readVarLong(in)];
+            in.readFully(body);
+            int status = (int) readVarLong(in);
+            long duration = readVarLong(in);
+            return new CapturedRequest(timestamp, method, path, pattern, parameters, contentType, body, status, duration);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
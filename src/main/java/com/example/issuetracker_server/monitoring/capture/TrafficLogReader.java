@@ -0,0 +1,51 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 트래픽 로그 읽기. 디렉터리를 넘기면 파일 이름(생성 시각) 순서로 이어 읽는다.
+ */
+public final class TrafficLogReader {
+
+    private TrafficLogReader() {
+    }
+
+    public static void read(Path fileOrDirectory, Consumer<CapturedRequest> consumer) throws IOException {
+        List<Path> files = Files.isDirectory(fileOrDirectory) ? listFiles(fileOrDirectory) : List.of(fileOrDirectory);
+        for (Path file : files) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+                TrafficLogFormat.readHeader(in);
+                CapturedRequest request;
+                while ((request = TrafficLogFormat.read(in)) != null)
+                    consumer.accept(request);
+            }
+        }
+    }
+
+    public static List<CapturedRequest> readAll(Path fileOrDirectory) throws IOException {
+        List<CapturedRequest> requests = new ArrayList<>();
+        read(fileOrDirectory, requests::add);
+        return requests;
+    }
+
+    static List<Path> listFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory))
+            return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(TrafficLogWriter.FILE_PREFIX) && name.endsWith(TrafficLogWriter.FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캡처한 요청을 별도 스레드에서 traffic-*.bin 파일에 이어 쓴다.
+ * 요청 스레드는 큐에 넣기만 하고, 큐가 가득 차면 기다리지 않고 버린다(버린 수는 {@link #getDropped()}).
+ * 파일이 maxFileBytes 를 넘으면 새 파일로 바꾸고, maxFiles 개를 넘는 오래된 파일은 지운다.
+ */
+public class TrafficLogWriter implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficLogWriter.class);
+
+    static final String FILE_PREFIX = "traffic-";
+    static final String FILE_SUFFIX = ".bin";
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+
+    private final long maxFileBytes;
+
+    private final int maxFiles;
+
+    private final BlockingQueue<CapturedRequest> queue;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    private CountingOutputStream file;
+
+    private int sequence;
+
+    private DataOutputStream out;
+
+    public TrafficLogWriter(Path directory, long maxFileBytes, int maxFiles, int queueCapacity) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.thread = new Thread(this::drain, "traffic-capture-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public void offer(CapturedRequest request) {
+        if (!queue.offer(request))
+            dropped.incrementAndGet();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        List<CapturedRequest> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                CapturedRequest first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (out != null)
+                        out.flush();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                for (CapturedRequest request : batch)
+                    write(request);
+                batch.clear();
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                log.warn("Failed to write traffic log, dropping {} records", batch.size(), e);
+                batch.clear();
+                closeFile();
+            }
+        }
+        closeFile();
+    }
+
+    private void write(CapturedRequest request) throws IOException {
+        if (out == null || file.count >= maxFileBytes)
+            rotate();
+        TrafficLogFormat.write(out, request);
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        Files.createDirectories(directory);
+        // 같은 밀리초에 여러 번 바뀌어도 이름이 겹치지 않고 이름 순서가 쓴 순서가 되도록 일련번호를 붙인다
+        Path path = directory.resolve(String.format("%s%s-%06d%s", FILE_PREFIX, LocalDateTime.now().format(FILE_TIME),
+                ++sequence % 1_000_000, FILE_SUFFIX));
+        file = new CountingOutputStream(Files.newOutputStream(path));
+        out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024));
+        TrafficLogFormat.writeHeader(out);
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files = TrafficLogReader.listFiles(directory);
+        for (int i = 0; i < files.size() - maxFiles; i++)
+            Files.deleteIfExists(files.get(i));
+    }
+
+    private void closeFile() {
+        if (out == null)
+            return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Failed to close traffic log", e);
+        }
+        out = null;
+        file = null;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            thread.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
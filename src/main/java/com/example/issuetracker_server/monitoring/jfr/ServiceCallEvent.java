@@ -0,0 +1,49 @@
+package com.example.issuetracker_server.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Issue/Comment/Member/Project 서비스 메서드 호출 한 번.
+ * 같은 스레드의 GC, 락 대기 이벤트와 시간축으로 맞춰 볼 수 있다. id 필드가 0(또는 빈 문자열)이면 해당 인자가 없는 메서드다.
+ */
+@Name("com.example.issuetracker.ServiceCall")
+@Label("Service Call")
+@Category({"Issue Tracker", "Service"})
+@Description("IssueService, CommentService, MemberService and ProjectService calls")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Project Id")
+    long projectId;
+
+    @Label("Issue Id")
+    long issueId;
+
+    @Label("Member Id")
+    String memberId;
+
+    @Label("Role")
+    String role;
+
+    @Label("Row Count")
+    @Description("Size of the returned collection, 0/1 for Optional, -1 when not a result set")
+    long rowCount;
+
+    @Label("SQL Statements")
+    @Description("Statements issued during the call when the request is being measured, otherwise -1")
+    int sqlStatements;
+
+    @Label("Exception")
+    String exception;
+}
@@ -0,0 +1,91 @@
+package com.example.issuetracker_server.monitoring.jfr;
+
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서비스 호출을 ServiceCallEvent 로 남긴다.
+ * 기록 중인 recording 이 없으면 isEnabled() 만 보고 바로 넘어가므로 평소 비용은 거의 없다.
+ * projectId/issueId/memberId/role 은 같은 이름의 메서드 인자에서 가져온다.
+ */
+public class ServiceCallEventInterceptor implements MethodInterceptor {
+
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled())
+            return invocation.proceed();
+
+        SqlStatistics statistics = SqlStatistics.current();
+        int statementsBefore = statistics != null ? statistics.getStatementCount() : 0;
+        event.begin();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.exception = e.getClass().getName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Method method = invocation.getMethod();
+                Object target = invocation.getThis();
+                event.service = (target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass()).getSimpleName();
+                event.method = method.getName();
+                describeArguments(event, method, invocation.getArguments());
+                event.rowCount = rowCount(result);
+                event.sqlStatements = statistics != null ? statistics.getStatementCount() - statementsBefore : -1;
+                event.commit();
+            }
+        }
+    }
+
+    private void describeArguments(ServiceCallEvent event, Method method, Object[] arguments) {
+        String[] names = parameterNames.getParameterNames(method);
+        if (names == null)
+            return;
+        for (int i = 0; i < names.length && i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if (argument == null)
+                continue;
+            switch (names[i].toLowerCase()) {
+                case "projectid" -> event.projectId = argument instanceof Long id ? id : 0;
+                case "issueid" -> event.issueId = argument instanceof Long id ? id : 0;
+                case "memberid", "userid", "id" -> {
+                    // ProjectService 의 id 는 프로젝트 id 다
+                    if (argument instanceof String memberId)
+                        event.memberId = memberId;
+                    else if (argument instanceof Long projectId && event.projectId == 0)
+                        event.projectId = projectId;
+                }
+                case "role" -> event.role = argument.toString();
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+        if (result instanceof Optional<?> optional)
+            return optional.isPresent() ? 1 : 0;
+        if (result instanceof Map<?, ?> map)
+            return map.values().stream()
+                    .mapToLong(value -> value instanceof Collection<?> collection ? collection.size() : 1)
+                    .sum();
+        return -1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.issuetracker_server.monitoring.jfr;
+
+import com.example.issuetracker_server.service.comment.CommentService;
+import com.example.issuetracker_server.service.issue.IssueService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.project.ProjectService;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서비스 인터페이스를 구현한 빈의 인터페이스 메서드에 ServiceCallEventInterceptor 를 건다.
+ * @Transactional 로 이미 프록시가 된 빈은 그 프록시에 advisor 만 추가한다.
+ */
+public class ServiceCallEventPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    static final List<Class<?>> SERVICES = List.of(IssueService.class, CommentService.class, MemberService.class,
+            ProjectService.class);
+
+    public ServiceCallEventPostProcessor() {
+        this.advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return SERVICES.stream().anyMatch(service -> service.isAssignableFrom(targetClass)
+                        && Arrays.stream(service.getMethods()).anyMatch(declared -> declared.getName().equals(method.getName())
+                        && Arrays.equals(declared.getParameterTypes(), method.getParameterTypes())));
+            }
+        }, new ServiceCallEventInterceptor());
+        // 구현 클래스 타입으로 주입받는 곳(IssueServiceImpl 등)이 있으므로 클래스 프록시를 쓴다
+        setProxyTargetClass(true);
+    }
+}
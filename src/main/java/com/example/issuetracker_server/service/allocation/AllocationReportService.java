@@ -0,0 +1,11 @@
+package com.example.issuetracker_server.service.allocation;
+
+import com.example.issuetracker_server.dto.allocation.EndpointAllocationDto;
+
+import java.util.List;
+
+public interface AllocationReportService {
+
+    // 서버 시작 후 총 할당량이 큰 엔드포인트 순서
+    List<EndpointAllocationDto> getWorstEndpoints(int limit);
+}
@@ -0,0 +1,20 @@
+package com.example.issuetracker_server.service.allocation;
+
+import com.example.issuetracker_server.dto.allocation.EndpointAllocationDto;
+import com.example.issuetracker_server.monitoring.AllocationStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AllocationReportServiceImpl implements AllocationReportService {
+
+    private final AllocationStatistics allocationStatistics;
+
+    @Override
+    public List<EndpointAllocationDto> getWorstEndpoints(int limit) {
+        return allocationStatistics.worst(limit);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.dto.analytics.IssueAnalyticsResponseDto;
+
+import java.util.List;
+
+public interface IssueAnalyticsService {
+
+    // 열 단위 스냅샷 기준 (projectIds 가 비어 있으면 전체 프로젝트)
+    IssueAnalyticsResponseDto getIssueAnalytics(List<Long> projectIds, int limit);
+
+    void refresh(boolean full);
+}
@@ -0,0 +1,108 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.dto.analytics.IssueAnalyticsResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class IssueAnalyticsServiceImpl implements IssueAnalyticsService {
+
+    private final IssueColumnStore issueColumnStore;
+
+    // 분석 스캔 전용 (공용 풀을 쓰는 parallel stream 과 섞이지 않게 한다)
+    private final ForkJoinPool pool;
+
+    public IssueAnalyticsServiceImpl(IssueColumnStore issueColumnStore,
+                                     @Value("${analytics.columnar.parallelism:0}") int parallelism) {
+        this.issueColumnStore = issueColumnStore;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public IssueAnalyticsResponseDto getIssueAnalytics(List<Long> projectIds, int limit) {
+        IssueColumns columns = issueColumnStore.current();
+        boolean[] projectMask = null;
+        if (projectIds != null && !projectIds.isEmpty()) {
+            projectMask = new boolean[columns.projectDictionary.length];
+            for (Long projectId : projectIds) {
+                int code = columns.projectCode(projectId);
+                if (code != IssueColumns.NONE)
+                    projectMask[code] = true;
+            }
+        }
+        long now = IssueColumnsBuilder.epochSecond(LocalDateTime.now());
+        IssueColumnScan.Counts counts = IssueColumnScan.parallel(pool, columns, projectMask, now);
+
+        Map<String, Long> byState = new LinkedHashMap<>();
+        for (State state : State.values())
+            byState.put(state.name(), counts.byState[state.ordinal()]);
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (Priority priority : Priority.values())
+            byPriority.put(priority.name(), counts.byPriority[priority.ordinal()]);
+
+        Map<Long, Long> byProject = new TreeMap<>();
+        for (int code = 0; code < counts.byProject.length; code++) {
+            if (counts.byProject[code] > 0)
+                byProject.put(columns.projectDictionary[code], counts.byProject[code]);
+        }
+
+        // "0-1", "1-7", ..., "90+"
+        Map<String, Long> openAgeDays = new LinkedHashMap<>();
+        long lower = 0;
+        for (int bucket = 0; bucket < counts.openByAge.length; bucket++) {
+            boolean last = bucket == IssueColumnScan.AGE_LIMIT_DAYS.length;
+            String label = last ? lower + "+" : lower + "-" + IssueColumnScan.AGE_LIMIT_DAYS[bucket];
+            openAgeDays.put(label, counts.openByAge[bucket]);
+            if (!last)
+                lower = IssueColumnScan.AGE_LIMIT_DAYS[bucket];
+        }
+
+        return IssueAnalyticsResponseDto.builder()
+                .snapshot_at(columns.getBuiltAt())
+                .issue_count(counts.total)
+                .open_count(counts.open)
+                .by_state(byState)
+                .by_priority(byPriority)
+                .by_project(byProject)
+                .open_age_days(openAgeDays)
+                .top_open_assignees(topAssignees(columns, counts.openByAssignee, limit))
+                .build();
+    }
+
+    @Override
+    public void refresh(boolean full) {
+        issueColumnStore.refresh(full);
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    // 열린 이슈가 많은 순, 같으면 id 순
+    private static Map<String, Long> topAssignees(IssueColumns columns, long[] openByAssignee, int limit) {
+        Comparator<Integer> order = Comparator.<Integer>comparingLong(code -> openByAssignee[code])
+                .thenComparing(code -> columns.assigneeDictionary[code], Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(order);
+        for (int code = 0; code < openByAssignee.length; code++) {
+            if (openByAssignee[code] == 0)
+                continue;
+            top.add(code);
+            if (top.size() > limit)
+                top.poll();
+        }
+        List<Integer> codes = new ArrayList<>(top);
+        codes.sort(order.reversed());
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int code : codes)
+            result.put(columns.assigneeDictionary[code], openByAssignee[code]);
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * IssueColumns 를 한 번 훑어서 상태/우선순위/프로젝트별 수, 열린 이슈의 경과일 구간별 수, 담당자별 열린 이슈 수를 센다.
+ * 구간을 반으로 나눠 fork/join 으로 돌리고, 조각마다 자기 카운터 배열에 센 뒤 합친다 (공유 카운터가 없다).
+ */
+class IssueColumnScan extends RecursiveTask<IssueColumnScan.Counts> {
+
+    // 경과일 구간의 상한 (마지막 구간은 90일 이상)
+    static final long[] AGE_LIMIT_DAYS = {1, 7, 30, 90};
+
+    private static final long DAY_SECONDS = 24 * 60 * 60;
+
+    // 이보다 작은 조각은 더 나누지 않는다
+    private static final int MIN_SLICE = 1 << 16;
+
+    private static final boolean[] OPEN = new boolean[State.values().length];
+
+    static {
+        for (State state : State.values())
+            OPEN[state.ordinal()] = state != State.CLOSED && state != State.DISPOSED;
+    }
+
+    private final IssueColumns columns;
+
+    // 프로젝트 코드별 포함 여부, null 이면 전체
+    private final boolean[] projectMask;
+
+    private final long now;
+
+    private final int from;
+
+    private final int to;
+
+    private final int slice;
+
+    private IssueColumnScan(IssueColumns columns, boolean[] projectMask, long now, int from, int to, int slice) {
+        this.columns = columns;
+        this.projectMask = projectMask;
+        this.now = now;
+        this.from = from;
+        this.to = to;
+        this.slice = slice;
+    }
+
+    // 조각 수를 병렬도의 몇 배로만 두어서 조각마다 만드는 카운터 배열이 너무 많아지지 않게 한다
+    static Counts parallel(ForkJoinPool pool, IssueColumns columns, boolean[] projectMask, long now) {
+        int slice = Math.max(MIN_SLICE, columns.size / (pool.getParallelism() * 4) + 1);
+        return pool.invoke(new IssueColumnScan(columns, projectMask, now, 0, columns.size, slice));
+    }
+
+    static Counts sequential(IssueColumns columns, boolean[] projectMask, long now) {
+        return new IssueColumnScan(columns, projectMask, now, 0, columns.size, Integer.MAX_VALUE).scan();
+    }
+
+    @Override
+    protected Counts compute() {
+        if (to - from <= slice)
+            return scan();
+        int middle = (from + to) >>> 1;
+        IssueColumnScan left = new IssueColumnScan(columns, projectMask, now, from, middle, slice);
+        left.fork();
+        Counts right = new IssueColumnScan(columns, projectMask, now, middle, to, slice).compute();
+        return right.add(left.join());
+    }
+
+    private Counts scan() {
+        Counts counts = new Counts(columns.projectDictionary.length, columns.assigneeDictionary.length);
+        int[] projects = columns.projects;
+        byte[] states = columns.states;
+        byte[] priorities = columns.priorities;
+        int[] assignees = columns.assignees;
+        long[] created = columns.created;
+        boolean[] mask = projectMask;
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            int project = projects[i];
+            if (mask != null && !mask[project])
+                continue;
+            total++;
+            counts.byProject[project]++;
+            int state = states[i];
+            counts.byState[state]++;
+            int priority = priorities[i];
+            if (priority >= 0)
+                counts.byPriority[priority]++;
+            if (!OPEN[state])
+                continue;
+            counts.open++;
+            int assignee = assignees[i];
+            if (assignee >= 0)
+                counts.openByAssignee[assignee]++;
+            if (created[i] != IssueColumns.UNKNOWN_TIME)
+                counts.openByAge[ageBucket(now - created[i])]++;
+        }
+        counts.total = total;
+        return counts;
+    }
+
+    private static int ageBucket(long ageSeconds) {
+        long days = ageSeconds / DAY_SECONDS;
+        int bucket = 0;
+        while (bucket < AGE_LIMIT_DAYS.length && days >= AGE_LIMIT_DAYS[bucket])
+            bucket++;
+        return bucket;
+    }
+
+    static class Counts {
+
+        long total;
+
+        long open;
+
+        final long[] byState = new long[State.values().length];
+
+        final long[] byPriority = new long[Priority.values().length];
+
+        final long[] openByAge = new long[AGE_LIMIT_DAYS.length + 1];
+
+        // 사전 코드별
+        final long[] byProject;
+
+        final long[] openByAssignee;
+
+        Counts(int projects, int assignees) {
+            byProject = new long[projects];
+            openByAssignee = new long[assignees];
+        }
+
+        Counts add(Counts other) {
+            total += other.total;
+            open += other.open;
+            addTo(byState, other.byState);
+            addTo(byPriority, other.byPriority);
+            addTo(openByAge, other.openByAge);
+            addTo(byProject, other.byProject);
+            addTo(openByAssignee, other.openByAssignee);
+            return this;
+        }
+
+        private static void addTo(long[] target, long[] source) {
+            for (int i = 0; i < target.length; i++)
+                target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * issue 테이블의 열 단위 스냅샷(IssueColumns)을 들고 있고 주기적으로 새로 만든다.
+ * 주기 갱신은 처음 스냅샷을 읽을 때 maintenanceScheduler 에 올린다. 분석 API 를 쓰지 않으면 issue 테이블을 읽지 않는다.
+ * 증분 갱신은 지난 갱신 이후 modified_date 가 바뀐 행만 읽어서 스냅샷 복사본에 덮어쓰거나 뒤에 붙인다.
+ * 삭제된 이슈는 증분으로 알 수 없으므로 full-refresh-every 번마다 전체를 다시 읽는다.
+ * 읽는 쪽은 volatile 참조 하나만 읽으므로 갱신 중에도 이전 스냅샷을 그대로 쓴다.
+ */
+@Component
+public class IssueColumnStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueColumnStore.class);
+
+    private static final String SELECT = "SELECT id, project_id, state, priority, assignee_id, created_date, modified_date FROM issue";
+
+    private static final String SELECT_ALL = SELECT + " ORDER BY id";
+
+    private static final String SELECT_CHANGED = SELECT + " WHERE modified_date >= ? ORDER BY id";
+
+    // 커밋이 수정 시각보다 늦게 끝난 행을 놓치지 않도록 이만큼 앞에서부터 다시 읽는다
+    private static final Duration SETTLE = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int fullRefreshEvery;
+
+    private final Duration refreshInterval;
+
+    // 스케줄러 빈이 없는 슬라이스 테스트에서는 주기 갱신 없이 요청 때만 만든다
+    private final ObjectProvider<TaskScheduler> schedulers;
+
+    // 주기 갱신 (this 로 보호)
+    private ScheduledFuture<?> scheduled;
+
+    private volatile IssueColumns columns;
+
+    // 마지막 전체 갱신 이후 증분 갱신 수 (this 로 보호)
+    private int refreshesSinceFull;
+
+    public IssueColumnStore(JdbcTemplate jdbcTemplate,
+                            @Value("${analytics.columnar.refresh-interval-s:60}") long refreshIntervalSeconds,
+                            @Value("${analytics.columnar.full-refresh-every:60}") int fullRefreshEvery,
+                            ObjectProvider<TaskScheduler> schedulers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullRefreshEvery = Math.max(1, fullRefreshEvery);
+        this.refreshInterval = Duration.ofSeconds(Math.max(0, refreshIntervalSeconds));
+        this.schedulers = schedulers;
+    }
+
+    // 아직 한 번도 만들지 않았으면 지금 전체를 읽고 주기 갱신을 건다
+    public IssueColumns current() {
+        IssueColumns snapshot = columns;
+        return snapshot != null ? snapshot : refresh(true);
+    }
+
+    /**
+     * full 이 아니면 증분으로 갱신한다. 다만 full-refresh-every 번째이거나, 스냅샷 중간에 끼어야 하는 새 id 가 있으면
+     * (늦게 커밋된 insert) 전체를 다시 읽는다.
+     */
+    public synchronized IssueColumns refresh(boolean full) {
+        IssueColumns previous = columns;
+        long started = System.nanoTime();
+        IssueColumns next = null;
+        if (!full && previous != null && previous.watermark != null && refreshesSinceFull + 1 < fullRefreshEvery) {
+            next = refreshChanged(previous);
+            if (next != null)
+                refreshesSinceFull++;
+        }
+        if (next == null) {
+            next = loadAll();
+            refreshesSinceFull = 0;
+        }
+        columns = next;
+        scheduleRefresh();
+        log.debug("Issue columns refreshed: {} rows in {} ms", next.size, (System.nanoTime() - started) / 1_000_000);
+        return next;
+    }
+
+    // 간격이 0 이면 요청/refresh 때만 만든다
+    private void scheduleRefresh() {
+        if (scheduled != null || refreshInterval.isZero())
+            return;
+        TaskScheduler scheduler = schedulers.getIfUnique();
+        if (scheduler != null)
+            scheduled = scheduler.scheduleWithFixedDelay(this::refreshQuietly, Instant.now().plus(refreshInterval), refreshInterval);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh(false);
+        } catch (RuntimeException e) {
+            log.warn("Issue column refresh failed", e);
+        }
+    }
+
+    private IssueColumns loadAll() {
+        IssueColumnsBuilder builder = new IssueColumnsBuilder(columns != null ? columns.size : 1024);
+        LocalDateTime builtAt = LocalDateTime.now();
+        SqlStatistics.recordJdbcStatement(SELECT_ALL);
+        jdbcTemplate.query(SELECT_ALL, (ResultSet resultSet) -> {
+            builder.append(resultSet.getLong("id"), resultSet.getLong("project_id"), state(resultSet),
+                    priority(resultSet), resultSet.getString("assignee_id"),
+                    time(resultSet, "created_date"), time(resultSet, "modified_date"));
+        });
+        return builder.build(builtAt);
+    }
+
+    // 끼워 넣어야 하는 행이 있으면 null
+    private IssueColumns refreshChanged(IssueColumns previous) {
+        LocalDateTime builtAt = LocalDateTime.now();
+        List<Row> rows = new ArrayList<>();
+        SqlStatistics.recordJdbcStatement(SELECT_CHANGED);
+        jdbcTemplate.query(SELECT_CHANGED, (ResultSet resultSet) -> {
+            rows.add(new Row(resultSet.getLong("id"), resultSet.getLong("project_id"), state(resultSet),
+                    priority(resultSet), resultSet.getString("assignee_id"),
+                    time(resultSet, "created_date"), time(resultSet, "modified_date")));
+        }, Timestamp.valueOf(previous.watermark.minus(SETTLE)));
+        if (rows.isEmpty())
+            return previous;
+
+        IssueColumnsBuilder builder = IssueColumnsBuilder.copyOf(previous, rows.size());
+        for (Row row : rows) {
+            int index = builder.indexOf(row.id());
+            if (index >= 0)
+                builder.set(index, row.projectId(), row.state(), row.priority(), row.assigneeId(), row.createdDate(), row.modifiedDate());
+            else if (row.id() > builder.lastId())
+                builder.append(row.id(), row.projectId(), row.state(), row.priority(), row.assigneeId(), row.createdDate(), row.modifiedDate());
+            else
+                return null;
+        }
+        return builder.build(builtAt);
+    }
+
+    private static State state(ResultSet resultSet) throws SQLException {
+        return State.valueOf(resultSet.getString("state"));
+    }
+
+    private static Priority priority(ResultSet resultSet) throws SQLException {
+        String priority = resultSet.getString("priority");
+        return priority != null ? Priority.valueOf(priority) : null;
+    }
+
+    private static LocalDateTime time(ResultSet resultSet, String column) throws SQLException {
+        Timestamp timestamp = resultSet.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (scheduled != null)
+            scheduled.cancel(false);
+    }
+
+    private record Row(long id, long projectId, State state, Priority priority, String assigneeId,
+                       LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.issuetracker_server.service.analytics;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * issue 테이블의 열 단위 스냅샷. i 번째 이슈의 값은 각 배열의 i 번째 칸에 있고, 행은 id 오름차순이다.
+ * 프로젝트와 담당자는 사전 코드(0 부터)로, 상태와 우선순위는 enum ordinal 로, 시각은 epoch 초로 담는다.
+ * 만든 뒤에는 바꾸지 않으므로 여러 스레드가 잠금 없이 같이 훑을 수 있다.
+ */
+public final class IssueColumns {
+
+    // 담당자 없음, 우선순위 없음
+    static final int NONE = -1;
+
+    // 생성/수정 시각 없음
+    static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+    final int size;
+
+    final long[] ids;
+
+    final int[] projects;
+
+    final byte[] states;
+
+    final byte[] priorities;
+
+    final int[] assignees;
+
+    final long[] created;
+
+    final long[] modified;
+
+    // 코드 -> 프로젝트 id, 담당자 id
+    final long[] projectDictionary;
+
+    final String[] assigneeDictionary;
+
+    // 프로젝트 id -> 코드
+    final Map<Long, Integer> projectCodes;
+
+    // 이 스냅샷에 반영된 가장 늦은 modified_date (증분 갱신은 여기서부터 읽는다)
+    final LocalDateTime watermark;
+
+    final LocalDateTime builtAt;
+
+    IssueColumns(int size, long[] ids, int[] projects, byte[] states, byte[] priorities, int[] assignees,
+                 long[] created, long[] modified, long[] projectDictionary, String[] assigneeDictionary,
+                 Map<Long, Integer> projectCodes, LocalDateTime watermark, LocalDateTime builtAt) {
+        this.size = size;
+        this.ids = ids;
+        this.projects = projects;
+        this.states = states;
+        this.priorities = priorities;
+        this.assignees = assignees;
+        this.created = created;
+        this.modified = modified;
+        this.projectDictionary = projectDictionary;
+        this.assigneeDictionary = assigneeDictionary;
+        this.projectCodes = projectCodes;
+        this.watermark = watermark;
+        this.builtAt = builtAt;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    // 없는 프로젝트면 NONE
+    int projectCode(long projectId) {
+        return projectCodes.getOrDefault(projectId, NONE);
+    }
+
+    // 행 번호, 없으면 음수
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+}
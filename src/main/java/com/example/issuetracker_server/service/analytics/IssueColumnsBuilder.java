@@ -0,0 +1,161 @@
+package com.example.issuetracker_server.service.analytics;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * IssueColumns 를 채운다. 배열은 모자라면 두 배로 늘리고, build() 때 그대로 넘긴다 (그 뒤로 빌더를 쓰면 안 된다).
+ * 행은 id 오름차순으로 append 해야 한다.
+ */
+class IssueColumnsBuilder {
+
+    private int size;
+
+    private long[] ids;
+
+    private int[] projects;
+
+    private byte[] states;
+
+    private byte[] priorities;
+
+    private int[] assignees;
+
+    private long[] created;
+
+    private long[] modified;
+
+    private long[] projectDictionary;
+
+    private int projectCount;
+
+    private String[] assigneeDictionary;
+
+    private int assigneeCount;
+
+    private final Map<Long, Integer> projectCodes;
+
+    private final Map<String, Integer> assigneeCodes;
+
+    private LocalDateTime watermark;
+
+    IssueColumnsBuilder(int capacity) {
+        int rows = Math.max(capacity, 16);
+        ids = new long[rows];
+        projects = new int[rows];
+        states = new byte[rows];
+        priorities = new byte[rows];
+        assignees = new int[rows];
+        created = new long[rows];
+        modified = new long[rows];
+        projectDictionary = new long[16];
+        assigneeDictionary = new String[16];
+        projectCodes = new HashMap<>();
+        assigneeCodes = new HashMap<>();
+    }
+
+    // 기존 스냅샷을 복사해서 고치거나 뒤에 붙인다 (원본은 그대로 둔다)
+    static IssueColumnsBuilder copyOf(IssueColumns columns, int extra) {
+        IssueColumnsBuilder builder = new IssueColumnsBuilder(0);
+        int rows = Math.max(columns.size + extra, 16);
+        builder.size = columns.size;
+        builder.ids = Arrays.copyOf(columns.ids, rows);
+        builder.projects = Arrays.copyOf(columns.projects, rows);
+        builder.states = Arrays.copyOf(columns.states, rows);
+        builder.priorities = Arrays.copyOf(columns.priorities, rows);
+        builder.assignees = Arrays.copyOf(columns.assignees, rows);
+        builder.created = Arrays.copyOf(columns.created, rows);
+        builder.modified = Arrays.copyOf(columns.modified, rows);
+        builder.projectDictionary = Arrays.copyOf(columns.projectDictionary, Math.max(columns.projectDictionary.length, 16));
+        builder.projectCount = columns.projectDictionary.length;
+        builder.assigneeDictionary = Arrays.copyOf(columns.assigneeDictionary, Math.max(columns.assigneeDictionary.length, 16));
+        builder.assigneeCount = columns.assigneeDictionary.length;
+        builder.projectCodes.putAll(columns.projectCodes);
+        for (int code = 0; code < builder.assigneeCount; code++)
+            builder.assigneeCodes.put(builder.assigneeDictionary[code], code);
+        builder.watermark = columns.watermark;
+        return builder;
+    }
+
+    static long epochSecond(LocalDateTime time) {
+        // 저장된 값과 비교 기준 모두 서버 현지 시각이므로 오프셋 없이 초로 바꾼다
+        return time != null ? time.toEpochSecond(ZoneOffset.UTC) : IssueColumns.UNKNOWN_TIME;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long lastId() {
+        return size > 0 ? ids[size - 1] : Long.MIN_VALUE;
+    }
+
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    void append(long id, long projectId, State state, Priority priority, String assigneeId,
+                LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        if (size == ids.length)
+            grow();
+        ids[size] = id;
+        set(size++, projectId, state, priority, assigneeId, createdDate, modifiedDate);
+    }
+
+    void set(int index, long projectId, State state, Priority priority, String assigneeId,
+             LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        projects[index] = projectCode(projectId);
+        states[index] = (byte) state.ordinal();
+        priorities[index] = (byte) (priority != null ? priority.ordinal() : IssueColumns.NONE);
+        assignees[index] = assigneeId != null ? assigneeCode(assigneeId) : IssueColumns.NONE;
+        created[index] = epochSecond(createdDate);
+        modified[index] = epochSecond(modifiedDate);
+        if (modifiedDate != null && (watermark == null || modifiedDate.isAfter(watermark)))
+            watermark = modifiedDate;
+    }
+
+    IssueColumns build(LocalDateTime builtAt) {
+        return new IssueColumns(size, ids, projects, states, priorities, assignees, created, modified,
+                Arrays.copyOf(projectDictionary, projectCount), Arrays.copyOf(assigneeDictionary, assigneeCount),
+                Map.copyOf(projectCodes), watermark, builtAt);
+    }
+
+    private int projectCode(long projectId) {
+        Integer code = projectCodes.get(projectId);
+        if (code != null)
+            return code;
+        if (projectCount == projectDictionary.length)
+            projectDictionary = Arrays.copyOf(projectDictionary, projectCount * 2);
+        projectDictionary[projectCount] = projectId;
+        projectCodes.put(projectId, projectCount);
+        return projectCount++;
+    }
+
+    private int assigneeCode(String assigneeId) {
+        Integer code = assigneeCodes.get(assigneeId);
+        if (code != null)
+            return code;
+        if (assigneeCount == assigneeDictionary.length)
+            assigneeDictionary = Arrays.copyOf(assigneeDictionary, assigneeCount * 2);
+        assigneeDictionary[assigneeCount] = assigneeId;
+        assigneeCodes.put(assigneeId, assigneeCount);
+        return assigneeCount++;
+    }
+
+    private void grow() {
+        int rows = ids.length * 2;
+        ids = Arrays.copyOf(ids, rows);
+        projects = Arrays.copyOf(projects, rows);
+        states = Arrays.copyOf(states, rows);
+        priorities = Arrays.copyOf(priorities, rows);
+        assignees = Arrays.copyOf(assignees, rows);
+        created = Arrays.copyOf(created, rows);
+        modified = Arrays.copyOf(modified, rows);
+    }
+}
@@ -14,7 +14,7 @@ public interface CommentService {
 
     Optional<Comment> findById(Long commentId);
 
-    void delete(Long commentId);
+    void delete(Comment comment);
 
 
 }
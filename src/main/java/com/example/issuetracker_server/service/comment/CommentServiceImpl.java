@@ -3,6 +3,8 @@ package com.example.issuetracker_server.service.comment;
 import com.example.issuetracker_server.domain.comment.Comment;
 import com.example.issuetracker_server.domain.comment.CommentRepository;
 import com.example.issuetracker_server.dto.comment.CommentResponseDto;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +21,17 @@ public class CommentServiceImpl implements CommentService{
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private ProjectEventStream projectEventStream;
+
     @Override
     @Transactional
     public void save(Comment comment)
     {
+        boolean created = comment.getId() == null;
         commentRepository.save(comment);
+        // 코멘트는 이슈를 읽어 둔 채로 오므로(findById) 프로젝트 id 를 추가 조회 없이 안다
+        projectEventStream.commentChanged(created ? ProjectEventType.COMMENT_ADDED : ProjectEventType.COMMENT_EDITED, comment);
     }
 
     @Override
@@ -37,6 +45,7 @@ public class CommentServiceImpl implements CommentService{
             commentResponseDto.setCreated_date(comment.getCreatedDate().toString());
             commentResponseDto.setAuthor_name(comment.getAuthor().getName());
             commentResponseDto.setAuthor_id(comment.getAuthor().getId());
+            commentResponseDto.setVersion(comment.getVersion());
             commentDtos.add(commentResponseDto);
         }
 
@@ -45,13 +54,14 @@ public class CommentServiceImpl implements CommentService{
 
     @Override
     public Optional<Comment> findById(Long commentId) {
-        return commentRepository.findById(commentId);
+        return commentRepository.findWithIssueById(commentId);
     }
 
     @Override
-    public void delete(Long commentId) {
-        commentRepository.deleteById(commentId);
-
+    @Transactional
+    public void delete(Comment comment) {
+        commentRepository.delete(comment);
+        projectEventStream.commentDeleted(comment.getIssue().getProject().getId(), comment.getIssue().getId(), comment.getId());
     }
 
 
@@ -6,6 +6,7 @@ import com.example.issuetracker_server.domain.issue.Priority;
 import com.example.issuetracker_server.domain.issue.State;
 import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.dto.issue.IssueCreateRequestDto;
+import com.example.issuetracker_server.dto.issue.IssueFacetResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
 
@@ -19,17 +20,27 @@ public interface IssueService {
 
     List<IssueResponseDto> getIssues(Long projectId, String filterBy, String filterValue);
 
+    // 검색식(q=) 에 맞는 이슈 (id 순). me 는 memberId 로 읽는다. 잘못된 식은 IllegalArgumentException
+    List<IssueResponseDto> searchIssues(Long projectId, String memberId, String query);
+
+    // 기본키로 묶어 읽은 이슈 (id 순, 없는 id 는 빠진다)
+    List<IssueResponseDto> getIssuesById(List<Long> ids);
+
+    // getIssues 와 같은 필터에 맞는 이슈의 상태/우선순위/담당자별 수
+    IssueFacetResponseDto getFacets(Long projectId, String filterBy, String filterValue);
+
     Optional<IssueResponseDto> getIssue(Long projectId, Long issueId);
 
     IssueStatisticResponseDto getStatistic(Long ProjectId);
 
     Map<String, List<String>> getRecommendAssignee(Long projectId, Long issueId);
 
-    boolean assignIssue(Long projectId, Long issueId, String memberId, Priority priority);
+    // version 이 null 이 아니고 현재 버전과 다르면 ObjectOptimisticLockingFailureException 을 던진다
+    boolean assignIssue(Long projectId, Long issueId, String memberId, Priority priority, Long version);
 
-    boolean updateIssue(String memberId, Long projectId, Long issueId, String title, String description);
+    boolean updateIssue(String memberId, Long projectId, Long issueId, String title, String description, Long version);
 
-    boolean updateIssueState(Long projectId, Long issueId, String id, Role role, State state);
+    boolean updateIssueState(Long projectId, Long issueId, String id, Role role, State state, Long version);
 
     boolean deleteIssue(Long projectId, Long issueId);
 
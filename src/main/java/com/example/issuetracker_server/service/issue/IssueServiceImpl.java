@@ -1,9 +1,11 @@
 package com.example.issuetracker_server.service.issue;
 
+import com.example.issuetracker_server.domain.comment.CommentRepository;
 import com.example.issuetracker_server.domain.issue.Issue;
 import com.example.issuetracker_server.domain.issue.IssueRepository;
 import com.example.issuetracker_server.domain.issue.Priority;
 import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
 import com.example.issuetracker_server.domain.member.Member;
 import com.example.issuetracker_server.domain.member.MemberRepository;
 import com.example.issuetracker_server.domain.memberproject.MemberProject;
@@ -12,10 +14,23 @@ import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.domain.project.ProjectRepository;
 import com.example.issuetracker_server.dto.issue.IssueCreateRequestDto;
+import com.example.issuetracker_server.dto.issue.IssueFacetResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import com.example.issuetracker_server.service.issuecube.IssueCubeCoordinate;
+import com.example.issuetracker_server.service.issuecube.IssueCubeService;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlan;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -26,6 +41,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class IssueServiceImpl implements IssueService {
 
+    // 색인으로 구한 id 를 한 번에 IN 으로 읽는 개수
+    private static final int ID_BATCH = 1000;
+
     private final IssueRepository issueRepository;
 
     private final MemberRepository memberRepository;
@@ -34,6 +52,22 @@ public class IssueServiceImpl implements IssueService {
 
     private final MemberProjectRepository memberProjectRepository;
 
+    private final CommentRepository commentRepository;
+
+    private final IssueHistoryService issueHistoryService;
+
+    private final IssueFlowService issueFlowService;
+
+    private final IssueCubeService issueCubeService;
+
+    private final IssueBitmapIndex issueBitmapIndex;
+
+    private final IssueQueryPlanner issueQueryPlanner;
+
+    private final SavedFilterIndex savedFilterIndex;
+
+    private final ProjectEventStream projectEventStream;
+
     public Optional<Issue> getIssue(Long issueId) {
         return issueRepository.findById(issueId);
     }
@@ -41,13 +75,14 @@ public class IssueServiceImpl implements IssueService {
     @Override
     @Transactional
     public boolean createIssue(Long projectId, String memberId, IssueCreateRequestDto request) {
+        Issue issue;
         try {
             Optional<Project> project = projectRepository.findById(projectId);
             Optional<Member> member = memberRepository.findById(memberId);
             if (project.isEmpty() || member.isEmpty())
                 return false;
 
-            Issue issue = new Issue();
+            issue = new Issue();
             issue.setProject(project.get());
             issue.setReporter(member.get());
             issue.setTitle(request.getTitle());
@@ -55,11 +90,12 @@ public class IssueServiceImpl implements IssueService {
             issue.setState(State.NEW);
             issue.setPriority(Priority.MAJOR);
             issueRepository.save(issue);
-
-            return true;
         } catch (Exception e) {
             return false;
         }
+        // 잘못된 요청만 false 로 돌려준다. 파생 데이터를 쓰다 실패하면 예외로 나가서 이슈 저장도 롤백된다
+        afterWrite(IssueEventType.CREATED, null, issue, memberId);
+        return true;
     }
 
     @Override
@@ -75,14 +111,19 @@ public class IssueServiceImpl implements IssueService {
                     issues = issueRepository.findByProjectIdAndTitleContainingIgnoreCase(projectId, filterValue);
                     break;
                 case "reporter":
-                    issues = issueRepository.findByProjectIdAndReporterIdContainingIgnoreCase(projectId, filterValue);
+                    issues = findByIndex(projectId, IssueIndexFilter.reporter(filterValue))
+                            .orElseGet(() -> issueRepository.findByProjectIdAndReporterIdContainingIgnoreCase(projectId, filterValue));
                     break;
                 case "assignee":
-                    issues = issueRepository.findByProjectIdAndAssigneeIdContainingIgnoreCase(projectId, filterValue);
+                    issues = findByIndex(projectId, IssueIndexFilter.assignee(filterValue))
+                            .orElseGet(() -> issueRepository.findByProjectIdAndAssigneeIdContainingIgnoreCase(projectId, filterValue));
                     break;
-                case "state":
-                    issues = issueRepository.findByProjectIdAndState(projectId, State.valueOf(filterValue));
+                case "state": {
+                    State state = State.valueOf(filterValue);
+                    issues = findByIndex(projectId, IssueIndexFilter.state(state))
+                            .orElseGet(() -> issueRepository.findByProjectIdAndState(projectId, state));
                     break;
+                }
                 default:
                     throw new IllegalArgumentException("Invalid filter criteria");
             }
@@ -92,7 +133,101 @@ public class IssueServiceImpl implements IssueService {
                 .collect(Collectors.toList());
     }
 
-    private IssueResponseDto toDto(Issue issue) {
+    // 계획에 색인 필터가 있으면 비트맵 색인으로, 아니면 컴파일된 JPQL 한 번으로 조회한다
+    @Override
+    public List<IssueResponseDto> searchIssues(Long projectId, String memberId, String query) {
+        IssueQueryPlan plan = issueQueryPlanner.plan(query, memberId);
+        Optional<List<Issue>> indexed = plan.indexFilter() != null ? findByIndex(projectId, plan.indexFilter()) : Optional.empty();
+        List<Issue> issues = indexed.orElseGet(() -> issueRepository.search(projectId, plan.query()));
+        return issues.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<IssueResponseDto> getIssuesById(List<Long> ids) {
+        return findAllById(ids).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // 비트맵 색인으로 id 를 구해 읽는다. 색인을 쓸 수 없으면 empty
+    private Optional<List<Issue>> findByIndex(Long projectId, IssueIndexFilter filter) {
+        return issueBitmapIndex.findIds(projectId, filter).map(this::findAllById);
+    }
+
+    // 기본키로 ID_BATCH 개씩 나눠 읽는다 (id 순)
+    private List<Issue> findAllById(List<Long> ids) {
+        List<Issue> issues = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_BATCH)
+            issues.addAll(issueRepository.findAllById(ids.subList(from, Math.min(ids.size(), from + ID_BATCH))));
+        issues.sort(Comparator.comparing(Issue::getId));
+        return issues;
+    }
+
+    // getIssues 와 같은 필터. 제목 조건이 아니면 비트맵 색인의 교집합 크기로, 아니면 묶음 쿼리 한 번으로 센다
+    @Override
+    public IssueFacetResponseDto getFacets(Long projectId, String filterBy, String filterValue) {
+        String title = null, reporter = null, assignee = null;
+        State state = null;
+        if (filterBy != null && !filterBy.isEmpty() && filterValue != null && !filterValue.isEmpty()) {
+            switch (filterBy.toLowerCase()) {
+                case "title" -> title = filterValue;
+                case "reporter" -> reporter = filterValue;
+                case "assignee" -> assignee = filterValue;
+                case "state" -> state = State.valueOf(filterValue);
+                default -> throw new IllegalArgumentException("Invalid filter criteria");
+            }
+        }
+
+        Optional<IssueBitmapIndex.Facets> indexed = title == null
+                ? issueBitmapIndex.facets(projectId, new IssueIndexFilter(state != null ? Set.of(state) : null, null, assignee, reporter))
+                : Optional.empty();
+        IssueBitmapIndex.Facets facets = indexed.isPresent() ? indexed.get() : countFacets(projectId, title, reporter, assignee, state);
+
+        Map<String, Long> states = new LinkedHashMap<>();
+        for (State value : State.values())
+            states.put(value.name(), facets.byState()[value.ordinal()]);
+        Map<String, Long> priorities = new LinkedHashMap<>();
+        for (Priority value : Priority.values())
+            priorities.put(value.name(), facets.byPriority()[value.ordinal()]);
+
+        // 많은 순, 같으면 id 순
+        Map<String, Long> sortedAssignees = new LinkedHashMap<>();
+        facets.byAssignee().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .forEach(entry -> sortedAssignees.put(entry.getKey(), entry.getValue()));
+
+        return IssueFacetResponseDto.builder()
+                .total(facets.total())
+                .state(states)
+                .priority(priorities)
+                .assignee(sortedAssignees)
+                .unassigned(facets.unassigned())
+                .build();
+    }
+
+    private IssueBitmapIndex.Facets countFacets(Long projectId, String title, String reporter, String assignee, State state) {
+        long[] byState = new long[State.values().length];
+        long[] byPriority = new long[Priority.values().length];
+        Map<String, Long> byAssignee = new HashMap<>();
+        long total = 0, unassigned = 0;
+        for (IssueRepository.FacetCount row : issueRepository.countFacets(projectId, title, reporter, assignee, state)) {
+            long count = row.getCount();
+            total += count;
+            byState[row.getState().ordinal()] += count;
+            if (row.getPriority() != null)
+                byPriority[row.getPriority().ordinal()] += count;
+            if (row.getAssigneeId() != null)
+                byAssignee.merge(row.getAssigneeId(), count, Long::sum);
+            else
+                unassigned += count;
+        }
+        return new IssueBitmapIndex.Facets(total, byState, byPriority, byAssignee, unassigned);
+    }
+
+    // 벤치마크(src/jmh)에서 매핑 비용만 따로 재기 위해 package-private
+    IssueResponseDto toDto(Issue issue) {
         return IssueResponseDto.builder()
                 .id(issue.getId())
                 .project_id(issue.getProject().getId())
@@ -105,9 +240,17 @@ public class IssueServiceImpl implements IssueService {
                 .state(issue.getState())
                 .created_date(issue.getCreatedDate() != null ? issue.getCreatedDate().toString() : null)
                 .modified_date(issue.getModifiedDate() != null ? issue.getModifiedDate().toString() : null)
+                .version(issue.getVersion())
                 .build();
     }
 
+    // If-Match 로 받은 버전이 현재 버전과 다르면 수정하지 않는다.
+    // 검사 이후 커밋 전에 끼어든 수정은 @Version 이 커밋 시점에 잡아낸다.
+    private void checkVersion(Issue issue, Long version) {
+        if (version != null && !version.equals(issue.getVersion()))
+            throw new ObjectOptimisticLockingFailureException(Issue.class, issue.getId());
+    }
+
     @Override
     public Optional<IssueResponseDto> getIssue(Long projectId, Long issueId) {
         Optional<Issue> issue = issueRepository.findById(issueId);
@@ -138,42 +281,39 @@ public class IssueServiceImpl implements IssueService {
 
     @Override
     public Map<String, List<String>> getRecommendAssignee(Long projectId, Long issueId) {
-        List<Member> devs = memberProjectRepository.findByProjectIdAndRole(projectId, Role.DEV).stream()
-                .map(MemberProject::getMember).toList();
-        Map<Member, Long> assigneeCount = devs.stream()
-                .collect(Collectors.toMap(member -> member, member -> 0L));
+        // 엔티티 동일성(영속성 컨텍스트)에 기대지 않도록 회원 id 로 센다 (memory 저장 엔진은 조회마다 새 객체를 만든다)
+        Map<String, Long> assigneeCount = memberProjectRepository.findByProjectIdAndRole(projectId, Role.DEV).stream()
+                .collect(Collectors.toMap(memberProject -> memberProject.getMember().getId(), memberProject -> 0L));
 
         List<Issue> issues = issueRepository.findByProjectId(projectId).stream()
                 .filter(issue -> issue.getFixer() == null && issue.getAssignee() != null)
                 .toList();
 
-        // 이슈의 assignee에 따라 assigneeCount 맵의 값을 증가
-        issues.forEach(issue -> {
-            Member assignee = issue.getAssignee();
-            assigneeCount.put(assignee, assigneeCount.get(assignee) + Priority.toValue(issue.getPriority()));
-        });
+        // 이슈의 assignee에 따라 assigneeCount 맵의 값을 증가 (프로젝트에서 빠진 DEV 에게 남은 이슈는 무시)
+        issues.forEach(issue -> assigneeCount.computeIfPresent(issue.getAssignee().getId(),
+                (assignee, count) -> count + Priority.toValue(issue.getPriority())));
 
         // 결과를 이슈 수에 따라 오름차순으로 정렬
-        List<Map.Entry<Member, Long>> sortedAssigneeList = assigneeCount.entrySet().stream()
-                .sorted(Map.Entry.<Member, Long>comparingByValue()
-                        .thenComparing(entry -> entry.getKey().getId()))
+        List<Map.Entry<String, Long>> sortedAssigneeList = assigneeCount.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue()
+                        .thenComparing(Map.Entry::getKey))
                 .toList();
 //        // 정렬된 리스트 출력
 //        sortedAssigneeList.forEach(entry ->
-//                System.out.println("Member ID: " + entry.getKey().getId() + ", Score: " + entry.getValue())
+//                System.out.println("Member ID: " + entry.getKey() + ", Score: " + entry.getValue())
 //        );
 
         Map<String, List<String>> response = new HashMap<>();
         response.put("dev_ids", sortedAssigneeList.stream()
                 .limit(5)
-                .map(entry -> entry.getKey().getId())
+                .map(Map.Entry::getKey)
                 .collect(Collectors.toList()));
         return response;
     }
 
     @Override
     @Transactional
-    public boolean assignIssue(Long projectId, Long issueId, String memberId, Priority priority) {
+    public boolean assignIssue(Long projectId, Long issueId, String memberId, Priority priority, Long version) {
         Optional<MemberProject> memberProject = memberProjectRepository.findByMemberIdAndProjectId(memberId, projectId);
         if (memberProject.isEmpty() || memberProject.get().getRole() != Role.DEV)
             return false;
@@ -182,51 +322,62 @@ public class IssueServiceImpl implements IssueService {
         Optional<Issue> issue = issueRepository.findById(issueId);
         if (issue.isEmpty() || !Objects.equals(issue.get().getProject().getId(), projectId))
             return false;
+        checkVersion(issue.get(), version);
 
+        IssueCubeCoordinate before = IssueCubeCoordinate.of(issue.get());
         issue.get().setAssignee(assignee);
         issue.get().setPriority(priority);
-        if (issue.get().getState() == State.NEW)
+        if (before.state() == State.NEW)
             issue.get().setState(State.ASSIGNED);
         issueRepository.save(issue.get());
+        afterWrite(IssueEventType.ASSIGNED, before, issue.get(), null);
         return true;
     }
 
     @Override
     @Transactional
-    public boolean updateIssue(String id, Long projectId, Long issueId, String title, String description) {
+    public boolean updateIssue(String id, Long projectId, Long issueId, String title, String description, Long version) {
         Optional<Issue> issue = issueRepository.findById(issueId);
         if (issue.isEmpty() || !Objects.equals(issue.get().getProject().getId(), projectId)
                 || !issue.get().getReporter().getId().equals(id))
             return false;
+        checkVersion(issue.get(), version);
 
+        IssueCubeCoordinate before = IssueCubeCoordinate.of(issue.get());
         issue.get().setTitle(title);
         issue.get().setDescription(description);
         issueRepository.save(issue.get());
+        afterWrite(IssueEventType.CONTENT_UPDATED, before, issue.get(), id);
         return true;
     }
 
     @Override
     @Transactional
-    public boolean updateIssueState(Long projectId, Long issueId, String id, Role role, State state) {
+    public boolean updateIssueState(Long projectId, Long issueId, String id, Role role, State state, Long version) {
         Optional<Issue> issue = issueRepository.findById(issueId);
         if (issue.isEmpty() || !Objects.equals(issue.get().getProject().getId(), projectId))
             return false;
+        checkVersion(issue.get(), version);
+        IssueCubeCoordinate before = IssueCubeCoordinate.of(issue.get());
 
         if (role == Role.PL) {
             issue.get().setState(state);
             issueRepository.save(issue.get());
+            afterWrite(IssueEventType.STATE_CHANGED, before, issue.get(), id);
             return true;
         } else if (role == Role.DEV && issue.get().getAssignee() != null
                 && issue.get().getAssignee().getId().equals(id)
                 && ((issue.get().getState() == State.ASSIGNED) || (issue.get().getState() == State.REOPEN)) && state == State.FIXED) {
             issue.get().setState(State.FIXED);
             issueRepository.save(issue.get());
+            afterWrite(IssueEventType.STATE_CHANGED, before, issue.get(), id);
             return true;
         } else if (role == Role.TESTER && issue.get().getAssignee() != null
                 && issue.get().getReporter().getId().equals(id)
                 && issue.get().getState() == State.FIXED && state == State.RESOLVED) {
             issue.get().setState(State.RESOLVED);
             issueRepository.save(issue.get());
+            afterWrite(IssueEventType.STATE_CHANGED, before, issue.get(), id);
             return true;
         }
         return false;
@@ -239,8 +390,37 @@ public class IssueServiceImpl implements IssueService {
         if (issue.isEmpty() || !Objects.equals(issue.get().getProject().getId(), projectId)) {
             return false;
         }
-        issueRepository.delete(issue.get());
+        // 벌크 삭제 전에 읽어 둔 마지막 상태를 남긴다
+        afterWrite(IssueEventType.DELETED, IssueCubeCoordinate.of(issue.get()), issue.get(), null);
+        commentRepository.deleteAllByIssueIdInBatch(issueId);
+        issueRepository.deleteAllByIdInBatch(List.of(issueId));
 
         return true;
     }
-}
\ No newline at end of file
+
+    // 이슈를 쓴 뒤(삭제는 행을 지우기 전) 이슈에서 파생된 것을 한 곳에서 고친다: 히스토리, 흐름/큐브 집계, 색인, 저장된 필터, 변경 알림.
+    // before 는 쓰기 전 칸(상태/우선순위/담당자), 새 이슈면 null. 흐름과 큐브는 칸이 그대로면 아무것도 쓰지 않는다
+    private void afterWrite(IssueEventType type, IssueCubeCoordinate before, Issue issue, String memberId) {
+        Long projectId = issue.getProject().getId();
+        State previous = before != null ? before.state() : null;
+        issueHistoryService.record(type, issue, memberId);
+        if (type == IssueEventType.DELETED) {
+            issueFlowService.recordTransition(issue, previous, null);
+            issueCubeService.recordChange(projectId, before, null);
+            issueBitmapIndex.remove(projectId, issue.getId());
+            savedFilterIndex.remove(projectId, issue.getId());
+            projectEventStream.issueDeleted(projectId, issue.getId());
+            return;
+        }
+        issueFlowService.recordTransition(issue, previous, issue.getState());
+        issueCubeService.recordChange(projectId, before, IssueCubeCoordinate.of(issue));
+        issueBitmapIndex.record(issue);
+        savedFilterIndex.record(issue);
+        projectEventStream.issueChanged(switch (type) {
+            case CREATED -> ProjectEventType.ISSUE_CREATED;
+            case ASSIGNED -> ProjectEventType.ISSUE_ASSIGNED;
+            case STATE_CHANGED -> ProjectEventType.ISSUE_STATE_CHANGED;
+            default -> ProjectEventType.ISSUE_UPDATED;
+        }, issue);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.issuetracker_server.service.issuecube;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+
+/**
+ * 큐브에서 이슈가 놓이는 칸 (날짜 제외). assigneeId 가 null 이면 담당자 없음.
+ */
+public record IssueCubeCoordinate(State state, Priority priority, String assigneeId) {
+
+    public static IssueCubeCoordinate of(Issue issue) {
+        return new IssueCubeCoordinate(issue.getState(), issue.getPriority(),
+                issue.getAssignee() != null ? issue.getAssignee().getId() : null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.issuetracker_server.service.issuecube;
+
+import java.util.Locale;
+
+/**
+ * 큐브 조회에서 묶을 수 있는 차원. 시간 차원(day/week/month)은 하나만 쓸 수 있다.
+ */
+public enum IssueCubeDimension {
+    STATE("state"),
+    PRIORITY("priority"),
+    ASSIGNEE("assignee_id"),
+    DAY("bucket_date"),
+    WEEK("bucket_date"),
+    MONTH("bucket_date");
+
+    private final String column;
+
+    IssueCubeDimension(String column) {
+        this.column = column;
+    }
+
+    String getColumn() {
+        return column;
+    }
+
+    boolean isTime() {
+        return this == DAY || this == WEEK || this == MONTH;
+    }
+
+    public static IssueCubeDimension from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
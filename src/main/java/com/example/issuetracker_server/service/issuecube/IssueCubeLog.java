@@ -0,0 +1,75 @@
+package com.example.issuetracker_server.service.issuecube;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCell;
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import com.example.issuetracker_server.service.support.BeforeCommitBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * issue_cube_cell 칸에 들어오고 나간 수를 더한다.
+ * 트랜잭션 안의 변경을 칸별로 합쳐 두었다가 커밋 직전에 칸마다 MERGE 한 번씩 쓴다(BeforeCommitBatch).
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueCubeLog {
+
+    private static final String MERGE_SQL = "MERGE INTO issue_cube_cell t " +
+            "USING (SELECT CAST(? AS BIGINT) project_id, CAST(? AS DATE) bucket_date, CAST(? AS VARCHAR(20)) state, " +
+            "CAST(? AS VARCHAR(20)) priority, CAST(? AS VARCHAR(50)) assignee_id, " +
+            "CAST(? AS INT) entered, CAST(? AS INT) exited) s " +
+            "ON t.project_id = s.project_id AND t.bucket_date = s.bucket_date AND t.state = s.state " +
+            "AND t.priority = s.priority AND t.assignee_id = s.assignee_id " +
+            "WHEN MATCHED THEN UPDATE SET entered = t.entered + s.entered, exited = t.exited + s.exited " +
+            "WHEN NOT MATCHED THEN INSERT (project_id, bucket_date, state, priority, assignee_id, entered, exited) " +
+            "VALUES (s.project_id, s.bucket_date, s.state, s.priority, s.assignee_id, s.entered, s.exited)";
+
+    // 칸을 늘 같은 순서로 고쳐서 두 트랜잭션이 서로의 행을 기다리는 교착을 피한다
+    private static final Comparator<Cell> ORDER = Comparator.comparing(Cell::projectId)
+            .thenComparing(Cell::date)
+            .thenComparing(Cell::state)
+            .thenComparing(Cell::priority, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Cell::assigneeId);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BeforeCommitBatch<Map<Cell, int[]>> batch = new BeforeCommitBatch<>(() -> new TreeMap<>(ORDER), this::write);
+
+    // assigneeId 가 null 이면 담당자 없음 칸, priority 가 null 이면 우선순위 없음 칸
+    public void add(Long projectId, LocalDate date, State state, Priority priority, String assigneeId, int entered, int exited) {
+        Cell cell = new Cell(projectId, date, state, priority, assigneeId != null ? assigneeId : IssueCubeCell.UNASSIGNED);
+        batch.add(deltas -> {
+            int[] delta = deltas.computeIfAbsent(cell, key -> new int[2]);
+            delta[0] += entered;
+            delta[1] += exited;
+        });
+    }
+
+    private void write(Map<Cell, int[]> deltas) {
+        deltas.forEach((cell, delta) -> {
+            Object[] args = {cell.projectId(), Date.valueOf(cell.date()), cell.state().name(),
+                    cell.priority() != null ? cell.priority().name() : IssueCubeCell.NO_PRIORITY,
+                    cell.assigneeId(), delta[0], delta[1]};
+            try {
+                jdbcTemplate.update(MERGE_SQL, args);
+            } catch (DuplicateKeyException e) {
+                // 같은 칸을 다른 트랜잭션이 먼저 insert 했다. 이제는 있으니 다시 MERGE 하면 더하기가 된다
+                jdbcTemplate.update(MERGE_SQL, args);
+            }
+            SqlStatistics.recordJdbcStatement(MERGE_SQL);
+        });
+    }
+
+    private record Cell(Long projectId, LocalDate date, State state, Priority priority, String assigneeId) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.issuetracker_server.service.issuecube;
+
+import com.example.issuetracker_server.dto.issue.IssueCubeResponseDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IssueCubeService {
+
+    // before 가 null 이면 생성, after 가 null 이면 삭제. 트랜잭션 안이면 커밋과 함께 큐브에 더해진다
+    void recordChange(Long projectId, IssueCubeCoordinate before, IssueCubeCoordinate after);
+
+    // groupBy 는 state/priority/assignee/day/week/month, 필터는 비어 있으면 전체. 잘못된 값이면 IllegalArgumentException
+    IssueCubeResponseDto query(Long projectId, List<String> groupBy, List<String> states, List<String> priorities,
+                               List<String> assignees, LocalDate from, LocalDate to);
+
+    // 지금의 이슈 테이블로 큐브를 다시 채우고 반영한 이슈 수를 돌려준다
+    int rebuild(Long projectId);
+}
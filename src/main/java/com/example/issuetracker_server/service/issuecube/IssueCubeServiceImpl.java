@@ -0,0 +1,180 @@
+package com.example.issuetracker_server.service.issuecube;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCell;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCellRepository;
+import com.example.issuetracker_server.dto.issue.IssueCubeResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueCubeRowResponseDto;
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class IssueCubeServiceImpl implements IssueCubeService {
+
+    private static final Comparator<IssueCubeRowResponseDto> ROW_ORDER =
+            Comparator.comparing(IssueCubeRowResponseDto::getPeriod, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(IssueCubeRowResponseDto::getState, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(IssueCubeRowResponseDto::getPriority, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(IssueCubeRowResponseDto::getAssignee_id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final IssueCubeLog issueCubeLog;
+
+    private final IssueCubeCellRepository issueCubeCellRepository;
+
+    private final IssueRepository issueRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void recordChange(Long projectId, IssueCubeCoordinate before, IssueCubeCoordinate after) {
+        if (Objects.equals(before, after))
+            return;
+        LocalDate today = LocalDate.now();
+        if (before != null)
+            issueCubeLog.add(projectId, today, before.state(), before.priority(), before.assigneeId(), 0, 1);
+        if (after != null)
+            issueCubeLog.add(projectId, today, after.state(), after.priority(), after.assigneeId(), 1, 0);
+    }
+
+    @Override
+    public IssueCubeResponseDto query(Long projectId, List<String> groupBy, List<String> states, List<String> priorities,
+                                      List<String> assignees, LocalDate from, LocalDate to) {
+        Set<IssueCubeDimension> dimensions = EnumSet.noneOf(IssueCubeDimension.class);
+        for (String name : nullToEmpty(groupBy))
+            dimensions.add(IssueCubeDimension.from(name));
+        IssueCubeDimension time = null;
+        for (IssueCubeDimension dimension : dimensions) {
+            if (!dimension.isTime())
+                continue;
+            if (time != null)
+                throw new IllegalArgumentException("Only one of day, week and month can be grouped");
+            time = dimension;
+        }
+        if (from != null && to != null && from.isAfter(to))
+            throw new IllegalArgumentException("Invalid date range");
+
+        // 묶는 열은 enum 에서만 오므로 SQL 에 그대로 넣어도 된다
+        List<String> columns = dimensions.stream()
+                .map(IssueCubeDimension::getColumn)
+                .distinct()
+                .collect(Collectors.toList());
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (String column : columns)
+            sql.append(column).append(", ");
+        sql.append("COALESCE(SUM(entered), 0) entered, COALESCE(SUM(exited), 0) exited FROM issue_cube_cell WHERE project_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+        in(sql, args, "state", nullToEmpty(states).stream().map(value -> State.valueOf(value.trim()).name()).toList());
+        in(sql, args, "priority", nullToEmpty(priorities).stream().map(value -> Priority.valueOf(value.trim()).name()).toList());
+        in(sql, args, "assignee_id", nullToEmpty(assignees).stream().map(String::trim).toList());
+        if (from != null) {
+            sql.append(" AND bucket_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND bucket_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        if (!columns.isEmpty())
+            sql.append(" GROUP BY ").append(String.join(", ", columns));
+
+        // DB 는 날짜까지만 묶고 주/월로 접는 것은 여기서 한다 (DB 마다 다른 날짜 함수를 쓰지 않는다)
+        IssueCubeDimension period = time;
+        Map<List<Object>, IssueCubeRowResponseDto> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), (ResultSet resultSet) -> {
+            IssueCubeRowResponseDto row = toRow(resultSet, dimensions, period);
+            List<Object> key = Arrays.asList(row.getState(), row.getPriority(), row.getAssignee_id(), row.getPeriod());
+            rows.merge(key, row, (sum, next) -> {
+                sum.setEntered(sum.getEntered() + next.getEntered());
+                sum.setExited(sum.getExited() + next.getExited());
+                sum.setNet(sum.getNet() + next.getNet());
+                return sum;
+            });
+        }, args.toArray());
+        SqlStatistics.recordJdbcStatement(sql.toString());
+
+        List<IssueCubeRowResponseDto> sorted = new ArrayList<>(rows.values());
+        sorted.sort(ROW_ORDER);
+        return IssueCubeResponseDto.builder()
+                .group_by(dimensions.stream().map(dimension -> dimension.name().toLowerCase(Locale.ROOT)).toList())
+                .rows(sorted)
+                .build();
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static void in(StringBuilder sql, List<Object> args, String column, List<String> values) {
+        if (values.isEmpty())
+            return;
+        sql.append(" AND ").append(column).append(" IN (")
+                .append(String.join(", ", Collections.nCopies(values.size(), "?")))
+                .append(")");
+        args.addAll(values);
+    }
+
+    private static IssueCubeRowResponseDto toRow(ResultSet resultSet, Set<IssueCubeDimension> dimensions,
+                                                 IssueCubeDimension time) throws SQLException {
+        int entered = resultSet.getInt("entered");
+        int exited = resultSet.getInt("exited");
+        IssueCubeRowResponseDto.IssueCubeRowResponseDtoBuilder row = IssueCubeRowResponseDto.builder()
+                .entered(entered)
+                .exited(exited)
+                .net(entered - exited);
+        if (dimensions.contains(IssueCubeDimension.STATE))
+            row.state(State.valueOf(resultSet.getString("state")));
+        if (dimensions.contains(IssueCubeDimension.PRIORITY)) {
+            String priority = resultSet.getString("priority");
+            row.priority(IssueCubeCell.NO_PRIORITY.equals(priority) ? null : Priority.valueOf(priority));
+        }
+        if (dimensions.contains(IssueCubeDimension.ASSIGNEE)) {
+            String assigneeId = resultSet.getString("assignee_id");
+            row.assignee_id(IssueCubeCell.UNASSIGNED.equals(assigneeId) ? null : assigneeId);
+        }
+        if (time != null)
+            row.period(period(resultSet.getDate("bucket_date").toLocalDate(), time));
+        return row.build();
+    }
+
+    private static String period(LocalDate date, IssueCubeDimension time) {
+        return switch (time) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
+            case MONTH -> YearMonth.from(date).toString();
+            default -> date.toString();
+        };
+    }
+
+    // 변경 기록이 없던 이슈는 마지막 수정일에 지금 칸으로 들어온 것으로 본다
+    @Override
+    @Transactional
+    public int rebuild(Long projectId) {
+        issueCubeCellRepository.deleteAllByProjectIdInBatch(projectId);
+        List<Issue> issues = issueRepository.findByProjectId(projectId);
+        for (Issue issue : issues) {
+            LocalDateTime at = issue.getModifiedDate() != null ? issue.getModifiedDate() : issue.getCreatedDate();
+            IssueCubeCoordinate coordinate = IssueCubeCoordinate.of(issue);
+            issueCubeLog.add(projectId, at != null ? at.toLocalDate() : LocalDate.now(),
+                    coordinate.state(), coordinate.priority(), coordinate.assigneeId(), 1, 0);
+        }
+        return issues.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.issuetracker_server.service.issueflow;
+
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import com.example.issuetracker_server.service.support.BeforeCommitBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * issue_flow_daily 버킷에 전이 수를 더한다.
+ * 트랜잭션 안에서는 같은 버킷끼리 합쳐 두었다가 커밋 직전에 버킷마다 MERGE 한 번씩 쓰므로(BeforeCommitBatch), 이슈 변경과 함께 커밋되거나 함께 롤백된다.
+ * 같은 버킷 행을 여러 요청이 동시에 고치므로 행 잠금은 커밋 직전부터만 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueFlowLog {
+
+    private static final String MERGE_SQL = "MERGE INTO issue_flow_daily t " +
+            "USING (SELECT CAST(? AS BIGINT) project_id, CAST(? AS DATE) bucket_date, CAST(? AS VARCHAR(20)) state, " +
+            "CAST(? AS INT) entered, CAST(? AS INT) exited, CAST(? AS BIGINT) entered_age_seconds) s " +
+            "ON t.project_id = s.project_id AND t.bucket_date = s.bucket_date AND t.state = s.state " +
+            "WHEN MATCHED THEN UPDATE SET entered = t.entered + s.entered, exited = t.exited + s.exited, " +
+            "entered_age_seconds = t.entered_age_seconds + s.entered_age_seconds " +
+            "WHEN NOT MATCHED THEN INSERT (project_id, bucket_date, state, entered, exited, entered_age_seconds) " +
+            "VALUES (s.project_id, s.bucket_date, s.state, s.entered, s.exited, s.entered_age_seconds)";
+
+    // 버킷을 늘 같은 순서로 고쳐서 두 트랜잭션이 서로의 행을 기다리는 교착을 피한다
+    private static final Comparator<Bucket> ORDER = Comparator.comparing(Bucket::projectId)
+            .thenComparing(Bucket::date)
+            .thenComparing(Bucket::state);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BeforeCommitBatch<Map<Bucket, Delta>> batch = new BeforeCommitBatch<>(() -> new TreeMap<>(ORDER), this::write);
+
+    public void add(Long projectId, LocalDate date, State state, int entered, int exited, long enteredAgeSeconds) {
+        batch.add(deltas -> {
+            Delta delta = deltas.computeIfAbsent(new Bucket(projectId, date, state), bucket -> new Delta());
+            delta.entered += entered;
+            delta.exited += exited;
+            delta.enteredAgeSeconds += enteredAgeSeconds;
+        });
+    }
+
+    private void write(Map<Bucket, Delta> deltas) {
+        deltas.forEach((bucket, delta) -> {
+            Object[] args = {bucket.projectId(), Date.valueOf(bucket.date()), bucket.state().name(),
+                    delta.entered, delta.exited, delta.enteredAgeSeconds};
+            try {
+                jdbcTemplate.update(MERGE_SQL, args);
+            } catch (DuplicateKeyException e) {
+                // 같은 버킷을 다른 트랜잭션이 먼저 insert 했다. 이제는 있으니 다시 MERGE 하면 더하기가 된다
+                jdbcTemplate.update(MERGE_SQL, args);
+            }
+            SqlStatistics.recordJdbcStatement(MERGE_SQL);
+        });
+    }
+
+    private record Bucket(Long projectId, LocalDate date, State state) {
+    }
+
+    private static class Delta {
+        private int entered;
+        private int exited;
+        private long enteredAgeSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.issuetracker_server.service.issueflow;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.dto.issue.IssueFlowResponseDto;
+
+import java.time.LocalDate;
+
+public interface IssueFlowService {
+
+    // from 이 null 이면 생성, to 가 null 이면 삭제. 트랜잭션 안이면 커밋과 함께 버킷에 더해진다
+    void recordTransition(Issue issue, State from, State to);
+
+    // from ~ to (포함) 의 날짜별 상태 수와 평균 수정/종료 시간
+    IssueFlowResponseDto getFlow(Long projectId, LocalDate from, LocalDate to);
+
+    // 지금의 이슈 테이블로 버킷을 다시 채우고 반영한 이슈 수를 돌려준다
+    int rebuild(Long projectId);
+}
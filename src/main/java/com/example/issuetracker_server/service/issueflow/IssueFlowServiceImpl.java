@@ -0,0 +1,137 @@
+package com.example.issuetracker_server.service.issueflow;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issueflow.IssueFlowDaily;
+import com.example.issuetracker_server.domain.issueflow.IssueFlowDailyRepository;
+import com.example.issuetracker_server.dto.issue.IssueFlowDayResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueFlowResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class IssueFlowServiceImpl implements IssueFlowService {
+
+    // 한 번에 그리는 기간 상한 (약 3년)
+    static final int MAX_DAYS = 1100;
+
+    private final IssueFlowLog issueFlowLog;
+
+    private final IssueFlowDailyRepository issueFlowDailyRepository;
+
+    private final IssueRepository issueRepository;
+
+    @Override
+    public void recordTransition(Issue issue, State from, State to) {
+        if (from == to)
+            return;
+        LocalDateTime now = LocalDateTime.now();
+        Long projectId = issue.getProject().getId();
+        if (from != null)
+            issueFlowLog.add(projectId, now.toLocalDate(), from, 0, 1, 0);
+        if (to != null)
+            issueFlowLog.add(projectId, now.toLocalDate(), to, 1, 0, ageSeconds(issue.getCreatedDate(), now));
+    }
+
+    private static long ageSeconds(LocalDateTime createdDate, LocalDateTime at) {
+        return createdDate != null ? Math.max(0, Duration.between(createdDate, at).getSeconds()) : 0;
+    }
+
+    @Override
+    public IssueFlowResponseDto getFlow(Long projectId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS)
+            throw new IllegalArgumentException("Invalid date range");
+
+        Map<State, Integer> running = zeroCounts();
+        for (IssueFlowDailyRepository.StateCount count : issueFlowDailyRepository.countByStateBefore(projectId, from))
+            running.put(count.getState(), count.getCount().intValue());
+
+        Map<LocalDate, List<IssueFlowDaily>> buckets = new HashMap<>();
+        long fixSeconds = 0, closeSeconds = 0;
+        int fixed = 0, closed = 0;
+        for (IssueFlowDaily bucket : issueFlowDailyRepository.findByProjectIdAndBucketDateBetweenOrderByBucketDateAsc(projectId, from, to)) {
+            buckets.computeIfAbsent(bucket.getBucketDate(), date -> new ArrayList<>()).add(bucket);
+            if (bucket.getState() == State.FIXED) {
+                fixed += bucket.getEntered();
+                fixSeconds += bucket.getEnteredAgeSeconds();
+            } else if (bucket.getState() == State.CLOSED) {
+                closed += bucket.getEntered();
+                closeSeconds += bucket.getEnteredAgeSeconds();
+            }
+        }
+
+        // 전이가 없는 날도 앞날의 수 그대로 채워서 차트가 끊기지 않게 한다
+        List<IssueFlowDayResponseDto> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Map<State, Integer> entered = zeroCounts();
+            for (IssueFlowDaily bucket : buckets.getOrDefault(date, List.of())) {
+                running.merge(bucket.getState(), bucket.getEntered() - bucket.getExited(), Integer::sum);
+                entered.put(bucket.getState(), bucket.getEntered());
+            }
+            days.add(IssueFlowDayResponseDto.builder()
+                    .date(date.toString())
+                    .states(new EnumMap<>(running))
+                    .entered(entered)
+                    .open_issues(openIssues(running))
+                    .build());
+        }
+
+        return IssueFlowResponseDto.builder()
+                .from(from.toString())
+                .to(to.toString())
+                .days(days)
+                .fixed_count(fixed)
+                .mean_time_to_fix_hours(meanHours(fixSeconds, fixed))
+                .closed_count(closed)
+                .mean_time_to_close_hours(meanHours(closeSeconds, closed))
+                .build();
+    }
+
+    private static Map<State, Integer> zeroCounts() {
+        Map<State, Integer> counts = new EnumMap<>(State.class);
+        for (State state : State.values())
+            counts.put(state, 0);
+        return counts;
+    }
+
+    private static int openIssues(Map<State, Integer> counts) {
+        int open = 0;
+        for (Map.Entry<State, Integer> count : counts.entrySet())
+            if (count.getKey() != State.CLOSED && count.getKey() != State.DISPOSED)
+                open += count.getValue();
+        return open;
+    }
+
+    private static Double meanHours(long seconds, int count) {
+        return count > 0 ? seconds / 3600.0 / count : null;
+    }
+
+    // 전이 기록이 없던 이슈는 생성일에 NEW 로 들어와서 마지막 수정일에 지금 상태로 옮겨 간 것으로 본다
+    @Override
+    @Transactional
+    public int rebuild(Long projectId) {
+        issueFlowDailyRepository.deleteAllByProjectIdInBatch(projectId);
+        List<Issue> issues = issueRepository.findByProjectId(projectId);
+        for (Issue issue : issues) {
+            LocalDateTime created = issue.getCreatedDate();
+            if (created == null)
+                continue;
+            issueFlowLog.add(projectId, created.toLocalDate(), State.NEW, 1, 0, 0);
+            if (issue.getState() == State.NEW)
+                continue;
+            LocalDateTime moved = issue.getModifiedDate() != null ? issue.getModifiedDate() : created;
+            issueFlowLog.add(projectId, moved.toLocalDate(), State.NEW, 0, 1, 0);
+            issueFlowLog.add(projectId, moved.toLocalDate(), issue.getState(), 1, 0, ageSeconds(created, moved));
+        }
+        return issues.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.issuetracker_server.service.issuehistory;
+
+import com.example.issuetracker_server.domain.issuehistory.IssueEvent;
+import com.example.issuetracker_server.monitoring.SqlStatistics;
+import com.example.issuetracker_server.service.support.BeforeCommitBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * issue_event 에 추가만 하는 쓰기 경로.
+ * 트랜잭션 안에서 모은 이벤트를 커밋 직전에 insert 배치 한 번으로 쓰므로(BeforeCommitBatch) 이슈 변경과 함께 커밋되거나 함께 롤백된다.
+ * 읽기나 id 조회 없이 insert 만 하고, 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueEventLog {
+
+    private static final String INSERT_SQL = "INSERT INTO issue_event (project_id, issue_id, type, actor_id, title, " +
+            "description, reporter_id, assignee_id, fixer_id, priority, state, issue_created_date, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BeforeCommitBatch<List<IssueEvent>> batch = new BeforeCommitBatch<>(ArrayList::new, this::write);
+
+    // committed 는 이벤트가 커밋된 뒤에 불린다 (트랜잭션 밖이면 쓰고 바로)
+    public void append(IssueEvent event, Runnable committed) {
+        batch.add(events -> events.add(event), committed);
+    }
+
+    private void write(List<IssueEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (IssueEvent event : events) {
+            rows.add(new Object[]{
+                    event.getProjectId(), event.getIssueId(), event.getType().name(), event.getActorId(),
+                    event.getTitle(), event.getDescription(), event.getReporterId(), event.getAssigneeId(),
+                    event.getFixerId(), event.getPriority() != null ? event.getPriority().name() : null,
+                    event.getState() != null ? event.getState().name() : null,
+                    timestamp(event.getIssueCreatedDate()), timestamp(event.getOccurredAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        SqlStatistics.recordJdbcStatement(INSERT_SQL);
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
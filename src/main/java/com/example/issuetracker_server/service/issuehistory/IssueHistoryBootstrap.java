@@ -0,0 +1,28 @@
+package com.example.issuetracker_server.service.issuehistory;
+
+import com.example.issuetracker_server.domain.job.JobRepository;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.service.job.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 히스토리를 남기기 전부터 있던 이슈를 히스토리에 넣는 작업(IMPORT_ISSUE_HISTORY)을 데이터베이스마다 한 번 올린다.
+ * 그 뒤로 만든 이슈는 처음부터 이벤트가 있으므로 다시 할 일이 없다. 중단된 작업은 JobService 가 재시작 때 이어서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueHistoryBootstrap {
+
+    private final JobRepository jobRepository;
+
+    private final JobService jobService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void importIssuesOnce() {
+        if (!jobRepository.existsByType(JobType.IMPORT_ISSUE_HISTORY))
+            jobService.submit(JobType.IMPORT_ISSUE_HISTORY, "", "system");
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.issuetracker_server.service.issuehistory;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import com.example.issuetracker_server.dto.issue.IssueEventResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface IssueHistoryService {
+
+    // 저장한 뒤의 이슈 상태를 이벤트로 남긴다. 트랜잭션 안이면 커밋과 함께 쓰인다
+    void record(IssueEventType type, Issue issue, String actorId);
+
+    List<IssueEventResponseDto> getHistory(Long projectId, Long issueId);
+
+    // 가장 최근 스냅샷과 그 뒤 이벤트로 만든 프로젝트의 현재 이슈들 (id 순)
+    Map<Long, IssueHistoryState> replay(Long projectId);
+
+    // asOf 시점의 이슈들 (asOf 이전 스냅샷 중 가장 가까운 것에서 시작한다)
+    Map<Long, IssueHistoryState> replay(Long projectId, LocalDateTime asOf);
+
+    // IssueService.getIssues 와 같은 필터를 asOf 시점의 이슈에 적용한다. asOf 가 히스토리 시작 전이면 IllegalArgumentException
+    List<IssueResponseDto> getIssuesAsOf(Long projectId, LocalDateTime asOf, String filterBy, String filterValue);
+
+    // 오늘/이번 달 대신 asOf 의 날짜/달을 기준으로 센다. asOf 가 히스토리 시작 전이면 IllegalArgumentException
+    IssueStatisticResponseDto getStatisticAsOf(Long projectId, LocalDateTime asOf);
+
+    // 이벤트가 하나도 없는 이슈(히스토리를 남기기 전부터 있던 이슈)의 지금 행을 IMPORTED 이벤트로 남기고 그 수를 돌려준다
+    int importIssues(Long projectId);
+
+    // 새 이벤트가 있으면 스냅샷을 하나 더 쓰고 true
+    boolean snapshot(Long projectId);
+
+    // 히스토리가 있는 이슈 행을 히스토리대로 다시 쓰고 (지워진 이슈는 지우고) 바꾼 행 수를 돌려준다
+    int rebuildProjection(Long projectId);
+}
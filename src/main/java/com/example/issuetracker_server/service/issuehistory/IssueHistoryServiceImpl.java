@@ -0,0 +1,430 @@
+package com.example.issuetracker_server.service.issuehistory;
+
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEvent;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventRepository;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import com.example.issuetracker_server.domain.issuehistory.IssueSnapshot;
+import com.example.issuetracker_server.domain.issuehistory.IssueSnapshotRepository;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.dto.issue.IssueEventResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+public class IssueHistoryServiceImpl implements IssueHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueHistoryServiceImpl.class);
+
+    // id 는 insert 순서라 더 작은 id 가 나중에 커밋될 수 있다. 그만큼 지나지 않은 이벤트는 다음 스냅샷으로 미룬다
+    private static final Duration SNAPSHOT_SETTLE = Duration.ofSeconds(5);
+
+    private static final TypeReference<List<IssueHistoryState>> STATES = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final IssueEventLog issueEventLog;
+
+    private final IssueEventRepository issueEventRepository;
+
+    private final IssueSnapshotRepository issueSnapshotRepository;
+
+    private final IssueRepository issueRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final TaskExecutor jobExecutor;
+
+    private final IssueBitmapIndex issueBitmapIndex;
+
+    private final SavedFilterIndex savedFilterIndex;
+
+    private final int snapshotEvery;
+
+    // 마지막 스냅샷 이후 커밋된 이벤트 수 (재시작하면 0 부터 다시 센다)
+    private final ConcurrentMap<Long, AtomicInteger> unsnapshotted = new ConcurrentHashMap<>();
+
+    private final Set<Long> snapshotting = ConcurrentHashMap.newKeySet();
+
+    public IssueHistoryServiceImpl(IssueEventLog issueEventLog, IssueEventRepository issueEventRepository,
+                                   IssueSnapshotRepository issueSnapshotRepository, IssueRepository issueRepository,
+                                   MemberRepository memberRepository, CommentRepository commentRepository,
+                                   @Qualifier("jobExecutor") TaskExecutor jobExecutor, IssueBitmapIndex issueBitmapIndex,
+                                   SavedFilterIndex savedFilterIndex,
+                                   @Value("${issue.history.snapshot-every:500}") int snapshotEvery) {
+        this.issueEventLog = issueEventLog;
+        this.issueEventRepository = issueEventRepository;
+        this.issueSnapshotRepository = issueSnapshotRepository;
+        this.issueRepository = issueRepository;
+        this.memberRepository = memberRepository;
+        this.commentRepository = commentRepository;
+        this.jobExecutor = jobExecutor;
+        this.issueBitmapIndex = issueBitmapIndex;
+        this.savedFilterIndex = savedFilterIndex;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    @Override
+    public void record(IssueEventType type, Issue issue, String actorId) {
+        IssueEvent event = IssueEvent.builder()
+                .projectId(issue.getProject().getId())
+                .issueId(issue.getId())
+                .type(type)
+                .actorId(actorId)
+                .title(issue.getTitle())
+                .description(issue.getDescription())
+                .reporterId(memberId(issue.getReporter()))
+                .assigneeId(memberId(issue.getAssignee()))
+                .fixerId(memberId(issue.getFixer()))
+                .priority(issue.getPriority())
+                .state(issue.getState())
+                .issueCreatedDate(issue.getCreatedDate())
+                .occurredAt(LocalDateTime.now())
+                .build();
+        issueEventLog.append(event, () -> countTowardsSnapshot(event.getProjectId()));
+    }
+
+    // snapshotEvery 개마다 작업 스레드에서 스냅샷을 쓴다 (요청 스레드는 기다리지 않는다)
+    private void countTowardsSnapshot(Long projectId) {
+        if (snapshotEvery <= 0)
+            return;
+        AtomicInteger count = unsnapshotted.computeIfAbsent(projectId, id -> new AtomicInteger());
+        if (count.incrementAndGet() < snapshotEvery || !snapshotting.add(projectId))
+            return;
+        count.set(0);
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    snapshot(projectId);
+                } catch (RuntimeException e) {
+                    log.warn("Could not snapshot the issue history of project {}", projectId, e);
+                } finally {
+                    snapshotting.remove(projectId);
+                }
+            });
+        } catch (RuntimeException e) {
+            snapshotting.remove(projectId);
+            log.warn("Could not schedule a snapshot of project {}", projectId, e);
+        }
+    }
+
+    @Override
+    public List<IssueEventResponseDto> getHistory(Long projectId, Long issueId) {
+        return issueEventRepository.findByIssueIdOrderByIdAsc(issueId).stream()
+                .filter(event -> Objects.equals(event.getProjectId(), projectId))
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, IssueHistoryState> replay(Long projectId) {
+        return replay(projectId, new HashSet<>());
+    }
+
+    // deleted 에는 스냅샷 이후 지워진 이슈 id 를 모은다
+    private Map<Long, IssueHistoryState> replay(Long projectId, Set<Long> deleted) {
+        Optional<IssueSnapshot> snapshot = issueSnapshotRepository.findFirstByProjectIdOrderByLastEventIdDesc(projectId);
+        Map<Long, IssueHistoryState> issues = snapshot.map(this::readSnapshot).orElseGet(TreeMap::new);
+        long after = snapshot.map(IssueSnapshot::getLastEventId).orElse(0L);
+        for (IssueEvent event : issueEventRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, after)) {
+            apply(issues, event);
+            if (event.getType() == IssueEventType.DELETED)
+                deleted.add(event.getIssueId());
+            else
+                deleted.remove(event.getIssueId());
+        }
+        return issues;
+    }
+
+    @Override
+    public Map<Long, IssueHistoryState> replay(Long projectId, LocalDateTime asOf) {
+        Optional<IssueSnapshot> snapshot =
+                issueSnapshotRepository.findFirstByProjectIdAndLastEventAtLessThanEqualOrderByLastEventIdDesc(projectId, asOf);
+        Map<Long, IssueHistoryState> issues = snapshot.map(this::readSnapshot).orElseGet(TreeMap::new);
+        long after = snapshot.map(IssueSnapshot::getLastEventId).orElse(0L);
+
+        // 다음 스냅샷에 안 들어간 이벤트는 그 스냅샷의 lastEventAt 보다 늦다 (스냅샷 유예 시간 가정). 그래서 그 id 까지만 읽는다
+        Optional<IssueSnapshot> next =
+                issueSnapshotRepository.findFirstByProjectIdAndLastEventAtGreaterThanOrderByLastEventIdAsc(projectId, asOf);
+        List<IssueEvent> events = next.isPresent()
+                ? issueEventRepository.findByProjectIdAndIdBetweenAndOccurredAtLessThanEqualOrderByIdAsc(
+                projectId, after + 1, next.get().getLastEventId(), asOf)
+                : issueEventRepository.findByProjectIdAndIdGreaterThanAndOccurredAtLessThanEqualOrderByIdAsc(projectId, after, asOf);
+        for (IssueEvent event : events)
+            apply(issues, event);
+        return issues;
+    }
+
+    @Override
+    public List<IssueResponseDto> getIssuesAsOf(Long projectId, LocalDateTime asOf, String filterBy, String filterValue) {
+        Predicate<IssueHistoryState> filter = filter(filterBy, filterValue);
+        checkHistoryCovers(projectId, asOf);
+        return replay(projectId, asOf).values().stream()
+                .filter(filter)
+                .map(IssueHistoryServiceImpl::toIssueDto)
+                .collect(Collectors.toList());
+    }
+
+    // 히스토리 시작 전의 목록은 가져오기 전 이슈가 빠진 채로 나오므로 답하지 않는다 (이벤트가 없는 프로젝트는 이슈도 없다)
+    private void checkHistoryCovers(Long projectId, LocalDateTime asOf) {
+        LocalDateTime start = issueEventRepository.findHistoryStart(projectId);
+        if (start != null && asOf.isBefore(start))
+            throw new IllegalArgumentException("asOf is before the issue history of project " + projectId + " starts (" + start + ")");
+    }
+
+    private static Predicate<IssueHistoryState> filter(String filterBy, String filterValue) {
+        if ((filterBy == null || filterBy.isEmpty()) || (filterValue == null || filterValue.isEmpty()))
+            return state -> true;
+        String value = filterValue.toLowerCase();
+        switch (filterBy.toLowerCase()) {
+            case "title":
+                return state -> contains(state.title(), value);
+            case "reporter":
+                return state -> contains(state.reporterId(), value);
+            case "assignee":
+                return state -> contains(state.assigneeId(), value);
+            case "state":
+                State target = State.valueOf(filterValue);
+                return state -> state.state() == target;
+            default:
+                throw new IllegalArgumentException("Invalid filter criteria");
+        }
+    }
+
+    private static boolean contains(String field, String lowerCaseValue) {
+        return field != null && field.toLowerCase().contains(lowerCaseValue);
+    }
+
+    @Override
+    public IssueStatisticResponseDto getStatisticAsOf(Long projectId, LocalDateTime asOf) {
+        checkHistoryCovers(projectId, asOf);
+        Collection<IssueHistoryState> issues = replay(projectId, asOf).values();
+        LocalDate day = asOf.toLocalDate();
+
+        int dayIssues = (int) issues.stream()
+                .filter(issue -> issue.createdDate() != null && issue.createdDate().toLocalDate().equals(day))
+                .count();
+
+        int monthIssues = (int) issues.stream()
+                .filter(issue -> issue.createdDate() != null
+                        && YearMonth.from(issue.createdDate()).equals(YearMonth.from(day)))
+                .count();
+
+        int closedIssues = (int) issues.stream()
+                .filter(issue -> issue.state() == State.CLOSED)
+                .count();
+
+        return new IssueStatisticResponseDto(dayIssues, monthIssues, issues.size(), closedIssues);
+    }
+
+    // 지난 시점의 행 버전은 남아 있지 않으므로 version 은 비운다
+    private static IssueResponseDto toIssueDto(IssueHistoryState state) {
+        return IssueResponseDto.builder()
+                .id(state.id())
+                .project_id(state.projectId())
+                .title(state.title())
+                .description(state.description())
+                .reporter_id(state.reporterId())
+                .assignee_id(state.assigneeId())
+                .fixer_id(state.fixerId())
+                .priority(state.priority())
+                .state(state.state())
+                .created_date(state.createdDate() != null ? state.createdDate().toString() : null)
+                .modified_date(state.modifiedDate() != null ? state.modifiedDate().toString() : null)
+                .build();
+    }
+
+    private static void apply(Map<Long, IssueHistoryState> issues, IssueEvent event) {
+        if (event.getType() == IssueEventType.DELETED)
+            issues.remove(event.getIssueId());
+        else
+            issues.put(event.getIssueId(), IssueHistoryState.of(event));
+    }
+
+    @Override
+    public boolean snapshot(Long projectId) {
+        Long lastEventId = issueEventRepository.findLastEventId(projectId, LocalDateTime.now().minus(SNAPSHOT_SETTLE));
+        Optional<IssueSnapshot> previous = issueSnapshotRepository.findFirstByProjectIdOrderByLastEventIdDesc(projectId);
+        long after = previous.map(IssueSnapshot::getLastEventId).orElse(0L);
+        if (lastEventId == null || lastEventId <= after)
+            return false;
+
+        Map<Long, IssueHistoryState> issues = previous.map(this::readSnapshot).orElseGet(TreeMap::new);
+        LocalDateTime lastEventAt = previous.map(IssueSnapshot::getLastEventAt).orElse(null);
+        for (IssueEvent event : issueEventRepository.findByProjectIdAndIdBetweenOrderByIdAsc(projectId, after + 1, lastEventId)) {
+            apply(issues, event);
+            if (lastEventAt == null || event.getOccurredAt().isAfter(lastEventAt))
+                lastEventAt = event.getOccurredAt();
+        }
+        issueSnapshotRepository.save(IssueSnapshot.builder()
+                .projectId(projectId)
+                .lastEventId(lastEventId)
+                .lastEventAt(lastEventAt)
+                .issueCount(issues.size())
+                .payload(writeSnapshot(issues))
+                .build());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int importIssues(Long projectId) {
+        // 다시 실행하면 아직 이벤트가 없는 이슈만 가져온다
+        Set<Long> recorded = new HashSet<>(issueEventRepository.findIssueIds(projectId));
+        int imported = 0;
+        for (Issue issue : issueRepository.findByProjectId(projectId)) {
+            if (recorded.contains(issue.getId()))
+                continue;
+            record(IssueEventType.IMPORTED, issue, null);
+            imported++;
+        }
+        return imported;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildProjection(Long projectId) {
+        Set<Long> deleted = new HashSet<>();
+        Map<Long, IssueHistoryState> issues = replay(projectId, deleted);
+        int changed = 0;
+
+        // 벌크 삭제가 영속성 컨텍스트를 비우므로 삭제를 먼저 한다
+        for (Long issueId : deleted) {
+            Optional<Issue> issue = issueRepository.findById(issueId);
+            if (issue.isEmpty() || !Objects.equals(issue.get().getProject().getId(), projectId))
+                continue;
+            commentRepository.deleteAllByIssueIdInBatch(issueId);
+            issueRepository.deleteAllByIdInBatch(List.of(issueId));
+            changed++;
+        }
+
+        for (IssueHistoryState state : issues.values()) {
+            Optional<Issue> row = issueRepository.findById(state.id());
+            if (row.isEmpty() || !Objects.equals(row.get().getProject().getId(), projectId)) {
+                // IDENTITY id 로는 같은 id 의 행을 다시 만들 수 없다
+                log.warn("Issue {} of project {} is in the history but has no row", state.id(), projectId);
+                continue;
+            }
+            if (project(row.get(), state)) {
+                issueRepository.save(row.get());
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            issueBitmapIndex.invalidate(projectId);
+            savedFilterIndex.invalidate(projectId);
+        }
+        return changed;
+    }
+
+    // 히스토리와 다른 필드를 고치고 바뀐 게 있으면 true
+    private boolean project(Issue issue, IssueHistoryState state) {
+        boolean changed = false;
+        if (!Objects.equals(issue.getTitle(), state.title())) {
+            issue.setTitle(state.title());
+            changed = true;
+        }
+        if (!Objects.equals(issue.getDescription(), state.description())) {
+            issue.setDescription(state.description());
+            changed = true;
+        }
+        if (!Objects.equals(memberId(issue.getReporter()), state.reporterId())) {
+            issue.setReporter(member(state.reporterId()));
+            changed = true;
+        }
+        if (!Objects.equals(memberId(issue.getAssignee()), state.assigneeId())) {
+            issue.setAssignee(member(state.assigneeId()));
+            changed = true;
+        }
+        if (!Objects.equals(memberId(issue.getFixer()), state.fixerId())) {
+            issue.setFixer(member(state.fixerId()));
+            changed = true;
+        }
+        if (issue.getPriority() != state.priority()) {
+            issue.setPriority(state.priority());
+            changed = true;
+        }
+        if (issue.getState() != state.state()) {
+            issue.setState(state.state());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private Member member(String memberId) {
+        return memberId != null ? memberRepository.getReferenceById(memberId) : null;
+    }
+
+    private static String memberId(Member member) {
+        return member != null ? member.getId() : null;
+    }
+
+    private Map<Long, IssueHistoryState> readSnapshot(IssueSnapshot snapshot) {
+        try {
+            Map<Long, IssueHistoryState> issues = new TreeMap<>();
+            for (IssueHistoryState state : objectMapper.readValue(snapshot.getPayload(), STATES))
+                issues.put(state.id(), state);
+            return issues;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable issue snapshot " + snapshot.getId(), e);
+        }
+    }
+
+    private String writeSnapshot(Map<Long, IssueHistoryState> issues) {
+        try {
+            return objectMapper.writeValueAsString(issues.values());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write issue snapshot", e);
+        }
+    }
+
+    private IssueEventResponseDto toDto(IssueEvent event) {
+        return IssueEventResponseDto.builder()
+                .event_id(event.getId())
+                .issue_id(event.getIssueId())
+                .type(event.getType())
+                .actor_id(event.getActorId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .reporter_id(event.getReporterId())
+                .assignee_id(event.getAssigneeId())
+                .fixer_id(event.getFixerId())
+                .priority(event.getPriority())
+                .state(event.getState())
+                .occurred_at(event.getOccurredAt() != null ? event.getOccurredAt().toString() : null)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.issuetracker_server.service.issuehistory;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히스토리를 재생해서 얻은 한 시점의 이슈. 스냅샷에도 이 모양 그대로 JSON 으로 남는다.
+ */
+public record IssueHistoryState(Long id, Long projectId, String title, String description, String reporterId,
+                                String assigneeId, String fixerId, Priority priority, State state,
+                                LocalDateTime createdDate, LocalDateTime modifiedDate) {
+
+    // 이벤트가 변경 후 전체 필드를 들고 있으므로 이전 상태 없이 만든다
+    public static IssueHistoryState of(IssueEvent event) {
+        return new IssueHistoryState(event.getIssueId(), event.getProjectId(), event.getTitle(), event.getDescription(),
+                event.getReporterId(), event.getAssigneeId(), event.getFixerId(), event.getPriority(), event.getState(),
+                event.getIssueCreatedDate(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.issuetracker_server.service.issueindex;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로젝트별 이슈 비트맵 색인. 상태/우선순위 값마다, 담당자/작성자마다 이슈 id 를 담은 RoaringBitmap 을 하나씩 둔다.
+ * 조건 조합은 비트맵 OR/AND 로, 개수는 교집합 크기로 구하므로 프로젝트의 이슈 수만큼 행을 읽지 않는다.
+ * 프로젝트를 처음 조회할 때 색인 열만 읽어서 만들고, 그 뒤로는 IssueServiceImpl 의 쓰기를 커밋 뒤에 반영한다.
+ * 커밋 뒤 콜백은 커밋 순서와 다르게 돌 수 있으므로 이슈별로 반영한 버전(@Version)을 두고 그보다 오래된 쓰기는 버린다.
+ * 이슈 id 는 int 범위여야 한다.
+ */
+@Component
+public class IssueBitmapIndex {
+
+    // 지운 이슈의 버전. 늦게 도착한 쓰기가 지운 이슈를 되살리지 않게 한다
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final IssueRepository issueRepository;
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+
+    public IssueBitmapIndex(IssueRepository issueRepository, @Value("${issue.index.enabled:true}") boolean enabled) {
+        this.issueRepository = issueRepository;
+        this.enabled = enabled;
+    }
+
+    // 조건에 맞는 이슈 id (오름차순). 색인을 끈 경우 empty
+    public Optional<List<Long>> findIds(Long projectId, IssueIndexFilter filter) {
+        if (!enabled)
+            return Optional.empty();
+        ProjectIndex index = load(projectId);
+        index.lock.readLock().lock();
+        try {
+            RoaringBitmap matches = index.match(filter);
+            List<Long> ids = new ArrayList<>(matches.getCardinality());
+            matches.forEach((int id) -> ids.add((long) id));
+            return Optional.of(ids);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 이슈의 상태/우선순위/담당자별 수. 색인을 끈 경우 empty
+    public Optional<Facets> facets(Long projectId, IssueIndexFilter filter) {
+        if (!enabled)
+            return Optional.empty();
+        ProjectIndex index = load(projectId);
+        index.lock.readLock().lock();
+        try {
+            RoaringBitmap matches = index.match(filter);
+            long[] byState = new long[State.values().length];
+            index.states.forEach((state, bitmap) -> byState[state.ordinal()] = RoaringBitmap.andCardinality(matches, bitmap));
+            long[] byPriority = new long[Priority.values().length];
+            index.priorities.forEach((priority, bitmap) -> byPriority[priority.ordinal()] = RoaringBitmap.andCardinality(matches, bitmap));
+            Map<String, Long> byAssignee = new HashMap<>();
+            long assigned = 0;
+            for (Map.Entry<String, RoaringBitmap> entry : index.assignees.entrySet()) {
+                long count = RoaringBitmap.andCardinality(matches, entry.getValue());
+                if (count > 0) {
+                    byAssignee.put(entry.getKey(), count);
+                    assigned += count;
+                }
+            }
+            long total = matches.getLongCardinality();
+            return Optional.of(new Facets(total, byState, byPriority, byAssignee, total - assigned));
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    // 이슈의 커밋된 값으로 색인을 고친다 (트랜잭션 안이면 커밋된 뒤에, 그때의 값과 버전을 읽는다)
+    public void record(Issue issue) {
+        Long projectId = issue.getProject().getId();
+        int id = Math.toIntExact(issue.getId());
+        afterCommit(() -> apply(projectId, id, versionOf(issue.getVersion()), new Entry(issue.getState(),
+                issue.getPriority(), memberId(issue.getAssignee()), memberId(issue.getReporter()))));
+    }
+
+    public void remove(Long projectId, Long issueId) {
+        int id = Math.toIntExact(issueId);
+        afterCommit(() -> apply(projectId, id, DELETED, null));
+    }
+
+    // 벌크 쓰기(프로젝트 삭제, 히스토리로 재구성) 뒤에는 버리고 다음 조회 때 다시 만든다
+    public void invalidate(Long projectId) {
+        afterCommit(() -> projects.remove(projectId));
+    }
+
+    private ProjectIndex load(Long projectId) {
+        ProjectIndex index = projects.computeIfAbsent(projectId, key -> new ProjectIndex());
+        if (index.loaded)
+            return index;
+        index.lock.writeLock().lock();
+        try {
+            if (!index.loaded) {
+                for (IssueRepository.IndexEntry row : issueRepository.findIndexEntriesByProjectId(projectId)) {
+                    int id = Math.toIntExact(row.getId());
+                    index.put(id, new Entry(row.getState(), row.getPriority(), row.getAssigneeId(), row.getReporterId()));
+                    index.versions.put(id, versionOf(row.getVersion()));
+                }
+                index.optimize();
+                index.loaded = true;
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+        return index;
+    }
+
+    // 아직 만들지 않은 프로젝트는 건너뛴다 (나중에 만들 때 커밋된 값을 읽는다)
+    private void apply(Long projectId, int id, long version, Entry entry) {
+        ProjectIndex index = projects.get(projectId);
+        if (index == null)
+            return;
+        index.lock.writeLock().lock();
+        try {
+            if (!index.loaded)
+                return;
+            Long applied = index.versions.get(id);
+            if (applied != null && version < applied)
+                return;
+            index.versions.put(id, version);
+            index.remove(id);
+            if (entry != null)
+                index.put(id, entry);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+
+    private static String memberId(Member member) {
+        return member != null ? member.getId() : null;
+    }
+
+    // byState/byPriority 는 ordinal 순
+    public record Facets(long total, long[] byState, long[] byPriority, Map<String, Long> byAssignee, long unassigned) {
+    }
+
+    private record Entry(State state, Priority priority, String assigneeId, String reporterId) {
+    }
+
+    private static final class ProjectIndex {
+
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        volatile boolean loaded;
+
+        final RoaringBitmap all = new RoaringBitmap();
+
+        final Map<State, RoaringBitmap> states = new EnumMap<>(State.class);
+
+        final Map<Priority, RoaringBitmap> priorities = new EnumMap<>(Priority.class);
+
+        final Map<String, RoaringBitmap> assignees = new HashMap<>();
+
+        final Map<String, RoaringBitmap> reporters = new HashMap<>();
+
+        // 이슈 id 별로 반영한 버전
+        final Map<Integer, Long> versions = new HashMap<>();
+
+        void put(int id, Entry entry) {
+            all.add(id);
+            states.computeIfAbsent(entry.state(), key -> new RoaringBitmap()).add(id);
+            if (entry.priority() != null)
+                priorities.computeIfAbsent(entry.priority(), key -> new RoaringBitmap()).add(id);
+            if (entry.assigneeId() != null)
+                assignees.computeIfAbsent(entry.assigneeId(), key -> new RoaringBitmap()).add(id);
+            if (entry.reporterId() != null)
+                reporters.computeIfAbsent(entry.reporterId(), key -> new RoaringBitmap()).add(id);
+        }
+
+        // 이전 값을 따로 들고 있지 않으므로 모든 비트맵에서 뺀다 (값 종류 수만큼만 돈다)
+        void remove(int id) {
+            if (!all.checkedRemove(id))
+                return;
+            removeFrom(states.values(), id);
+            removeFrom(priorities.values(), id);
+            removeFrom(assignees.values(), id);
+            removeFrom(reporters.values(), id);
+        }
+
+        // 새로 만든 뒤 연속 구간은 run 으로 압축한다
+        void optimize() {
+            all.runOptimize();
+            states.values().forEach(RoaringBitmap::runOptimize);
+            priorities.values().forEach(RoaringBitmap::runOptimize);
+            assignees.values().forEach(RoaringBitmap::runOptimize);
+            reporters.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        // 읽기 잠금 안에서 부른다. 결과는 새 비트맵이다
+        RoaringBitmap match(IssueIndexFilter filter) {
+            RoaringBitmap result = all;
+            if (filter.states() != null)
+                result = RoaringBitmap.and(result, union(filter.states().stream().map(states::get).toList()));
+            if (filter.priorities() != null)
+                result = RoaringBitmap.and(result, union(filter.priorities().stream().map(priorities::get).toList()));
+            if (filter.assignee() != null)
+                result = RoaringBitmap.and(result, union(containing(assignees, filter.assignee())));
+            if (filter.reporter() != null)
+                result = RoaringBitmap.and(result, union(containing(reporters, filter.reporter())));
+            return result == all ? all.clone() : result;
+        }
+
+        private static void removeFrom(Collection<RoaringBitmap> bitmaps, int id) {
+            Iterator<RoaringBitmap> iterator = bitmaps.iterator();
+            while (iterator.hasNext()) {
+                RoaringBitmap bitmap = iterator.next();
+                if (bitmap.checkedRemove(id) && bitmap.isEmpty())
+                    iterator.remove();
+            }
+        }
+
+        private static RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+            return RoaringBitmap.or(bitmaps.stream().filter(Objects::nonNull).iterator());
+        }
+
+        // 목록 필터(ContainingIgnoreCase)와 같이 id 에 대소문자 없이 포함되는 키
+        private static List<RoaringBitmap> containing(Map<String, RoaringBitmap> bitmaps, String part) {
+            String lower = part.toLowerCase(Locale.ROOT);
+            List<RoaringBitmap> matches = new ArrayList<>();
+            bitmaps.forEach((key, bitmap) -> {
+                if (key.toLowerCase(Locale.ROOT).contains(lower))
+                    matches.add(bitmap);
+            });
+            return matches;
+        }
+    }
+}
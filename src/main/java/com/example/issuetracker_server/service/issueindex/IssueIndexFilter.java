@@ -0,0 +1,27 @@
+package com.example.issuetracker_server.service.issueindex;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+
+import java.util.Set;
+
+/**
+ * 비트맵 색인으로 풀 수 있는 조건. 모든 조건을 AND 로 묶고, null 인 조건은 건너뛴다.
+ * states/priorities 는 그 중 하나, assignee/reporter 는 목록 필터처럼 대소문자 없이 id 에 포함되면 맞는다.
+ */
+public record IssueIndexFilter(Set<State> states, Set<Priority> priorities, String assignee, String reporter) {
+
+    public static final IssueIndexFilter ALL = new IssueIndexFilter(null, null, null, null);
+
+    public static IssueIndexFilter state(State state) {
+        return new IssueIndexFilter(Set.of(state), null, null, null);
+    }
+
+    public static IssueIndexFilter assignee(String assignee) {
+        return new IssueIndexFilter(null, null, assignee, null);
+    }
+
+    public static IssueIndexFilter reporter(String reporter) {
+        return new IssueIndexFilter(null, null, null, reporter);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.issuetracker_server.service.issuequery;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이슈 검색식 파서. 공백으로 나눈 항을 모두 AND 로 묶는다.
+ * <pre>
+ * state:ASSIGNED,REOPEN  priority>=MAJOR  assignee:me  assignee:none  created>2026-01-01  text:"login crash"  crash
+ * </pre>
+ * 항목 없이 쓴 말은 text: 로 본다. 잘못된 식은 IllegalArgumentException.
+ */
+public final class IssueQueryParser {
+
+    // 한 식에 넣을 수 있는 항 수
+    static final int MAX_TERMS = 32;
+
+    // 담당자/수정자가 없는 이슈
+    static final String NONE = "none";
+
+    // 담당자/작성자/수정자 값으로 쓰면 요청한 회원 id 로 바꾼다
+    static final String ME = "me";
+
+    private IssueQueryParser() {
+    }
+
+    public static List<IssueQueryTerm> parse(String query) {
+        return parse(query, null);
+    }
+
+    // 항을 정규형으로 만들어 정렬하고 중복을 뺀다. me 가 null 이면 me 도 그냥 문자열이다
+    public static List<IssueQueryTerm> parse(String query, String me) {
+        if (query == null || query.isBlank())
+            throw new IllegalArgumentException("Empty query");
+        SortedSet<IssueQueryTerm> terms = new TreeSet<>();
+        int position = 0;
+        while (true) {
+            while (position < query.length() && Character.isWhitespace(query.charAt(position)))
+                position++;
+            if (position == query.length())
+                break;
+
+            int nameEnd = position;
+            while (nameEnd < query.length() && Character.isLetter(query.charAt(nameEnd)))
+                nameEnd++;
+            IssueQueryTerm.Operator operator = nameEnd > position ? operatorAt(query, nameEnd) : null;
+            String name;
+            if (operator != null) {
+                name = query.substring(position, nameEnd);
+                position = nameEnd + operator.symbol.length();
+            } else {
+                name = "text";
+                operator = IssueQueryTerm.Operator.EQ;
+            }
+
+            int valueEnd = valueEnd(query, position);
+            boolean quoted = position < valueEnd && query.charAt(position) == '"';
+            String value = quoted ? query.substring(position + 1, valueEnd - 1) : query.substring(position, valueEnd);
+            position = valueEnd;
+
+            terms.add(term(name, operator, value.trim(), me));
+            if (terms.size() > MAX_TERMS)
+                throw new IllegalArgumentException("Too many terms (max " + MAX_TERMS + ")");
+        }
+        return List.copyOf(terms);
+    }
+
+    // 캐시 키. 같은 뜻의 식은 (항 순서, 대소문자, = 와 : 가 달라도) 같은 문자열이 된다
+    public static String normalize(List<IssueQueryTerm> terms) {
+        return terms.stream().map(IssueQueryTerm::toString).collect(Collectors.joining(" "));
+    }
+
+    private static IssueQueryTerm.Operator operatorAt(String query, int index) {
+        if (index >= query.length())
+            return null;
+        char first = query.charAt(index);
+        boolean equals = index + 1 < query.length() && query.charAt(index + 1) == '=';
+        return switch (first) {
+            case ':', '=' -> IssueQueryTerm.Operator.EQ;
+            case '>' -> equals ? IssueQueryTerm.Operator.GE : IssueQueryTerm.Operator.GT;
+            case '<' -> equals ? IssueQueryTerm.Operator.LE : IssueQueryTerm.Operator.LT;
+            default -> null;
+        };
+    }
+
+    // 따옴표로 시작하면 닫는 따옴표 다음, 아니면 다음 공백
+    private static int valueEnd(String query, int start) {
+        if (start < query.length() && query.charAt(start) == '"') {
+            int close = query.indexOf('"', start + 1);
+            if (close < 0)
+                throw new IllegalArgumentException("Unterminated quote at " + start);
+            return close + 1;
+        }
+        int end = start;
+        while (end < query.length() && !Character.isWhitespace(query.charAt(end)))
+            end++;
+        return end;
+    }
+
+    private static IssueQueryTerm term(String name, IssueQueryTerm.Operator operator, String value, String me) {
+        IssueQueryTerm.Field field;
+        try {
+            field = IssueQueryTerm.Field.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
+        if (operator != IssueQueryTerm.Operator.EQ && !field.ordered())
+            throw new IllegalArgumentException(name + " does not support " + operator.symbol);
+        if (value.isEmpty())
+            throw new IllegalArgumentException("Empty value for " + name);
+
+        String canonical = switch (field) {
+            case STATE -> values(value, State::valueOf);
+            case PRIORITY -> operator == IssueQueryTerm.Operator.EQ
+                    ? values(value, Priority::valueOf)
+                    : enumValue(value, Priority::valueOf).name();
+            case CREATED, MODIFIED -> date(value).toString();
+            case ASSIGNEE, REPORTER, FIXER -> (me != null && ME.equalsIgnoreCase(value) ? me : value).toLowerCase(Locale.ROOT);
+            default -> value.toLowerCase(Locale.ROOT);
+        };
+        return new IssueQueryTerm(field, operator, canonical);
+    }
+
+    // 쉼표로 나눈 enum 값 (그 중 하나), ordinal 순
+    private static <E extends Enum<E>> String values(String value, Function<String, E> parser) {
+        return Arrays.stream(value.split(","))
+                .map(part -> enumValue(part, parser))
+                .distinct()
+                .sorted()
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+    }
+
+    private static <E extends Enum<E>> E enumValue(String value, Function<String, E> parser) {
+        try {
+            return parser.apply(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown value: " + value);
+        }
+    }
+
+    static LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date (yyyy-MM-dd): " + value);
+        }
+    }
+}
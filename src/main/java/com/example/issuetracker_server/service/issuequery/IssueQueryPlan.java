@@ -0,0 +1,11 @@
+package com.example.issuetracker_server.service.issuequery;
+
+import com.example.issuetracker_server.domain.issue.IssueQuery;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+
+/**
+ * 검색식 하나의 실행 계획. 조건이 모두 비트맵 색인에 있는 항목(상태, 우선순위, 담당자/작성자 하나씩)이면 indexFilter 가 있고,
+ * 아니면 null 이라 query 의 JPQL 로 조회한다.
+ */
+public record IssueQueryPlan(IssueQuery query, IssueIndexFilter indexFilter) {
+}
@@ -0,0 +1,164 @@
+package com.example.issuetracker_server.service.issuequery;
+
+import com.example.issuetracker_server.domain.issue.IssueCondition;
+import com.example.issuetracker_server.domain.issue.IssueQuery;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 검색식(q=)을 파싱해 정규화한 문자열마다 계획을 한 번만 만들어 둔다 (최근에 쓴 순으로 plan-cache-size 개).
+ * 같은 항목의 항은 하나로 합친다: 상태/우선순위는 교집합, 날짜는 가장 좁은 구간.
+ */
+@Component
+public class IssueQueryPlanner {
+
+    private final Map<String, IssueQueryPlan> plans;
+
+    public IssueQueryPlanner(@Value("${issue.query.plan-cache-size:256}") int cacheSize) {
+        this.plans = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IssueQueryPlan> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public IssueQueryPlan plan(String query) {
+        return plan(query, null);
+    }
+
+    // me 는 memberId 로 바꾼 뒤 정규화하므로 회원마다 다른 계획이 된다. 잘못된 식은 IllegalArgumentException
+    public IssueQueryPlan plan(String query, String memberId) {
+        List<IssueQueryTerm> terms = IssueQueryParser.parse(query, memberId);
+        return plans.computeIfAbsent(IssueQueryParser.normalize(terms), normalized -> compile(normalized, terms));
+    }
+
+    private static IssueQueryPlan compile(String normalized, List<IssueQueryTerm> terms) {
+        Set<State> states = null;
+        Set<Priority> priorities = null;
+        List<IssueCondition> members = new ArrayList<>();
+        List<IssueCondition> texts = new ArrayList<>();
+        Map<IssueCondition.DateField, LocalDateTime[]> ranges = new EnumMap<>(IssueCondition.DateField.class);
+
+        for (IssueQueryTerm term : terms) {
+            switch (term.field()) {
+                case STATE -> states = intersect(states, enumSet(State.class, term.value()));
+                case PRIORITY -> priorities = intersect(priorities, priorities(term));
+                case ASSIGNEE -> members.add(member(IssueCondition.MemberField.ASSIGNEE, term.value(), true));
+                case FIXER -> members.add(member(IssueCondition.MemberField.FIXER, term.value(), true));
+                case REPORTER -> members.add(member(IssueCondition.MemberField.REPORTER, term.value(), false));
+                case TITLE -> texts.add(new IssueCondition.TextContains(false, term.value()));
+                case TEXT -> texts.add(new IssueCondition.TextContains(true, term.value()));
+                case CREATED -> narrow(ranges.computeIfAbsent(IssueCondition.DateField.CREATED, key -> new LocalDateTime[2]), term);
+                case MODIFIED -> narrow(ranges.computeIfAbsent(IssueCondition.DateField.MODIFIED, key -> new LocalDateTime[2]), term);
+            }
+        }
+
+        List<IssueCondition> conditions = new ArrayList<>();
+        if (states != null)
+            conditions.add(new IssueCondition.StateIn(Collections.unmodifiableSet(states)));
+        if (priorities != null)
+            conditions.add(new IssueCondition.PriorityIn(Collections.unmodifiableSet(priorities)));
+        conditions.addAll(members);
+        conditions.addAll(texts);
+        ranges.forEach((field, range) -> conditions.add(new IssueCondition.DateRange(field, range[0], range[1])));
+
+        IssueQuery query = IssueQuery.compile(normalized, conditions);
+        return new IssueQueryPlan(query, indexFilter(conditions));
+    }
+
+    // 비트맵 색인으로 풀 수 있으면 그 필터, 아니면 null
+    private static IssueIndexFilter indexFilter(List<IssueCondition> conditions) {
+        Set<State> states = null;
+        Set<Priority> priorities = null;
+        String assignee = null, reporter = null;
+        for (IssueCondition condition : conditions) {
+            if (condition instanceof IssueCondition.StateIn stateIn) {
+                states = stateIn.states();
+            } else if (condition instanceof IssueCondition.PriorityIn priorityIn) {
+                priorities = priorityIn.priorities();
+            } else if (condition instanceof IssueCondition.MemberContains member && member.part() != null) {
+                if (member.field() == IssueCondition.MemberField.ASSIGNEE && assignee == null)
+                    assignee = member.part();
+                else if (member.field() == IssueCondition.MemberField.REPORTER && reporter == null)
+                    reporter = member.part();
+                else
+                    return null;
+            } else {
+                return null;
+            }
+        }
+        return new IssueIndexFilter(states, priorities, assignee, reporter);
+    }
+
+    private static IssueCondition member(IssueCondition.MemberField field, String value, boolean nullable) {
+        return new IssueCondition.MemberContains(field, nullable && IssueQueryParser.NONE.equals(value) ? null : value);
+    }
+
+    // priority:A,B 는 그 중 하나, priority>=MAJOR 는 MAJOR 보다 급하거나 같은 것 (Priority.toValue 기준)
+    private static Set<Priority> priorities(IssueQueryTerm term) {
+        if (term.operator() == IssueQueryTerm.Operator.EQ)
+            return enumSet(Priority.class, term.value());
+        int bound = Priority.toValue(Priority.valueOf(term.value()));
+        Set<Priority> matches = EnumSet.noneOf(Priority.class);
+        for (Priority priority : Priority.values()) {
+            int value = Priority.toValue(priority);
+            boolean match = switch (term.operator()) {
+                case GT -> value > bound;
+                case GE -> value >= bound;
+                case LT -> value < bound;
+                case LE -> value <= bound;
+                case EQ -> value == bound;
+            };
+            if (match)
+                matches.add(priority);
+        }
+        return matches;
+    }
+
+    // 날짜는 그 날 하루 전체: created>D 는 D 다음 날 0시부터, created<=D 는 D 다음 날 0시 전까지
+    private static void narrow(LocalDateTime[] range, IssueQueryTerm term) {
+        LocalDate date = IssueQueryParser.date(term.value());
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime next = date.plusDays(1).atStartOfDay();
+        switch (term.operator()) {
+            case GT -> range[0] = later(range[0], next);
+            case GE -> range[0] = later(range[0], start);
+            case LT -> range[1] = earlier(range[1], start);
+            case LE -> range[1] = earlier(range[1], next);
+            case EQ -> {
+                range[0] = later(range[0], start);
+                range[1] = earlier(range[1], next);
+            }
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime value) {
+        return current == null || value.isAfter(current) ? value : current;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime current, LocalDateTime value) {
+        return current == null || value.isBefore(current) ? value : current;
+    }
+
+    private static <E extends Enum<E>> Set<E> enumSet(Class<E> type, String values) {
+        Set<E> set = EnumSet.noneOf(type);
+        for (String value : values.split(","))
+            set.add(Enum.valueOf(type, value));
+        return set;
+    }
+
+    private static <E extends Enum<E>> Set<E> intersect(Set<E> current, Set<E> values) {
+        if (current == null)
+            return values;
+        current.retainAll(values);
+        return current;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.issuetracker_server.service.issuequery;
+
+/**
+ * 검색식의 항 하나 (field, 연산자, 값). 파서가 값을 정규형으로 바꿔서 만든다:
+ * 상태/우선순위는 대문자로 정렬해 쉼표로 잇고, 담당자/작성자/글은 소문자, 날짜는 yyyy-MM-dd.
+ */
+public record IssueQueryTerm(Field field, Operator operator, String value) implements Comparable<IssueQueryTerm> {
+
+    public enum Field {
+        STATE, PRIORITY, ASSIGNEE, REPORTER, FIXER, TITLE, TEXT, CREATED, MODIFIED;
+
+        // 크기 비교(>, >=, <, <=)를 쓸 수 있는 항목
+        boolean ordered() {
+            return this == PRIORITY || this == CREATED || this == MODIFIED;
+        }
+    }
+
+    public enum Operator {
+        EQ(":"), GT(">"), GE(">="), LT("<"), LE("<=");
+
+        final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    @Override
+    public int compareTo(IssueQueryTerm other) {
+        int order = field.compareTo(other.field);
+        if (order == 0)
+            order = operator.compareTo(other.operator);
+        return order != 0 ? order : value.compareTo(other.value);
+    }
+
+    // 공백이나 따옴표 없이는 다시 읽을 수 없는 값만 따옴표로 감싼다
+    @Override
+    public String toString() {
+        String text = value.chars().anyMatch(Character::isWhitespace) ? '"' + value + '"' : value;
+        return field.name().toLowerCase() + operator.symbol + text;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.issuetracker_server.service.jfr;
+
+import com.example.issuetracker_server.dto.jfr.RecordingStatusDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface FlightRecordingService {
+
+    // 이미 기록 중이면 empty
+    Optional<RecordingStatusDto> start(String settings) throws IOException;
+
+    Optional<RecordingStatusDto> getStatus();
+
+    // 기록을 멈추지 않고 지금까지의 내용을 파일로 남긴다. 기록 중이 아니면 empty
+    Optional<Path> dump() throws IOException;
+
+    // 기록을 멈추고 파일로 남긴다. 기록 중이 아니면 empty
+    Optional<Path> stop() throws IOException;
+}
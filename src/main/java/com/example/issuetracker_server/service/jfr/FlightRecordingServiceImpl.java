@@ -0,0 +1,113 @@
+package com.example.issuetracker_server.service.jfr;
+
+import com.example.issuetracker_server.dto.jfr.RecordingStatusDto;
+import com.example.issuetracker_server.monitoring.jfr.ServiceCallEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * /admin/jfr 에서 쓰는 JFR recording 하나를 관리한다.
+ * 메모리가 아니라 디스크에 기록하며 maxAge/maxSize 를 넘는 오래된 구간은 버린다.
+ */
+@Service
+public class FlightRecordingServiceImpl implements FlightRecordingService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+
+    private final Duration maxAge;
+
+    private final long maxSizeBytes;
+
+    private Recording recording;
+
+    private String settings;
+
+    public FlightRecordingServiceImpl(@Value("${jfr.dump.dir:logs/jfr}") String dumpDirectory,
+                                      @Value("${jfr.max-age-minutes:30}") long maxAgeMinutes,
+                                      @Value("${jfr.max-size-mb:256}") long maxSizeMb) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @Override
+    public synchronized Optional<RecordingStatusDto> start(String settings) throws IOException {
+        if (recording != null)
+            return Optional.empty();
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (ParseException e) {
+            throw new IOException("Invalid JFR settings: " + settings, e);
+        }
+        Recording started = new Recording(configuration);
+        started.setName("issue-tracker-" + LocalDateTime.now().format(FILE_TIME));
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSizeBytes);
+        // 서비스 호출 이벤트는 짧은 호출도 모두 남긴다
+        started.enable(ServiceCallEvent.class).withoutThreshold();
+        started.start();
+        this.recording = started;
+        this.settings = settings;
+        return getStatus();
+    }
+
+    @Override
+    public synchronized Optional<RecordingStatusDto> getStatus() {
+        if (recording == null)
+            return Optional.empty();
+        return Optional.of(RecordingStatusDto.builder()
+                .recording_id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(settings)
+                .started_at(recording.getStartTime() != null ? recording.getStartTime().toString() : null)
+                .size_bytes(recording.getSize())
+                .build());
+    }
+
+    @Override
+    public synchronized Optional<Path> dump() throws IOException {
+        if (recording == null)
+            return Optional.empty();
+        Path file = newDumpFile();
+        recording.dump(file);
+        return Optional.of(file);
+    }
+
+    @Override
+    public synchronized Optional<Path> stop() throws IOException {
+        if (recording == null)
+            return Optional.empty();
+        Path file = newDumpFile();
+        try {
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+        return Optional.of(file);
+    }
+
+    private Path newDumpFile() throws IOException {
+        Files.createDirectories(dumpDirectory);
+        return dumpDirectory.resolve(recording.getName() + "-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.service.project.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntConsumer;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteProjectJobHandler implements JobHandler {
+
+    private final ProjectService projectService;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_PROJECT;
+    }
+
+    @Override
+    public void run(Job job, IntConsumer progress) {
+        // 벌크 삭제라 이미 지워진 프로젝트에 다시 실행해도 안전하다
+        projectService.delete(Long.valueOf(job.getPayload()));
+        progress.accept(100);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+@Component
+@RequiredArgsConstructor
+public class ImportIssueHistoryJobHandler implements JobHandler {
+
+    private final ProjectRepository projectRepository;
+
+    private final IssueHistoryService issueHistoryService;
+
+    @Override
+    public JobType getType() {
+        return JobType.IMPORT_ISSUE_HISTORY;
+    }
+
+    @Override
+    public void run(Job job, IntConsumer progress) {
+        // 이벤트가 없는 이슈만 가져오므로 중간에 끊겨 다시 실행해도 된다 (프로젝트마다 한 트랜잭션)
+        List<Long> projectIds = projectRepository.findAll().stream().map(Project::getId).toList();
+        for (int i = 0; i < projectIds.size(); i++) {
+            issueHistoryService.importIssues(projectIds.get(i));
+            progress.accept((i + 1) * 100 / projectIds.size());
+        }
+    }
+}
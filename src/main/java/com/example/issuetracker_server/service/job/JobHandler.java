@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobType;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 백그라운드 작업 한 종류의 실제 처리.
+ * 서버 재시작 후 중단된 작업이 처음부터 다시 실행될 수 있으므로 멱등이어야 한다.
+ */
+public interface JobHandler {
+
+    JobType getType();
+
+    // progress 에는 0 ~ 100 사이 진행률을 전달한다
+    void run(Job job, IntConsumer progress);
+}
@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.dto.job.JobResponseDto;
+
+import java.util.Optional;
+
+public interface JobService {
+
+    // 작업을 QUEUED 상태로 저장하고 워커 풀에 넘긴 뒤 바로 작업 id 를 반환한다
+    Long submit(JobType type, String payload, String requesterId);
+
+    Optional<JobResponseDto> getJob(Long jobId);
+
+    void run(Long jobId);
+
+    void resumeUnfinishedJobs();
+}
@@ -0,0 +1,136 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobRepository;
+import com.example.issuetracker_server.domain.job.JobState;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.dto.job.JobResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class JobServiceImpl implements JobService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobServiceImpl.class);
+
+    private final JobRepository jobRepository;
+
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+
+    private final TaskExecutor jobExecutor;
+
+    public JobServiceImpl(JobRepository jobRepository, List<JobHandler> handlers,
+                          @Qualifier("jobExecutor") TaskExecutor jobExecutor) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+        this.jobExecutor = jobExecutor;
+    }
+
+    @Override
+    public Long submit(JobType type, String payload, String requesterId) {
+        Job job = Job.builder()
+                .type(type)
+                .state(JobState.QUEUED)
+                .payload(payload)
+                .requesterId(requesterId)
+                .progress(0)
+                .build();
+        // save 가 커밋된 뒤에 넘겨야 워커가 작업 행을 볼 수 있다
+        Long jobId = jobRepository.save(job).getId();
+        try {
+            jobExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            // 워커 풀이 받지 않으면 (종료 중 등) 요청은 그대로 받고, 작업을 실패로 남겨 상태 조회로 알 수 있게 한다
+            log.warn("Job {} was rejected by the job executor", jobId, e);
+            finish(jobId, JobState.FAILED, "Rejected by the job executor: " + e.getMessage());
+        }
+        return jobId;
+    }
+
+    @Override
+    public Optional<JobResponseDto> getJob(Long jobId) {
+        return jobRepository.findById(jobId).map(this::toDto);
+    }
+
+    @Override
+    public void run(Long jobId) {
+        Optional<Job> queued = jobRepository.findById(jobId);
+        if (queued.isEmpty() || queued.get().getState() != JobState.QUEUED)
+            return;
+
+        Job job;
+        try {
+            queued.get().setState(JobState.RUNNING);
+            job = jobRepository.save(queued.get());
+        } catch (OptimisticLockingFailureException e) {
+            // 다른 워커가 먼저 가져감
+            return;
+        }
+
+        JobHandler handler = handlers.get(job.getType());
+        try {
+            if (handler == null)
+                throw new IllegalStateException("No handler for job type: " + job.getType());
+            handler.run(job, percent -> updateProgress(jobId, percent));
+            finish(jobId, JobState.SUCCEEDED, null);
+        } catch (Exception e) {
+            finish(jobId, JobState.FAILED, e.getMessage());
+        }
+    }
+
+    // 재시작 전에 RUNNING 이던 작업은 중단된 것이므로 다시 대기열에 넣고, 대기 중인 작업을 순서대로 실행
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        for (Job job : jobRepository.findByStateOrderByIdAsc(JobState.RUNNING)) {
+            job.setState(JobState.QUEUED);
+            jobRepository.save(job);
+        }
+        for (Job job : jobRepository.findByStateOrderByIdAsc(JobState.QUEUED)) {
+            Long jobId = job.getId();
+            jobExecutor.execute(() -> run(jobId));
+        }
+    }
+
+    private void updateProgress(Long jobId, int percent) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setProgress(Math.max(0, Math.min(100, percent)));
+            jobRepository.save(job);
+        });
+    }
+
+    private void finish(Long jobId, JobState state, String message) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setState(state);
+            if (state == JobState.SUCCEEDED)
+                job.setProgress(100);
+            job.setMessage(message != null && message.length() > 1000 ? message.substring(0, 1000) : message);
+            jobRepository.save(job);
+        });
+    }
+
+    private JobResponseDto toDto(Job job) {
+        return JobResponseDto.builder()
+                .job_id(job.getId())
+                .type(job.getType())
+                .state(job.getState())
+                .requester_id(job.getRequesterId())
+                .progress(job.getProgress())
+                .message(job.getMessage())
+                .created_date(job.getCreatedDate() != null ? job.getCreatedDate().toString() : null)
+                .modified_date(job.getModifiedDate() != null ? job.getModifiedDate().toString() : null)
+                .build();
+    }
+}
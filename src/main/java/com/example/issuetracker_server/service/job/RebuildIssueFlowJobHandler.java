@@ -0,0 +1,28 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntConsumer;
+
+@Component
+@RequiredArgsConstructor
+public class RebuildIssueFlowJobHandler implements JobHandler {
+
+    private final IssueFlowService issueFlowService;
+
+    @Override
+    public JobType getType() {
+        return JobType.REBUILD_ISSUE_FLOW;
+    }
+
+    @Override
+    public void run(Job job, IntConsumer progress) {
+        // 버킷을 지우고 처음부터 다시 채우므로 여러 번 실행해도 결과가 같다
+        issueFlowService.rebuild(Long.valueOf(job.getPayload()));
+        progress.accept(100);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.issuetracker_server.service.job;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntConsumer;
+
+@Component
+@RequiredArgsConstructor
+public class RebuildIssueProjectionJobHandler implements JobHandler {
+
+    private final IssueHistoryService issueHistoryService;
+
+    @Override
+    public JobType getType() {
+        return JobType.REBUILD_ISSUE_PROJECTION;
+    }
+
+    @Override
+    public void run(Job job, IntConsumer progress) {
+        // 히스토리대로 다시 쓰는 것이라 여러 번 실행해도 결과가 같다
+        Long projectId = Long.valueOf(job.getPayload());
+        issueHistoryService.snapshot(projectId);
+        progress.accept(50);
+        issueHistoryService.rebuildProjection(projectId);
+        progress.accept(100);
+    }
+}
@@ -59,9 +59,10 @@ public class MemberProjectServiceImpl implements MemberProjectService {
     @Override
     @Transactional
     public List<Project> getProjectIdByMemberId(String member_id){
-        List<MemberProject> memberProjects = memberProjectRepository.findByMemberId(member_id);
-        List<Long> projectIds = memberProjects.stream().map(memberProject -> memberProject.getProject().getId()).collect(Collectors.toList());
-        return projectRepository.findAllById(projectIds);
+        // findByMemberId 가 프로젝트를 같이 읽으므로 id 목록으로 다시 조회하지 않는다
+        return memberProjectRepository.findByMemberId(member_id).stream()
+                .map(MemberProject::getProject)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -1,18 +1,44 @@
 package com.example.issuetracker_server.service.project;
 
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventRepository;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCellRepository;
+import com.example.issuetracker_server.domain.issueflow.IssueFlowDailyRepository;
+import com.example.issuetracker_server.domain.issuehistory.IssueSnapshotRepository;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
 import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilterRepository;
 import com.example.issuetracker_server.dto.project.ProjectRequestDto;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
+    private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final MemberProjectRepository memberProjectRepository;
+    private final IssueEventRepository issueEventRepository;
+    private final IssueSnapshotRepository issueSnapshotRepository;
+
+    private final IssueFlowDailyRepository issueFlowDailyRepository;
+
+    private final IssueCubeCellRepository issueCubeCellRepository;
+
+    private final IssueBitmapIndex issueBitmapIndex;
+
+    private final SavedFilterRepository savedFilterRepository;
+
+    private final SavedFilterIndex savedFilterIndex;
 
     @Override
     @Transactional
@@ -39,6 +65,17 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional
     public void delete(Long id) {
-        projectRepository.deleteById(id);
+        // cascade 로 이슈/코멘트를 하나씩 읽어 지우지 않고, 외래키 순서대로 벌크 삭제
+        commentRepository.deleteAllByProjectIdInBatch(id);
+        issueRepository.deleteAllByProjectIdInBatch(id);
+        memberProjectRepository.deleteAllByProjectIdInBatch(id);
+        projectRepository.deleteAllByIdInBatch(List.of(id));
+        issueEventRepository.deleteAllByProjectIdInBatch(id);
+        issueSnapshotRepository.deleteAllByProjectIdInBatch(id);
+        issueFlowDailyRepository.deleteAllByProjectIdInBatch(id);
+        issueCubeCellRepository.deleteAllByProjectIdInBatch(id);
+        savedFilterRepository.deleteAllByProjectIdInBatch(id);
+        issueBitmapIndex.invalidate(id);
+        savedFilterIndex.invalidate(id);
     }
 }
@@ -0,0 +1,263 @@
+package com.example.issuetracker_server.service.projectevent;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.dto.project.ProjectEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트별 변경 알림(SSE) 구독자를 들고 있고, 커밋된 쓰기마다 알림 하나를 보낸다.
+ * 구독은 서블릿 비동기 요청이라 대기 중인 연결은 스레드를 잡지 않는다.
+ * 알림은 커밋 뒤에 한 번만 JSON 으로 만들어 구독자마다 크기가 정해진 큐에 넣기만 하고, 전송 스레드 풀이 구독자 하나씩 큐를 비운다.
+ * 그래서 느린 구독자는 자기 큐만 밀리고, 큐가 차면 그 구독자를 닫는다 (EventSource 가 다시 연결한다). 구독자마다 순서는 지켜진다.
+ */
+@Component
+public class ProjectEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectEventStream.class);
+
+    private static final Frame HEARTBEAT = new Frame(null, null);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long timeoutMs;
+
+    private final int maxSubscribers;
+
+    private final int queueSize;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ScheduledExecutorService sender;
+
+    public ProjectEventStream(@Value("${project.events.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${project.events.heartbeat-s:25}") long heartbeatSeconds,
+                              @Value("${project.events.max-subscribers:5000}") int maxSubscribers,
+                              @Value("${project.events.queue-size:256}") int queueSize,
+                              @Value("${project.events.sender-threads:4}") int senderThreads) {
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.queueSize = queueSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.sender = Executors.newScheduledThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "project-events-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 프록시가 유휴 연결을 끊지 않게 하고, 끊긴 구독자를 정리한다 (큐에 넣기만 한다)
+        if (heartbeatSeconds > 0)
+            sender.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    // 구독자가 max-subscribers 만큼 있으면 empty
+    public Optional<SseEmitter> subscribe(Long projectId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+        Subscriber subscriber = new Subscriber(projectId, new SseEmitter(timeoutMs));
+        subscribers.compute(projectId, (key, project) -> {
+            Set<Subscriber> added = project != null ? project : ConcurrentHashMap.newKeySet();
+            added.add(subscriber);
+            return added;
+        });
+        subscriber.emitter.onCompletion(subscriber::closed);
+        subscriber.emitter.onTimeout(subscriber::closed);
+        subscriber.emitter.onError(e -> subscriber.closed());
+        return Optional.of(subscriber.emitter);
+    }
+
+    // 커밋된 뒤의 값(버전 포함)으로 알린다
+    public void issueChanged(ProjectEventType type, Issue issue) {
+        Long projectId = issue.getProject().getId();
+        publish(projectId, () -> ProjectEventDto.builder()
+                .type(type)
+                .project_id(projectId)
+                .issue_id(issue.getId())
+                .state(issue.getState())
+                .priority(issue.getPriority())
+                .assignee_id(issue.getAssignee() != null ? issue.getAssignee().getId() : null)
+                .version(issue.getVersion())
+                .build());
+    }
+
+    public void issueDeleted(Long projectId, Long issueId) {
+        publish(projectId, () -> ProjectEventDto.builder()
+                .type(ProjectEventType.ISSUE_DELETED)
+                .project_id(projectId)
+                .issue_id(issueId)
+                .build());
+    }
+
+    // 커밋된 뒤의 버전으로 알린다. 코멘트의 이슈(와 그 프로젝트 id)는 읽혀 있어야 한다
+    public void commentChanged(ProjectEventType type, Comment comment) {
+        Long projectId = comment.getIssue().getProject().getId();
+        publish(projectId, () -> ProjectEventDto.builder()
+                .type(type)
+                .project_id(projectId)
+                .issue_id(comment.getIssue().getId())
+                .comment_id(comment.getId())
+                .version(comment.getVersion())
+                .build());
+    }
+
+    public void commentDeleted(Long projectId, Long issueId, Long commentId) {
+        publish(projectId, () -> ProjectEventDto.builder()
+                .type(ProjectEventType.COMMENT_DELETED)
+                .project_id(projectId)
+                .issue_id(issueId)
+                .comment_id(commentId)
+                .build());
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 보낸다
+    private void publish(Long projectId, Supplier<ProjectEventDto> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(projectId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(projectId, event);
+            }
+        });
+    }
+
+    // 구독자가 없으면 JSON 도 만들지 않는다
+    private void dispatch(Long projectId, Supplier<ProjectEventDto> event) {
+        Set<Subscriber> project = subscribers.get(projectId);
+        if (project == null || project.isEmpty())
+            return;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event.get());
+        } catch (JsonProcessingException e) {
+            log.warn("Project event of project {} could not be serialized", projectId, e);
+            return;
+        }
+        Frame frame = new Frame(String.valueOf(sequence.incrementAndGet()), json);
+        project.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(project -> project.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    // 마지막 구독자가 나가면 프로젝트 키도 지운다
+    private void unsubscribe(Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.projectId, (key, project) -> {
+            removed[0] = project.remove(subscriber);
+            return project.isEmpty() ? null : project;
+        });
+        if (removed[0])
+            subscriberCount.decrementAndGet();
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdownNow();
+        subscribers.values().forEach(project -> project.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // id 가 없으면 하트비트 (빈 코멘트 줄)
+    private record Frame(String id, String json) {
+
+        // SseEventBuilder 는 보낼 때 내용을 고치므로 구독자마다 새로 만든다
+        SseEmitter.SseEventBuilder event() {
+            return id != null ? SseEmitter.event().id(id).data(json) : SseEmitter.event().comment("");
+        }
+    }
+
+    private final class Subscriber {
+
+        final Long projectId;
+
+        final SseEmitter emitter;
+
+        final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(queueSize);
+
+        // 큐를 비우는 작업이 전송 스레드에 올라가 있는지
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        volatile boolean closed;
+
+        Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        // 알리는 쪽(커밋한 요청 스레드)은 여기서 기다리지 않는다
+        void offer(Frame frame) {
+            if (closed)
+                return;
+            if (!queue.offer(frame)) {
+                // 못 따라오는 구독자. 막힌 send 가 emitter 를 잡고 있을 수 있으므로 닫는 건 전송 스레드가 한다
+                log.debug("Project event subscriber of project {} fell behind and is closed", projectId);
+                closed();
+                queue.clear();
+            }
+            schedule();
+        }
+
+        void closed() {
+            closed = true;
+            unsubscribe(this);
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true))
+                return;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+            }
+        }
+
+        private void drain() {
+            do {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    try {
+                        emitter.send(frame.event());
+                    } catch (IOException | IllegalStateException e) {
+                        // 끊긴 연결 (이미 완료된 emitter 포함)
+                        closed();
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+                if (closed) {
+                    emitter.complete();
+                    return;
+                }
+                draining.set(false);
+                // 비운 뒤에 들어온 알림은 그 offer 가 작업을 못 올렸을 수 있으므로 다시 본다
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
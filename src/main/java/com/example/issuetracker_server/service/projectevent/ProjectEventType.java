@@ -0,0 +1,12 @@
+package com.example.issuetracker_server.service.projectevent;
+
+public enum ProjectEventType {
+    ISSUE_CREATED,
+    ISSUE_ASSIGNED,
+    ISSUE_STATE_CHANGED,
+    ISSUE_UPDATED,
+    ISSUE_DELETED,
+    COMMENT_ADDED,
+    COMMENT_EDITED,
+    COMMENT_DELETED
+}
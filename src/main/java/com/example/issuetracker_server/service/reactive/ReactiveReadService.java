@@ -0,0 +1,25 @@
+package com.example.issuetracker_server.service.reactive;
+
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.comment.CommentResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// IssueService / CommentService 조회 기능의 R2DBC 기반 비동기 구현 (reactive 프로필)
+public interface ReactiveReadService {
+
+    Mono<Boolean> login(String id, String pw);
+
+    // 프로젝트 멤버가 아니면 빈 Mono
+    Mono<Role> getRole(String memberId, Long projectId);
+
+    Flux<IssueResponseDto> getIssues(Long projectId, String filterBy, String filterValue);
+
+    Mono<IssueResponseDto> getIssue(Long projectId, Long issueId);
+
+    Mono<IssueStatisticResponseDto> getStatistic(Long projectId);
+
+    Flux<CommentResponseDto> getComments(Long issueId);
+}
@@ -0,0 +1,167 @@
+package com.example.issuetracker_server.service.reactive;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.comment.CommentResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private static final String ISSUE_COLUMNS = "id, project_id, title, description, reporter_id, assignee_id, fixer_id, " +
+            "priority, state, created_date, modified_date, version";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Boolean> login(String id, String pw) {
+        return databaseClient.sql("SELECT password FROM member WHERE id = :id")
+                .bind("id", id)
+                .map(row -> Objects.equals(row.get("password", String.class), pw))
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<Role> getRole(String memberId, Long projectId) {
+        return databaseClient.sql("SELECT role FROM member_project WHERE member_id = :memberId AND project_id = :projectId")
+                .bind("memberId", memberId)
+                .bind("projectId", projectId)
+                .map(row -> Role.valueOf(row.get("role", String.class)))
+                .first();
+    }
+
+    // IssueServiceImpl.getIssues 와 같은 필터 규칙 (title/reporter/assignee 는 대소문자 무시 부분 일치)
+    @Override
+    public Flux<IssueResponseDto> getIssues(Long projectId, String filterBy, String filterValue) {
+        if ((filterBy == null || filterBy.isEmpty()) || (filterValue == null || filterValue.isEmpty()))
+            return databaseClient.sql("SELECT " + ISSUE_COLUMNS + " FROM issue WHERE project_id = :projectId ORDER BY id")
+                    .bind("projectId", projectId)
+                    .map(this::toIssueDto)
+                    .all();
+
+        String condition;
+        Object value;
+        switch (filterBy.toLowerCase()) {
+            case "title":
+                condition = "UPPER(title) LIKE UPPER(:value) ESCAPE '\\'";
+                value = containing(filterValue);
+                break;
+            case "reporter":
+                condition = "UPPER(reporter_id) LIKE UPPER(:value) ESCAPE '\\'";
+                value = containing(filterValue);
+                break;
+            case "assignee":
+                condition = "UPPER(assignee_id) LIKE UPPER(:value) ESCAPE '\\'";
+                value = containing(filterValue);
+                break;
+            case "state":
+                condition = "state = :value";
+                value = State.valueOf(filterValue).name();
+                break;
+            default:
+                return Flux.error(new IllegalArgumentException("Invalid filter criteria"));
+        }
+        return databaseClient.sql("SELECT " + ISSUE_COLUMNS + " FROM issue WHERE project_id = :projectId AND " + condition + " ORDER BY id")
+                .bind("projectId", projectId)
+                .bind("value", value)
+                .map(this::toIssueDto)
+                .all();
+    }
+
+    @Override
+    public Mono<IssueResponseDto> getIssue(Long projectId, Long issueId) {
+        return databaseClient.sql("SELECT " + ISSUE_COLUMNS + " FROM issue WHERE id = :issueId")
+                .bind("issueId", issueId)
+                .map(this::toIssueDto)
+                .one();
+    }
+
+    // 이슈를 모두 읽어 세지 않고 DB 에서 한 번에 집계
+    @Override
+    public Mono<IssueStatisticResponseDto> getStatistic(Long projectId) {
+        LocalDate today = LocalDate.now();
+        return databaseClient.sql("SELECT COUNT(*) AS total_issues, " +
+                        "SUM(CASE WHEN created_date >= :dayStart AND created_date < :dayEnd THEN 1 ELSE 0 END) AS day_issues, " +
+                        "SUM(CASE WHEN created_date >= :monthStart AND created_date < :monthEnd THEN 1 ELSE 0 END) AS month_issues, " +
+                        "SUM(CASE WHEN state = 'CLOSED' THEN 1 ELSE 0 END) AS closed_issues " +
+                        "FROM issue WHERE project_id = :projectId")
+                .bind("projectId", projectId)
+                .bind("dayStart", today.atStartOfDay())
+                .bind("dayEnd", today.plusDays(1).atStartOfDay())
+                .bind("monthStart", today.withDayOfMonth(1).atStartOfDay())
+                .bind("monthEnd", today.withDayOfMonth(1).plusMonths(1).atStartOfDay())
+                .map(row -> new IssueStatisticResponseDto(
+                        intValue(row, "day_issues"),
+                        intValue(row, "month_issues"),
+                        intValue(row, "total_issues"),
+                        intValue(row, "closed_issues")))
+                .one();
+    }
+
+    @Override
+    public Flux<CommentResponseDto> getComments(Long issueId) {
+        return databaseClient.sql("SELECT c.id, c.author_id, m.name, c.content, c.created_date, c.version " +
+                        "FROM comment c JOIN member m ON m.id = c.author_id WHERE c.issue_id = :issueId ORDER BY c.id")
+                .bind("issueId", issueId)
+                .map(row -> {
+                    CommentResponseDto commentResponseDto = new CommentResponseDto();
+                    commentResponseDto.setComment_id(row.get("id", Long.class));
+                    commentResponseDto.setContent(row.get("content", String.class));
+                    commentResponseDto.setCreated_date(dateString(row, "created_date"));
+                    commentResponseDto.setAuthor_name(row.get("name", String.class));
+                    commentResponseDto.setAuthor_id(row.get("author_id", String.class));
+                    commentResponseDto.setVersion(row.get("version", Long.class));
+                    return commentResponseDto;
+                })
+                .all();
+    }
+
+    private IssueResponseDto toIssueDto(Readable row) {
+        String priority = row.get("priority", String.class);
+        return IssueResponseDto.builder()
+                .id(row.get("id", Long.class))
+                .project_id(row.get("project_id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .reporter_id(row.get("reporter_id", String.class))
+                .assignee_id(row.get("assignee_id", String.class))
+                .fixer_id(row.get("fixer_id", String.class))
+                .priority(priority != null ? Priority.valueOf(priority) : null)
+                .state(State.valueOf(row.get("state", String.class)))
+                .created_date(dateString(row, "created_date"))
+                .modified_date(dateString(row, "modified_date"))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static String dateString(Readable row, String column) {
+        LocalDateTime value = row.get(column, LocalDateTime.class);
+        return value != null ? value.toString() : null;
+    }
+
+    private static int intValue(Readable row, String column) {
+        Number value = row.get(column, Number.class);
+        return value != null ? value.intValue() : 0;
+    }
+
+    // Spring Data 의 Containing 과 같이 %, _ 를 이스케이프해서 부분 일치 패턴으로 만든다
+    private static String containing(String value) {
+        return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.issuetracker_server.service.savedfilter;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueQuery;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilterRepository;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlan;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 저장된 필터마다 맞는 이슈 id 를 RoaringBitmap 으로 들고 있는다.
+ * 필터를 처음 열 때 정의를 읽고 검색식을 한 번 돌려 채우고, 그 뒤로는 IssueServiceImpl 의 쓰기마다 커밋 뒤에
+ * 바뀐 이슈 하나만 검색식(IssueQuery.matches)에 대 보고 넣거나 뺀다. 그래서 필터를 여는 건 id 조회 + 기본키 묶음 조회다.
+ * 커밋 뒤 콜백은 커밋 순서와 다르게 돌 수 있으므로 프로젝트마다 이슈별로 반영한 버전을 두고 그보다 오래된 쓰기는 버린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedFilterIndex {
+
+    // 지운 이슈의 버전. 늦게 도착한 쓰기가 지운 이슈를 다시 넣지 않게 한다
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final SavedFilterRepository savedFilterRepository;
+
+    private final IssueRepository issueRepository;
+
+    private final IssueBitmapIndex issueBitmapIndex;
+
+    private final IssueQueryPlanner issueQueryPlanner;
+
+    private final ConcurrentMap<Long, ProjectFilters> projects = new ConcurrentHashMap<>();
+
+    // 필터 주인과 맞는 이슈 id (오름차순). 프로젝트에 그런 필터가 없으면 empty
+    public Optional<View> open(Long projectId, Long filterId) {
+        ProjectFilters project = projects.computeIfAbsent(projectId, key -> new ProjectFilters());
+        project.lock.readLock().lock();
+        try {
+            LoadedFilter loaded = project.filters.get(filterId);
+            if (loaded != null)
+                return Optional.of(loaded.view());
+        } finally {
+            project.lock.readLock().unlock();
+        }
+
+        // 채우는 동안 이 프로젝트의 쓰기 반영을 막아 두므로, 그 사이에 커밋된 쓰기도 빠지지 않는다
+        project.lock.writeLock().lock();
+        try {
+            LoadedFilter loaded = project.filters.get(filterId);
+            if (loaded == null) {
+                Optional<SavedFilter> filter = savedFilterRepository.findById(filterId)
+                        .filter(found -> found.getProjectId().equals(projectId));
+                if (filter.isEmpty())
+                    return Optional.empty();
+                loaded = load(filter.get());
+                project.filters.put(filterId, loaded);
+            }
+            return Optional.of(loaded.view());
+        } finally {
+            project.lock.writeLock().unlock();
+        }
+    }
+
+    // 이슈의 커밋된 값으로 그 프로젝트에서 열린 필터들을 고친다 (트랜잭션 안이면 커밋된 뒤에, 그때의 값과 버전을 읽는다)
+    public void record(Issue issue) {
+        Long projectId = issue.getProject().getId();
+        int id = Math.toIntExact(issue.getId());
+        afterCommit(() -> apply(projectId, id, issue.getVersion() != null ? issue.getVersion() : 0L, filter -> {
+            if (filter.query.matches(issue))
+                filter.ids.add(id);
+            else
+                filter.ids.remove(id);
+        }));
+    }
+
+    public void remove(Long projectId, Long issueId) {
+        int id = Math.toIntExact(issueId);
+        afterCommit(() -> apply(projectId, id, DELETED, filter -> filter.ids.remove(id)));
+    }
+
+    // 필터를 지운 뒤
+    public void forget(Long projectId, Long filterId) {
+        afterCommit(() -> {
+            ProjectFilters project = projects.get(projectId);
+            if (project == null)
+                return;
+            project.lock.writeLock().lock();
+            try {
+                project.filters.remove(filterId);
+            } finally {
+                project.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 벌크 쓰기(프로젝트 삭제, 히스토리로 재구성) 뒤에는 버리고 다음에 열 때 다시 채운다
+    public void invalidate(Long projectId) {
+        afterCommit(() -> projects.remove(projectId));
+    }
+
+    private LoadedFilter load(SavedFilter filter) {
+        IssueQueryPlan plan = issueQueryPlanner.plan(filter.getQuery(), filter.getMemberId());
+        Optional<List<Long>> indexed = plan.indexFilter() != null
+                ? issueBitmapIndex.findIds(filter.getProjectId(), plan.indexFilter())
+                : Optional.empty();
+        RoaringBitmap ids = new RoaringBitmap();
+        if (indexed.isPresent())
+            indexed.get().forEach(id -> ids.add(Math.toIntExact(id)));
+        else
+            issueRepository.search(filter.getProjectId(), plan.query()).forEach(issue -> ids.add(Math.toIntExact(issue.getId())));
+        ids.runOptimize();
+        return new LoadedFilter(filter.getId(), filter.getMemberId(), plan.query(), ids);
+    }
+
+    // 아직 연 적 없는 필터는 건너뛴다 (나중에 열 때 커밋된 값을 읽는다)
+    private void apply(Long projectId, int id, long version, Consumer<LoadedFilter> change) {
+        ProjectFilters project = projects.get(projectId);
+        if (project == null)
+            return;
+        project.lock.writeLock().lock();
+        try {
+            Long applied = project.versions.get(id);
+            if (applied != null && version < applied)
+                return;
+            project.versions.put(id, version);
+            project.filters.values().forEach(change);
+        } finally {
+            project.lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record View(Long filterId, String memberId, List<Long> issueIds) {
+    }
+
+    private static final class ProjectFilters {
+
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        final Map<Long, LoadedFilter> filters = new HashMap<>();
+
+        // 이슈 id 별로 반영한 버전
+        final Map<Integer, Long> versions = new HashMap<>();
+    }
+
+    private record LoadedFilter(Long id, String memberId, IssueQuery query, RoaringBitmap ids) {
+
+        // 잠금 안에서 부른다
+        View view() {
+            List<Long> issueIds = new ArrayList<>(ids.getCardinality());
+            ids.forEach((int id) -> issueIds.add((long) id));
+            return new View(id, memberId, issueIds);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.issuetracker_server.service.savedfilter;
+
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterRequestDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterResponseDto;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SavedFilterService {
+
+    // 이름이 비었거나 겹치거나 검색식이 잘못됐으면 IllegalArgumentException
+    SavedFilterResponseDto create(Long projectId, String memberId, SavedFilterRequestDto request);
+
+    List<SavedFilterResponseDto> getFilters(Long projectId, String memberId);
+
+    // 저장된 필터에 맞는 이슈 (id 순). 그 회원의 필터가 아니면 empty
+    Optional<List<IssueResponseDto>> getIssues(Long projectId, String memberId, Long filterId);
+
+    boolean delete(Long projectId, String memberId, Long filterId);
+}
@@ -0,0 +1,93 @@
+package com.example.issuetracker_server.service.savedfilter;
+
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilterRepository;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterRequestDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterResponseDto;
+import com.example.issuetracker_server.service.issue.IssueService;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SavedFilterServiceImpl implements SavedFilterService {
+
+    private static final int MAX_NAME = 50;
+
+    private static final int MAX_QUERY = 500;
+
+    private final SavedFilterRepository savedFilterRepository;
+
+    private final SavedFilterIndex savedFilterIndex;
+
+    private final IssueQueryPlanner issueQueryPlanner;
+
+    private final IssueService issueService;
+
+    @Override
+    @Transactional
+    public SavedFilterResponseDto create(Long projectId, String memberId, SavedFilterRequestDto request) {
+        String name = request.getName() != null ? request.getName().trim() : "";
+        if (name.isEmpty() || name.length() > MAX_NAME)
+            throw new IllegalArgumentException("Filter name must be 1-" + MAX_NAME + " characters");
+        if (request.getQuery() == null || request.getQuery().length() > MAX_QUERY)
+            throw new IllegalArgumentException("Filter query must be at most " + MAX_QUERY + " characters");
+        // 저장하기 전에 검색식을 검사한다 (계획은 캐시에 남아 처음 열 때 다시 쓴다)
+        issueQueryPlanner.plan(request.getQuery(), memberId);
+        if (savedFilterRepository.existsByProjectIdAndMemberIdAndName(projectId, memberId, name))
+            throw new IllegalArgumentException("Filter already exists: " + name);
+
+        SavedFilter filter = savedFilterRepository.save(SavedFilter.builder()
+                .projectId(projectId)
+                .memberId(memberId)
+                .name(name)
+                .query(request.getQuery())
+                .build());
+        return toDto(filter);
+    }
+
+    @Override
+    public List<SavedFilterResponseDto> getFilters(Long projectId, String memberId) {
+        return savedFilterRepository.findByProjectIdAndMemberIdOrderById(projectId, memberId).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // 정의와 id 는 SavedFilterIndex 에 있으므로 처음 연 뒤에는 이슈를 기본키로 읽는 쿼리만 나간다
+    @Override
+    public Optional<List<IssueResponseDto>> getIssues(Long projectId, String memberId, Long filterId) {
+        return savedFilterIndex.open(projectId, filterId)
+                .filter(view -> Objects.equals(view.memberId(), memberId))
+                .map(view -> issueService.getIssuesById(view.issueIds()));
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(Long projectId, String memberId, Long filterId) {
+        Optional<SavedFilter> filter = savedFilterRepository.findById(filterId);
+        if (filter.isEmpty() || !Objects.equals(filter.get().getProjectId(), projectId)
+                || !Objects.equals(filter.get().getMemberId(), memberId))
+            return false;
+        savedFilterRepository.delete(filter.get());
+        savedFilterIndex.forget(projectId, filterId);
+        return true;
+    }
+
+    private SavedFilterResponseDto toDto(SavedFilter filter) {
+        return SavedFilterResponseDto.builder()
+                .filter_id(filter.getId())
+                .project_id(filter.getProjectId())
+                .name(filter.getName())
+                .query(filter.getQuery())
+                .created_date(filter.getCreatedDate() != null ? filter.getCreatedDate().toString() : null)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.issuetracker_server.service.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 안에서 모은 쓰기를 커밋 직전에 한 번에 쓴다 (IssueEventLog, IssueFlowLog, IssueCubeLog).
+ * 트랜잭션마다 버퍼 하나를 리소스로 묶어 두고 beforeCommit 에 write 하므로, 쓰기가 이슈 변경과 함께 커밋되거나 함께 롤백된다.
+ * 트랜잭션 밖이면 새 버퍼에 넣고 바로 쓴다.
+ */
+public final class BeforeCommitBatch<B> {
+
+    private final Supplier<B> newBuffer;
+
+    private final Consumer<B> write;
+
+    public BeforeCommitBatch(Supplier<B> newBuffer, Consumer<B> write) {
+        this.newBuffer = newBuffer;
+        this.write = write;
+    }
+
+    public void add(Consumer<B> change) {
+        add(change, null);
+    }
+
+    // committed 는 버퍼가 커밋된 뒤에 불린다 (트랜잭션 밖이면 쓰고 바로)
+    public void add(Consumer<B> change, Runnable committed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            B buffer = newBuffer.get();
+            change.accept(buffer);
+            write.accept(buffer);
+            if (committed != null)
+                committed.run();
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch(newBuffer.get());
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        change.accept(batch.buffer);
+        if (committed != null)
+            batch.committed.add(committed);
+    }
+
+    private class Batch implements TransactionSynchronization {
+
+        private final B buffer;
+
+        private final List<Runnable> committed = new ArrayList<>();
+
+        Batch(B buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write.accept(buffer);
+        }
+
+        @Override
+        public void afterCommit() {
+            committed.forEach(Runnable::run);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BeforeCommitBatch.this);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.storage.MemoryRecords.CommentRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.IssueRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberProjectRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.ProjectRecord;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레코드를 새 엔티티 객체로 만든다. 리포지토리 호출 하나 안에서는 같은 회원/프로젝트/이슈를 한 객체로 공유한다.
+ * 없는 행을 가리키면 id 만 채운 객체를 돌려준다 (초기화되지 않은 JPA 프록시에서 getId() 만 쓰는 것과 같은 모양).
+ * 컬렉션(Project.issues 등)은 채우지 않는다.
+ */
+class EntityResolver {
+
+    private final MemoryStore store;
+
+    private final Map<String, Member> members = new HashMap<>();
+
+    private final Map<Long, Project> projects = new HashMap<>();
+
+    private final Map<Long, Issue> issues = new HashMap<>();
+
+    EntityResolver(MemoryStore store) {
+        this.store = store;
+    }
+
+    Member member(String id) {
+        if (id == null)
+            return null;
+        return members.computeIfAbsent(id, key -> toMember(key, store.member(key)));
+    }
+
+    Member member(MemberRecord record) {
+        return members.computeIfAbsent(record.id(), key -> toMember(key, record));
+    }
+
+    Project project(Long id) {
+        if (id == null)
+            return null;
+        return projects.computeIfAbsent(id, key -> toProject(key, store.project(key)));
+    }
+
+    Project project(ProjectRecord record) {
+        return projects.computeIfAbsent(record.id(), key -> toProject(key, record));
+    }
+
+    Issue issue(Long id) {
+        if (id == null)
+            return null;
+        Issue issue = issues.get(id);
+        if (issue == null) {
+            IssueRecord record = store.issue(id);
+            issue = record != null ? issue(record) : Issue.builder().id(id).build();
+            issues.put(id, issue);
+        }
+        return issue;
+    }
+
+    Issue issue(IssueRecord record) {
+        Issue issue = issues.get(record.id());
+        if (issue != null)
+            return issue;
+        issue = Issue.builder()
+                .id(record.id())
+                .project(project(record.projectId()))
+                .title(record.title())
+                .description(record.description())
+                .reporter(member(record.reporterId()))
+                .assignee(member(record.assigneeId()))
+                .fixer(member(record.fixerId()))
+                .priority(record.priority())
+                .state(record.state())
+                .version(record.version())
+                .build();
+        issue.setCreatedDate(record.createdDate());
+        issue.setModifiedDate(record.modifiedDate());
+        issues.put(record.id(), issue);
+        return issue;
+    }
+
+    MemberProject memberProject(MemberProjectRecord record) {
+        return MemberProject.builder()
+                .id(record.id())
+                .member(member(record.memberId()))
+                .project(project(record.projectId()))
+                .role(record.role())
+                .build();
+    }
+
+    Comment comment(CommentRecord record) {
+        Comment comment = Comment.builder()
+                .id(record.id())
+                .author(member(record.authorId()))
+                .issue(issue(record.issueId()))
+                .content(record.content())
+                .version(record.version())
+                .build();
+        comment.setCreatedDate(record.createdDate());
+        comment.setModifiedDate(record.modifiedDate());
+        return comment;
+    }
+
+    private static Member toMember(String id, MemberRecord record) {
+        if (record == null)
+            return Member.builder().id(id).build();
+        return Member.builder()
+                .id(record.id())
+                .password(record.password())
+                .name(record.name())
+                .mail(record.mail())
+                .build();
+    }
+
+    private static Project toProject(Long id, ProjectRecord record) {
+        if (record == null)
+            return Project.builder().id(id).build();
+        Project project = Project.builder()
+                .id(record.id())
+                .title(record.title())
+                .build();
+        project.setCreatedDate(record.createdDate());
+        project.setModifiedDate(record.modifiedDate());
+        return project;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.storage.MemoryRecords.CommentRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public class MemoryCommentRepository extends MemoryRepository<Comment, Long, CommentRecord> implements CommentRepository {
+
+    public MemoryCommentRepository(MemoryStore store) {
+        super(store);
+    }
+
+    @Override
+    protected Class<Comment> entityType() {
+        return Comment.class;
+    }
+
+    @Override
+    protected MemoryStore.Table table() {
+        return MemoryStore.Table.COMMENT;
+    }
+
+    @Override
+    protected Long idOf(Comment comment) {
+        return comment.getId();
+    }
+
+    @Override
+    protected CommentRecord record(Long id) {
+        return store.comment(id);
+    }
+
+    @Override
+    protected List<CommentRecord> records() {
+        return store.comments();
+    }
+
+    @Override
+    protected Comment toEntity(EntityResolver resolver, CommentRecord record) {
+        return resolver.comment(record);
+    }
+
+    @Override
+    protected boolean remove(Long id) {
+        return store.deleteComment(id);
+    }
+
+    @Override
+    public <S extends Comment> S save(S comment) {
+        Long id = comment.getId() != null ? comment.getId() : store.nextId(MemoryStore.Table.COMMENT);
+        String authorId = comment.getAuthor() != null ? comment.getAuthor().getId() : null;
+        Long issueId = comment.getIssue() != null ? comment.getIssue().getId() : null;
+        LocalDateTime now = LocalDateTime.now();
+
+        CommentRecord saved = store.putComment(id, current -> {
+            checkVersion(id, current != null ? current.version() : null, comment.getVersion());
+            checkReference("author_id", authorId, store.member(authorId) != null);
+            checkReference("issue_id", issueId, store.issue(issueId) != null);
+            return new CommentRecord(id, authorId, issueId, comment.getContent(),
+                    current != null ? current.createdDate() : (comment.getCreatedDate() != null ? comment.getCreatedDate() : now),
+                    now, current != null ? current.version() + 1 : 0L);
+        });
+        comment.setId(id);
+        comment.setVersion(saved.version());
+        comment.setCreatedDate(saved.createdDate());
+        comment.setModifiedDate(saved.modifiedDate());
+        return comment;
+    }
+
+    @Override
+    public List<Comment> findByIssueId(Long issueId) {
+        return toEntities(store.commentsByIssue(issueId));
+    }
+
+    @Override
+    public Optional<Comment> findWithIssueById(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public int deleteAllByIssueIdInBatch(Long issueId) {
+        return store.deleteCommentsByIssue(issueId);
+    }
+
+    @Override
+    public int deleteAllByProjectIdInBatch(Long projectId) {
+        return store.deleteCommentsByProject(projectId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.issuetracker_server.storage;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * MemoryRepository.findBy(Example, ...) 의 FluentQuery. 이미 거른 엔티티 목록 위에서 정렬, 개수 제한, 페이지를 한다.
+ * as() 는 엔티티의 상위 타입과 인터페이스 프로젝션만 받는다. project() 는 JPA 에서도 가져오기 힌트라서 무시한다.
+ */
+final class MemoryFluentQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private final List<?> entities;
+
+    private final Sort sort;
+
+    private final int limit;
+
+    private final Function<Object, T> mapper;
+
+    MemoryFluentQuery(List<?> entities, Function<Object, T> mapper) {
+        this(entities, Sort.unsorted(), 0, mapper);
+    }
+
+    private MemoryFluentQuery(List<?> entities, Sort sort, int limit, Function<Object, T> mapper) {
+        this.entities = entities;
+        this.sort = sort;
+        this.limit = limit;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public FetchableFluentQuery<T> sortBy(Sort sort) {
+        return new MemoryFluentQuery<>(entities, this.sort.and(sort), limit, mapper);
+    }
+
+    // 0 이면 제한 없음
+    public FetchableFluentQuery<T> limit(int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("Limit must not be negative");
+        return new MemoryFluentQuery<>(entities, sort, limit, mapper);
+    }
+
+    @Override
+    public <R> FetchableFluentQuery<R> as(Class<R> resultType) {
+        return new MemoryFluentQuery<>(entities, sort, limit, entity -> {
+            if (resultType.isInstance(entity))
+                return resultType.cast(entity);
+            if (resultType.isInterface())
+                return PROJECTIONS.createProjection(resultType, entity);
+            throw new UnsupportedOperationException("Only super types and interface projections are supported, not " + resultType.getName());
+        });
+    }
+
+    @Override
+    public FetchableFluentQuery<T> project(Collection<String> properties) {
+        return this;
+    }
+
+    @Override
+    public T oneValue() {
+        List<T> results = all();
+        if (results.size() > 1)
+            throw new IncorrectResultSizeDataAccessException(1, results.size());
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public T firstValue() {
+        List<T> results = all();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public List<T> all() {
+        Stream<?> sorted = entities.stream().sorted(MemoryQuery.<Object>comparator(sort));
+        if (limit > 0)
+            sorted = sorted.limit(limit);
+        return sorted.map(mapper).toList();
+    }
+
+    // 페이지에 정렬이 있으면 그걸 쓴다 (JPA 와 같다)
+    @Override
+    public Page<T> page(Pageable pageable) {
+        if (pageable.isUnpaged())
+            return new PageImpl<>(all());
+        Sort pageSort = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+        List<T> content = entities.stream()
+                .sorted(MemoryQuery.<Object>comparator(pageSort))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(mapper)
+                .toList();
+        return new PageImpl<>(content, pageable, entities.size());
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return all().stream();
+    }
+
+    @Override
+    public long count() {
+        return entities.size();
+    }
+
+    @Override
+    public boolean exists() {
+        return !entities.isEmpty();
+    }
+}
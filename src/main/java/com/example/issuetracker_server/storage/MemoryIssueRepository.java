@@ -0,0 +1,258 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueCondition;
+import com.example.issuetracker_server.domain.issue.IssueQuery;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.storage.MemoryRecords.IssueRecord;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MemoryIssueRepository extends MemoryRepository<Issue, Long, IssueRecord> implements IssueRepository {
+
+    public MemoryIssueRepository(MemoryStore store) {
+        super(store);
+    }
+
+    @Override
+    protected Class<Issue> entityType() {
+        return Issue.class;
+    }
+
+    @Override
+    protected MemoryStore.Table table() {
+        return MemoryStore.Table.ISSUE;
+    }
+
+    @Override
+    protected Long idOf(Issue issue) {
+        return issue.getId();
+    }
+
+    @Override
+    protected IssueRecord record(Long id) {
+        return store.issue(id);
+    }
+
+    @Override
+    protected List<IssueRecord> records() {
+        return store.issues();
+    }
+
+    @Override
+    protected Issue toEntity(EntityResolver resolver, IssueRecord record) {
+        return resolver.issue(record);
+    }
+
+    // 코멘트도 함께 지운다 (Issue 의 cascade 와 같다)
+    @Override
+    protected boolean remove(Long id) {
+        return store.deleteIssue(id);
+    }
+
+    @Override
+    public <S extends Issue> S save(S issue) {
+        Long id = issue.getId() != null ? issue.getId() : store.nextId(MemoryStore.Table.ISSUE);
+        Long projectId = issue.getProject() != null ? issue.getProject().getId() : null;
+        String reporterId = memberId(issue.getReporter());
+        String assigneeId = memberId(issue.getAssignee());
+        String fixerId = memberId(issue.getFixer());
+        LocalDateTime now = LocalDateTime.now();
+
+        IssueRecord saved = store.putIssue(id, current -> {
+            checkVersion(id, current != null ? current.version() : null, issue.getVersion());
+            checkReference("project_id", projectId, store.project(projectId) != null);
+            checkReference("reporter_id", reporterId, store.member(reporterId) != null);
+            if (assigneeId != null)
+                checkReference("assignee_id", assigneeId, store.member(assigneeId) != null);
+            if (fixerId != null)
+                checkReference("fixer_id", fixerId, store.member(fixerId) != null);
+            return new IssueRecord(id, projectId, issue.getTitle(), issue.getDescription(),
+                    reporterId, assigneeId, fixerId, issue.getPriority(), issue.getState(),
+                    current != null ? current.createdDate() : (issue.getCreatedDate() != null ? issue.getCreatedDate() : now),
+                    now, current != null ? current.version() + 1 : 0L);
+        });
+        issue.setId(id);
+        issue.setVersion(saved.version());
+        issue.setCreatedDate(saved.createdDate());
+        issue.setModifiedDate(saved.modifiedDate());
+        return issue;
+    }
+
+    private static String memberId(Member member) {
+        return member != null ? member.getId() : null;
+    }
+
+    @Override
+    public List<Issue> findByProjectId(Long projectId) {
+        return toEntities(store.issuesByProject(projectId));
+    }
+
+    @Override
+    public List<Issue> findByProjectIdAndTitleContainingIgnoreCase(Long projectId, String title) {
+        return toEntities(store.issuesByProject(projectId).stream()
+                .filter(issue -> containsIgnoreCase(issue.title(), title))
+                .toList());
+    }
+
+    @Override
+    public List<Issue> findByProjectIdAndReporterIdContainingIgnoreCase(Long projectId, String reporter) {
+        return toEntities(store.issuesByReporter(projectId, reporterId -> containsIgnoreCase(reporterId, reporter)));
+    }
+
+    @Override
+    public List<Issue> findByProjectIdAndAssigneeIdContainingIgnoreCase(Long projectId, String assignee) {
+        return toEntities(store.issuesByAssignee(projectId, assigneeId -> containsIgnoreCase(assigneeId, assignee)));
+    }
+
+    @Override
+    public List<Issue> findByProjectIdAndState(Long projectId, State state) {
+        return toEntities(store.issuesByState(projectId, state));
+    }
+
+    @Override
+    public List<FacetCount> countFacets(Long projectId, String title, String reporter, String assignee, State state) {
+        Map<FacetKey, Long> counts = new HashMap<>();
+        for (IssueRecord issue : state != null ? store.issuesByState(projectId, state) : store.issuesByProject(projectId)) {
+            if (title != null && !containsIgnoreCase(issue.title(), title))
+                continue;
+            if (reporter != null && !containsIgnoreCase(issue.reporterId(), reporter))
+                continue;
+            if (assignee != null && !containsIgnoreCase(issue.assigneeId(), assignee))
+                continue;
+            counts.merge(new FacetKey(issue.state(), issue.priority(), issue.assigneeId()), 1L, Long::sum);
+        }
+        List<FacetCount> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new FacetRow(key, count)));
+        return rows;
+    }
+
+    @Override
+    public List<IndexEntry> findIndexEntriesByProjectId(Long projectId) {
+        List<IndexEntry> entries = new ArrayList<>();
+        for (IssueRecord issue : store.issuesByProject(projectId))
+            entries.add(new IndexRow(issue));
+        return entries;
+    }
+
+    // 상태 조건이 있으면 상태 인덱스에서 후보를 고르고 나머지 조건은 한 행씩 본다
+    @Override
+    public List<Issue> search(Long projectId, IssueQuery query) {
+        List<IssueRecord> candidates = null;
+        for (IssueCondition condition : query.conditions()) {
+            if (condition instanceof IssueCondition.StateIn stateIn) {
+                candidates = new ArrayList<>();
+                for (State state : stateIn.states())
+                    candidates.addAll(store.issuesByState(projectId, state));
+                break;
+            }
+        }
+        if (candidates == null)
+            candidates = store.issuesByProject(projectId);
+
+        List<IssueRecord> matches = new ArrayList<>();
+        for (IssueRecord issue : candidates) {
+            if (query.conditions().stream().allMatch(condition -> matches(issue, condition)))
+                matches.add(issue);
+        }
+        matches.sort(Comparator.comparing(IssueRecord::id));
+        return toEntities(matches);
+    }
+
+    private static boolean matches(IssueRecord issue, IssueCondition condition) {
+        if (condition instanceof IssueCondition.StateIn stateIn)
+            return stateIn.states().contains(issue.state());
+        if (condition instanceof IssueCondition.PriorityIn priorityIn)
+            return issue.priority() != null && priorityIn.priorities().contains(issue.priority());
+        if (condition instanceof IssueCondition.MemberContains member) {
+            String memberId = switch (member.field()) {
+                case ASSIGNEE -> issue.assigneeId();
+                case REPORTER -> issue.reporterId();
+                case FIXER -> issue.fixerId();
+            };
+            return member.part() == null ? memberId == null : containsIgnoreCase(memberId, member.part());
+        }
+        if (condition instanceof IssueCondition.TextContains text)
+            return containsIgnoreCase(issue.title(), text.part())
+                    || (text.withDescription() && containsIgnoreCase(issue.description(), text.part()));
+        if (condition instanceof IssueCondition.DateRange range) {
+            LocalDateTime value = range.field() == IssueCondition.DateField.CREATED ? issue.createdDate() : issue.modifiedDate();
+            return value != null
+                    && (range.from() == null || !value.isBefore(range.from()))
+                    && (range.until() == null || value.isBefore(range.until()));
+        }
+        return false;
+    }
+
+    @Override
+    public int deleteAllByProjectIdInBatch(Long projectId) {
+        return store.deleteIssuesByProject(projectId);
+    }
+
+    private record FacetKey(State state, Priority priority, String assigneeId) {
+    }
+
+    private record FacetRow(FacetKey key, Long count) implements FacetCount {
+
+        @Override
+        public State getState() {
+            return key.state();
+        }
+
+        @Override
+        public Priority getPriority() {
+            return key.priority();
+        }
+
+        @Override
+        public String getAssigneeId() {
+            return key.assigneeId();
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+
+    private record IndexRow(IssueRecord issue) implements IndexEntry {
+
+        @Override
+        public Long getId() {
+            return issue.id();
+        }
+
+        @Override
+        public State getState() {
+            return issue.state();
+        }
+
+        @Override
+        public Priority getPriority() {
+            return issue.priority();
+        }
+
+        @Override
+        public String getAssigneeId() {
+            return issue.assigneeId();
+        }
+
+        @Override
+        public String getReporterId() {
+            return issue.reporterId();
+        }
+
+        @Override
+        public Long getVersion() {
+            return issue.version();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberProjectRecord;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class MemoryMemberProjectRepository extends MemoryRepository<MemberProject, Long, MemberProjectRecord>
+        implements MemberProjectRepository {
+
+    public MemoryMemberProjectRepository(MemoryStore store) {
+        super(store);
+    }
+
+    @Override
+    protected Class<MemberProject> entityType() {
+        return MemberProject.class;
+    }
+
+    @Override
+    protected MemoryStore.Table table() {
+        return MemoryStore.Table.MEMBER_PROJECT;
+    }
+
+    @Override
+    protected Long idOf(MemberProject memberProject) {
+        return memberProject.getId();
+    }
+
+    @Override
+    protected MemberProjectRecord record(Long id) {
+        return store.memberProject(id);
+    }
+
+    @Override
+    protected List<MemberProjectRecord> records() {
+        return store.memberProjects();
+    }
+
+    @Override
+    protected MemberProject toEntity(EntityResolver resolver, MemberProjectRecord record) {
+        return resolver.memberProject(record);
+    }
+
+    @Override
+    protected boolean remove(Long id) {
+        return store.deleteMemberProject(id);
+    }
+
+    @Override
+    public <S extends MemberProject> S save(S memberProject) {
+        Long id = memberProject.getId() != null ? memberProject.getId() : store.nextId(MemoryStore.Table.MEMBER_PROJECT);
+        String memberId = memberProject.getMember() != null ? memberProject.getMember().getId() : null;
+        Long projectId = memberProject.getProject() != null ? memberProject.getProject().getId() : null;
+        store.putMemberProject(id, current -> {
+            checkReference("member_id", memberId, store.member(memberId) != null);
+            checkReference("project_id", projectId, store.project(projectId) != null);
+            return new MemberProjectRecord(id, memberId, projectId, memberProject.getRole());
+        });
+        memberProject.setId(id);
+        return memberProject;
+    }
+
+    @Override
+    public Optional<MemberProject> findByMemberIdAndProjectId(String memberId, Long projectId) {
+        return store.memberProjectsByMember(memberId).stream()
+                .filter(memberProject -> Objects.equals(memberProject.projectId(), projectId))
+                .findFirst()
+                .map(record -> toEntity(new EntityResolver(store), record));
+    }
+
+    @Override
+    public List<MemberProject> findByProjectIdAndRole(Long projectId, Role role) {
+        return toEntities(store.memberProjectsByProject(projectId).stream()
+                .filter(memberProject -> memberProject.role() == role)
+                .toList());
+    }
+
+    @Override
+    public List<MemberProject> findByMemberId(String memberId) {
+        return toEntities(store.memberProjectsByMember(memberId));
+    }
+
+    @Override
+    public List<MemberProject> findByProjectId(Long projectId) {
+        return toEntities(store.memberProjectsByProject(projectId));
+    }
+
+    @Override
+    public int deleteAllByProjectIdInBatch(Long projectId) {
+        return store.deleteMemberProjectsByProject(projectId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberRecord;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import java.util.List;
+
+public class MemoryMemberRepository extends MemoryRepository<Member, String, MemberRecord> implements MemberRepository {
+
+    public MemoryMemberRepository(MemoryStore store) {
+        super(store);
+    }
+
+    @Override
+    protected Class<Member> entityType() {
+        return Member.class;
+    }
+
+    @Override
+    protected MemoryStore.Table table() {
+        return MemoryStore.Table.MEMBER;
+    }
+
+    @Override
+    protected String idOf(Member member) {
+        return member.getId();
+    }
+
+    @Override
+    protected MemberRecord record(String id) {
+        return store.member(id);
+    }
+
+    @Override
+    protected List<MemberRecord> records() {
+        return store.members();
+    }
+
+    @Override
+    protected Member toEntity(EntityResolver resolver, MemberRecord record) {
+        return resolver.member(record);
+    }
+
+    @Override
+    protected boolean remove(String id) {
+        return store.deleteMember(id);
+    }
+
+    @Override
+    public <S extends Member> S save(S member) {
+        // 회원 id 는 가입할 때 정해진다
+        if (member.getId() == null)
+            throw new InvalidDataAccessApiUsageException("Member id must be assigned before save");
+        store.putMember(member.getId(), current ->
+                new MemberRecord(member.getId(), member.getPassword(), member.getName(), member.getMail()));
+        return member;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.storage.MemoryRecords.ProjectRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MemoryProjectRepository extends MemoryRepository<Project, Long, ProjectRecord> implements ProjectRepository {
+
+    public MemoryProjectRepository(MemoryStore store) {
+        super(store);
+    }
+
+    @Override
+    protected Class<Project> entityType() {
+        return Project.class;
+    }
+
+    @Override
+    protected MemoryStore.Table table() {
+        return MemoryStore.Table.PROJECT;
+    }
+
+    @Override
+    protected Long idOf(Project project) {
+        return project.getId();
+    }
+
+    @Override
+    protected ProjectRecord record(Long id) {
+        return store.project(id);
+    }
+
+    @Override
+    protected List<ProjectRecord> records() {
+        return store.projects();
+    }
+
+    @Override
+    protected Project toEntity(EntityResolver resolver, ProjectRecord record) {
+        return resolver.project(record);
+    }
+
+    // 이슈, 코멘트, 멤버십까지 함께 지운다 (Project 의 cascade 와 같다)
+    @Override
+    protected boolean remove(Long id) {
+        return store.deleteProject(id);
+    }
+
+    @Override
+    public <S extends Project> S save(S project) {
+        Long id = project.getId() != null ? project.getId() : store.nextId(MemoryStore.Table.PROJECT);
+        LocalDateTime now = LocalDateTime.now();
+        ProjectRecord saved = store.putProject(id, current -> new ProjectRecord(id, project.getTitle(),
+                current != null ? current.createdDate() : (project.getCreatedDate() != null ? project.getCreatedDate() : now), now));
+        project.setId(id);
+        project.setCreatedDate(saved.createdDate());
+        project.setModifiedDate(saved.modifiedDate());
+        return project;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.issuetracker_server.storage;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Transient;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * MemoryRepository 의 정렬과 Example 조회. 엔티티 필드를 리플렉션으로 읽어 비교한다.
+ * 경로는 JPA 와 같이 점으로 잇는다 (project.id). 컬렉션 필드는 Example 조회에서 빼는데, JPA 도 같다.
+ */
+final class MemoryQuery {
+
+    private MemoryQuery() {
+    }
+
+    // 값이 null 인 칸은 NATIVE 면 H2 처럼 가장 작은 값으로 본다
+    static <T> Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Object> values = order.isIgnoreCase() ? MemoryQuery::compareIgnoringCase : MemoryQuery::compare;
+            if (order.isDescending())
+                values = values.reversed();
+            boolean nullsFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isAscending();
+            };
+            Comparator<Object> withNulls = nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+            String path = order.getProperty();
+            comparator = comparator.thenComparing(entity -> valueAt(entity, path), withNulls);
+        }
+        return comparator;
+    }
+
+    static <T> Predicate<Object> matcher(Example<T> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        List<Predicate<Object>> conditions = new ArrayList<>();
+        collect(example.getProbe(), "", matcher, conditions, Collections.newSetFromMap(new IdentityHashMap<>()));
+        Class<T> probeType = example.getProbeType();
+        if (conditions.isEmpty())
+            return probeType::isInstance;
+        return entity -> probeType.isInstance(entity) && (matcher.isAllMatching()
+                ? conditions.stream().allMatch(condition -> condition.test(entity))
+                : conditions.stream().anyMatch(condition -> condition.test(entity)));
+    }
+
+    // 중간 경로가 null 이면 null
+    static Object valueAt(Object entity, String path) {
+        Object value = entity;
+        for (String name : path.split("\\.")) {
+            if (value == null)
+                return null;
+            Field field = ReflectionUtils.findField(value.getClass(), name);
+            if (field == null)
+                throw new InvalidDataAccessApiUsageException("No property " + name + " found for type " + value.getClass().getSimpleName());
+            ReflectionUtils.makeAccessible(field);
+            value = ReflectionUtils.getField(field, value);
+        }
+        return value;
+    }
+
+    // 연관 엔티티는 그 필드까지 내려가서 비교한다. visited 는 양방향 참조로 도는 걸 막는다
+    private static void collect(Object probe, String prefix, ExampleMatcher matcher,
+                                List<Predicate<Object>> conditions, Set<Object> visited) {
+        if (!visited.add(probe))
+            return;
+        ReflectionUtils.doWithFields(probe.getClass(), field -> {
+            String path = prefix + field.getName();
+            if (matcher.isIgnoredPath(path))
+                return;
+            ReflectionUtils.makeAccessible(field);
+            ExampleMatcher.PropertySpecifier specifier = matcher.getPropertySpecifiers().hasSpecifierForPath(path)
+                    ? matcher.getPropertySpecifiers().getForPath(path)
+                    : null;
+            Object value = ReflectionUtils.getField(field, probe);
+            if (specifier != null)
+                value = specifier.getPropertyValueTransformer().apply(Optional.ofNullable(value)).orElse(null);
+
+            if (value == null) {
+                if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE)
+                    conditions.add(entity -> valueAt(entity, path) == null);
+            } else if (isEntity(field.getType())) {
+                collect(value, path + ".", matcher, conditions, visited);
+            } else if (value instanceof String text) {
+                ExampleMatcher.StringMatcher stringMatcher = specifier != null && specifier.getStringMatcher() != null
+                        ? specifier.getStringMatcher()
+                        : matcher.getDefaultStringMatcher();
+                boolean ignoreCase = specifier != null && specifier.getIgnoreCase() != null
+                        ? specifier.getIgnoreCase()
+                        : matcher.isIgnoreCaseEnabled();
+                Predicate<String> matches = stringMatcher(text, stringMatcher, ignoreCase);
+                conditions.add(entity -> valueAt(entity, path) instanceof String candidate && matches.test(candidate));
+            } else {
+                Object expected = value;
+                conditions.add(entity -> expected.equals(valueAt(entity, path)));
+            }
+        }, MemoryQuery::isColumn);
+    }
+
+    private static Predicate<String> stringMatcher(String probe, ExampleMatcher.StringMatcher matcher, boolean ignoreCase) {
+        if (matcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(probe, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+            return candidate -> pattern.matcher(candidate).matches();
+        }
+        String expected = ignoreCase ? probe.toLowerCase(Locale.ROOT) : probe;
+        return candidate -> {
+            String value = ignoreCase ? candidate.toLowerCase(Locale.ROOT) : candidate;
+            return switch (matcher) {
+                case STARTING -> value.startsWith(expected);
+                case ENDING -> value.endsWith(expected);
+                case CONTAINING -> value.contains(expected);
+                default -> value.equals(expected);
+            };
+        };
+    }
+
+    private static boolean isColumn(Field field) {
+        return !Modifier.isStatic(field.getModifiers())
+                && !Modifier.isTransient(field.getModifiers())
+                && !field.isAnnotationPresent(Transient.class)
+                && !Collection.class.isAssignableFrom(field.getType())
+                && !Map.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean isEntity(Class<?> type) {
+        return type.isAnnotationPresent(Entity.class) || type.isAnnotationPresent(Embeddable.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object left, Object right) {
+        if (!(left instanceof Comparable<?>))
+            throw new InvalidDataAccessApiUsageException("Cannot sort by a value of type " + left.getClass().getSimpleName());
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+
+    private static int compareIgnoringCase(Object left, Object right) {
+        if (left instanceof String leftText && right instanceof String rightText)
+            return String.CASE_INSENSITIVE_ORDER.compare(leftText, rightText);
+        return compare(left, right);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.memberproject.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * MemoryStore 가 들고 있는 불변 행. 연관 엔티티는 id 로만 가리킨다.
+ * WAL 과 스냅샷에도 이 모양 그대로 JSON 으로 남는다.
+ */
+public final class MemoryRecords {
+
+    private MemoryRecords() {
+    }
+
+    public record MemberRecord(String id, String password, String name, String mail) {
+    }
+
+    public record ProjectRecord(Long id, String title, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    }
+
+    public record MemberProjectRecord(Long id, String memberId, Long projectId, Role role) {
+    }
+
+    public record IssueRecord(Long id, Long projectId, String title, String description, String reporterId,
+                              String assigneeId, String fixerId, Priority priority, State state,
+                              LocalDateTime createdDate, LocalDateTime modifiedDate, Long version) {
+    }
+
+    public record CommentRecord(Long id, String authorId, Long issueId, String content,
+                                LocalDateTime createdDate, LocalDateTime modifiedDate, Long version) {
+    }
+}
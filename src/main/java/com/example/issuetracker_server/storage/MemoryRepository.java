@@ -0,0 +1,269 @@
+package com.example.issuetracker_server.storage;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * MemoryStore 위의 JpaRepository 구현 공통부. T 는 엔티티, R 은 MemoryStore 의 레코드 타입이다.
+ * 조회할 때마다 레코드로 새 엔티티를 만들어 돌려주므로, 엔티티를 고친 뒤에는 save() 를 불러야 반영된다 (서비스는 이미 그렇게 한다).
+ * 정렬과 Example 조회는 엔티티를 모두 만든 뒤 필드 값을 비교한다 (MemoryQuery). 관리 화면 수준의 작은 조회용이다.
+ */
+public abstract class MemoryRepository<T, ID, R> implements JpaRepository<T, ID> {
+
+    protected final MemoryStore store;
+
+    protected MemoryRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    protected abstract Class<T> entityType();
+
+    protected abstract MemoryStore.Table table();
+
+    protected abstract ID idOf(T entity);
+
+    protected abstract R record(ID id);
+
+    // id 순
+    protected abstract List<R> records();
+
+    protected abstract T toEntity(EntityResolver resolver, R record);
+
+    protected abstract boolean remove(ID id);
+
+    protected List<T> toEntities(List<R> records) {
+        EntityResolver resolver = new EntityResolver(store);
+        List<T> entities = new ArrayList<>(records.size());
+        for (R record : records)
+            entities.add(toEntity(resolver, record));
+        return entities;
+    }
+
+    // JPA 의 @Version 검사와 같다. 저장된 행이 있고 엔티티가 들고 있는 버전이 다르면 충돌
+    protected void checkVersion(ID id, Long current, Long expected) {
+        if (current != null && expected != null && !current.equals(expected))
+            throw new ObjectOptimisticLockingFailureException(entityType(), id);
+    }
+
+    // 외래키 제약 대신 참조하는 행이 있는지 확인한다 (쓰기 잠금 안에서 불린다)
+    protected static void checkReference(String column, Object reference, boolean exists) {
+        if (reference == null || !exists)
+            throw new DataIntegrityViolationException("Missing reference " + column + "=" + reference);
+    }
+
+    protected static boolean containsIgnoreCase(String value, String part) {
+        return value != null && part != null
+                && value.toLowerCase(Locale.ROOT).contains(part.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        R record = record(id);
+        return record != null ? Optional.of(toEntity(new EntityResolver(store), record)) : Optional.empty();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return record(id) != null;
+    }
+
+    @Override
+    public long count() {
+        return store.count(table());
+    }
+
+    @Override
+    public List<T> findAll() {
+        return toEntities(records());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<ID> ids) {
+        List<R> records = new ArrayList<>();
+        for (ID id : ids) {
+            R record = record(id);
+            if (record != null)
+                records.add(record);
+        }
+        return toEntities(records);
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        List<T> entities = findAll();
+        if (sort.isSorted())
+            entities.sort(MemoryQuery.comparator(sort));
+        return entities;
+    }
+
+    // 정렬이 없으면 id 순 레코드에서 그 페이지만 엔티티로 만든다
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        if (pageable.isUnpaged())
+            return new PageImpl<>(findAll(pageable.getSort()));
+        if (pageable.getSort().isSorted())
+            return page(findAll(pageable.getSort()), pageable);
+        List<R> records = records();
+        int from = (int) Math.min(pageable.getOffset(), records.size());
+        int to = Math.min(from + pageable.getPageSize(), records.size());
+        return new PageImpl<>(toEntities(records.subList(from, to)), pageable, records.size());
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities)
+            saved.add(save(entity));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    // 쓰기는 트랜잭션이 커밋될 때 (트랜잭션 밖이면 save/delete 시점에) WAL 에 남는다
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        remove(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        ID id = idOf(entity);
+        if (id != null)
+            remove(id);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends ID> ids) {
+        for (ID id : ids)
+            remove(id);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        for (T entity : entities)
+            delete(entity);
+    }
+
+    @Override
+    public void deleteAll() {
+        for (T entity : findAll())
+            delete(entity);
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<ID> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public T getOne(ID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public T getById(ID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public T getReferenceById(ID id) {
+        return findById(id).orElseThrow(() ->
+                new EntityNotFoundException("Unable to find " + entityType().getName() + " with id " + id));
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        List<S> matches = findAll(example);
+        if (matches.size() > 1)
+            throw new IncorrectResultSizeDataAccessException(1, matches.size());
+        return matches.stream().findFirst();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        Predicate<Object> matcher = MemoryQuery.matcher(example);
+        List<S> matches = new ArrayList<>();
+        for (T entity : findAll()) {
+            if (matcher.test(entity))
+                matches.add(example.getProbeType().cast(entity));
+        }
+        return matches;
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        List<S> matches = findAll(example);
+        if (sort.isSorted())
+            matches.sort(MemoryQuery.comparator(sort));
+        return matches;
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        if (pageable.isUnpaged())
+            return new PageImpl<>(findAll(example, pageable.getSort()));
+        return page(findAll(example, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return findAll(example).size();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return !findAll(example).isEmpty();
+    }
+
+    @Override
+    public <S extends T, Q> Q findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, Q> queryFunction) {
+        Class<S> probeType = example.getProbeType();
+        return queryFunction.apply(new MemoryFluentQuery<>(findAll(example), probeType::cast));
+    }
+
+    private static <E> Page<E> page(List<E> entities, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), entities.size());
+        int to = Math.min(from + pageable.getPageSize(), entities.size());
+        return new PageImpl<>(entities.subList(from, to), pageable, entities.size());
+    }
+}
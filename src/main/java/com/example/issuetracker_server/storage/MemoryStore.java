@@ -0,0 +1,844 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.storage.MemoryRecords.CommentRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.IssueRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberProjectRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.MemberRecord;
+import com.example.issuetracker_server.storage.MemoryRecords.ProjectRecord;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * memory 프로필의 저장 엔진.
+ * 모든 행을 ConcurrentHashMap 에 두고 프로젝트별 이슈/상태/담당자/보고자, 이슈별 코멘트, 프로젝트/회원별 멤버십 인덱스를 함께 유지한다.
+ * 쓰기는 하나씩(synchronized) WAL 에 먼저 남긴 뒤 맵과 인덱스에 반영하고, 읽기는 잠금 없이 바로 본다.
+ * 읽기는 인덱스로 후보를 찾은 뒤 행을 다시 확인하므로 쓰기 도중에 읽어도 조건에 맞지 않는 행을 돌려주지 않는다.
+ * 주기적으로 전체 스냅샷을 쓰고 그 이전 WAL 세그먼트를 지우며, 시작할 때는 최신 스냅샷과 그 뒤 세그먼트를 재생한다.
+ * 트랜잭션 안의 쓰기는 트랜잭션별 버퍼(Pending)에 모았다가 커밋 직전에 WAL 과 맵에 반영하고, 롤백되면 버린다.
+ * 같은 트랜잭션의 읽기는 버퍼를 겹쳐 보고, 다른 트랜잭션은 커밋된 행만 본다. 트랜잭션 밖의 쓰기는 바로 반영된다.
+ */
+public class MemoryStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MemoryStore.class);
+
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.jsonl");
+
+    private static final String PUT = "PUT";
+
+    private static final String DELETE = "DELETE";
+
+    public enum Table {
+        MEMBER(MemberRecord.class),
+        PROJECT(ProjectRecord.class),
+        MEMBER_PROJECT(MemberProjectRecord.class),
+        ISSUE(IssueRecord.class),
+        COMMENT(CommentRecord.class);
+
+        private final Class<?> recordType;
+
+        Table(Class<?> recordType) {
+            this.recordType = recordType;
+        }
+    }
+
+    // WAL/스냅샷 한 줄. PUT 은 record, DELETE 는 id 만 남긴다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record Entry(String op, Table table, Object id, Object record) {
+    }
+
+    private final Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ConcurrentMap<String, MemberRecord> members = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ProjectRecord> projects = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, MemberProjectRecord> memberProjects = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, IssueRecord> issues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, CommentRecord> comments = new ConcurrentHashMap<>();
+
+    private final Index<Long> issuesByProject = new Index<>();
+    private final ConcurrentMap<Long, Index<State>> issueStates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Index<String>> issueAssignees = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Index<String>> issueReporters = new ConcurrentHashMap<>();
+    private final Index<Long> commentsByIssue = new Index<>();
+    private final Index<Long> memberProjectsByProject = new Index<>();
+    private final Index<String> memberProjectsByMember = new Index<>();
+
+    // 테이블별로 지금까지 쓴 가장 큰 id
+    private final Map<Table, AtomicLong> sequences = new EnumMap<>(Table.class);
+
+    private final Object snapshotLock = new Object();
+
+    private final WriteAheadLog wal;
+
+    private final ScheduledExecutorService scheduler;
+
+    // 마지막 스냅샷 이후 쓴 변경 수 (this 로 보호)
+    private long writesSinceSnapshot;
+
+    private MemoryStore(Path dir, long fsyncIntervalMs, long snapshotIntervalSeconds) throws IOException {
+        this.dir = dir;
+        for (Table table : Table.values())
+            sequences.put(table, new AtomicLong());
+        Files.createDirectories(dir);
+        wal = new WriteAheadLog(dir, recover(), fsyncIntervalMs <= 0);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memory-store");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (fsyncIntervalMs > 0)
+            scheduler.scheduleWithFixedDelay(this::syncQuietly, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        if (snapshotIntervalSeconds > 0)
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * dir 의 스냅샷과 WAL 로 상태를 복구하고 새 WAL 세그먼트를 연다.
+     * fsyncIntervalMs 가 0 이하면 쓰기마다 fsync 하고, 아니면 그 주기로 모아서 한다.
+     * snapshotIntervalSeconds 가 0 이하면 close() 때만 스냅샷을 쓴다.
+     */
+    public static MemoryStore open(Path dir, long fsyncIntervalMs, long snapshotIntervalSeconds) throws IOException {
+        return new MemoryStore(dir, fsyncIntervalMs, snapshotIntervalSeconds);
+    }
+
+    // ---- 쓰기 ----
+
+    public long nextId(Table table) {
+        return sequences.get(table).incrementAndGet();
+    }
+
+    // change 는 기존 행(없으면 null)을 받아 저장할 행을 돌려준다. 잠금 안에서 불리므로 버전 검사를 여기서 하면 된다
+    public MemberRecord putMember(String id, UnaryOperator<MemberRecord> change) {
+        return write(Table.MEMBER, members, id, change);
+    }
+
+    public ProjectRecord putProject(Long id, UnaryOperator<ProjectRecord> change) {
+        return write(Table.PROJECT, projects, id, change);
+    }
+
+    public MemberProjectRecord putMemberProject(Long id, UnaryOperator<MemberProjectRecord> change) {
+        return write(Table.MEMBER_PROJECT, memberProjects, id, change);
+    }
+
+    public IssueRecord putIssue(Long id, UnaryOperator<IssueRecord> change) {
+        return write(Table.ISSUE, issues, id, change);
+    }
+
+    public CommentRecord putComment(Long id, UnaryOperator<CommentRecord> change) {
+        return write(Table.COMMENT, comments, id, change);
+    }
+
+    private synchronized <K, R> R write(Table table, ConcurrentMap<K, R> rows, K id, UnaryOperator<R> change) {
+        R updated = change.apply(visible(table, rows, id));
+        Pending pending = pendingForWrite();
+        if (pending != null) {
+            pending.record(table, id, rows.get(id), updated);
+        } else {
+            append(new Entry(PUT, table, null, updated));
+            put(table, updated);
+        }
+        return updated;
+    }
+
+    public synchronized boolean deleteMember(String id) {
+        if (member(id) == null)
+            return false;
+        delete(Table.MEMBER, id);
+        return true;
+    }
+
+    // JPA 의 cascade 와 같이 이슈(와 코멘트), 멤버십을 먼저 지운다
+    public synchronized boolean deleteProject(Long id) {
+        if (project(id) == null)
+            return false;
+        deleteIssuesByProject(id);
+        deleteMemberProjectsByProject(id);
+        delete(Table.PROJECT, id);
+        return true;
+    }
+
+    public synchronized boolean deleteMemberProject(Long id) {
+        if (memberProject(id) == null)
+            return false;
+        delete(Table.MEMBER_PROJECT, id);
+        return true;
+    }
+
+    public synchronized boolean deleteIssue(Long id) {
+        if (issue(id) == null)
+            return false;
+        deleteCommentsByIssue(id);
+        delete(Table.ISSUE, id);
+        return true;
+    }
+
+    public synchronized boolean deleteComment(Long id) {
+        if (comment(id) == null)
+            return false;
+        delete(Table.COMMENT, id);
+        return true;
+    }
+
+    public synchronized int deleteCommentsByIssue(Long issueId) {
+        List<Long> ids = commentsByIssue(issueId).stream().map(CommentRecord::id).toList();
+        ids.forEach(id -> delete(Table.COMMENT, id));
+        return ids.size();
+    }
+
+    public synchronized int deleteCommentsByProject(Long projectId) {
+        int deleted = 0;
+        for (IssueRecord issue : issuesByProject(projectId))
+            deleted += deleteCommentsByIssue(issue.id());
+        return deleted;
+    }
+
+    public synchronized int deleteIssuesByProject(Long projectId) {
+        List<Long> ids = issuesByProject(projectId).stream().map(IssueRecord::id).toList();
+        ids.forEach(this::deleteIssue);
+        return ids.size();
+    }
+
+    public synchronized int deleteMemberProjectsByProject(Long projectId) {
+        List<Long> ids = memberProjectsByProject(projectId).stream().map(MemberProjectRecord::id).toList();
+        ids.forEach(id -> delete(Table.MEMBER_PROJECT, id));
+        return ids.size();
+    }
+
+    // 잠금을 잡은 상태에서만 부른다
+    private void delete(Table table, Object id) {
+        Pending pending = pendingForWrite();
+        if (pending != null) {
+            pending.record(table, id, committed(table).get(id), null);
+        } else {
+            append(new Entry(DELETE, table, id, null));
+            remove(table, id);
+        }
+    }
+
+    /**
+     * 트랜잭션의 버퍼를 반영한다 (beforeCommit 에서, 잠금 안에서).
+     * 처음 건드린 뒤 다른 트랜잭션이 먼저 커밋한 행이 있으면 아무것도 반영하지 않고 충돌로 던지므로, 트랜잭션 전체가 롤백된다.
+     * 지우는 행은 그 사이 다른 트랜잭션이 붙인 자식 행(코멘트, 이슈, 멤버십)까지 함께 지운다.
+     */
+    private synchronized void commit(Pending pending) {
+        pending.bases.forEach((table, bases) -> bases.forEach((id, base) -> {
+            if (committed(table).get(id) != base)
+                throw new ObjectOptimisticLockingFailureException(table.name(), id);
+        }));
+        for (Entry entry : pending.entries) {
+            if (PUT.equals(entry.op())) {
+                append(entry);
+                put(entry.table(), entry.record());
+            } else {
+                deleteCascading(entry.table(), entry.id());
+            }
+        }
+    }
+
+    private void deleteCascading(Table table, Object id) {
+        if (!committed(table).containsKey(id))
+            return;
+        if (table == Table.ISSUE) {
+            for (Long commentId : List.copyOf(commentsByIssue.get((Long) id)))
+                deleteCascading(Table.COMMENT, commentId);
+        } else if (table == Table.PROJECT) {
+            for (Long issueId : List.copyOf(issuesByProject.get((Long) id)))
+                deleteCascading(Table.ISSUE, issueId);
+            for (Long memberProjectId : List.copyOf(memberProjectsByProject.get((Long) id)))
+                deleteCascading(Table.MEMBER_PROJECT, memberProjectId);
+        }
+        append(new Entry(DELETE, table, id, null));
+        remove(table, id);
+    }
+
+    private void append(Entry entry) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entry);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            wal.append(line);
+            writesSinceSnapshot++;
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Could not append to the write-ahead log in " + dir, e);
+        }
+    }
+
+    // ---- 읽기 ----
+
+    public MemberRecord member(String id) {
+        return id != null ? visible(Table.MEMBER, members, id) : null;
+    }
+
+    public ProjectRecord project(Long id) {
+        return id != null ? visible(Table.PROJECT, projects, id) : null;
+    }
+
+    public MemberProjectRecord memberProject(Long id) {
+        return id != null ? visible(Table.MEMBER_PROJECT, memberProjects, id) : null;
+    }
+
+    public IssueRecord issue(Long id) {
+        return id != null ? visible(Table.ISSUE, issues, id) : null;
+    }
+
+    public CommentRecord comment(Long id) {
+        return id != null ? visible(Table.COMMENT, comments, id) : null;
+    }
+
+    public List<MemberRecord> members() {
+        return sorted(visible(Table.MEMBER, members).values(), MemberRecord::id);
+    }
+
+    public List<ProjectRecord> projects() {
+        return sorted(visible(Table.PROJECT, projects).values(), ProjectRecord::id);
+    }
+
+    public List<MemberProjectRecord> memberProjects() {
+        return sorted(visible(Table.MEMBER_PROJECT, memberProjects).values(), MemberProjectRecord::id);
+    }
+
+    public List<IssueRecord> issues() {
+        return sorted(visible(Table.ISSUE, issues).values(), IssueRecord::id);
+    }
+
+    public List<CommentRecord> comments() {
+        return sorted(visible(Table.COMMENT, comments).values(), CommentRecord::id);
+    }
+
+    public long count(Table table) {
+        return visible(table, committed(table)).size();
+    }
+
+    public List<IssueRecord> issuesByProject(Long projectId) {
+        return rows(Table.ISSUE, issues, issuesByProject.get(projectId), issue -> Objects.equals(projectId, issue.projectId()));
+    }
+
+    public List<IssueRecord> issuesByState(Long projectId, State state) {
+        Index<State> states = projectId != null ? issueStates.get(projectId) : null;
+        return rows(Table.ISSUE, issues, states != null ? states.get(state) : Set.of(),
+                issue -> Objects.equals(projectId, issue.projectId()) && issue.state() == state);
+    }
+
+    // 프로젝트 안의 담당자 목록만 훑어서 조건에 맞는 담당자의 이슈를 모은다
+    public List<IssueRecord> issuesByAssignee(Long projectId, Predicate<String> assigneeId) {
+        return rows(Table.ISSUE, issues, matching(projectId != null ? issueAssignees.get(projectId) : null, assigneeId),
+                issue -> Objects.equals(projectId, issue.projectId()) && issue.assigneeId() != null && assigneeId.test(issue.assigneeId()));
+    }
+
+    public List<IssueRecord> issuesByReporter(Long projectId, Predicate<String> reporterId) {
+        return rows(Table.ISSUE, issues, matching(projectId != null ? issueReporters.get(projectId) : null, reporterId),
+                issue -> Objects.equals(projectId, issue.projectId()) && reporterId.test(issue.reporterId()));
+    }
+
+    public List<CommentRecord> commentsByIssue(Long issueId) {
+        return rows(Table.COMMENT, comments, commentsByIssue.get(issueId), comment -> Objects.equals(issueId, comment.issueId()));
+    }
+
+    public List<MemberProjectRecord> memberProjectsByProject(Long projectId) {
+        return rows(Table.MEMBER_PROJECT, memberProjects, memberProjectsByProject.get(projectId),
+                memberProject -> Objects.equals(projectId, memberProject.projectId()));
+    }
+
+    public List<MemberProjectRecord> memberProjectsByMember(String memberId) {
+        return rows(Table.MEMBER_PROJECT, memberProjects, memberProjectsByMember.get(memberId),
+                memberProject -> Objects.equals(memberId, memberProject.memberId()));
+    }
+
+    // 인덱스로 찾은 커밋된 행에 이 트랜잭션이 바꾼 행을 겹친다. id 순
+    @SuppressWarnings("unchecked")
+    private <R> List<R> rows(Table table, ConcurrentMap<Long, R> rows, Set<Long> ids, Predicate<R> matches) {
+        Map<Object, Object> changed = changed(table);
+        List<R> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            R row = rows.get(id);
+            if (row != null && (changed == null || !changed.containsKey(id)) && matches.test(row))
+                found.add(row);
+        }
+        if (changed == null)
+            return found;
+        Map<Long, R> merged = new TreeMap<>();
+        found.forEach(row -> merged.put(idOf(row), row));
+        changed.forEach((id, row) -> {
+            if (row != null && matches.test((R) row))
+                merged.put((Long) id, (R) row);
+        });
+        return new ArrayList<>(merged.values());
+    }
+
+    private static Long idOf(Object row) {
+        if (row instanceof IssueRecord issue)
+            return issue.id();
+        if (row instanceof CommentRecord comment)
+            return comment.id();
+        if (row instanceof MemberProjectRecord memberProject)
+            return memberProject.id();
+        return ((ProjectRecord) row).id();
+    }
+
+    // ---- 트랜잭션 버퍼 ----
+
+    private ConcurrentMap<?, ?> committed(Table table) {
+        return switch (table) {
+            case MEMBER -> members;
+            case PROJECT -> projects;
+            case MEMBER_PROJECT -> memberProjects;
+            case ISSUE -> issues;
+            case COMMENT -> comments;
+        };
+    }
+
+    // 이 트랜잭션이 table 에서 바꾼 행 (지운 행은 값이 null). 없으면 null
+    private Map<Object, Object> changed(Table table) {
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending.rows.get(table) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, R> R visible(Table table, Map<K, R> rows, K id) {
+        Map<Object, Object> changed = changed(table);
+        if (changed != null && changed.containsKey(id))
+            return (R) changed.get(id);
+        return rows.get(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, R> Map<K, R> visible(Table table, Map<K, R> rows) {
+        Map<Object, Object> changed = changed(table);
+        if (changed == null)
+            return rows;
+        Map<K, R> merged = new HashMap<>(rows);
+        changed.forEach((id, row) -> {
+            if (row != null)
+                merged.put((K) id, (R) row);
+            else
+                merged.remove(id);
+        });
+        return merged;
+    }
+
+    // 트랜잭션 안이면 그 트랜잭션의 버퍼 (처음이면 만들어 묶는다), 밖이면 null
+    private Pending pendingForWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return null;
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private final class Pending implements TransactionSynchronization {
+
+        // 테이블별로 바뀐 행. 지운 행은 null
+        private final Map<Table, Map<Object, Object>> rows = new EnumMap<>(Table.class);
+
+        // 처음 건드릴 때 본 커밋된 행 (없었으면 null). 커밋할 때 그대로인지 본다
+        private final Map<Table, Map<Object, Object>> bases = new EnumMap<>(Table.class);
+
+        // WAL 에 남길 순서
+        private final List<Entry> entries = new ArrayList<>();
+
+        void record(Table table, Object id, Object committed, Object row) {
+            Map<Object, Object> tableBases = bases.computeIfAbsent(table, key -> new HashMap<>());
+            if (!tableBases.containsKey(id))
+                tableBases.put(id, committed);
+            rows.computeIfAbsent(table, key -> new HashMap<>()).put(id, row);
+            entries.add(row != null ? new Entry(PUT, table, null, row) : new Entry(DELETE, table, id, null));
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(MemoryStore.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(MemoryStore.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commit(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MemoryStore.this);
+        }
+    }
+
+    private static Set<Long> matching(Index<String> index, Predicate<String> key) {
+        if (index == null)
+            return Set.of();
+        Set<Long> ids = new TreeSet<>();
+        for (String candidate : index.keys()) {
+            if (key.test(candidate))
+                ids.addAll(index.get(candidate));
+        }
+        return ids;
+    }
+
+    private static <R, K extends Comparable<K>> List<R> sorted(Collection<R> rows, Function<R, K> id) {
+        List<R> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(id));
+        return sorted;
+    }
+
+    // ---- 반영과 인덱스 (쓰기 잠금 안이나 복구 중에만 부른다) ----
+
+    private void put(Table table, Object record) {
+        switch (table) {
+            case MEMBER -> {
+                MemberRecord member = (MemberRecord) record;
+                members.put(member.id(), member);
+            }
+            case PROJECT -> {
+                ProjectRecord project = (ProjectRecord) record;
+                projects.put(project.id(), project);
+                advance(table, project.id());
+            }
+            case MEMBER_PROJECT -> {
+                MemberProjectRecord memberProject = (MemberProjectRecord) record;
+                unindex(memberProjects.put(memberProject.id(), memberProject));
+                index(memberProject);
+                advance(table, memberProject.id());
+            }
+            case ISSUE -> {
+                IssueRecord issue = (IssueRecord) record;
+                unindex(issues.put(issue.id(), issue));
+                index(issue);
+                advance(table, issue.id());
+            }
+            case COMMENT -> {
+                CommentRecord comment = (CommentRecord) record;
+                unindex(comments.put(comment.id(), comment));
+                index(comment);
+                advance(table, comment.id());
+            }
+        }
+    }
+
+    private void remove(Table table, Object id) {
+        switch (table) {
+            case MEMBER -> members.remove(id);
+            case PROJECT -> {
+                projects.remove(id);
+                issueStates.remove(id);
+                issueAssignees.remove(id);
+                issueReporters.remove(id);
+            }
+            case MEMBER_PROJECT -> unindex(memberProjects.remove(id));
+            case ISSUE -> unindex(issues.remove(id));
+            case COMMENT -> unindex(comments.remove(id));
+        }
+    }
+
+    private void advance(Table table, Long id) {
+        sequences.get(table).accumulateAndGet(id, Math::max);
+    }
+
+    private void index(MemberProjectRecord memberProject) {
+        memberProjectsByProject.add(memberProject.projectId(), memberProject.id());
+        memberProjectsByMember.add(memberProject.memberId(), memberProject.id());
+    }
+
+    private void unindex(MemberProjectRecord memberProject) {
+        if (memberProject == null)
+            return;
+        memberProjectsByProject.remove(memberProject.projectId(), memberProject.id());
+        memberProjectsByMember.remove(memberProject.memberId(), memberProject.id());
+    }
+
+    private void index(IssueRecord issue) {
+        issuesByProject.add(issue.projectId(), issue.id());
+        issueStates.computeIfAbsent(issue.projectId(), projectId -> new Index<>()).add(issue.state(), issue.id());
+        issueAssignees.computeIfAbsent(issue.projectId(), projectId -> new Index<>()).add(issue.assigneeId(), issue.id());
+        issueReporters.computeIfAbsent(issue.projectId(), projectId -> new Index<>()).add(issue.reporterId(), issue.id());
+    }
+
+    private void unindex(IssueRecord issue) {
+        if (issue == null)
+            return;
+        issuesByProject.remove(issue.projectId(), issue.id());
+        Index<State> states = issueStates.get(issue.projectId());
+        if (states != null)
+            states.remove(issue.state(), issue.id());
+        Index<String> assignees = issueAssignees.get(issue.projectId());
+        if (assignees != null)
+            assignees.remove(issue.assigneeId(), issue.id());
+        Index<String> reporters = issueReporters.get(issue.projectId());
+        if (reporters != null)
+            reporters.remove(issue.reporterId(), issue.id());
+    }
+
+    private void index(CommentRecord comment) {
+        commentsByIssue.add(comment.issueId(), comment.id());
+    }
+
+    private void unindex(CommentRecord comment) {
+        if (comment != null)
+            commentsByIssue.remove(comment.issueId(), comment.id());
+    }
+
+    // ---- 복구와 스냅샷 ----
+
+    // 최신 스냅샷을 읽고 그 뒤 세그먼트를 순서대로 재생한다. 새로 쓸 세그먼트 번호를 돌려준다
+    private long recover() throws IOException {
+        List<Long> snapshots = snapshots(dir);
+        long base = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+        long started = System.nanoTime();
+        if (base > 0)
+            replay(snapshotFile(dir, base));
+        long last = base;
+        long replayed = 0;
+        for (long segment : WriteAheadLog.segments(dir)) {
+            if (segment < base)
+                continue;
+            replayed += replay(WriteAheadLog.segment(dir, segment));
+            last = Math.max(last, segment);
+        }
+        // 재생한 세그먼트는 다음 스냅샷 때 정리되도록 쓰기로 센다
+        writesSinceSnapshot = replayed;
+        log.info("Recovered {} issues, {} comments, {} projects, {} members from {} (snapshot {}, {} log entries) in {} ms",
+                issues.size(), comments.size(), projects.size(), members.size(), dir, base, replayed,
+                (System.nanoTime() - started) / 1_000_000);
+        return last + 1;
+    }
+
+    private long replay(Path file) throws IOException {
+        long applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank())
+                    continue;
+                JsonNode entry;
+                try {
+                    entry = objectMapper.readTree(line);
+                } catch (JsonProcessingException e) {
+                    // 쓰는 도중 죽으면 마지막 줄이 잘려 있을 수 있다
+                    log.warn("Skipping unreadable entry {}:{}", file.getFileName(), lineNumber);
+                    continue;
+                }
+                apply(entry);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private void apply(JsonNode entry) throws JsonProcessingException {
+        Table table = Table.valueOf(entry.get("table").asText());
+        if (DELETE.equals(entry.get("op").asText())) {
+            JsonNode id = entry.get("id");
+            remove(table, table == Table.MEMBER ? id.asText() : id.asLong());
+        } else {
+            put(table, objectMapper.treeToValue(entry.get("record"), table.recordType));
+        }
+    }
+
+    /**
+     * 지금 상태를 스냅샷 파일로 쓰고, 스냅샷에 포함된 WAL 세그먼트와 이전 스냅샷을 지운다.
+     * 행을 복사하는 동안만 쓰기를 막고, 파일은 잠금 밖에서 임시 파일에 쓴 뒤 이름을 바꿔 교체한다.
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long sequence;
+            List<MemberRecord> memberRows;
+            List<ProjectRecord> projectRows;
+            List<MemberProjectRecord> memberProjectRows;
+            List<IssueRecord> issueRows;
+            List<CommentRecord> commentRows;
+            synchronized (this) {
+                if (writesSinceSnapshot == 0)
+                    return;
+                sequence = wal.rotate();
+                writesSinceSnapshot = 0;
+                memberRows = List.copyOf(members.values());
+                projectRows = List.copyOf(projects.values());
+                memberProjectRows = List.copyOf(memberProjects.values());
+                issueRows = List.copyOf(issues.values());
+                commentRows = List.copyOf(comments.values());
+            }
+
+            long started = System.nanoTime();
+            Path target = snapshotFile(dir, sequence);
+            Path temp = dir.resolve(target.getFileName() + ".tmp");
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                 BufferedOutputStream out = new BufferedOutputStream(file, 1 << 16)) {
+                writeRows(out, Table.MEMBER, memberRows);
+                writeRows(out, Table.PROJECT, projectRows);
+                writeRows(out, Table.MEMBER_PROJECT, memberProjectRows);
+                writeRows(out, Table.ISSUE, issueRows);
+                writeRows(out, Table.COMMENT, commentRows);
+                out.flush();
+                file.getFD().sync();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            for (long segment : WriteAheadLog.segments(dir)) {
+                if (segment < sequence)
+                    Files.deleteIfExists(WriteAheadLog.segment(dir, segment));
+            }
+            for (long old : snapshots(dir)) {
+                if (old < sequence)
+                    Files.deleteIfExists(snapshotFile(dir, old));
+            }
+            log.info("Wrote snapshot {} ({} issues) in {} ms", target.getFileName(), issueRows.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private void writeRows(BufferedOutputStream out, Table table, List<?> rows) throws IOException {
+        for (Object row : rows) {
+            out.write(objectMapper.writeValueAsBytes(new Entry(PUT, table, null, row)));
+            out.write('\n');
+        }
+    }
+
+    private static Path snapshotFile(Path dir, long sequence) {
+        return dir.resolve(String.format("snapshot-%010d.jsonl", sequence));
+    }
+
+    // 오래된 것부터
+    private static List<Long> snapshots(Path dir) throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher matcher = SNAPSHOT.matcher(file.getFileName().toString());
+                if (matcher.matches())
+                    sequences.add(Long.parseLong(matcher.group(1)));
+            });
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    private void syncQuietly() {
+        try {
+            wal.sync();
+        } catch (IOException e) {
+            log.warn("Could not fsync the write-ahead log", e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write a snapshot", e);
+        }
+    }
+
+    // 진행 중인 fsync/스냅샷이 끝나길 기다린 뒤 (인터럽트하면 파일 채널이 닫힌다) 마지막 스냅샷을 쓴다
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            snapshot();
+        } finally {
+            wal.close();
+        }
+    }
+
+    // 스냅샷 없이 WAL 만 남기고 닫는다 (비정상 종료 뒤 복구를 테스트할 때 쓴다)
+    void closeWithoutSnapshot() throws IOException {
+        scheduler.shutdownNow();
+        wal.close();
+    }
+
+    /**
+     * 키별 id 집합. 값은 id 순으로 정렬되어 있어 조회 결과가 JPA 의 기본 정렬(기본 키 순)과 같다.
+     * 쓰기는 MemoryStore 잠금 안에서만 일어나므로 빈 집합 제거가 다른 쓰기와 겹치지 않는다.
+     */
+    private static final class Index<K> {
+
+        private final ConcurrentMap<K, NavigableSet<Long>> entries = new ConcurrentHashMap<>();
+
+        void add(K key, Long id) {
+            if (key != null)
+                entries.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(id);
+        }
+
+        void remove(K key, Long id) {
+            if (key == null)
+                return;
+            NavigableSet<Long> ids = entries.get(key);
+            if (ids == null)
+                return;
+            ids.remove(id);
+            if (ids.isEmpty())
+                entries.remove(key, ids);
+        }
+
+        Set<Long> get(K key) {
+            if (key == null)
+                return Set.of();
+            NavigableSet<Long> ids = entries.get(key);
+            return ids != null ? ids : Set.of();
+        }
+
+        Set<K> keys() {
+            return entries.keySet();
+        }
+    }
+}
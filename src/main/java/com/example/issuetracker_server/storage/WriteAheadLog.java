@@ -0,0 +1,103 @@
+package com.example.issuetracker_server.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 순차 추가만 하는 WAL 세그먼트 (wal-0000000001.jsonl, 한 줄에 변경 하나).
+ * 쓰기는 매번 파일 채널에 바로 넘기므로 프로세스가 죽어도 남고, fsync 는 syncEveryWrite 이거나 sync() 를 부를 때만 한다.
+ * 스냅샷을 뜰 때 rotate() 로 새 세그먼트를 열고, 스냅샷 이전 세그먼트는 MemoryStore 가 지운다.
+ */
+class WriteAheadLog implements Closeable {
+
+    private static final Pattern SEGMENT = Pattern.compile("wal-(\\d+)\\.jsonl");
+
+    private final Path dir;
+
+    private final boolean syncEveryWrite;
+
+    private FileChannel channel;
+
+    private long sequence;
+
+    private boolean dirty;
+
+    WriteAheadLog(Path dir, long sequence, boolean syncEveryWrite) throws IOException {
+        this.dir = dir;
+        this.syncEveryWrite = syncEveryWrite;
+        open(sequence);
+    }
+
+    static Path segment(Path dir, long sequence) {
+        return dir.resolve(String.format("wal-%010d.jsonl", sequence));
+    }
+
+    // 오래된 것부터
+    static List<Long> segments(Path dir) throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT.matcher(file.getFileName().toString());
+                if (matcher.matches())
+                    sequences.add(Long.parseLong(matcher.group(1)));
+            });
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    synchronized void append(byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        if (syncEveryWrite)
+            channel.force(false);
+        else
+            dirty = true;
+    }
+
+    synchronized void sync() throws IOException {
+        if (dirty && channel.isOpen()) {
+            channel.force(false);
+            dirty = false;
+        }
+    }
+
+    // 지금 세그먼트를 닫고 다음 번호로 새로 연다. 새 세그먼트 번호를 돌려준다
+    synchronized long rotate() throws IOException {
+        dirty = true;
+        sync();
+        channel.close();
+        open(sequence + 1);
+        return sequence;
+    }
+
+    synchronized long getSequence() {
+        return sequence;
+    }
+
+    private void open(long sequence) throws IOException {
+        this.sequence = sequence;
+        this.channel = FileChannel.open(segment(dir, sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+        dirty = true;
+        sync();
+        channel.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.issuetracker_server.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+public class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void prometheusEndpointExposesEndpointRepositoryPoolAndJvmMetrics() {
+        // Given: 컨트롤러 -> 서비스 -> 리포지토리를 한 번 거치는 요청
+        restTemplate.getForEntity("/user?id=nobody&pw=wrong", String.class);
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/user\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("repository=\"MemberRepository\"")
+                .contains("hikaricp_connections")
+                .contains("jvm_memory_used_bytes");
+    }
+}
@@ -3,6 +3,7 @@ package com.example.issuetracker_server.controller;
 import com.example.issuetracker_server.domain.comment.Comment;
 import com.example.issuetracker_server.domain.issue.Issue;
 import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.dto.comment.CommentRequestDto;
 import com.example.issuetracker_server.dto.comment.CommentResponseDto;
 import com.example.issuetracker_server.service.comment.CommentServiceImpl;
@@ -154,6 +155,7 @@ public class CommentControllerTest {
         Comment comment = new Comment();
         comment.setId(1L);
         comment.setAuthor(new Member("user1", "password", "User One", "ROLE_USER"));
+        comment.setIssue(issueOfProject(1L, 1L));
         comment.setContent("Old Content");
 
         CommentRequestDto requestDto = new CommentRequestDto();
@@ -178,6 +180,7 @@ public class CommentControllerTest {
         Comment comment = new Comment();
         comment.setId(1L);
         comment.setAuthor(new Member("user1", "password", "User One", "ROLE_USER"));
+        comment.setIssue(issueOfProject(1L, 1L));
         comment.setContent("Old Content");
 
         CommentRequestDto requestDto = new CommentRequestDto();
@@ -213,11 +216,33 @@ public class CommentControllerTest {
         verify(commentService, times(0)).save(any(Comment.class));
     }
 
+    @Test
+    public void updateComment_NotFound_CommentOfAnotherProject() throws Exception {
+        Comment comment = new Comment();
+        comment.setId(1L);
+        comment.setAuthor(new Member("user1", "password", "User One", "ROLE_USER"));
+        comment.setIssue(issueOfProject(2L, 1L));
+
+        when(memberService.login(anyString(), anyString())).thenReturn(true);
+        when(memberService.isMemberOfProject(anyLong(), anyString())).thenReturn(true);
+        when(commentService.findById(anyLong())).thenReturn(Optional.of(comment));
+
+        mvc.perform(put(url + "1/issue/1/comment/1")
+                        .param("id", "user1")
+                        .param("pw", "password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\": \"New Content\"}"))
+                .andExpect(status().isNotFound());
+
+        verify(commentService, times(0)).save(any(Comment.class));
+    }
+
     @Test
     public void deleteComment_Success() throws Exception {
         Comment comment = new Comment();
         comment.setId(1L);
         comment.setAuthor(new Member("user1", "password", "User One", "ROLE_USER"));
+        comment.setIssue(issueOfProject(1L, 1L));
 
         when(memberService.login(anyString(), anyString())).thenReturn(true);
         when(memberService.isMemberOfProject(anyLong(), anyString())).thenReturn(true);
@@ -228,7 +253,7 @@ public class CommentControllerTest {
                         .param("pw", "password"))
                 .andExpect(status().isOk());
 
-        verify(commentService, times(1)).delete(anyLong());
+        verify(commentService, times(1)).delete(any(Comment.class));
     }
 
     @Test
@@ -240,7 +265,7 @@ public class CommentControllerTest {
                         .param("pw", "password"))
                 .andExpect(status().isUnauthorized());
 
-        verify(commentService, times(0)).delete(anyLong());
+        verify(commentService, times(0)).delete(any(Comment.class));
     }
 
     @Test
@@ -248,6 +273,7 @@ public class CommentControllerTest {
         Comment comment = new Comment();
         comment.setId(1L);
         comment.setAuthor(new Member("user2", "password", "User Two", "ROLE_USER"));
+        comment.setIssue(issueOfProject(1L, 1L));
 
         when(memberService.login(anyString(), anyString())).thenReturn(true);
         when(memberService.isMemberOfProject(anyLong(), anyString())).thenReturn(true);
@@ -258,7 +284,26 @@ public class CommentControllerTest {
                         .param("pw", "password"))
                 .andExpect(status().isForbidden());
 
-        verify(commentService, times(0)).delete(anyLong());
+        verify(commentService, times(0)).delete(any(Comment.class));
+    }
+
+    @Test
+    public void deleteComment_NotFound_CommentOfAnotherIssue() throws Exception {
+        Comment comment = new Comment();
+        comment.setId(1L);
+        comment.setAuthor(new Member("user1", "password", "User One", "ROLE_USER"));
+        comment.setIssue(issueOfProject(1L, 2L));
+
+        when(memberService.login(anyString(), anyString())).thenReturn(true);
+        when(memberService.isMemberOfProject(anyLong(), anyString())).thenReturn(true);
+        when(commentService.findById(anyLong())).thenReturn(Optional.of(comment));
+
+        mvc.perform(delete(url + "1/issue/1/comment/1")
+                        .param("id", "user1")
+                        .param("pw", "password"))
+                .andExpect(status().isNotFound());
+
+        verify(commentService, times(0)).delete(any(Comment.class));
     }
 
     @Test
@@ -272,7 +317,15 @@ public class CommentControllerTest {
                         .param("pw", "password"))
                 .andExpect(status().isBadRequest());
 
-        verify(commentService, times(0)).delete(anyLong());
+        verify(commentService, times(0)).delete(any(Comment.class));
     }
-}
 
+    private static Issue issueOfProject(Long projectId, Long issueId) {
+        Project project = new Project();
+        project.setId(projectId);
+        Issue issue = new Issue();
+        issue.setId(issueId);
+        issue.setProject(project);
+        return issue;
+    }
+}
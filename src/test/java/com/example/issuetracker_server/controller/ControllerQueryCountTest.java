@@ -0,0 +1,650 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobRepository;
+import com.example.issuetracker_server.domain.job.JobState;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilterRepository;
+import com.example.issuetracker_server.service.analytics.IssueAnalyticsService;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.project.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.issuetracker_server.monitoring.SqlCountAssertions.assertSqlCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 엔드포인트마다 실제 DB 에서 실행되는 SQL 문 수를 고정한다.
+ * 데이터는 작성자/담당자가 서로 다른 여러 행으로 만들어서 행마다 추가 조회(N+1)가 생기면 개수가 달라진다.
+ * 요청마다 영속성 컨텍스트가 새로 열리므로(open-in-view) 같은 요청 안에서 이미 읽은 엔티티는 다시 조회하지 않는다.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ControllerQueryCountTest {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MemberProjectRepository memberProjectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private SavedFilterRepository savedFilterRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueHistoryService issueHistoryService;
+
+    @Autowired
+    private IssueAnalyticsService issueAnalyticsService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<String> memberIds = new ArrayList<>();
+    private final List<Long> jobIds = new ArrayList<>();
+
+    private String prefix;
+    private Member admin;
+    private Member pl;
+    private Member dev1;
+    private Member dev2;
+    private Member tester1;
+    private Member tester2;
+    private Project project;
+    private Issue newIssue;
+    private Issue assignedIssue;
+    private Comment dev1Comment;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "qc-" + System.nanoTime() + "-";
+        Optional<Member> existingAdmin = memberRepository.findById("admin");
+        admin = existingAdmin.orElseGet(() -> member("admin"));
+        pl = member(prefix + "pl");
+        dev1 = member(prefix + "dev1");
+        dev2 = member(prefix + "dev2");
+        tester1 = member(prefix + "tester1");
+        tester2 = member(prefix + "tester2");
+
+        project = projectRepository.save(Project.builder().title(prefix + "project").build());
+        projectIds.add(project.getId());
+        memberProjectRepository.save(new MemberProject(pl, project, Role.PL));
+        memberProjectRepository.save(new MemberProject(dev1, project, Role.DEV));
+        memberProjectRepository.save(new MemberProject(dev2, project, Role.DEV));
+        memberProjectRepository.save(new MemberProject(tester1, project, Role.TESTER));
+        memberProjectRepository.save(new MemberProject(tester2, project, Role.TESTER));
+
+        newIssue = issue(tester1, null, null, State.NEW);
+        assignedIssue = issue(tester2, dev1, null, State.ASSIGNED);
+        issue(tester1, dev2, dev2, State.FIXED);
+
+        // 작성자가 모두 다른 코멘트 (작성자 지연 로딩이 코멘트마다 일어나면 개수가 늘어난다)
+        commentRepository.save(Comment.builder().author(tester1).issue(assignedIssue).content("first").build());
+        dev1Comment = commentRepository.save(Comment.builder().author(dev1).issue(assignedIssue).content("second").build());
+        commentRepository.save(Comment.builder().author(tester2).issue(assignedIssue).content("third").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobIds.forEach(jobRepository::deleteById);
+        projectIds.forEach(projectService::delete);
+        memberIds.forEach(memberRepository::deleteById);
+    }
+
+    private Member member(String id) {
+        memberIds.add(id);
+        return memberRepository.save(Member.builder()
+                .id(id)
+                .password(PASSWORD)
+                .name("Query Count " + id)
+                .mail(id + "@example.com")
+                .build());
+    }
+
+    // 시점 조회용으로 히스토리에도 남긴다
+    private Issue issue(Member reporter, Member assignee, Member fixer, State state) {
+        Issue issue = issueRepository.save(Issue.builder()
+                .title("query count " + state)
+                .description("description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(assignee)
+                .fixer(fixer)
+                .state(state)
+                .priority(Priority.MAJOR)
+                .build());
+        issueHistoryService.record(IssueEventType.CREATED, issue, reporter.getId());
+        return issue;
+    }
+
+    private String issuesUrl() {
+        return "/project/" + project.getId() + "/issue";
+    }
+
+    private String commentsUrl() {
+        return issuesUrl() + "/" + assignedIssue.getId() + "/comment";
+    }
+
+    // MemberController
+
+    @Test
+    public void login() throws Exception {
+        assertSqlCount(1, () -> mockMvc.perform(post("/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"user_id\": \"" + pl.getId() + "\", \"password\": \"" + PASSWORD + "\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void signUp() throws Exception {
+        String id = prefix + "new";
+        memberIds.add(id);
+
+        // 중복 확인 조회, id 를 직접 넣는 엔티티라 save 가 merge 로 한 번 더 조회, insert
+        assertSqlCount(3, () -> mockMvc.perform(post("/user/signUp")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"user_id\": \"" + id + "\", \"password\": \"" + PASSWORD
+                                + "\", \"name\": \"New\", \"email\": \"new@example.com\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getUsers() throws Exception {
+        assertSqlCount(2, () -> mockMvc.perform(get("/user")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getUserInfo() throws Exception {
+        assertSqlCount(2, () -> mockMvc.perform(get("/user/" + dev1.getId())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    // ProjectController
+
+    @Test
+    public void createProject() throws Exception {
+        String title = prefix + "created";
+
+        // 로그인, 프로젝트 insert, 멤버마다 회원 조회 + insert
+        assertSqlCount(6, () -> mockMvc.perform(post("/project")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\", \"members\": ["
+                                + "{\"user_id\": \"" + pl.getId() + "\", \"role\": \"PL\"}, "
+                                + "{\"user_id\": \"" + dev1.getId() + "\", \"role\": \"DEV\"}]}")))
+                .andExpect(status().isOk());
+
+        projectRepository.findAll().stream()
+                .filter(created -> title.equals(created.getTitle()))
+                .forEach(created -> projectIds.add(created.getId()));
+    }
+
+    @Test
+    public void getProjects() throws Exception {
+        assertSqlCount(2, () -> mockMvc.perform(get("/project")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects.length()").value(1));
+    }
+
+    @Test
+    public void updateProject() throws Exception {
+        // 로그인, 프로젝트 조회, 제목 update, 멤버 목록 조회, 기존 멤버 5명 delete, 새 멤버 3명 insert
+        assertSqlCount(12, () -> mockMvc.perform(put("/project/" + project.getId())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + prefix + "renamed\", \"members\": ["
+                                + "{\"user_id\": \"" + pl.getId() + "\", \"role\": \"PL\"}, "
+                                + "{\"user_id\": \"" + dev1.getId() + "\", \"role\": \"DEV\"}, "
+                                + "{\"user_id\": \"" + tester1.getId() + "\", \"role\": \"TESTER\"}]}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void deleteProject() throws Exception {
+        // 역할 조회, 로그인, 프로젝트 조회, 작업 insert (삭제 자체는 작업 스레드에서 실행)
+        MvcResult result = assertSqlCount(4, () -> mockMvc.perform(delete("/project/" + project.getId())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        Long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("job_id").asLong();
+        jobIds.add(jobId);
+        awaitJob(jobId);
+    }
+
+    @Test
+    public void getProjectUserRoles() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get("/project/" + project.getId() + "/userRole")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+    }
+
+    // IssueController
+
+    @Test
+    public void createIssue() throws Exception {
+        // 로그인, 역할 조회, 프로젝트 조회, 이슈 insert, 히스토리 이벤트 insert, 상태 버킷 merge, 큐브 칸 merge (작성자는 로그인 때 읽은 것)
+        assertSqlCount(7, () -> mockMvc.perform(post(issuesUrl())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"new issue\", \"description\": \"description\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getIssues() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    public void getIssuesFiltered() throws Exception {
+        // 로그인, 역할 조회, 프로젝트 비트맵 색인 적재, 기본키 묶음 조회
+        assertSqlCount(4, () -> mockMvc.perform(get(issuesUrl())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)
+                        .param("filterBy", "state")
+                        .param("filterValue", State.ASSIGNED.name())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    public void getIssuesQuery() throws Exception {
+        // 로그인, 역할 조회, 컴파일된 검색식 한 번
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)
+                        .param("q", "priority>=MAJOR assignee:" + prefix + "dev text:\"count fixed\"")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    public void getIssue() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl() + "/" + assignedIssue.getId())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getIssuesAsOf() throws Exception {
+        // 로그인, 역할 조회, asOf 이전/이후 스냅샷 조회, 이벤트 조회
+        assertSqlCount(5, () -> mockMvc.perform(get(issuesUrl())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .param("asOf", LocalDateTime.now().plusMinutes(1).toString())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    public void getStatisticAsOf() throws Exception {
+        assertSqlCount(5, () -> mockMvc.perform(get(issuesUrl() + "/statistic")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .param("asOf", LocalDateTime.now().plusMinutes(1).toString())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_issues").value(3));
+    }
+
+    @Test
+    public void getIssueFacets() throws Exception {
+        // 로그인, 역할 조회, 프로젝트 비트맵 색인 적재 (그 뒤로는 SQL 없이 센다)
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl() + "/facets")
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)
+                        .param("filterBy", "reporter")
+                        .param("filterValue", tester1.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.unassigned").value(1));
+    }
+
+    @Test
+    public void getStatistic() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl() + "/statistic")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getRecommendAssignee() throws Exception {
+        assertSqlCount(4, () -> mockMvc.perform(get(issuesUrl() + "/" + newIssue.getId() + "/recommend")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dev_ids.length()").value(2));
+    }
+
+    @Test
+    public void assignIssue() throws Exception {
+        // NEW -> ASSIGNED 라 상태 버킷 merge 와 큐브 칸 merge 가 두 번씩
+        assertSqlCount(10, () -> mockMvc.perform(put(issuesUrl() + "/" + newIssue.getId() + "/assign")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"user_id\": \"" + dev2.getId() + "\", \"priority\": \"CRITICAL\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void updateIssueContent() throws Exception {
+        assertSqlCount(5, () -> mockMvc.perform(put(issuesUrl() + "/" + newIssue.getId() + "/content")
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"edited\", \"description\": \"edited description\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void updateIssueState() throws Exception {
+        assertSqlCount(9, () -> mockMvc.perform(put(issuesUrl() + "/" + assignedIssue.getId() + "/state")
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\": \"FIXED\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void deleteIssue() throws Exception {
+        // 로그인, 역할 조회, 이슈 조회, 코멘트 벌크 삭제, 이슈 벌크 삭제, 히스토리 이벤트 insert, 상태 버킷 merge, 큐브 칸 merge
+        assertSqlCount(8, () -> mockMvc.perform(delete(issuesUrl() + "/" + assignedIssue.getId())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    // IssueHistoryController
+
+    @Test
+    public void getIssueHistory() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl() + "/" + assignedIssue.getId() + "/history")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void rebuildIssueProjection() throws Exception {
+        // 로그인, 작업 insert (재구성은 작업 스레드에서 실행)
+        MvcResult result = assertSqlCount(2, () -> mockMvc.perform(post(issuesUrl() + "/history/rebuild")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        Long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("job_id").asLong();
+        jobIds.add(jobId);
+        awaitJob(jobId);
+    }
+
+    // IssueFlowController
+
+    @Test
+    public void getIssueFlow() throws Exception {
+        // 로그인, 역할 조회, 시작일 이전 상태별 합계, 기간 버킷 조회
+        assertSqlCount(4, () -> mockMvc.perform(get(issuesUrl() + "/flow")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .param("from", LocalDate.now().minusYears(1).toString())
+                        .param("to", LocalDate.now().toString())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void rebuildIssueFlow() throws Exception {
+        MvcResult result = assertSqlCount(2, () -> mockMvc.perform(post(issuesUrl() + "/flow/rebuild")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        Long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("job_id").asLong();
+        jobIds.add(jobId);
+        awaitJob(jobId);
+    }
+
+    // IssueCubeController
+
+    @Test
+    public void queryIssueCube() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(issuesUrl() + "/cube")
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)
+                        .param("groupBy", "assignee,week")
+                        .param("state", "FIXED")
+                        .param("priority", "CRITICAL,MAJOR")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void rebuildIssueCube() throws Exception {
+        MvcResult result = assertSqlCount(2, () -> mockMvc.perform(post(issuesUrl() + "/cube/rebuild")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        Long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("job_id").asLong();
+        jobIds.add(jobId);
+        awaitJob(jobId);
+    }
+
+    // IssueAnalyticsController
+
+    @Test
+    public void getIssueAnalytics() throws Exception {
+        issueAnalyticsService.refresh(true);
+
+        // 로그인만 (스냅샷은 메모리에서 훑는다)
+        assertSqlCount(1, () -> mockMvc.perform(get("/admin/analytics/issues")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())
+                        .param("projectId", String.valueOf(project.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issue_count").value(3));
+    }
+
+    @Test
+    public void refreshIssueAnalytics() throws Exception {
+        // 로그인, issue 전체 읽기
+        assertSqlCount(2, () -> mockMvc.perform(post("/admin/analytics/issues/refresh")
+                        .param("id", admin.getId())
+                        .param("pw", admin.getPassword())
+                        .param("full", "true")))
+                .andExpect(status().isOk());
+    }
+
+    // CommentController
+
+    @Test
+    public void createComment() throws Exception {
+        assertSqlCount(4, () -> mockMvc.perform(post(commentsUrl())
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\": \"new comment\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getComments() throws Exception {
+        assertSqlCount(3, () -> mockMvc.perform(get(commentsUrl())
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    public void updateComment() throws Exception {
+        assertSqlCount(4, () -> mockMvc.perform(put(commentsUrl() + "/" + dev1Comment.getId())
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\": \"edited comment\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void deleteComment() throws Exception {
+        assertSqlCount(4, () -> mockMvc.perform(delete(commentsUrl() + "/" + dev1Comment.getId())
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    // SavedFilterController
+
+    @Test
+    public void createSavedFilter() throws Exception {
+        // 로그인, 역할 조회, 이름 중복 확인, insert
+        assertSqlCount(4, () -> mockMvc.perform(post("/project/" + project.getId() + "/filter")
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"my open issues\", \"query\": \"state:ASSIGNED,REOPEN assignee:me\"}")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    public void getSavedFilterIssues() throws Exception {
+        SavedFilter filter = savedFilterRepository.save(SavedFilter.builder()
+                .projectId(project.getId())
+                .memberId(dev1.getId())
+                .name("my open issues")
+                .query("state:ASSIGNED,REOPEN assignee:me")
+                .build());
+        String url = "/project/" + project.getId() + "/filter/" + filter.getId() + "/issues";
+        // 처음 열 때 필터 정의와 id 집합을 채운다
+        mockMvc.perform(get(url).param("id", dev1.getId()).param("pw", PASSWORD))
+                .andExpect(status().isOk());
+
+        // 로그인, 역할 조회, 기본키 묶음 조회
+        assertSqlCount(3, () -> mockMvc.perform(get(url)
+                        .param("id", dev1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(assignedIssue.getId()));
+    }
+
+    // ProjectEventController
+
+    @Test
+    public void subscribeProjectEvents() throws Exception {
+        // 로그인, 역할 조회 (그 뒤로 연결은 쿼리 없이 열려 있다)
+        assertSqlCount(2, () -> mockMvc.perform(get("/project/" + project.getId() + "/events")
+                        .param("id", tester1.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(request().asyncStarted());
+    }
+
+    // JobController
+
+    @Test
+    public void getJob() throws Exception {
+        Job job = jobRepository.save(Job.builder()
+                .type(JobType.DELETE_PROJECT)
+                .state(JobState.SUCCEEDED)
+                .payload(String.valueOf(project.getId()))
+                .requesterId(pl.getId())
+                .progress(100)
+                .build());
+        jobIds.add(job.getId());
+
+        assertSqlCount(2, () -> mockMvc.perform(get("/jobs/" + job.getId())
+                        .param("id", pl.getId())
+                        .param("pw", PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    // 작업 스레드의 삭제가 끝나기 전에 tearDown 이 같은 행을 지우지 않도록 기다린다
+    private void awaitJob(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Optional<Job> job = jobRepository.findById(jobId);
+            if (job.isPresent() && (job.get().getState() == JobState.SUCCEEDED || job.get().getState() == JobState.FAILED))
+                return;
+            Thread.sleep(100);
+        }
+        assertThat(jobRepository.findById(jobId).map(Job::getState)).contains(JobState.SUCCEEDED);
+    }
+}
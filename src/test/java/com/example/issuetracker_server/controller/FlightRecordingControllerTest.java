@@ -0,0 +1,130 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.jfr.RecordingStatusDto;
+import com.example.issuetracker_server.service.jfr.FlightRecordingService;
+import com.example.issuetracker_server.service.member.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FlightRecordingControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private FlightRecordingService flightRecordingService;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private FlightRecordingController flightRecordingController;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(flightRecordingController).build();
+    }
+
+    @Test
+    public void testStartRecordingSuccess() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(flightRecordingService.start("profile")).thenReturn(Optional.of(RecordingStatusDto.builder()
+                .recording_id(3L)
+                .state("RUNNING")
+                .settings("profile")
+                .build()));
+
+        // When
+        mockMvc.perform(post("/admin/jfr/start")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording_id").value(3))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    @Test
+    public void testStartRecordingAlreadyRunning() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(flightRecordingService.start("default")).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(post("/admin/jfr/start")
+                        .param("id", "admin")
+                        .param("pw", "password")
+                        .param("settings", "default"))
+
+                // Then
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void testStartRecordingForbiddenForNonAdmin() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+
+        // When
+        mockMvc.perform(post("/admin/jfr/start")
+                        .param("id", "pl")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(flightRecordingService);
+    }
+
+    @Test
+    public void testStopRecordingReturnsDump() throws Exception {
+        // Given
+        Path dump = Files.write(directory.resolve("recording.jfr"), new byte[]{1, 2, 3});
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(flightRecordingService.stop()).thenReturn(Optional.of(dump));
+
+        // When
+        mockMvc.perform(post("/admin/jfr/stop")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"recording.jfr\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testStopRecordingNotRunning() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(flightRecordingService.stop()).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(post("/admin/jfr/stop")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isNotFound());
+    }
+}
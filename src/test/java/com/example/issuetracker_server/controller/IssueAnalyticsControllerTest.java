@@ -0,0 +1,97 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.dto.analytics.IssueAnalyticsResponseDto;
+import com.example.issuetracker_server.service.analytics.IssueAnalyticsService;
+import com.example.issuetracker_server.service.member.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueAnalyticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IssueAnalyticsService issueAnalyticsService;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private IssueAnalyticsController issueAnalyticsController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(issueAnalyticsController).build();
+    }
+
+    @Test
+    public void testGetIssueAnalyticsSplitsProjectIds() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(issueAnalyticsService.getIssueAnalytics(List.of(1L, 2L), 5)).thenReturn(IssueAnalyticsResponseDto.builder()
+                .issue_count(3)
+                .open_count(2)
+                .by_project(Map.of(1L, 2L, 2L, 1L))
+                .build());
+
+        // When, Then
+        mockMvc.perform(get("/admin/analytics/issues")
+                        .param("id", "admin")
+                        .param("pw", "password")
+                        .param("projectId", "1,2")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issue_count").value(3))
+                .andExpect(jsonPath("$.by_project.1").value(2));
+    }
+
+    @Test
+    public void testGetIssueAnalyticsIsAdminOnly() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+
+        // When, Then
+        mockMvc.perform(get("/admin/analytics/issues")
+                        .param("id", "pl")
+                        .param("pw", "password"))
+                .andExpect(status().isForbidden());
+        verify(issueAnalyticsService, never()).getIssueAnalytics(any(), anyInt());
+    }
+
+    @Test
+    public void testRefresh() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(issueAnalyticsService.getIssueAnalytics(isNull(), anyInt()))
+                .thenReturn(IssueAnalyticsResponseDto.builder().issue_count(7).build());
+
+        // When, Then
+        mockMvc.perform(post("/admin/analytics/issues/refresh")
+                        .param("id", "admin")
+                        .param("pw", "password")
+                        .param("full", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issue_count").value(7));
+        verify(issueAnalyticsService).refresh(true);
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.issuetracker_server.controller;
 
+import com.example.issuetracker_server.domain.issue.Issue;
 import com.example.issuetracker_server.domain.issue.Priority;
 import com.example.issuetracker_server.domain.issue.State;
 import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.dto.issue.IssueAssignRequestDto;
 import com.example.issuetracker_server.dto.issue.IssueCreateRequestDto;
+import com.example.issuetracker_server.dto.issue.IssueFacetResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueStateRequest;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
 import com.example.issuetracker_server.service.issue.IssueService;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
 import com.example.issuetracker_server.service.member.MemberService;
 import com.example.issuetracker_server.service.memberproject.MemberProjectService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,15 +23,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +49,9 @@ public class IssueControllerTest {
     @Mock
     private IssueService issueService;
 
+    @Mock
+    private IssueHistoryService issueHistoryService;
+
     @Mock
     private MemberService memberService;
 
@@ -187,6 +198,89 @@ public class IssueControllerTest {
                 .andExpect(jsonPath("$[1].state").value(State.ASSIGNED.toString()));
     }
 
+    @Test
+    public void testGetIssuesWithQuery() throws Exception {
+        // Given
+        String query = "state:ASSIGNED priority>=MAJOR text:\"login crash\"";
+        when(memberService.login("testuser", "password")).thenReturn(true);
+        when(memberProjectService.getRole("testuser", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueService.searchIssues(1L, "testuser", query)).thenReturn(List.of(IssueResponseDto.builder()
+                .id(3L)
+                .state(State.ASSIGNED)
+                .build()));
+
+        // When, Then: q 가 있으면 filterBy 는 쓰지 않는다
+        mockMvc.perform(get("/project/1/issue")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("filterBy", "state")
+                        .param("filterValue", "NEW")
+                        .param("q", query))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3L));
+        verify(issueService, never()).getIssues(any(), any(), any());
+    }
+
+    @Test
+    public void testGetIssuesWithInvalidQuery() throws Exception {
+        // Given
+        when(memberService.login("testuser", "password")).thenReturn(true);
+        when(memberProjectService.getRole("testuser", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueService.searchIssues(1L, "testuser", "severity:high")).thenThrow(new IllegalArgumentException("Unknown field: severity"));
+
+        // When, Then
+        mockMvc.perform(get("/project/1/issue")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("q", "severity:high"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/project/1/issue")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("q", "state:NEW")
+                        .param("asOf", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetFacets() throws Exception {
+        // Given
+        when(memberService.login("testuser", "password")).thenReturn(true);
+        when(memberProjectService.getRole("testuser", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueService.getFacets(1L, "state", "NEW")).thenReturn(IssueFacetResponseDto.builder()
+                .total(2)
+                .state(Map.of("NEW", 2L))
+                .unassigned(2)
+                .build());
+
+        // When, Then
+        mockMvc.perform(get("/project/1/issue/facets")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("filterBy", "state")
+                        .param("filterValue", "NEW"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.state.NEW").value(2))
+                .andExpect(jsonPath("$.unassigned").value(2));
+    }
+
+    @Test
+    public void testGetFacetsInvalidFilter() throws Exception {
+        // Given
+        when(memberService.login("testuser", "password")).thenReturn(true);
+        when(memberProjectService.getRole("testuser", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueService.getFacets(1L, "fixer", "dev")).thenThrow(new IllegalArgumentException("Invalid filter criteria"));
+
+        // When, Then
+        mockMvc.perform(get("/project/1/issue/facets")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("filterBy", "fixer")
+                        .param("filterValue", "dev"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetIssuesUnauthorized() throws Exception {
         // Given
@@ -251,6 +345,90 @@ public class IssueControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void testGetIssuesAsOf() throws Exception {
+        // Given
+        String id = "testuser";
+        String pw = "password";
+        Long projectId = 1L;
+        LocalDateTime asOf = LocalDateTime.of(2024, 6, 1, 9, 30);
+
+        when(memberService.login(id, pw)).thenReturn(true);
+        when(memberProjectService.getRole(id, projectId)).thenReturn(Optional.of(Role.PL));
+        when(issueHistoryService.getIssuesAsOf(projectId, asOf, null, null)).thenReturn(List.of(
+                IssueResponseDto.builder().id(1L).title("issue title").state(State.RESOLVED).build()));
+
+        // When
+        mockMvc.perform(get("/project/" + projectId + "/issue")
+                        .param("id", id)
+                        .param("pw", pw)
+                        .param("asOf", "2024-06-01T09:30:00"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].state").value(State.RESOLVED.toString()));
+        verify(issueService, never()).getIssues(any(), any(), any());
+    }
+
+    @Test
+    public void testGetStatisticAsOf() throws Exception {
+        // Given
+        String id = "testuser";
+        String pw = "password";
+        Long projectId = 1L;
+        LocalDateTime asOf = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+        when(memberService.login(id, pw)).thenReturn(true);
+        when(memberProjectService.getRole(id, projectId)).thenReturn(Optional.of(Role.PL));
+        when(issueHistoryService.getStatisticAsOf(projectId, asOf)).thenReturn(new IssueStatisticResponseDto(1, 4, 10, 3));
+
+        // When
+        mockMvc.perform(get("/project/" + projectId + "/issue/statistic")
+                        .param("id", id)
+                        .param("pw", pw)
+                        .param("asOf", "2024-06-01T00:00:00"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_issues").value(10))
+                .andExpect(jsonPath("$.closed_issues").value(3));
+    }
+
+    @Test
+    public void testGetStatisticAsOfBeforeTheHistoryStart() throws Exception {
+        // Given
+        String id = "testuser";
+        String pw = "password";
+        Long projectId = 1L;
+        LocalDateTime asOf = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        when(memberService.login(id, pw)).thenReturn(true);
+        when(memberProjectService.getRole(id, projectId)).thenReturn(Optional.of(Role.PL));
+        when(issueHistoryService.getStatisticAsOf(projectId, asOf)).thenThrow(new IllegalArgumentException("before history"));
+
+        // When
+        mockMvc.perform(get("/project/" + projectId + "/issue/statistic")
+                        .param("id", id)
+                        .param("pw", pw)
+                        .param("asOf", "2020-01-01T00:00:00"))
+
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetIssuesAsOfInvalidTimestamp() throws Exception {
+        // When
+        mockMvc.perform(get("/project/1/issue")
+                        .param("id", "testuser")
+                        .param("pw", "password")
+                        .param("asOf", "yesterday"))
+
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetIssueSuccess() throws Exception {
         // Given
@@ -486,7 +664,7 @@ public class IssueControllerTest {
 
         when(memberService.login(id, pw)).thenReturn(true);
         when(memberProjectService.getRole(id, projectId)).thenReturn(Optional.of(Role.PL));
-        when(issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority())).thenReturn(false);
+        when(issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority(), null)).thenReturn(false);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/assign")
@@ -513,7 +691,7 @@ public class IssueControllerTest {
 
         when(memberService.login(id, pw)).thenReturn(true);
         when(memberProjectService.getRole(id, projectId)).thenReturn(Optional.of(Role.PL));
-        when(issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority())).thenReturn(true);
+        when(issueService.assignIssue(projectId, issueId, request.getUser_id(), request.getPriority(), null)).thenReturn(true);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/assign")
@@ -537,7 +715,7 @@ public class IssueControllerTest {
 
         when(memberService.login(memberId, password)).thenReturn(true);
         when(memberProjectService.getRole(memberId, projectId)).thenReturn(Optional.of(Role.TESTER));
-        when(issueService.updateIssue(memberId, projectId, issueId, requestDto.getTitle(), requestDto.getDescription())).thenReturn(true);
+        when(issueService.updateIssue(memberId, projectId, issueId, requestDto.getTitle(), requestDto.getDescription(), null)).thenReturn(true);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/content")
@@ -609,7 +787,7 @@ public class IssueControllerTest {
 
         when(memberService.login(memberId, password)).thenReturn(true);
         when(memberProjectService.getRole(memberId, projectId)).thenReturn(Optional.of(Role.TESTER));
-        when(issueService.updateIssue(memberId, projectId, issueId, requestDto.getTitle(), requestDto.getDescription())).thenReturn(false);
+        when(issueService.updateIssue(memberId, projectId, issueId, requestDto.getTitle(), requestDto.getDescription(), null)).thenReturn(false);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/content")
@@ -623,6 +801,32 @@ public class IssueControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void updateIssueContent_PreconditionFailed() throws Exception {
+        // Given
+        String memberId = "member123";
+        Long projectId = 1L;
+        Long issueId = 1L;
+        String password = "password";
+        IssueCreateRequestDto requestDto = new IssueCreateRequestDto("New Title", "New Description");
+
+        when(memberService.login(memberId, password)).thenReturn(true);
+        when(memberProjectService.getRole(memberId, projectId)).thenReturn(Optional.of(Role.TESTER));
+        when(issueService.updateIssue(memberId, projectId, issueId, requestDto.getTitle(), requestDto.getDescription(), 3L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Issue.class, issueId));
+
+        // When
+        mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/content")
+                        .param("id", memberId)
+                        .param("pw", password)
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"New Title\",\"description\":\"New Description\"}"))
+
+                // Then
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void updateIssueState_Success() throws Exception {
         // Given
@@ -636,7 +840,7 @@ public class IssueControllerTest {
 
         when(memberService.login(memberId, password)).thenReturn(true);
         when(memberProjectService.getRole(memberId, projectId)).thenReturn(Optional.of(Role.PL));
-        when(issueService.updateIssueState(projectId, issueId, memberId, Role.PL, newState)).thenReturn(true);
+        when(issueService.updateIssueState(projectId, issueId, memberId, Role.PL, newState, null)).thenReturn(true);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/state")
@@ -711,7 +915,7 @@ public class IssueControllerTest {
 
         when(memberService.login(memberId, password)).thenReturn(true);
         when(memberProjectService.getRole(memberId, projectId)).thenReturn(Optional.of(Role.PL));
-        when(issueService.updateIssueState(projectId, issueId, memberId, Role.PL, newState)).thenReturn(false);
+        when(issueService.updateIssueState(projectId, issueId, memberId, Role.PL, newState, null)).thenReturn(false);
 
         // When
         mockMvc.perform(put("/project/" + projectId + "/issue/" + issueId + "/state")
@@ -0,0 +1,132 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueCubeResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueCubeRowResponseDto;
+import com.example.issuetracker_server.service.issuecube.IssueCubeService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueCubeControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IssueCubeService issueCubeService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberProjectService memberProjectService;
+
+    @InjectMocks
+    private IssueCubeController issueCubeController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(issueCubeController).build();
+    }
+
+    @Test
+    public void testQuerySplitsListParameters() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(memberProjectService.getRole("pl", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueCubeService.query(eq(1L), eq(List.of("assignee", "week")), eq(List.of("FIXED")),
+                eq(List.of("CRITICAL", "BLOCKER")), isNull(), eq(LocalDate.of(2024, 1, 1)), isNull()))
+                .thenReturn(IssueCubeResponseDto.builder()
+                        .group_by(List.of("assignee", "week"))
+                        .rows(List.of(IssueCubeRowResponseDto.builder()
+                                .assignee_id("dev1").period("2024-01-01").entered(3).net(3).build()))
+                        .build());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/cube")
+                        .param("id", "pl")
+                        .param("pw", "password")
+                        .param("groupBy", "assignee,week")
+                        .param("state", "FIXED")
+                        .param("priority", "CRITICAL,BLOCKER")
+                        .param("from", "2024-01-01"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows[0].assignee_id").value("dev1"))
+                .andExpect(jsonPath("$.rows[0].entered").value(3));
+    }
+
+    @Test
+    public void testQueryInvalidDimension() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(memberProjectService.getRole("pl", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueCubeService.query(any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/cube")
+                        .param("id", "pl")
+                        .param("pw", "password")
+                        .param("groupBy", "reporter"))
+
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testQueryUnauthorized() throws Exception {
+        // Given
+        when(memberService.login("pl", "wrong")).thenReturn(false);
+
+        // When
+        mockMvc.perform(get("/project/1/issue/cube")
+                        .param("id", "pl")
+                        .param("pw", "wrong"))
+
+                // Then
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRebuildSubmitsJob() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(jobService.submit(JobType.REBUILD_ISSUE_CUBE, "1", "admin")).thenReturn(5L);
+
+        // When
+        mockMvc.perform(post("/project/1/issue/cube/rebuild")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/jobs/5"));
+    }
+}
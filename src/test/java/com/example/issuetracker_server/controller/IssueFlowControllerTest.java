@@ -0,0 +1,136 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueFlowResponseDto;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueFlowControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IssueFlowService issueFlowService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberProjectService memberProjectService;
+
+    @InjectMocks
+    private IssueFlowController issueFlowController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(issueFlowController).build();
+    }
+
+    @Test
+    public void testGetFlowSuccess() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(memberProjectService.getRole("pl", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueFlowService.getFlow(1L, from, to)).thenReturn(IssueFlowResponseDto.builder()
+                .from(from.toString())
+                .to(to.toString())
+                .days(List.of())
+                .fixed_count(4)
+                .mean_time_to_fix_hours(12.5)
+                .build());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/flow")
+                        .param("id", "pl")
+                        .param("pw", "password")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-12-31"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fixed_count").value(4))
+                .andExpect(jsonPath("$.mean_time_to_fix_hours").value(12.5));
+    }
+
+    @Test
+    public void testGetFlowInvalidRange() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(memberProjectService.getRole("pl", 1L)).thenReturn(Optional.of(Role.PL));
+        when(issueFlowService.getFlow(any(), any(), any())).thenThrow(new IllegalArgumentException());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/flow")
+                        .param("id", "pl")
+                        .param("pw", "password")
+                        .param("from", "2024-12-31")
+                        .param("to", "2024-01-01"))
+
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetFlowNotMember() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(memberProjectService.getRole("pl", 1L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/flow")
+                        .param("id", "pl")
+                        .param("pw", "password")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31"))
+
+                // Then
+                .andExpect(status().isForbidden());
+        verify(issueFlowService, never()).getFlow(any(), any(), any());
+    }
+
+    @Test
+    public void testRebuildSubmitsJob() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(jobService.submit(JobType.REBUILD_ISSUE_FLOW, "1", "admin")).thenReturn(9L);
+
+        // When
+        mockMvc.perform(post("/project/1/issue/flow/rebuild")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/jobs/9"))
+                .andExpect(jsonPath("$.job_id").value(9));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueEventResponseDto;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueHistoryControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IssueHistoryService issueHistoryService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberProjectService memberProjectService;
+
+    @InjectMocks
+    private IssueHistoryController issueHistoryController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(issueHistoryController).build();
+    }
+
+    @Test
+    public void testGetHistorySuccess() throws Exception {
+        // Given
+        when(memberService.login("dev", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(issueHistoryService.getHistory(1L, 2L)).thenReturn(List.of(
+                IssueEventResponseDto.builder().event_id(10L).issue_id(2L).type(IssueEventType.CREATED).state(State.NEW).build(),
+                IssueEventResponseDto.builder().event_id(11L).issue_id(2L).type(IssueEventType.ASSIGNED).state(State.ASSIGNED).build()));
+
+        // When
+        mockMvc.perform(get("/project/1/issue/2/history")
+                        .param("id", "dev")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("CREATED"))
+                .andExpect(jsonPath("$[1].state").value("ASSIGNED"));
+    }
+
+    @Test
+    public void testGetHistoryNotMember() throws Exception {
+        // Given
+        when(memberService.login("dev", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev", 1L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/project/1/issue/2/history")
+                        .param("id", "dev")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isForbidden());
+        verify(issueHistoryService, never()).getHistory(any(), any());
+    }
+
+    @Test
+    public void testRebuildSubmitsJob() throws Exception {
+        // Given
+        when(memberService.login("admin", "password")).thenReturn(true);
+        when(jobService.submit(JobType.REBUILD_ISSUE_PROJECTION, "1", "admin")).thenReturn(7L);
+
+        // When
+        mockMvc.perform(post("/project/1/issue/history/rebuild")
+                        .param("id", "admin")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/jobs/7"))
+                .andExpect(jsonPath("$.job_id").value(7));
+    }
+
+    @Test
+    public void testRebuildNotAdmin() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+
+        // When
+        mockMvc.perform(post("/project/1/issue/history/rebuild")
+                        .param("id", "pl")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isUnauthorized());
+        verify(jobService, never()).submit(any(), any(), any());
+    }
+}
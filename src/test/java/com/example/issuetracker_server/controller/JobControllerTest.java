@@ -0,0 +1,113 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.job.JobState;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.dto.job.JobResponseDto;
+import com.example.issuetracker_server.service.job.JobService;
+import com.example.issuetracker_server.service.member.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JobControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private JobController jobController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(jobController).build();
+    }
+
+    private JobResponseDto job(String requesterId) {
+        return JobResponseDto.builder()
+                .job_id(1L)
+                .type(JobType.DELETE_PROJECT)
+                .state(JobState.RUNNING)
+                .requester_id(requesterId)
+                .progress(40)
+                .build();
+    }
+
+    @Test
+    public void testGetJobSuccess() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(jobService.getJob(1L)).thenReturn(Optional.of(job("pl")));
+
+        // When
+        mockMvc.perform(get("/jobs/1")
+                        .param("id", "pl")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.job_id").value(1))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.progress").value(40));
+    }
+
+    @Test
+    public void testGetJobUnauthorized() throws Exception {
+        // Given
+        when(memberService.login("pl", "wrong")).thenReturn(false);
+
+        // When
+        mockMvc.perform(get("/jobs/1")
+                        .param("id", "pl")
+                        .param("pw", "wrong"))
+
+                // Then
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testGetJobForbidden() throws Exception {
+        // Given
+        when(memberService.login("other", "password")).thenReturn(true);
+        when(jobService.getJob(1L)).thenReturn(Optional.of(job("pl")));
+
+        // When
+        mockMvc.perform(get("/jobs/1")
+                        .param("id", "other")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testGetJobNotFound() throws Exception {
+        // Given
+        when(memberService.login("pl", "password")).thenReturn(true);
+        when(jobService.getJob(1L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/jobs/1")
+                        .param("id", "pl")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isNotFound());
+    }
+}
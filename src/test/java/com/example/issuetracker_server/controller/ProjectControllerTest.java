@@ -1,5 +1,6 @@
 package com.example.issuetracker_server.controller;
 
+import com.example.issuetracker_server.domain.job.JobType;
 import com.example.issuetracker_server.domain.member.Member;
 import com.example.issuetracker_server.domain.member.MemberRepository;
 import com.example.issuetracker_server.domain.memberproject.MemberProject;
@@ -8,6 +9,7 @@ import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.domain.project.ProjectRepository;
 import com.example.issuetracker_server.dto.project.ProjectDto;
 import com.example.issuetracker_server.dto.project.ProjectRequestDto;
+import com.example.issuetracker_server.service.job.JobServiceImpl;
 import com.example.issuetracker_server.service.member.MemberServiceImpl;
 import com.example.issuetracker_server.service.memberproject.MemberProjectServiceImpl;
 import com.example.issuetracker_server.service.project.ProjectServiceImpl;
@@ -60,6 +62,9 @@ public class ProjectControllerTest {
     @MockBean
     private MemberServiceImpl memberService;
 
+    @MockBean
+    private JobServiceImpl jobService;
+
     @Autowired
     private MockMvc mvc;
 
@@ -278,13 +283,18 @@ public class ProjectControllerTest {
     public void deleteProject_Success() throws Exception {
         when(memberService.login(anyString(), anyString())).thenReturn(true);
         when(projectsService.findById(anyLong())).thenReturn(Optional.of(new Project()));
-        doNothing().when(memberProjectService).deleteAll(anyList());
-        doNothing().when(projectsService).delete(anyLong());
+        when(jobService.submit(JobType.DELETE_PROJECT, "1", "admin")).thenReturn(7L);
 
         mvc.perform(delete(url + "/1")
                         .param("id", "admin")
                         .param("pw", "password"))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/jobs/7"))
+                .andExpect(jsonPath("$.job_id").value(7));
+
+        verify(jobService, times(1)).submit(JobType.DELETE_PROJECT, "1", "admin");
+        verify(projectsService, never()).delete(anyLong());
+        verify(memberProjectService, never()).deleteAll(anyList());
 
     }
 
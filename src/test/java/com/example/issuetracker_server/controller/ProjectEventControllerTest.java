@@ -0,0 +1,130 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectEventControllerTest {
+
+    private MockMvc mockMvc;
+
+    private ProjectEventStream projectEventStream;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberProjectService memberProjectService;
+
+    @BeforeEach
+    public void setup() {
+        // 하트비트 없이, 구독자는 둘까지
+        projectEventStream = new ProjectEventStream(60_000, 0, 2, 16, 1);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(
+                new ProjectEventController(projectEventStream, memberService, memberProjectService)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        projectEventStream.close();
+    }
+
+    @Test
+    public void testSubscriberReceivesOnlyItsProjectsEvents() throws Exception {
+        // Given
+        when(memberService.login("dev1", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev1", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(memberProjectService.getRole("dev1", 2L)).thenReturn(Optional.of(Role.DEV));
+        MockHttpServletResponse first = subscribe(1L);
+        MockHttpServletResponse second = subscribe(2L);
+        Project project = new Project();
+        project.setId(1L);
+        Issue issue = new Issue();
+        issue.setId(5L);
+        issue.setProject(project);
+        Comment comment = new Comment();
+        comment.setId(9L);
+        comment.setIssue(issue);
+        comment.setVersion(0L);
+
+        // When
+        projectEventStream.commentChanged(ProjectEventType.COMMENT_ADDED, comment);
+
+        // Then
+        String event = awaitContent(first);
+        assertThat(event).contains("data:{\"type\":\"COMMENT_ADDED\",\"project_id\":1,\"issue_id\":5,\"comment_id\":9,\"version\":0}");
+        assertThat(event).startsWith("id:");
+        assertThat(second.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    public void testSubscribeWithoutProjectRole() throws Exception {
+        // Given
+        when(memberService.login("outsider", "password")).thenReturn(true);
+        when(memberProjectService.getRole("outsider", 1L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/project/1/events")
+                        .param("id", "outsider")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testSubscribeOverLimit() throws Exception {
+        // Given
+        when(memberService.login("dev1", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev1", 1L)).thenReturn(Optional.of(Role.DEV));
+        subscribe(1L);
+        subscribe(1L);
+
+        // When
+        mockMvc.perform(get("/project/1/events")
+                        .param("id", "dev1")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    private MockHttpServletResponse subscribe(Long projectId) throws Exception {
+        return mockMvc.perform(get("/project/" + projectId + "/events")
+                        .param("id", "dev1")
+                        .param("pw", "password"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    // 전송 스레드가 쓸 때까지 기다린다
+    private String awaitContent(MockHttpServletResponse response) throws Exception {
+        for (int i = 0; i < 100 && response.getContentAsString().isEmpty(); i++)
+            Thread.sleep(20);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.service.project.ProjectService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// reactive 조회 경로가 MVC 경로와 같은 모양의 응답을 주는지 비교
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+public class ReactiveReadControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MemberProjectRepository memberProjectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Member member;
+    private Project project;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .id("reactive-" + System.nanoTime())
+                .password("password")
+                .name("Reactive Tester")
+                .mail("reactive@example.com")
+                .build());
+        project = projectRepository.save(Project.builder().title("Reactive Project").build());
+        memberProjectRepository.save(new MemberProject(member, project, Role.TESTER));
+        for (int i = 0; i < 3; i++) {
+            issue = issueRepository.save(Issue.builder()
+                    .title("login bug " + i)
+                    .description("description " + i)
+                    .project(project)
+                    .reporter(member)
+                    .state(i == 0 ? State.CLOSED : State.NEW)
+                    .priority(Priority.MAJOR)
+                    .build());
+        }
+        commentRepository.save(Comment.builder().author(member).issue(issue).content("first").build());
+        commentRepository.save(Comment.builder().author(member).issue(issue).content("second").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.delete(project.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    private String auth() {
+        return "?id=" + member.getId() + "&pw=password";
+    }
+
+    private List<JsonNode> elements(String json) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        objectMapper.readTree(json).forEach(nodes::add);
+        return nodes;
+    }
+
+    @Test
+    void getIssues_SameAsMvc() throws Exception {
+        String path = "/project/" + project.getId() + "/issue" + auth() + "&filterBy=title&filterValue=LOGIN";
+
+        String mvc = restTemplate.getForObject(path, String.class);
+        String reactive = restTemplate.getForObject("/reactive" + path, String.class);
+
+        assertThat(elements(mvc)).hasSize(3);
+        assertThat(elements(reactive)).containsExactlyInAnyOrderElementsOf(elements(mvc));
+    }
+
+    @Test
+    void getIssueAndStatistic_SameAsMvc() throws Exception {
+        String issuePath = "/project/" + project.getId() + "/issue/" + issue.getId() + auth();
+        String statisticPath = "/project/" + project.getId() + "/issue/statistic" + auth();
+
+        assertThat(objectMapper.readTree(restTemplate.getForObject("/reactive" + issuePath, String.class)))
+                .isEqualTo(objectMapper.readTree(restTemplate.getForObject(issuePath, String.class)));
+        assertThat(objectMapper.readTree(restTemplate.getForObject("/reactive" + statisticPath, String.class)))
+                .isEqualTo(objectMapper.readTree(restTemplate.getForObject(statisticPath, String.class)));
+    }
+
+    @Test
+    void getComments_SameAsMvc() throws Exception {
+        String path = "/project/" + project.getId() + "/issue/" + issue.getId() + "/comment" + auth();
+
+        String mvc = restTemplate.getForObject(path, String.class);
+        String reactive = restTemplate.getForObject("/reactive" + path, String.class);
+
+        assertThat(elements(mvc)).hasSize(2);
+        assertThat(elements(reactive)).containsExactlyInAnyOrderElementsOf(elements(mvc));
+    }
+
+    @Test
+    void getIssues_Unauthorized() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/reactive/project/" + project.getId() + "/issue?id=" + member.getId() + "&pw=wrong", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void getIssues_Forbidden() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/reactive/project/" + (project.getId() + 100000) + "/issue" + auth(), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.issuetracker_server.controller;
+
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterRequestDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterResponseDto;
+import com.example.issuetracker_server.service.member.MemberService;
+import com.example.issuetracker_server.service.memberproject.MemberProjectService;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SavedFilterControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SavedFilterService savedFilterService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberProjectService memberProjectService;
+
+    @InjectMocks
+    private SavedFilterController savedFilterController;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(savedFilterController).build();
+    }
+
+    @Test
+    public void testCreateFilter() throws Exception {
+        // Given
+        when(memberService.login("dev1", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev1", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(savedFilterService.create(eq(1L), eq("dev1"), any(SavedFilterRequestDto.class)))
+                .thenReturn(SavedFilterResponseDto.builder()
+                        .filter_id(7L).project_id(1L).name("my open blockers").query("priority:BLOCKER assignee:me").build());
+
+        // When
+        mockMvc.perform(post("/project/1/filter")
+                        .param("id", "dev1")
+                        .param("pw", "password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"my open blockers\",\"query\":\"priority:BLOCKER assignee:me\"}"))
+
+                // Then
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.filter_id").value(7))
+                .andExpect(jsonPath("$.name").value("my open blockers"));
+    }
+
+    @Test
+    public void testCreateFilterWithInvalidQuery() throws Exception {
+        // Given
+        when(memberService.login("dev1", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev1", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(savedFilterService.create(eq(1L), eq("dev1"), any(SavedFilterRequestDto.class)))
+                .thenThrow(new IllegalArgumentException("Unknown field: severity"));
+
+        // When
+        mockMvc.perform(post("/project/1/filter")
+                        .param("id", "dev1")
+                        .param("pw", "password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"bad\",\"query\":\"severity:high\"}"))
+
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetIssues() throws Exception {
+        // Given
+        when(memberService.login("dev1", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev1", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(savedFilterService.getIssues(1L, "dev1", 7L)).thenReturn(Optional.of(List.of(
+                IssueResponseDto.builder().id(3L).title("login crash").build())));
+
+        // When
+        mockMvc.perform(get("/project/1/filter/7/issues")
+                        .param("id", "dev1")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].title").value("login crash"));
+    }
+
+    @Test
+    public void testGetIssuesOfAnotherMembersFilter() throws Exception {
+        // Given
+        when(memberService.login("dev2", "password")).thenReturn(true);
+        when(memberProjectService.getRole("dev2", 1L)).thenReturn(Optional.of(Role.DEV));
+        when(savedFilterService.getIssues(1L, "dev2", 7L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/project/1/filter/7/issues")
+                        .param("id", "dev2")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetIssuesWithoutProjectRole() throws Exception {
+        // Given
+        when(memberService.login("outsider", "password")).thenReturn(true);
+        when(memberProjectService.getRole("outsider", 1L)).thenReturn(Optional.empty());
+
+        // When
+        mockMvc.perform(get("/project/1/filter/7/issues")
+                        .param("id", "outsider")
+                        .param("pw", "password"))
+
+                // Then
+                .andExpect(status().isForbidden());
+        verify(savedFilterService, never()).getIssues(any(), any(), any());
+    }
+}
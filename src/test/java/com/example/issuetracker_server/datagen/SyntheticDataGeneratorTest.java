@@ -0,0 +1,97 @@
+package com.example.issuetracker_server.datagen;
+
+import com.example.issuetracker_server.domain.issue.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import(SyntheticDataGenerator.class)
+public class SyntheticDataGeneratorTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // identity 재시작(DDL)이 트랜잭션을 커밋하므로 직접 지운다
+    @AfterEach
+    void tearDown() {
+        generator.clear();
+    }
+
+    @Test
+    public void testGenerateSmallPreset() {
+        // When
+        GeneratedDataset dataset = generator.generate(DatasetSpec.preset("small", 7L, ANCHOR));
+
+        // Then
+        assertThat(count("member")).isEqualTo(101);
+        assertThat(count("project")).isEqualTo(10);
+        assertThat(count("issue")).isEqualTo(1_000).isEqualTo(dataset.issues());
+        assertThat(count("comment")).isEqualTo(dataset.comments());
+        assertThat(dataset.projects()).hasSize(10);
+        // 프로젝트 크기는 한쪽으로 치우치고, 가장 큰 프로젝트가 맨 앞
+        assertThat(dataset.largestProject().issues()).isGreaterThan(dataset.projects().get(9).issues() * 5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM issue WHERE state = ? AND assignee_id IS NOT NULL",
+                Long.class, State.NEW.name())).isZero();
+        // 생성된 데이터 뒤에 JPA 로 저장해도 id 가 겹치지 않는다
+        jdbcTemplate.update("INSERT INTO project (title) VALUES ('after')");
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(id) FROM project", Long.class)).isEqualTo(11L);
+    }
+
+    @Test
+    public void testSameSeedProducesSameData() {
+        // Given
+        DatasetSpec spec = DatasetSpec.preset("small", 7L, ANCHOR);
+        generator.generate(spec);
+        List<Map<String, Object>> first = snapshot();
+        generator.clear();
+
+        // When
+        generator.generate(spec);
+
+        // Then
+        assertThat(snapshot()).isEqualTo(first);
+    }
+
+    @Test
+    public void testClearAlsoEmptiesDerivedTables() {
+        // Given
+        generator.generate(DatasetSpec.preset("small", 7L, ANCHOR));
+        jdbcTemplate.update("INSERT INTO saved_filter (project_id, member_id, name, query) VALUES (1, 'user00001', 'mine', 'assignee:me')");
+
+        // When
+        generator.clear();
+
+        // Then
+        assertThat(count("saved_filter")).isZero();
+        assertThat(count("issue")).isZero();
+        assertThat(count("member")).isZero();
+    }
+
+    private List<Map<String, Object>> snapshot() {
+        return jdbcTemplate.queryForList("SELECT i.id, i.project_id, i.title, i.reporter_id, i.assignee_id, i.state, " +
+                "i.priority, i.created_date, (SELECT COUNT(*) FROM comment c WHERE c.issue_id = i.id) comments " +
+                "FROM issue i ORDER BY i.id");
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -10,7 +10,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -125,4 +128,169 @@ public class IssueRepositoryTest {
         // Then
         assertThat(foundIssue).isNotPresent();
     }
+
+    @Test
+    public void testCountFacets() {
+        // Given
+        Member reporter = memberRepository.save(Member.builder()
+                .id("reporter")
+                .password("password")
+                .name("Reporter Name")
+                .mail("reporter@example.com")
+                .build());
+        Member dev = memberRepository.save(Member.builder()
+                .id("dev")
+                .password("password")
+                .name("Dev Name")
+                .mail("dev@example.com")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .title("Project Title")
+                .build());
+        for (State state : List.of(State.NEW, State.NEW, State.ASSIGNED)) {
+            issueRepository.save(Issue.builder()
+                    .title("Login crash " + state)
+                    .description("Description")
+                    .project(project)
+                    .reporter(reporter)
+                    .assignee(state == State.NEW ? null : dev)
+                    .state(state)
+                    .priority(Priority.MAJOR)
+                    .build());
+        }
+
+        // When
+        List<IssueRepository.FacetCount> all = issueRepository.countFacets(project.getId(), null, null, null, null);
+        List<IssueRepository.FacetCount> assigned = issueRepository.countFacets(project.getId(), "CRASH", null, "De", State.ASSIGNED);
+
+        // Then
+        assertThat(all).hasSize(2);
+        IssueRepository.FacetCount unassigned = all.stream().filter(row -> row.getAssigneeId() == null).findFirst().orElseThrow();
+        assertThat(unassigned.getState()).isEqualTo(State.NEW);
+        assertThat(unassigned.getCount()).isEqualTo(2L);
+        assertThat(assigned).hasSize(1);
+        assertThat(assigned.get(0).getAssigneeId()).isEqualTo("dev");
+        assertThat(assigned.get(0).getPriority()).isEqualTo(Priority.MAJOR);
+        assertThat(assigned.get(0).getCount()).isEqualTo(1L);
+        assertThat(issueRepository.countFacets(project.getId(), null, "nobody", null, null)).isEmpty();
+    }
+
+    @Test
+    public void testFindIndexEntriesByProjectId() {
+        // Given
+        Member reporter = memberRepository.save(Member.builder()
+                .id("reporter")
+                .password("password")
+                .name("Reporter Name")
+                .mail("reporter@example.com")
+                .build());
+        Member dev = memberRepository.save(Member.builder()
+                .id("dev")
+                .password("password")
+                .name("Dev Name")
+                .mail("dev@example.com")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .title("Project Title")
+                .build());
+        Project other = projectRepository.save(Project.builder()
+                .title("Other Title")
+                .build());
+        Issue assigned = issueRepository.save(Issue.builder()
+                .title("Assigned")
+                .description("Description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(dev)
+                .state(State.ASSIGNED)
+                .priority(Priority.BLOCKER)
+                .build());
+        issueRepository.save(Issue.builder()
+                .title("Other")
+                .description("Description")
+                .project(other)
+                .reporter(reporter)
+                .state(State.NEW)
+                .priority(Priority.MAJOR)
+                .build());
+
+        // When
+        List<IssueRepository.IndexEntry> entries = issueRepository.findIndexEntriesByProjectId(project.getId());
+
+        // Then
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getId()).isEqualTo(assigned.getId());
+        assertThat(entries.get(0).getState()).isEqualTo(State.ASSIGNED);
+        assertThat(entries.get(0).getPriority()).isEqualTo(Priority.BLOCKER);
+        assertThat(entries.get(0).getAssigneeId()).isEqualTo("dev");
+        assertThat(entries.get(0).getReporterId()).isEqualTo("reporter");
+        assertThat(entries.get(0).getVersion()).isZero();
+    }
+
+    @Test
+    public void testSearch() {
+        // Given
+        Member reporter = memberRepository.save(Member.builder()
+                .id("reporter")
+                .password("password")
+                .name("Reporter Name")
+                .mail("reporter@example.com")
+                .build());
+        Member dev = memberRepository.save(Member.builder()
+                .id("dev")
+                .password("password")
+                .name("Dev Name")
+                .mail("dev@example.com")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .title("Project Title")
+                .build());
+        Issue crash = issueRepository.save(Issue.builder()
+                .title("Crash")
+                .description("Login crash on start")
+                .project(project)
+                .reporter(reporter)
+                .assignee(dev)
+                .state(State.ASSIGNED)
+                .priority(Priority.CRITICAL)
+                .build());
+        Issue minor = issueRepository.save(Issue.builder()
+                .title("Login crash")
+                .description("Description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(dev)
+                .state(State.ASSIGNED)
+                .priority(Priority.MINOR)
+                .build());
+        Issue unassigned = issueRepository.save(Issue.builder()
+                .title("Typo")
+                .description("Description")
+                .project(project)
+                .reporter(reporter)
+                .state(State.NEW)
+                .priority(Priority.MAJOR)
+                .build());
+
+        // When
+        IssueQuery assigned = IssueQuery.compile("assigned", List.of(
+                new IssueCondition.StateIn(Set.of(State.ASSIGNED)),
+                new IssueCondition.PriorityIn(Set.of(Priority.BLOCKER, Priority.CRITICAL, Priority.MAJOR)),
+                new IssueCondition.MemberContains(IssueCondition.MemberField.ASSIGNEE, "de"),
+                new IssueCondition.TextContains(true, "login crash"),
+                new IssueCondition.DateRange(IssueCondition.DateField.CREATED, LocalDateTime.now().minusDays(1), null)));
+        IssueQuery titles = IssueQuery.compile("titles", List.of(
+                new IssueCondition.TextContains(false, "login crash")));
+        IssueQuery none = IssueQuery.compile("none", List.of(
+                new IssueCondition.MemberContains(IssueCondition.MemberField.ASSIGNEE, null)));
+        IssueQuery empty = IssueQuery.compile("empty", List.of(
+                new IssueCondition.StateIn(Set.of())));
+
+        // Then
+        assertThat(issueRepository.search(project.getId(), assigned)).extracting(Issue::getId).containsExactly(crash.getId());
+        assertThat(issueRepository.search(project.getId(), titles)).extracting(Issue::getId).containsExactly(minor.getId());
+        assertThat(issueRepository.search(project.getId(), none)).extracting(Issue::getId).containsExactly(unassigned.getId());
+        assertThat(issueRepository.search(project.getId(), empty)).isEmpty();
+        assertThat(issueRepository.search(project.getId() + 1, none)).isEmpty();
+    }
 }
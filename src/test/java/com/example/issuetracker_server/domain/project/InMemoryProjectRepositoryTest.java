@@ -0,0 +1,13 @@
+package com.example.issuetracker_server.domain.project;
+
+import com.example.issuetracker_server.config.MemoryStorageConfig;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// 같은 테스트를 memory 저장 엔진의 리포지토리로 돌린다
+@ActiveProfiles("memory")
+@Import(MemoryStorageConfig.class)
+@TestPropertySource(properties = "storage.memory.dir=build/tmp/memory-store/${random.uuid}")
+public class InMemoryProjectRepositoryTest extends ProjectRepositoryTest {
+}
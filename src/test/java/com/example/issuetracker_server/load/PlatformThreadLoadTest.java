@@ -0,0 +1,18 @@
+package com.example.issuetracker_server.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PlatformThreadLoadTest extends ThreadModeLoadTestSupport {
+
+    @Test
+    void loadWithPlatformThreads() throws Exception {
+        runLoad("platform", "/project");
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.issuetracker_server.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+// 같은 서버에서 MVC(JPA) 조회 경로와 reactive(R2DBC) 조회 경로를 차례로 측정
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ReactiveReadLoadTest extends ThreadModeLoadTestSupport {
+
+    @Test
+    void loadMvcReadPath() throws Exception {
+        runLoad("mvc", "/project");
+    }
+
+    @Test
+    void loadReactiveReadPath() throws Exception {
+        runLoad("reactive", "/reactive/project");
+    }
+}
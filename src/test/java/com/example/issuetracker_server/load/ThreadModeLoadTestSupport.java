@@ -0,0 +1,155 @@
+package com.example.issuetracker_server.load;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.service.project.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 실행 방식(플랫폼/가상 스레드, MVC/reactive 조회 경로)별로 같은 부하를 걸어 처리량과 p99 지연을 비교한다.
+ * ./gradlew test -Dbenchmark=true 일 때만 실행되며 결과는 INFO 로그로 남는다.
+ */
+abstract class ThreadModeLoadTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeLoadTestSupport.class);
+
+    static final int CLIENTS = 1000;
+    static final Duration WARMUP = Duration.ofSeconds(5);
+    static final Duration MEASURE = Duration.ofSeconds(20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MemberProjectRepository memberProjectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private Member member;
+    private Project project;
+
+    @BeforeEach
+    void setUpData() {
+        member = memberRepository.save(Member.builder()
+                .id("load-" + System.nanoTime())
+                .password("password")
+                .name("Load Tester")
+                .mail("load@example.com")
+                .build());
+        project = projectRepository.save(Project.builder().title("Load Project").build());
+        memberProjectRepository.save(new MemberProject(member, project, Role.TESTER));
+        for (int i = 0; i < 50; i++) {
+            issueRepository.save(Issue.builder()
+                    .title("issue " + i)
+                    .description("description " + i)
+                    .project(project)
+                    .reporter(member)
+                    .state(State.NEW)
+                    .priority(Priority.MAJOR)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDownData() {
+        projectService.delete(project.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    // 로그인 + 권한 확인 + 목록 조회로 요청마다 DB 호출이 여러 번 일어나는 GET {basePath}/{projectId}/issue
+    void runLoad(String mode, String basePath) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + basePath + "/" + project.getId()
+                + "/issue?id=" + member.getId() + "&pw=password");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        long measureStart = System.nanoTime() + WARMUP.toNanos();
+        long measureEnd = measureStart + MEASURE.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> perClient = new ArrayList<>();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < measureEnd) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200 && start >= measureStart)
+                            errors.incrementAndGet();
+                    } catch (Exception e) {
+                        if (start >= measureStart)
+                            errors.incrementAndGet();
+                        continue;
+                    }
+                    if (start < measureStart)
+                        continue;
+                    if (count == latencies.length)
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        for (Future<long[]> future : futures)
+            perClient.add(future.get());
+        clients.shutdown();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = MEASURE.toNanos() / 1e9;
+        log.info(String.format(Locale.ROOT, "[benchmark] mode=%s clients=%d requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms",
+                mode, CLIENTS, all.length, errors.get(), all.length / seconds,
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6);
+
+        assertThat(all.length).isPositive();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.issuetracker_server.monitoring;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.issuetracker_server.dto.allocation.EndpointAllocationDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AllocationAccountingFilterTest {
+
+    private static volatile byte[] sink;
+
+    @Test
+    public void testAllocationIsAttributedToMapping() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AllocationStatistics statistics = new AllocationStatistics();
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(registry, statistics, Long.MAX_VALUE, Set.of("pw", "password"));
+
+        // When: 목록 조회는 4MB, 단건 조회는 거의 할당하지 않는다
+        perform(filter, "/project/{projectId}/issue", 4 * 1024 * 1024);
+        perform(filter, "/project/{projectId}/issue/{issueId}", 0);
+
+        // Then
+        DistributionSummary summary = registry.get(AllocationAccountingFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/project/{projectId}/issue")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isGreaterThanOrEqualTo(4 * 1024 * 1024);
+
+        List<EndpointAllocationDto> worst = statistics.worst(10);
+        assertThat(worst).hasSize(2);
+        assertThat(worst.get(0).getEndpoint()).isEqualTo("GET /project/{projectId}/issue");
+        assertThat(worst.get(0).getMax_bytes()).isGreaterThan(worst.get(1).getMax_bytes());
+    }
+
+    @Test
+    public void testOutlierLogRedactsEveryConfiguredParameter() throws Exception {
+        // Given: 모든 요청을 경고로 남기도록 기준을 0 으로 둔다
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(new SimpleMeterRegistry(),
+                new AllocationStatistics(), 0, Set.of("pw", "password"));
+        Logger logger = (Logger) LoggerFactory.getLogger("allocation");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try {
+            // When
+            perform(filter, "/login", 0, "id=tester&password=secret1&pw=secret2&pass%77ord=secret3");
+
+            // Then
+            assertThat(appender.list).hasSize(1);
+            String message = appender.list.get(0).getFormattedMessage();
+            assertThat(message).contains("id=tester&password=***&pw=***&pass%77ord=***");
+            assertThat(message).doesNotContain("secret");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    private void perform(AllocationAccountingFilter filter, String pattern, int allocate) throws Exception {
+        perform(filter, pattern, allocate, null);
+    }
+
+    private void perform(AllocationAccountingFilter filter, String pattern, int allocate, String query) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setQueryString(query);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                if (allocate > 0)
+                    sink = new byte[allocate];
+            }
+        });
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.issuetracker_server.monitoring;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 호출 하나가 실행한 SQL 문 수를 정확히 검사한다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 SqlStatistics 가 요청 안의 모든 문장을 센다.
+ * 개수가 다르면 문장 지문별 횟수를 같이 보여줘서 어느 쿼리가 반복되는지(N+1) 바로 알 수 있다.
+ */
+public final class SqlCountAssertions {
+
+    @FunctionalInterface
+    public interface SqlAction<T> {
+        T run() throws Exception;
+    }
+
+    private SqlCountAssertions() {
+    }
+
+    public static <T> T assertSqlCount(int expected, SqlAction<T> action) throws Exception {
+        SqlStatistics statistics = SqlStatistics.start();
+        if (statistics == null)
+            throw new IllegalStateException("SQL statistics are already being collected on this thread");
+        T result;
+        try {
+            result = action.run();
+        } finally {
+            SqlStatistics.stop(statistics);
+        }
+        if (statistics.getStatementCount() != expected)
+            fail(message(expected, statistics));
+        return result;
+    }
+
+    private static String message(int expected, SqlStatistics statistics) {
+        StringBuilder message = new StringBuilder()
+                .append("expected ").append(expected).append(" SQL statements but was ")
+                .append(statistics.getStatementCount()).append(':');
+        statistics.getFingerprints().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(fingerprint -> message.append(System.lineSeparator())
+                        .append("  ").append(fingerprint.getValue()).append(" x ").append(fingerprint.getKey()));
+        return message.toString();
+    }
+}
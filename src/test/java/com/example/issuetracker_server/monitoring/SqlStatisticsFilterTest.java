@@ -0,0 +1,39 @@
+package com.example.issuetracker_server.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "sql.monitor.response-headers=true")
+public class SqlStatisticsFilterTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void responseCarriesSqlCountAndTimeHeaders() {
+        // When: MemberRepository 를 한 번 조회하는 요청
+        ResponseEntity<String> response = restTemplate.getForEntity("/user?id=nobody&pw=wrong", String.class);
+
+        // Then
+        assertThat(Integer.parseInt(response.getHeaders().getFirst(SqlStatisticsFilter.SQL_COUNT_HEADER))).isPositive();
+        // 기본 로캘과 상관없이 소수점은 점이다
+        assertThat(response.getHeaders().getFirst(SqlStatisticsFilter.SQL_TIME_HEADER)).matches("\\d+\\.\\d{3}");
+    }
+
+    @Test
+    public void fingerprintIgnoresLiteralsAndInListLength() {
+        String a = SqlStatistics.fingerprint("select * from issue where id in (?, ?, ?) and title = 'a'");
+        String b = SqlStatistics.fingerprint("SELECT *   FROM issue WHERE id IN (?, ?) AND title = 'it''s'");
+
+        assertThat(a).isEqualTo(b).isEqualTo("select * from issue where id in (...) and title = ?");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.issuetracker_server.monitoring.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrafficCaptureTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testFilterRedactsPasswordsAndRoundTripsThroughLog() throws Exception {
+        // Given
+        TrafficLogWriter writer = new TrafficLogWriter(directory, 1024 * 1024, 5, 100);
+        TrafficCaptureFilter filter = new TrafficCaptureFilter(writer, new ObjectMapper(), Set.of("pw", "password"),
+                List.of("/actuator"), 16384);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user");
+        request.addParameter("id", "tester");
+        request.addParameter("pw", "secret");
+        request.setContentType("application/json");
+        request.setContent("{\"id\":\"tester\",\"password\":\"secret\"}".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                req.getInputStream().readAllBytes();
+                res.setStatus(201);
+            }
+        });
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+        writer.close();
+        List<CapturedRequest> captured = TrafficLogReader.readAll(directory);
+
+        // Then
+        assertThat(captured).hasSize(1);
+        CapturedRequest record = captured.get(0);
+        assertThat(record.method()).isEqualTo("POST");
+        assertThat(record.path()).isEqualTo("/user");
+        assertThat(record.status()).isEqualTo(201);
+        assertThat(record.parameters()).isEqualTo(Map.of("id", List.of("tester"), "pw", List.of(TrafficCaptureFilter.REDACTED)));
+        assertThat(new String(record.body(), StandardCharsets.UTF_8))
+                .contains("\"id\":\"tester\"")
+                .contains(TrafficCaptureFilter.REDACTED)
+                .doesNotContain("secret");
+    }
+
+    @Test
+    public void testWriterRotatesAndKeepsNewestFiles() throws Exception {
+        // Given: 파일마다 레코드 몇 개만 들어가도록 작은 크기
+        TrafficLogWriter writer = new TrafficLogWriter(directory, 200, 3, 1000);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            writer.offer(new CapturedRequest(i, "GET", "/project/" + i + "/issue", "/project/{projectId}/issue",
+                    Map.of("id", List.of("tester")), null, new byte[0], 200, 1_000));
+        }
+        writer.close();
+
+        // Then
+        List<Path> files = TrafficLogReader.listFiles(directory);
+        assertThat(files).hasSizeLessThanOrEqualTo(3);
+        List<CapturedRequest> remaining = TrafficLogReader.readAll(directory);
+        assertThat(remaining).isNotEmpty();
+        assertThat(remaining.get(remaining.size() - 1).timestampMicros()).isEqualTo(99);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.issuetracker_server.monitoring.jfr;
+
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.service.issue.IssueService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceCallEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testServiceCallIsRecordedWithArgumentsAndRowCount() throws Exception {
+        // Given
+        IssueService target = mock(IssueService.class);
+        when(target.getIssues(7L, "state", "NEW")).thenReturn(List.of(new IssueResponseDto(), new IssueResponseDto()));
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(new ServiceCallEventInterceptor());
+        IssueService issueService = (IssueService) factory.getProxy();
+
+        Path file = directory.resolve("service-call.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceCallEvent.class).withoutThreshold();
+            recording.start();
+
+            // When
+            issueService.getIssues(7L, "state", "NEW");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.issuetracker.ServiceCall"))
+                .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("method")).isEqualTo("getIssues");
+        assertThat(event.getLong("projectId")).isEqualTo(7L);
+        assertThat(event.getLong("rowCount")).isEqualTo(2L);
+        assertThat(event.getInt("sqlStatements")).isEqualTo(-1);
+        assertThat(event.getString("exception")).isNull();
+    }
+}
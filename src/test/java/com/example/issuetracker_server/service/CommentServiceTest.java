@@ -2,9 +2,13 @@ package com.example.issuetracker_server.service;
 
 import com.example.issuetracker_server.domain.comment.Comment;
 import com.example.issuetracker_server.domain.comment.CommentRepository;
+import com.example.issuetracker_server.domain.issue.Issue;
 import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
 import com.example.issuetracker_server.dto.comment.CommentResponseDto;
 import com.example.issuetracker_server.service.comment.CommentServiceImpl;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +34,9 @@ public class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ProjectEventStream projectEventStream;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -40,13 +47,57 @@ public class CommentServiceTest {
 
     @Test
     void testSave() {
+        Project project = new Project();
+        project.setId(1L);
+        Issue issue = new Issue();
+        issue.setId(5L);
+        issue.setProject(project);
         Comment comment = new Comment();
         comment.setId(1L);
+        comment.setIssue(issue);
         comment.setContent("Test Comment");
 
         commentService.save(comment);
 
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(projectEventStream, times(1)).commentChanged(ProjectEventType.COMMENT_EDITED, comment);
+    }
+
+    @Test
+    void testSaveNewCommentPublishesEvent() {
+        Project project = new Project();
+        project.setId(1L);
+        Issue issue = new Issue();
+        issue.setId(5L);
+        issue.setProject(project);
+        Comment comment = new Comment();
+        comment.setIssue(issue);
+        comment.setContent("New Comment");
+        when(commentRepository.save(comment)).thenAnswer(invocation -> {
+            comment.setId(9L);
+            return comment;
+        });
+
+        commentService.save(comment);
+
+        verify(projectEventStream, times(1)).commentChanged(ProjectEventType.COMMENT_ADDED, comment);
+    }
+
+    @Test
+    void testDeletePublishesEvent() {
+        Project project = new Project();
+        project.setId(1L);
+        Issue issue = new Issue();
+        issue.setId(5L);
+        issue.setProject(project);
+        Comment comment = new Comment();
+        comment.setId(9L);
+        comment.setIssue(issue);
+
+        commentService.delete(comment);
+
+        verify(commentRepository, times(1)).delete(comment);
+        verify(projectEventStream, times(1)).commentDeleted(1L, 5L, 9L);
     }
 
     @Test
@@ -0,0 +1,151 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.dto.analytics.IssueAnalyticsResponseDto;
+import com.example.issuetracker_server.service.analytics.IssueAnalyticsService;
+import com.example.issuetracker_server.service.analytics.IssueAnalyticsServiceImpl;
+import com.example.issuetracker_server.service.analytics.IssueColumnStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({IssueAnalyticsServiceImpl.class, IssueColumnStore.class})
+@TestPropertySource(properties = {"analytics.columnar.refresh-interval-s=0", "analytics.columnar.parallelism=2"})
+public class IssueAnalyticsServiceTest {
+
+    @Autowired
+    private IssueAnalyticsService issueAnalyticsService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member reporter;
+    private Member dev1;
+    private Member dev2;
+    private Project project1;
+    private Project project2;
+
+    @BeforeEach
+    void setUp() {
+        reporter = member("analytics-tester");
+        dev1 = member("analytics-dev1");
+        dev2 = member("analytics-dev2");
+        project1 = em.persist(Project.builder().title("analytics 1").build());
+        project2 = em.persist(Project.builder().title("analytics 2").build());
+    }
+
+    @Test
+    public void testCountsAcrossProjectsAndFiltersByProject() {
+        // Given
+        issue(project1, null, State.NEW, Priority.MAJOR);
+        issue(project1, dev1, State.ASSIGNED, Priority.BLOCKER);
+        issue(project1, dev1, State.CLOSED, Priority.MAJOR);
+        issue(project2, dev2, State.FIXED, Priority.CRITICAL);
+        issue(project2, dev1, State.REOPEN, Priority.MINOR);
+        em.flush();
+        issueAnalyticsService.refresh(true);
+
+        // When
+        IssueAnalyticsResponseDto all = issueAnalyticsService.getIssueAnalytics(List.of(project1.getId(), project2.getId()), 10);
+        IssueAnalyticsResponseDto first = issueAnalyticsService.getIssueAnalytics(List.of(project1.getId()), 10);
+
+        // Then
+        assertThat(all.getIssue_count()).isEqualTo(5);
+        assertThat(all.getOpen_count()).isEqualTo(4);
+        assertThat(all.getBy_state()).containsEntry("NEW", 1L).containsEntry("CLOSED", 1L).containsEntry("DISPOSED", 0L);
+        assertThat(all.getBy_priority()).containsEntry("MAJOR", 2L).containsEntry("CRITICAL", 1L);
+        assertThat(all.getBy_project()).containsEntry(project1.getId(), 3L).containsEntry(project2.getId(), 2L);
+        assertThat(all.getOpen_age_days()).containsEntry("0-1", 4L).containsEntry("90+", 0L);
+        // 닫힌 이슈는 담당자 수에서 빠진다
+        assertThat(all.getTop_open_assignees()).containsExactly(
+                entry(dev1.getId(), 2L),
+                entry(dev2.getId(), 1L));
+
+        assertThat(first.getIssue_count()).isEqualTo(3);
+        assertThat(first.getOpen_count()).isEqualTo(2);
+        assertThat(first.getBy_project()).containsOnlyKeys(project1.getId());
+        assertThat(first.getTop_open_assignees()).containsOnlyKeys(dev1.getId());
+    }
+
+    @Test
+    public void testIncrementalRefreshPicksUpChangesAndNewIssues() {
+        // Given
+        Issue issue = issue(project1, null, State.NEW, Priority.MAJOR);
+        Issue deleted = issue(project1, dev2, State.FIXED, Priority.MAJOR);
+        em.flush();
+        issueAnalyticsService.refresh(true);
+
+        issue.setAssignee(dev1);
+        issue.setState(State.ASSIGNED);
+        issue(project1, dev2, State.ASSIGNED, Priority.TRIVIAL);
+        em.remove(deleted);
+        em.flush();
+
+        // When
+        issueAnalyticsService.refresh(false);
+        IssueAnalyticsResponseDto incremental = issueAnalyticsService.getIssueAnalytics(List.of(project1.getId()), 10);
+        issueAnalyticsService.refresh(true);
+        IssueAnalyticsResponseDto full = issueAnalyticsService.getIssueAnalytics(List.of(project1.getId()), 10);
+
+        // Then: 삭제는 전체 갱신 때 빠진다
+        assertThat(incremental.getIssue_count()).isEqualTo(3);
+        assertThat(incremental.getBy_state()).containsEntry("NEW", 0L).containsEntry("ASSIGNED", 2L);
+        assertThat(incremental.getTop_open_assignees()).containsEntry(dev1.getId(), 1L).containsEntry(dev2.getId(), 2L);
+        assertThat(full.getIssue_count()).isEqualTo(2);
+        assertThat(full.getTop_open_assignees()).containsEntry(dev2.getId(), 1L);
+    }
+
+    @Test
+    public void testLimitsTopAssignees() {
+        // Given
+        issue(project1, dev1, State.ASSIGNED, Priority.MAJOR);
+        issue(project1, dev1, State.ASSIGNED, Priority.MAJOR);
+        issue(project1, dev2, State.ASSIGNED, Priority.MAJOR);
+        em.flush();
+        issueAnalyticsService.refresh(true);
+
+        // When
+        IssueAnalyticsResponseDto analytics = issueAnalyticsService.getIssueAnalytics(List.of(project1.getId()), 1);
+
+        // Then
+        assertThat(analytics.getTop_open_assignees()).containsOnlyKeys(dev1.getId());
+    }
+
+    private Member member(String id) {
+        return em.persist(Member.builder()
+                .id(id)
+                .password("password")
+                .name(id)
+                .mail(id + "@example.com")
+                .build());
+    }
+
+    private Issue issue(Project project, Member assignee, State state, Priority priority) {
+        return em.persist(Issue.builder()
+                .title("analytics")
+                .description("description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(assignee)
+                .state(state)
+                .priority(priority)
+                .build());
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import(IssueBitmapIndex.class)
+public class IssueBitmapIndexTest {
+
+    @Autowired
+    private IssueBitmapIndex issueBitmapIndex;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member reporter;
+    private Member dev1;
+    private Member dev2;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        reporter = member("index-tester");
+        dev1 = member("index-dev1");
+        dev2 = member("index-dev2");
+        project = em.persist(Project.builder().title("index").build());
+    }
+
+    @Test
+    public void testFindIdsCombinesConditions() {
+        // Given
+        Issue a = issue(dev1, State.ASSIGNED, Priority.MAJOR);
+        Issue b = issue(dev2, State.ASSIGNED, Priority.BLOCKER);
+        Issue c = issue(dev1, State.FIXED, Priority.MAJOR);
+        issue(null, State.NEW, Priority.MAJOR);
+        em.flush();
+
+        // When
+        List<Long> assigned = issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.ASSIGNED)).orElseThrow();
+        List<Long> dev = issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.assignee("DEV")).orElseThrow();
+        List<Long> combined = issueBitmapIndex.findIds(project.getId(),
+                new IssueIndexFilter(Set.of(State.ASSIGNED, State.FIXED), Set.of(Priority.MAJOR), "dev1", "tester")).orElseThrow();
+
+        // Then
+        assertThat(assigned).containsExactly(a.getId(), b.getId());
+        assertThat(dev).containsExactly(a.getId(), b.getId(), c.getId());
+        assertThat(combined).containsExactly(a.getId(), c.getId());
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.reporter("nobody")).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    public void testFacets() {
+        // Given
+        issue(dev1, State.ASSIGNED, Priority.MAJOR);
+        issue(dev2, State.ASSIGNED, Priority.BLOCKER);
+        issue(dev1, State.FIXED, Priority.MAJOR);
+        issue(null, State.NEW, Priority.MINOR);
+        em.flush();
+
+        // When
+        IssueBitmapIndex.Facets facets = issueBitmapIndex.facets(project.getId(), IssueIndexFilter.ALL).orElseThrow();
+        IssueBitmapIndex.Facets assigned = issueBitmapIndex.facets(project.getId(), IssueIndexFilter.state(State.ASSIGNED)).orElseThrow();
+
+        // Then
+        assertThat(facets.total()).isEqualTo(4);
+        assertThat(facets.byState()[State.ASSIGNED.ordinal()]).isEqualTo(2);
+        assertThat(facets.byPriority()[Priority.MAJOR.ordinal()]).isEqualTo(2);
+        assertThat(facets.byAssignee()).containsEntry(dev1.getId(), 2L).containsEntry(dev2.getId(), 1L);
+        assertThat(facets.unassigned()).isEqualTo(1);
+        assertThat(assigned.total()).isEqualTo(2);
+        assertThat(assigned.byAssignee()).containsEntry(dev1.getId(), 1L).containsEntry(dev2.getId(), 1L);
+        assertThat(assigned.unassigned()).isZero();
+    }
+
+    @Test
+    public void testRecordAndRemoveApplyAfterCommit() {
+        // Given
+        Issue a = issue(null, State.NEW, Priority.MAJOR);
+        Issue b = issue(dev1, State.ASSIGNED, Priority.MAJOR);
+        em.flush();
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.NEW)).orElseThrow()).containsExactly(a.getId());
+
+        // When
+        a.setAssignee(dev2);
+        a.setState(State.ASSIGNED);
+        issueBitmapIndex.record(a);
+        issueBitmapIndex.remove(project.getId(), b.getId());
+
+        // Then: 커밋 전에는 그대로
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.NEW)).orElseThrow()).containsExactly(a.getId());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.NEW)).orElseThrow()).isEmpty();
+            assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.ASSIGNED)).orElseThrow()).containsExactly(a.getId());
+            IssueBitmapIndex.Facets facets = issueBitmapIndex.facets(project.getId(), IssueIndexFilter.ALL).orElseThrow();
+            assertThat(facets.total()).isEqualTo(1);
+            assertThat(facets.byAssignee()).containsOnlyKeys(dev2.getId());
+        } finally {
+            TestTransaction.start();
+            em.remove(em.find(Issue.class, a.getId()));
+            em.remove(em.find(Issue.class, b.getId()));
+            em.remove(em.find(Project.class, project.getId()));
+            em.remove(em.find(Member.class, reporter.getId()));
+            em.remove(em.find(Member.class, dev1.getId()));
+            em.remove(em.find(Member.class, dev2.getId()));
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    public void testOlderVersionArrivingLateIsIgnored() {
+        // Given: 버전 0 으로 색인에 들어간 이슈
+        Issue a = issue(null, State.NEW, Priority.MAJOR);
+        em.flush();
+        issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.ALL);
+        TestTransaction.end();
+
+        // When: 커밋 뒤 콜백이 커밋 순서와 반대로 (버전 2, 1) 돈다
+        issueBitmapIndex.record(committed(a, State.FIXED, 2L));
+        issueBitmapIndex.record(committed(a, State.ASSIGNED, 1L));
+
+        // Then
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.FIXED)).orElseThrow()).containsExactly(a.getId());
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.state(State.ASSIGNED)).orElseThrow()).isEmpty();
+
+        // 지운 뒤에 도착한 쓰기도 버린다
+        issueBitmapIndex.remove(project.getId(), a.getId());
+        issueBitmapIndex.record(committed(a, State.ASSIGNED, 3L));
+        assertThat(issueBitmapIndex.findIds(project.getId(), IssueIndexFilter.ALL).orElseThrow()).isEmpty();
+    }
+
+    private Member member(String id) {
+        return em.persist(Member.builder()
+                .id(id)
+                .password("password")
+                .name(id)
+                .mail(id + "@example.com")
+                .build());
+    }
+
+    private Issue issue(Member assignee, State state, Priority priority) {
+        return em.persist(Issue.builder()
+                .title("index")
+                .description("description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(assignee)
+                .state(state)
+                .priority(priority)
+                .build());
+    }
+
+    // 커밋 뒤 콜백이 읽을 이슈 (상태와 버전만 다르다)
+    private Issue committed(Issue issue, State state, Long version) {
+        return Issue.builder()
+                .id(issue.getId())
+                .title(issue.getTitle())
+                .description(issue.getDescription())
+                .project(project)
+                .reporter(reporter)
+                .state(state)
+                .priority(issue.getPriority())
+                .version(version)
+                .build();
+    }
+}
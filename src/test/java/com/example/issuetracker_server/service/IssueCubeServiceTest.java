@@ -0,0 +1,170 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCell;
+import com.example.issuetracker_server.domain.issuecube.IssueCubeCellRepository;
+import com.example.issuetracker_server.dto.issue.IssueCubeResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueCubeRowResponseDto;
+import com.example.issuetracker_server.service.issuecube.IssueCubeCoordinate;
+import com.example.issuetracker_server.service.issuecube.IssueCubeLog;
+import com.example.issuetracker_server.service.issuecube.IssueCubeService;
+import com.example.issuetracker_server.service.issuecube.IssueCubeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({IssueCubeServiceImpl.class, IssueCubeLog.class})
+public class IssueCubeServiceTest {
+
+    private static final Long PROJECT_ID = 42L;
+
+    // 월요일
+    private static final LocalDate WEEK = LocalDate.of(2024, 6, 3);
+
+    @Autowired
+    private IssueCubeService issueCubeService;
+
+    @Autowired
+    private IssueCubeCellRepository issueCubeCellRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    public void testGroupsFixedCriticalIssuesPerDeveloperPerWeek() {
+        // Given
+        cell(WEEK, State.FIXED, Priority.CRITICAL, "dev1", 2, 0);
+        cell(WEEK.plusDays(4), State.FIXED, Priority.CRITICAL, "dev1", 1, 1);
+        cell(WEEK.plusDays(2), State.FIXED, Priority.CRITICAL, "dev2", 1, 0);
+        cell(WEEK.plusDays(7), State.FIXED, Priority.CRITICAL, "dev1", 3, 0);
+        cell(WEEK, State.FIXED, Priority.MINOR, "dev1", 5, 0);
+        cell(WEEK, State.ASSIGNED, Priority.CRITICAL, "dev1", 4, 0);
+        em.flush();
+
+        // When
+        IssueCubeResponseDto cube = issueCubeService.query(PROJECT_ID, List.of("assignee", "week"),
+                List.of("FIXED"), List.of("CRITICAL"), null, null, null);
+
+        // Then
+        assertThat(cube.getGroup_by()).containsExactly("assignee", "week");
+        List<IssueCubeRowResponseDto> rows = cube.getRows();
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getPeriod()).isEqualTo("2024-06-03");
+        assertThat(rows.get(0).getAssignee_id()).isEqualTo("dev1");
+        assertThat(rows.get(0).getEntered()).isEqualTo(3);
+        assertThat(rows.get(0).getNet()).isEqualTo(2);
+        assertThat(rows.get(0).getState()).isNull();
+        assertThat(rows.get(1).getAssignee_id()).isEqualTo("dev2");
+        assertThat(rows.get(2).getPeriod()).isEqualTo("2024-06-10");
+        assertThat(rows.get(2).getEntered()).isEqualTo(3);
+    }
+
+    @Test
+    public void testNetCountsWithoutTimeDimensionAreCurrentCounts() {
+        // Given: 담당자 없이 NEW 로 생성된 뒤 dev1 에게 배정
+        cell(WEEK, State.NEW, Priority.MAJOR, IssueCubeCell.UNASSIGNED, 2, 1);
+        cell(WEEK.plusDays(1), State.ASSIGNED, Priority.MAJOR, "dev1", 1, 0);
+        em.flush();
+
+        // When
+        IssueCubeResponseDto cube = issueCubeService.query(PROJECT_ID, List.of("state", "assignee"),
+                null, null, null, null, null);
+
+        // Then
+        assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getState)
+                .containsExactly(State.NEW, State.ASSIGNED);
+        assertThat(cube.getRows().get(0).getAssignee_id()).isNull();
+        assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getNet).containsExactly(1, 1);
+    }
+
+    @Test
+    public void testRejectsTwoTimeDimensionsAndUnknownValues() {
+        assertThatThrownBy(() -> issueCubeService.query(PROJECT_ID, List.of("day", "month"), null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueCubeService.query(PROJECT_ID, List.of("reporter"), null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueCubeService.query(PROJECT_ID, null, List.of("OPEN"), null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testChangesAreMergedIntoCellsOnCommit() {
+        // Given
+        IssueCubeCoordinate created = new IssueCubeCoordinate(State.NEW, Priority.MAJOR, null);
+        IssueCubeCoordinate assigned = new IssueCubeCoordinate(State.ASSIGNED, Priority.CRITICAL, "dev1");
+        issueCubeService.recordChange(PROJECT_ID, null, created);
+        issueCubeService.recordChange(PROJECT_ID, null, created);
+        issueCubeService.recordChange(PROJECT_ID, created, assigned);
+        issueCubeService.recordChange(PROJECT_ID, assigned, assigned);
+
+        // When
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Then
+        try {
+            IssueCubeResponseDto cube = issueCubeService.query(PROJECT_ID, List.of("state", "priority"),
+                    null, null, null, LocalDate.now(), LocalDate.now());
+            assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getState)
+                    .containsExactly(State.NEW, State.ASSIGNED);
+            assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getEntered).containsExactly(2, 1);
+            assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getNet).containsExactly(1, 1);
+        } finally {
+            TestTransaction.start();
+            issueCubeCellRepository.deleteAllByProjectIdInBatch(PROJECT_ID);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    public void testIssuesWithoutPriorityGetTheirOwnCell() {
+        // Given: 우선순위 없이 배정된 이슈
+        issueCubeService.recordChange(PROJECT_ID, null, new IssueCubeCoordinate(State.ASSIGNED, null, "dev1"));
+        issueCubeService.recordChange(PROJECT_ID, null, new IssueCubeCoordinate(State.ASSIGNED, Priority.MAJOR, "dev1"));
+
+        // When
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Then
+        try {
+            IssueCubeResponseDto cube = issueCubeService.query(PROJECT_ID, List.of("priority"),
+                    null, null, null, LocalDate.now(), LocalDate.now());
+            assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getPriority)
+                    .containsExactly(null, Priority.MAJOR);
+            assertThat(cube.getRows()).extracting(IssueCubeRowResponseDto::getEntered).containsExactly(1, 1);
+        } finally {
+            TestTransaction.start();
+            issueCubeCellRepository.deleteAllByProjectIdInBatch(PROJECT_ID);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    private void cell(LocalDate date, State state, Priority priority, String assigneeId, int entered, int exited) {
+        em.persist(IssueCubeCell.builder()
+                .projectId(PROJECT_ID)
+                .bucketDate(date)
+                .state(state)
+                .priority(priority.name())
+                .assigneeId(assigneeId)
+                .entered(entered)
+                .exited(exited)
+                .build());
+    }
+}
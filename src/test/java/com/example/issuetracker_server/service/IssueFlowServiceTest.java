@@ -0,0 +1,132 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issueflow.IssueFlowDaily;
+import com.example.issuetracker_server.domain.issueflow.IssueFlowDailyRepository;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.dto.issue.IssueFlowDayResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueFlowResponseDto;
+import com.example.issuetracker_server.service.issueflow.IssueFlowLog;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import com.example.issuetracker_server.service.issueflow.IssueFlowServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({IssueFlowServiceImpl.class, IssueFlowLog.class})
+public class IssueFlowServiceTest {
+
+    private static final Long PROJECT_ID = 42L;
+
+    @Autowired
+    private IssueFlowService issueFlowService;
+
+    @Autowired
+    private IssueFlowDailyRepository issueFlowDailyRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    public void testGetFlowAccumulatesDailyBuckets() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 6, 1);
+        bucket(from.minusDays(10), State.NEW, 3, 0, 0);
+        bucket(from, State.NEW, 0, 1, 0);
+        bucket(from, State.FIXED, 1, 0, 2 * 3600);
+        bucket(from.plusDays(2), State.FIXED, 0, 1, 0);
+        bucket(from.plusDays(2), State.CLOSED, 1, 0, 10 * 3600);
+        bucket(from.plusDays(5), State.NEW, 7, 0, 0);
+
+        // When
+        IssueFlowResponseDto flow = issueFlowService.getFlow(PROJECT_ID, from, from.plusDays(2));
+
+        // Then
+        List<IssueFlowDayResponseDto> days = flow.getDays();
+        assertThat(days).extracting(IssueFlowDayResponseDto::getDate)
+                .containsExactly("2024-06-01", "2024-06-02", "2024-06-03");
+        assertThat(days.get(0).getStates().get(State.NEW)).isEqualTo(2);
+        assertThat(days.get(0).getStates().get(State.FIXED)).isEqualTo(1);
+        assertThat(days.get(0).getEntered().get(State.FIXED)).isEqualTo(1);
+        assertThat(days.get(1).getStates()).isEqualTo(days.get(0).getStates());
+        assertThat(days.get(1).getEntered().get(State.FIXED)).isZero();
+        assertThat(days.get(2).getStates().get(State.FIXED)).isZero();
+        assertThat(days.get(2).getStates().get(State.CLOSED)).isEqualTo(1);
+        assertThat(days.get(0).getOpen_issues()).isEqualTo(3);
+        assertThat(days.get(2).getOpen_issues()).isEqualTo(2);
+        assertThat(flow.getMean_time_to_fix_hours()).isEqualTo(2.0);
+        assertThat(flow.getMean_time_to_close_hours()).isEqualTo(10.0);
+    }
+
+    @Test
+    public void testGetFlowRejectsInvertedRange() {
+        assertThatThrownBy(() -> issueFlowService.getFlow(PROJECT_ID, LocalDate.of(2024, 6, 2), LocalDate.of(2024, 6, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testTransitionsAreMergedIntoBucketsOnCommit() {
+        // Given
+        Issue first = issue(LocalDateTime.now().minusHours(4));
+        Issue second = issue(LocalDateTime.now());
+        issueFlowService.recordTransition(first, null, State.NEW);
+        issueFlowService.recordTransition(second, null, State.NEW);
+        issueFlowService.recordTransition(first, State.NEW, State.FIXED);
+        // 커밋 전에는 버킷에 쓰지 않는다
+        assertThat(issueFlowDailyRepository.count()).isZero();
+
+        // When
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Then
+        LocalDate today = LocalDate.now();
+        try {
+            IssueFlowResponseDto flow = issueFlowService.getFlow(PROJECT_ID, today, today);
+            assertThat(flow.getDays().get(0).getStates().get(State.NEW)).isEqualTo(1);
+            assertThat(flow.getDays().get(0).getStates().get(State.FIXED)).isEqualTo(1);
+            assertThat(flow.getFixed_count()).isEqualTo(1);
+            assertThat(flow.getMean_time_to_fix_hours()).isBetween(3.9, 4.1);
+        } finally {
+            TestTransaction.start();
+            issueFlowDailyRepository.deleteAllByProjectIdInBatch(PROJECT_ID);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    private void bucket(LocalDate date, State state, int entered, int exited, long enteredAgeSeconds) {
+        em.persist(IssueFlowDaily.builder()
+                .projectId(PROJECT_ID)
+                .bucketDate(date)
+                .state(state)
+                .entered(entered)
+                .exited(exited)
+                .enteredAgeSeconds(enteredAgeSeconds)
+                .build());
+    }
+
+    private static Issue issue(LocalDateTime createdDate) {
+        Issue issue = Issue.builder()
+                .project(Project.builder().id(PROJECT_ID).build())
+                .state(State.NEW)
+                .build();
+        issue.setCreatedDate(createdDate);
+        return issue;
+    }
+}
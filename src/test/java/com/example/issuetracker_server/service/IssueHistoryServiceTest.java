@@ -0,0 +1,253 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEvent;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
+import com.example.issuetracker_server.domain.issuehistory.IssueSnapshot;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.dto.issue.IssueEventResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
+import com.example.issuetracker_server.service.issuehistory.IssueEventLog;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryServiceImpl;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryState;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({IssueHistoryServiceImpl.class, IssueEventLog.class, IssueBitmapIndex.class, SavedFilterIndex.class, IssueQueryPlanner.class,
+        IssueHistoryServiceTest.Config.class})
+public class IssueHistoryServiceTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean(name = "jobExecutor")
+        TaskExecutor jobExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+
+    @Autowired
+    private IssueHistoryService issueHistoryService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+
+    private Project project;
+
+    @BeforeEach
+    public void setup() {
+        member = em.persist(Member.builder()
+                .id("member")
+                .password("password")
+                .name("Member")
+                .mail("member@example.com")
+                .build());
+        project = em.persist(Project.builder().title("Project").build());
+    }
+
+    @Test
+    public void testReplayAppliesEventsAfterTheLatestSnapshot() {
+        // Given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        event(1L, IssueEventType.CREATED, State.NEW, "first", past);
+        event(2L, IssueEventType.CREATED, State.NEW, "second", past);
+        event(1L, IssueEventType.ASSIGNED, State.ASSIGNED, "first", past);
+        event(2L, IssueEventType.DELETED, State.NEW, "second", past);
+        assertThat(issueHistoryService.snapshot(project.getId())).isTrue();
+        event(1L, IssueEventType.CONTENT_UPDATED, State.ASSIGNED, "first (edited)", LocalDateTime.now());
+
+        // When
+        Map<Long, IssueHistoryState> issues = issueHistoryService.replay(project.getId());
+
+        // Then
+        assertThat(issues).containsOnlyKeys(1L);
+        assertThat(issues.get(1L).title()).isEqualTo("first (edited)");
+        assertThat(issues.get(1L).state()).isEqualTo(State.ASSIGNED);
+        IssueSnapshot snapshot = em.getEntityManager()
+                .createQuery("select s from IssueSnapshot s", IssueSnapshot.class)
+                .getSingleResult();
+        assertThat(snapshot.getIssueCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSnapshotSkipsRecentAndAlreadySnapshottedEvents() {
+        // Given
+        event(1L, IssueEventType.CREATED, State.NEW, "first", LocalDateTime.now().minusMinutes(1));
+        assertThat(issueHistoryService.snapshot(project.getId())).isTrue();
+        // 아직 커밋이 덜 끝났을 수 있는 최근 이벤트
+        event(1L, IssueEventType.STATE_CHANGED, State.FIXED, "first", LocalDateTime.now());
+
+        // When
+        boolean written = issueHistoryService.snapshot(project.getId());
+
+        // Then
+        assertThat(written).isFalse();
+    }
+
+    @Test
+    public void testReplayAsOfStartsFromTheNearestEarlierSnapshot() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        event(1L, IssueEventType.CREATED, State.NEW, "first", now.minusMinutes(10));
+        event(2L, IssueEventType.CREATED, State.NEW, "second", now.minusMinutes(8));
+        assertThat(issueHistoryService.snapshot(project.getId())).isTrue();
+        event(1L, IssueEventType.STATE_CHANGED, State.CLOSED, "first", now.minusMinutes(6));
+        event(2L, IssueEventType.DELETED, State.NEW, "second", now.minusMinutes(4));
+        assertThat(issueHistoryService.snapshot(project.getId())).isTrue();
+        event(1L, IssueEventType.CONTENT_UPDATED, State.CLOSED, "first (edited)", now);
+
+        // When
+        Map<Long, IssueHistoryState> beforeHistory = issueHistoryService.replay(project.getId(), now.minusMinutes(11));
+        Map<Long, IssueHistoryState> afterCreate = issueHistoryService.replay(project.getId(), now.minusMinutes(7));
+        Map<Long, IssueHistoryState> afterClose = issueHistoryService.replay(project.getId(), now.minusMinutes(5));
+        Map<Long, IssueHistoryState> latest = issueHistoryService.replay(project.getId(), now.plusMinutes(1));
+        IssueStatisticResponseDto statistic = issueHistoryService.getStatisticAsOf(project.getId(), now.minusMinutes(5));
+
+        // Then
+        assertThat(beforeHistory).isEmpty();
+        assertThat(afterCreate).containsOnlyKeys(1L, 2L);
+        assertThat(afterCreate.get(1L).state()).isEqualTo(State.NEW);
+        assertThat(afterClose.get(1L).state()).isEqualTo(State.CLOSED);
+        assertThat(afterClose).containsKey(2L);
+        assertThat(latest).containsOnlyKeys(1L);
+        assertThat(latest.get(1L).title()).isEqualTo("first (edited)");
+        assertThat(statistic.getTotal_issues()).isEqualTo(2);
+        assertThat(statistic.getClosed_issues()).isEqualTo(1);
+        assertThat(issueHistoryService.getIssuesAsOf(project.getId(), now.minusMinutes(5), "state", "NEW"))
+                .extracting(IssueResponseDto::getId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    public void testRebuildProjectionRestoresDivergedRows() {
+        // Given
+        Issue issue = em.persist(Issue.builder()
+                .project(project)
+                .title("title")
+                .description("description")
+                .reporter(member)
+                .priority(Priority.MAJOR)
+                .state(State.NEW)
+                .build());
+        event(issue.getId(), IssueEventType.STATE_CHANGED, State.FIXED, "title", LocalDateTime.now().minusMinutes(1));
+        em.flush();
+        em.clear();
+
+        // When
+        int changed = issueHistoryService.rebuildProjection(project.getId());
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(changed).isEqualTo(1);
+        assertThat(em.find(Issue.class, issue.getId()).getState()).isEqualTo(State.FIXED);
+        assertThat(issueHistoryService.rebuildProjection(project.getId())).isZero();
+    }
+
+    @Test
+    public void testAsOfBeforeTheHistoryStartIsRejected() {
+        // Given: 첫 이벤트 뒤에 예전 이슈를 가져왔다
+        LocalDateTime now = LocalDateTime.now();
+        event(1L, IssueEventType.CREATED, State.NEW, "first", now.minusMinutes(10));
+        event(2L, IssueEventType.IMPORTED, State.FIXED, "older", now.minusMinutes(5));
+
+        // When / Then
+        assertThatThrownBy(() -> issueHistoryService.getIssuesAsOf(project.getId(), now.minusMinutes(7), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueHistoryService.getStatisticAsOf(project.getId(), now.minusMinutes(11)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(issueHistoryService.getIssuesAsOf(project.getId(), now.minusMinutes(4), null, null))
+                .extracting(IssueResponseDto::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void testImportIssuesRecordsOnlyIssuesWithoutHistory() {
+        // Given: 히스토리 전부터 있던 이슈와 이벤트가 있는 이슈
+        Issue older = em.persist(issue("older", State.FIXED));
+        Issue tracked = em.persist(issue("tracked", State.NEW));
+        event(tracked.getId(), IssueEventType.CREATED, State.NEW, "tracked", LocalDateTime.now().minusMinutes(1));
+
+        // When: 이벤트는 커밋 직전에 쓰인다
+        int imported = issueHistoryService.importIssues(project.getId());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            // Then
+            assertThat(imported).isEqualTo(1);
+            assertThat(issueHistoryService.getHistory(project.getId(), older.getId()))
+                    .extracting(IssueEventResponseDto::getType)
+                    .containsExactly(IssueEventType.IMPORTED);
+            Map<Long, IssueHistoryState> issues = issueHistoryService.replay(project.getId());
+            assertThat(issues).containsOnlyKeys(older.getId(), tracked.getId());
+            assertThat(issues.get(older.getId()).state()).isEqualTo(State.FIXED);
+            assertThat(issueHistoryService.importIssues(project.getId())).isZero();
+        } finally {
+            TestTransaction.start();
+            em.getEntityManager().createQuery("delete from IssueEvent e where e.projectId = :projectId")
+                    .setParameter("projectId", project.getId())
+                    .executeUpdate();
+            em.remove(em.find(Issue.class, older.getId()));
+            em.remove(em.find(Issue.class, tracked.getId()));
+            em.remove(em.find(Project.class, project.getId()));
+            em.remove(em.find(Member.class, member.getId()));
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    private Issue issue(String title, State state) {
+        return Issue.builder()
+                .project(project)
+                .title(title)
+                .description("description")
+                .reporter(member)
+                .priority(Priority.MAJOR)
+                .state(state)
+                .build();
+    }
+
+    private void event(Long issueId, IssueEventType type, State state, String title, LocalDateTime occurredAt) {
+        em.persistAndFlush(IssueEvent.builder()
+                .projectId(project.getId())
+                .issueId(issueId)
+                .type(type)
+                .actorId(member.getId())
+                .title(title)
+                .description("description")
+                .reporterId(member.getId())
+                .priority(Priority.MAJOR)
+                .state(state)
+                .occurredAt(occurredAt)
+                .build());
+    }
+}
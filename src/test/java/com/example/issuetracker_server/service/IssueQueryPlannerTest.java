@@ -0,0 +1,97 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.IssueCondition;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlan;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IssueQueryPlannerTest {
+
+    private final IssueQueryPlanner planner = new IssueQueryPlanner(16);
+
+    @Test
+    void testSameQueryWrittenDifferentlySharesOnePlan() {
+        IssueQueryPlan first = planner.plan("Priority>=major   state:assigned");
+        IssueQueryPlan second = planner.plan("state=ASSIGNED priority>=MAJOR");
+
+        assertSame(first, second);
+        assertEquals("state:ASSIGNED priority>=MAJOR", first.query().normalized());
+    }
+
+    @Test
+    void testIndexedFieldsBecomeBitmapFilter() {
+        IssueQueryPlan plan = planner.plan("state:NEW,ASSIGNED state:ASSIGNED,FIXED priority>=MAJOR assignee:Bob");
+
+        assertEquals(new IssueIndexFilter(Set.of(State.ASSIGNED), Set.of(Priority.MAJOR, Priority.CRITICAL, Priority.BLOCKER), "bob", null),
+                plan.indexFilter());
+    }
+
+    @Test
+    void testCompilesOneJpqlStatement() {
+        IssueQueryPlan plan = planner.plan("state:ASSIGNED priority>=MAJOR assignee:bob created>2026-01-01 text:\"login crash\"");
+
+        assertNull(plan.indexFilter());
+        assertEquals("select i from Issue i where i.project.id = :projectId"
+                        + " and i.state in (:p0)"
+                        + " and i.priority in (:p1)"
+                        + " and locate(:p2, lower(i.assignee.id)) > 0"
+                        + " and (locate(:p3, lower(i.title)) > 0 or locate(:p3, lower(i.description)) > 0)"
+                        + " and i.createdDate >= :p4"
+                        + " order by i.id",
+                plan.query().jpql());
+        assertEquals(List.of(Set.of(State.ASSIGNED), Set.of(Priority.MAJOR, Priority.CRITICAL, Priority.BLOCKER),
+                        "bob", "login crash", LocalDateTime.of(2026, 1, 2, 0, 0)),
+                plan.query().parameters());
+    }
+
+    @Test
+    void testDateTermsNarrowToOneRange() {
+        IssueQueryPlan plan = planner.plan("created>=2026-01-01 created<=2026-01-31 created>2025-06-01");
+
+        assertEquals(List.of(new IssueCondition.DateRange(IssueCondition.DateField.CREATED,
+                        LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 2, 1, 0, 0))),
+                plan.query().conditions());
+    }
+
+    @Test
+    void testBareWordsAndNone() {
+        IssueQueryPlan plan = planner.plan("crash assignee:none");
+
+        assertEquals(List.of(
+                        new IssueCondition.MemberContains(IssueCondition.MemberField.ASSIGNEE, null),
+                        new IssueCondition.TextContains(true, "crash")),
+                plan.query().conditions());
+        assertNull(plan.indexFilter());
+    }
+
+    @Test
+    void testMeResolvesToTheCallingMember() {
+        IssueQueryPlan bob = planner.plan("assignee:me state:NEW", "Bob");
+        IssueQueryPlan alice = planner.plan("assignee:me state:NEW", "alice");
+
+        assertEquals("state:NEW assignee:bob", bob.query().normalized());
+        assertEquals("alice", alice.indexFilter().assignee());
+        assertNotSame(bob, alice);
+        assertSame(bob, planner.plan("state:NEW assignee:bob"));
+    }
+
+    @Test
+    void testRejectsInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(" "));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("severity:high"));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("state>NEW"));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("state:OPEN"));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("created>yesterday"));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("text:\"login crash"));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan("assignee:"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueRepository;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.service.issue.IssueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class IssueServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Member reporter;
+    private Project project;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        reporter = memberRepository.save(Member.builder()
+                .id("concurrency-" + System.nanoTime())
+                .password("password")
+                .name("Reporter")
+                .mail("reporter@example.com")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Concurrency Project")
+                .build());
+        issue = issueRepository.save(Issue.builder()
+                .title("Concurrent Issue")
+                .description("")
+                .project(project)
+                .reporter(reporter)
+                .state(State.NEW)
+                .priority(Priority.MAJOR)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueRepository.deleteById(issue.getId());
+        projectRepository.deleteById(project.getId());
+        memberRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void concurrentUpdatesWithIfMatch_NoUpdateIsLost() throws Exception {
+        // Given
+        Long projectId = project.getId();
+        Long issueId = issue.getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When: 각 스레드가 읽은 버전을 If-Match 로 넘겨 description 에 한 글자씩 덧붙이고, 충돌하면 다시 읽어서 재시도
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    while (true) {
+                        IssueResponseDto current = issueService.getIssue(projectId, issueId).orElseThrow();
+                        try {
+                            assertTrue(issueService.updateIssue(reporter.getId(), projectId, issueId,
+                                    current.getTitle(), current.getDescription() + "x", current.getVersion()));
+                            break;
+                        } catch (ConcurrencyFailureException ignored) {
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        int expectedUpdates = THREADS * UPDATES_PER_THREAD;
+        IssueResponseDto result = issueService.getIssue(projectId, issueId).orElseThrow();
+        assertEquals(expectedUpdates, result.getDescription().length());
+        assertEquals((long) expectedUpdates, result.getVersion());
+    }
+}
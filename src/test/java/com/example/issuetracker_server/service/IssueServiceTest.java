@@ -1,22 +1,41 @@
 package com.example.issuetracker_server.service;
 
+import com.example.issuetracker_server.domain.comment.CommentRepository;
 import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.IssueQuery;
 import com.example.issuetracker_server.domain.issue.IssueRepository;
 import com.example.issuetracker_server.domain.issue.Priority;
 import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.issuehistory.IssueEventType;
 import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.member.MemberRepository;
 import com.example.issuetracker_server.domain.memberproject.MemberProject;
 import com.example.issuetracker_server.domain.memberproject.MemberProjectRepository;
 import com.example.issuetracker_server.domain.memberproject.Role;
 import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.project.ProjectRepository;
+import com.example.issuetracker_server.dto.issue.IssueCreateRequestDto;
+import com.example.issuetracker_server.dto.issue.IssueFacetResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueResponseDto;
 import com.example.issuetracker_server.dto.issue.IssueStatisticResponseDto;
 import com.example.issuetracker_server.service.issue.IssueServiceImpl;
+import com.example.issuetracker_server.service.issuecube.IssueCubeCoordinate;
+import com.example.issuetracker_server.service.issuecube.IssueCubeService;
+import com.example.issuetracker_server.service.issueflow.IssueFlowService;
+import com.example.issuetracker_server.service.issuehistory.IssueHistoryService;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issueindex.IssueIndexFilter;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.projectevent.ProjectEventStream;
+import com.example.issuetracker_server.service.projectevent.ProjectEventType;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -33,6 +52,36 @@ public class IssueServiceTest {
     @Mock
     private IssueRepository issueRepository;
 
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private IssueHistoryService issueHistoryService;
+
+    @Mock
+    private IssueFlowService issueFlowService;
+
+    @Mock
+    private IssueCubeService issueCubeService;
+
+    @Mock
+    private IssueBitmapIndex issueBitmapIndex;
+
+    @Spy
+    private IssueQueryPlanner issueQueryPlanner = new IssueQueryPlanner(16);
+
+    @Mock
+    private SavedFilterIndex savedFilterIndex;
+
+    @Mock
+    private ProjectEventStream projectEventStream;
+
     @InjectMocks
     private IssueServiceImpl issueService;
 
@@ -41,6 +90,55 @@ public class IssueServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @Test
+    void testCreateIssueRecordsItsHistory() {
+        // Given
+        Project project = Project.builder().id(1L).build();
+        Member reporter = Member.builder().id("tester").build();
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(memberRepository.findById("tester")).thenReturn(Optional.of(reporter));
+        when(issueRepository.save(any(Issue.class))).thenAnswer(invocation -> {
+            Issue issue = invocation.getArgument(0);
+            issue.setId(10L);
+            return issue;
+        });
+        IssueCreateRequestDto request = new IssueCreateRequestDto();
+        request.setTitle("title");
+        request.setDescription("description");
+
+        // When
+        boolean created = issueService.createIssue(1L, "tester", request);
+
+        // Then
+        assertTrue(created);
+        verify(issueHistoryService).record(eq(IssueEventType.CREATED), any(Issue.class), eq("tester"));
+    }
+
+    @Test
+    void testCreateIssueFailureOfASideEffectEscapesSoTheTransactionRollsBack() {
+        // Given
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(Project.builder().id(1L).build()));
+        when(memberRepository.findById("tester")).thenReturn(Optional.of(Member.builder().id("tester").build()));
+        when(issueRepository.save(any(Issue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new IllegalStateException("history down")).when(issueHistoryService)
+                .record(any(), any(Issue.class), any());
+        IssueCreateRequestDto request = new IssueCreateRequestDto();
+        request.setTitle("title");
+        request.setDescription("description");
+
+        // When, Then: false(400) 로 삼키지 않는다
+        assertThrows(IllegalStateException.class, () -> issueService.createIssue(1L, "tester", request));
+    }
+
+    @Test
+    void testCreateIssueUnknownMemberReturnsFalse() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(Project.builder().id(1L).build()));
+        when(memberRepository.findById("nobody")).thenReturn(Optional.empty());
+
+        assertFalse(issueService.createIssue(1L, "nobody", new IssueCreateRequestDto()));
+        verify(issueRepository, never()).save(any());
+    }
+
     @Test
     void testGetIssuesByTitle() {
         Long projectId = 1L;
@@ -167,6 +265,130 @@ public class IssueServiceTest {
         verify(issueRepository, times(1)).findByProjectIdAndAssigneeIdContainingIgnoreCase(projectId, filterValue);
     }
 
+    @Test
+    void testGetIssuesByAssigneeUsesBitmapIndex() {
+        Long projectId = 1L;
+        Project project = new Project();
+        Issue issue1 = Issue.builder().id(1L).project(project).title("issue 1").reporter(new Member())
+                .priority(Priority.MINOR).state(State.ASSIGNED).build();
+        Issue issue2 = Issue.builder().id(2L).project(project).title("issue 2").reporter(new Member())
+                .priority(Priority.MAJOR).state(State.ASSIGNED).build();
+
+        when(issueBitmapIndex.findIds(projectId, IssueIndexFilter.assignee("dev")))
+                .thenReturn(Optional.of(List.of(1L, 2L)));
+        when(issueRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(issue2, issue1));
+
+        List<IssueResponseDto> result = issueService.getIssues(projectId, "assignee", "dev");
+
+        assertEquals(List.of(1L, 2L), result.stream().map(IssueResponseDto::getId).toList());
+        verify(issueRepository, never()).findByProjectIdAndAssigneeIdContainingIgnoreCase(any(), any());
+    }
+
+    @Test
+    void testSearchIssuesUsesBitmapIndexForIndexedFields() {
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(5L).project(new Project()).title("issue 5").reporter(new Member())
+                .priority(Priority.BLOCKER).state(State.ASSIGNED).build();
+
+        when(issueBitmapIndex.findIds(projectId, new IssueIndexFilter(
+                Set.of(State.ASSIGNED), Set.of(Priority.MAJOR, Priority.CRITICAL, Priority.BLOCKER), "bob", null)))
+                .thenReturn(Optional.of(List.of(5L)));
+        when(issueRepository.findAllById(List.of(5L))).thenReturn(List.of(issue));
+
+        List<IssueResponseDto> result = issueService.searchIssues(projectId, "bob", "state:ASSIGNED priority>=MAJOR assignee:me");
+
+        assertEquals(1, result.size());
+        assertEquals(5L, result.get(0).getId());
+        verify(issueRepository, never()).search(any(), any());
+    }
+
+    @Test
+    void testSearchIssuesRunsCompiledQueryForText() {
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(6L).project(new Project()).title("Login crash").reporter(new Member())
+                .priority(Priority.MAJOR).state(State.NEW).build();
+
+        when(issueRepository.search(eq(projectId), any(IssueQuery.class))).thenReturn(List.of(issue));
+
+        List<IssueResponseDto> result = issueService.searchIssues(projectId, "tester", "text:\"login crash\" state:NEW");
+
+        assertEquals(List.of(6L), result.stream().map(IssueResponseDto::getId).toList());
+        verify(issueRepository, times(1)).search(eq(projectId), argThat(query ->
+                query.normalized().equals("state:NEW text:\"login crash\"")));
+        verify(issueBitmapIndex, never()).findIds(any(), any());
+    }
+
+    @Test
+    void testGetFacetsUsesBitmapIndexWithoutTitle() {
+        Long projectId = 1L;
+        long[] byState = new long[State.values().length];
+        byState[State.NEW.ordinal()] = 2;
+        long[] byPriority = new long[Priority.values().length];
+        byPriority[Priority.MAJOR.ordinal()] = 2;
+
+        when(issueBitmapIndex.facets(projectId, IssueIndexFilter.reporter("tester")))
+                .thenReturn(Optional.of(new IssueBitmapIndex.Facets(2, byState, byPriority, Map.of("dev1", 1L), 1)));
+
+        IssueFacetResponseDto result = issueService.getFacets(projectId, "reporter", "tester");
+
+        assertEquals(2, result.getTotal());
+        assertEquals(2L, result.getState().get("NEW"));
+        assertEquals(1L, result.getAssignee().get("dev1"));
+        assertEquals(1, result.getUnassigned());
+        verify(issueRepository, never()).countFacets(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetFacetsFoldsGroupedRows() {
+        Long projectId = 1L;
+
+        when(issueRepository.countFacets(projectId, null, null, "dev", null)).thenReturn(List.of(
+                facet(State.ASSIGNED, Priority.MAJOR, "dev1", 3),
+                facet(State.FIXED, Priority.MAJOR, "dev2", 4),
+                facet(State.ASSIGNED, Priority.BLOCKER, "dev2", 1)));
+
+        IssueFacetResponseDto result = issueService.getFacets(projectId, "assignee", "dev");
+
+        assertEquals(8, result.getTotal());
+        assertEquals(4L, result.getState().get("ASSIGNED"));
+        assertEquals(0L, result.getState().get("NEW"));
+        assertEquals(7L, result.getPriority().get("MAJOR"));
+        assertEquals(List.of("dev2", "dev1"), new ArrayList<>(result.getAssignee().keySet()));
+        assertEquals(5L, result.getAssignee().get("dev2"));
+        assertEquals(0, result.getUnassigned());
+        verify(issueRepository, times(1)).countFacets(projectId, null, null, "dev", null);
+    }
+
+    @Test
+    void testGetFacetsRejectsInvalidFilter() {
+        assertThrows(IllegalArgumentException.class, () -> issueService.getFacets(1L, "fixer", "dev1"));
+        assertThrows(IllegalArgumentException.class, () -> issueService.getFacets(1L, "state", "OPEN"));
+    }
+
+    private static IssueRepository.FacetCount facet(State state, Priority priority, String assigneeId, long count) {
+        return new IssueRepository.FacetCount() {
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public String getAssigneeId() {
+                return assigneeId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
     @Test
     void testGetIssuesByState() {
         Long projectId = 1L;
@@ -590,13 +812,14 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description);
+        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description, null);
 
         // Then
         assertTrue(result);
         assertEquals(title, mockIssue.getTitle());
         assertEquals(description, mockIssue.getDescription());
         verify(issueRepository, times(1)).save(mockIssue);
+        verify(issueHistoryService, times(1)).record(IssueEventType.CONTENT_UPDATED, mockIssue, memberId);
     }
 
     @Test
@@ -611,7 +834,7 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
 
         // When
-        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description);
+        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description, null);
 
         // Then
         assertFalse(result);
@@ -639,7 +862,7 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description);
+        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description, null);
 
         // Then
         assertFalse(result);
@@ -667,13 +890,38 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description);
+        boolean result = issueService.updateIssue(memberId, projectId, issueId, title, description, null);
 
         // Then
         assertFalse(result);
         verify(issueRepository, never()).save(any());
     }
 
+    @Test
+    void updateIssue_VersionMismatch() {
+        // Given
+        String memberId = "member123";
+        Long projectId = 1L;
+        Long issueId = 1L;
+
+        Issue mockIssue = new Issue();
+        Project mockProject = new Project();
+        mockProject.setId(projectId);
+        Member mockMember = new Member();
+        mockMember.setId(memberId);
+
+        mockIssue.setProject(mockProject);
+        mockIssue.setReporter(mockMember);
+        mockIssue.setVersion(2L);
+
+        when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> issueService.updateIssue(memberId, projectId, issueId, "New Title", "New Description", 1L));
+        verify(issueRepository, never()).save(any());
+    }
+
     @Test
     void updateIssueState_SuccessForPL() {
         // Given
@@ -693,12 +941,14 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState);
+        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState, null);
 
         // Then
         assertTrue(result);
         assertEquals(newState, mockIssue.getState());
         verify(issueRepository, times(1)).save(mockIssue);
+        verify(issueFlowService, times(1)).recordTransition(mockIssue, State.NEW, newState);
+        verify(projectEventStream, times(1)).issueChanged(ProjectEventType.ISSUE_STATE_CHANGED, mockIssue);
     }
 
     @Test
@@ -719,7 +969,7 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState);
+        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState, null);
 
         // Then
         assertFalse(result);
@@ -748,12 +998,15 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState);
+        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState, null);
 
         // Then
         assertTrue(result);
         assertEquals(State.FIXED, mockIssue.getState());
         verify(issueRepository, times(1)).save(mockIssue);
+        verify(issueFlowService, times(1)).recordTransition(mockIssue, State.ASSIGNED, State.FIXED);
+        verify(issueCubeService, times(1)).recordChange(projectId,
+                new IssueCubeCoordinate(State.ASSIGNED, null, "dev123"), new IssueCubeCoordinate(State.FIXED, null, "dev123"));
     }
 
     @Test
@@ -781,7 +1034,7 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState);
+        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState, null);
 
         // Then
         assertTrue(result);
@@ -808,7 +1061,7 @@ public class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(mockIssue));
 
         // When
-        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState);
+        boolean result = issueService.updateIssueState(projectId, issueId, memberId, role, newState, null);
 
         // Then
         assertFalse(result);
@@ -833,7 +1086,10 @@ public class IssueServiceTest {
 
         // Then
         assertTrue(result);
-        verify(issueRepository, times(1)).delete(mockIssue);
+        verify(commentRepository, times(1)).deleteAllByIssueIdInBatch(issueId);
+        verify(issueRepository, times(1)).deleteAllByIdInBatch(List.of(issueId));
+        verify(issueHistoryService, times(1)).record(IssueEventType.DELETED, mockIssue, null);
+        verify(projectEventStream, times(1)).issueDeleted(projectId, issueId);
     }
 
     @Test
@@ -849,7 +1105,7 @@ public class IssueServiceTest {
 
         // Then
         assertFalse(result);
-        verify(issueRepository, times(0)).delete(any());
+        verify(issueRepository, times(0)).deleteAllByIdInBatch(any());
     }
 
     @Test
@@ -870,7 +1126,7 @@ public class IssueServiceTest {
 
         // Then
         assertFalse(result);
-        verify(issueRepository, times(0)).delete(any());
+        verify(issueRepository, times(0)).deleteAllByIdInBatch(any());
     }
 
     @Test
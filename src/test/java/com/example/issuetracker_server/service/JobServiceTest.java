@@ -0,0 +1,135 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.job.Job;
+import com.example.issuetracker_server.domain.job.JobRepository;
+import com.example.issuetracker_server.domain.job.JobState;
+import com.example.issuetracker_server.domain.job.JobType;
+import com.example.issuetracker_server.service.job.JobHandler;
+import com.example.issuetracker_server.service.job.JobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class JobServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobHandler handler;
+
+    private JobServiceImpl jobService;
+
+    // 저장소 mock 이 같은 객체를 돌려주므로 상태 변화를 그대로 확인할 수 있다
+    private Job job;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(handler.getType()).thenReturn(JobType.DELETE_PROJECT);
+        // 워커 풀 대신 호출한 스레드에서 바로 실행
+        jobService = new JobServiceImpl(jobRepository, List.of(handler), Runnable::run);
+
+        job = Job.builder()
+                .id(1L)
+                .type(JobType.DELETE_PROJECT)
+                .state(JobState.QUEUED)
+                .payload("10")
+                .requesterId("admin")
+                .build();
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void submit_SavesQueuedJobAndRunsIt() {
+        // Given
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                job.setPayload(saved.getPayload());
+                return job;
+            }
+            return saved;
+        });
+
+        // When
+        Long jobId = jobService.submit(JobType.DELETE_PROJECT, "10", "admin");
+
+        // Then
+        assertEquals(1L, jobId);
+        assertEquals(JobState.SUCCEEDED, job.getState());
+        assertEquals(100, job.getProgress());
+        verify(handler, times(1)).run(eq(job), any());
+    }
+
+    @Test
+    void submit_RejectedByExecutor_MarksJobFailedInsteadOfThrowing() {
+        // Given: 종료 중인 워커 풀처럼 작업을 받지 않는다
+        jobService = new JobServiceImpl(jobRepository, List.of(handler), task -> {
+            throw new TaskRejectedException("Executor is shutting down");
+        });
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job saved = invocation.getArgument(0);
+            return saved.getId() == null ? job : saved;
+        });
+
+        // When
+        Long jobId = jobService.submit(JobType.DELETE_PROJECT, "10", "admin");
+
+        // Then
+        assertEquals(1L, jobId);
+        assertEquals(JobState.FAILED, job.getState());
+        assertTrue(job.getMessage().contains("Executor is shutting down"));
+        verify(handler, never()).run(any(), any());
+    }
+
+    @Test
+    void run_HandlerFailure_MarksJobFailed() {
+        // Given
+        doThrow(new IllegalStateException("boom")).when(handler).run(any(), any());
+
+        // When
+        jobService.run(1L);
+
+        // Then
+        assertEquals(JobState.FAILED, job.getState());
+        assertEquals("boom", job.getMessage());
+    }
+
+    @Test
+    void run_SkipsJobThatIsNotQueued() {
+        // Given
+        job.setState(JobState.SUCCEEDED);
+
+        // When
+        jobService.run(1L);
+
+        // Then
+        verify(handler, never()).run(any(), any());
+    }
+
+    @Test
+    void resumeUnfinishedJobs_RequeuesInterruptedJobs() {
+        // Given
+        job.setState(JobState.RUNNING);
+        when(jobRepository.findByStateOrderByIdAsc(JobState.RUNNING)).thenReturn(List.of(job));
+        when(jobRepository.findByStateOrderByIdAsc(JobState.QUEUED)).thenReturn(List.of(job));
+
+        // When
+        jobService.resumeUnfinishedJobs();
+
+        // Then
+        verify(handler, times(1)).run(eq(job), any());
+        assertEquals(JobState.SUCCEEDED, job.getState());
+    }
+}
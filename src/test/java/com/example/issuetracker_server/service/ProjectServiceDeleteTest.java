@@ -0,0 +1,130 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.memberproject.MemberProject;
+import com.example.issuetracker_server.domain.memberproject.Role;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.project.ProjectService;
+import com.example.issuetracker_server.service.project.ProjectServiceImpl;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({ProjectServiceImpl.class, IssueBitmapIndex.class, SavedFilterIndex.class, IssueQueryPlanner.class})
+public class ProjectServiceDeleteTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectServiceDeleteTest.class);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    public void testDeleteRemovesOnlyThatProjectsRows() {
+        // Given
+        Member member = em.persist(Member.builder()
+                .id("member")
+                .password("password")
+                .name("Member")
+                .mail("member@example.com")
+                .build());
+        Project target = em.persist(Project.builder().title("Target").build());
+        Project other = em.persist(Project.builder().title("Other").build());
+        em.persist(new MemberProject(member, target, Role.PL));
+        em.persist(new MemberProject(member, other, Role.PL));
+        insertIssuesWithComments(target, member, 10, 5);
+        insertIssuesWithComments(other, member, 3, 2);
+        em.persist(SavedFilter.builder().projectId(target.getId()).memberId(member.getId()).name("mine").query("assignee:me").build());
+        em.persist(SavedFilter.builder().projectId(other.getId()).memberId(member.getId()).name("mine").query("assignee:me").build());
+        em.clear();
+
+        // When
+        projectService.delete(target.getId());
+        em.clear();
+
+        // Then
+        assertThat(em.find(Project.class, target.getId())).isNull();
+        assertThat(count("select count(i) from Issue i where i.project.id = " + target.getId())).isZero();
+        assertThat(count("select count(c) from Comment c where c.issue.project.id = " + target.getId())).isZero();
+        assertThat(count("select count(mp) from MemberProject mp where mp.project.id = " + target.getId())).isZero();
+        assertThat(count("select count(f) from SavedFilter f where f.projectId = " + target.getId())).isZero();
+
+        assertThat(em.find(Project.class, other.getId())).isNotNull();
+        assertThat(count("select count(i) from Issue i where i.project.id = " + other.getId())).isEqualTo(3);
+        assertThat(count("select count(c) from Comment c where c.issue.project.id = " + other.getId())).isEqualTo(6);
+        assertThat(count("select count(mp) from MemberProject mp where mp.project.id = " + other.getId())).isEqualTo(1);
+        assertThat(count("select count(f) from SavedFilter f where f.projectId = " + other.getId())).isEqualTo(1);
+    }
+
+    // ./gradlew test -Dbenchmark=true 일 때만 실행 (100,000 코멘트)
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void benchmarkDeleteProjectWith100kComments() {
+        // Given
+        Member member = em.persist(Member.builder()
+                .id("member")
+                .password("password")
+                .name("Member")
+                .mail("member@example.com")
+                .build());
+        Project project = em.persist(Project.builder().title("Big Project").build());
+        em.persist(new MemberProject(member, project, Role.PL));
+        insertIssuesWithComments(project, member, 1_000, 100);
+        em.clear();
+        assertThat(count("select count(c) from Comment c")).isEqualTo(100_000);
+
+        // When
+        long start = System.nanoTime();
+        projectService.delete(project.getId());
+        em.flush();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        log.info("[benchmark] delete project with 1000 issues / 100000 comments: {} ms", elapsedMs);
+        assertThat(count("select count(c) from Comment c")).isZero();
+        assertThat(count("select count(i) from Issue i")).isZero();
+    }
+
+    // 엔티티를 하나씩 persist 하지 않고 H2 SYSTEM_RANGE 로 한 번에 채운다
+    private void insertIssuesWithComments(Project project, Member member, int issues, int commentsPerIssue) {
+        em.flush();
+        em.getEntityManager().createNativeQuery(
+                        "INSERT INTO issue (project_id, title, description, reporter_id, priority, state, version) " +
+                                "SELECT :projectId, 'issue ' || X, 'description', :memberId, 'MAJOR', 'NEW', 0 " +
+                                "FROM SYSTEM_RANGE(1, :issues)")
+                .setParameter("projectId", project.getId())
+                .setParameter("memberId", member.getId())
+                .setParameter("issues", issues)
+                .executeUpdate();
+        em.getEntityManager().createNativeQuery(
+                        "INSERT INTO comment (author_id, issue_id, content, version) " +
+                                "SELECT :memberId, i.id, 'comment', 0 " +
+                                "FROM issue i CROSS JOIN SYSTEM_RANGE(1, :comments) " +
+                                "WHERE i.project_id = :projectId")
+                .setParameter("projectId", project.getId())
+                .setParameter("memberId", member.getId())
+                .setParameter("comments", commentsPerIssue)
+                .executeUpdate();
+    }
+
+    private long count(String jpql) {
+        return em.getEntityManager().createQuery(jpql, Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.service.issueindex.IssueBitmapIndex;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({SavedFilterIndex.class, IssueBitmapIndex.class, IssueQueryPlanner.class})
+public class SavedFilterIndexTest {
+
+    @Autowired
+    private SavedFilterIndex savedFilterIndex;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member reporter;
+    private Member dev1;
+    private Member dev2;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        reporter = member("filter-tester");
+        dev1 = member("filter-dev1");
+        dev2 = member("filter-dev2");
+        project = em.persist(Project.builder().title("filter").build());
+    }
+
+    @Test
+    public void testOpenRunsTheSavedQueryForItsOwner() {
+        // Given
+        Issue a = issue("login crash", dev1, State.ASSIGNED, Priority.BLOCKER);
+        Issue b = issue("login crash", dev2, State.ASSIGNED, Priority.BLOCKER);
+        Issue c = issue("crash on save", null, State.NEW, Priority.MINOR);
+        issue("slow page", dev1, State.FIXED, Priority.BLOCKER);
+        SavedFilter mine = filter(dev1, "my open blockers", "state:ASSIGNED,REOPEN priority:BLOCKER assignee:me");
+        SavedFilter crashes = filter(reporter, "crashes", "crash");
+        em.flush();
+
+        // When
+        SavedFilterIndex.View view = savedFilterIndex.open(project.getId(), mine.getId()).orElseThrow();
+
+        // Then
+        assertThat(view.memberId()).isEqualTo(dev1.getId());
+        assertThat(view.issueIds()).containsExactly(a.getId());
+        assertThat(savedFilterIndex.open(project.getId(), crashes.getId()).orElseThrow().issueIds())
+                .containsExactly(a.getId(), b.getId(), c.getId());
+        assertThat(savedFilterIndex.open(project.getId() + 1, mine.getId())).isEmpty();
+        assertThat(savedFilterIndex.open(project.getId(), -1L)).isEmpty();
+    }
+
+    @Test
+    public void testWritesApplyAfterCommit() {
+        // Given
+        Issue a = issue("login crash", null, State.NEW, Priority.MAJOR);
+        Issue b = issue("login crash", dev1, State.ASSIGNED, Priority.BLOCKER);
+        SavedFilter mine = filter(dev1, "my open blockers", "state:ASSIGNED,REOPEN priority:BLOCKER assignee:me");
+        em.flush();
+        assertThat(savedFilterIndex.open(project.getId(), mine.getId()).orElseThrow().issueIds()).containsExactly(b.getId());
+
+        // When
+        a.setAssignee(dev1);
+        a.setState(State.ASSIGNED);
+        a.setPriority(Priority.BLOCKER);
+        savedFilterIndex.record(a);
+        savedFilterIndex.remove(project.getId(), b.getId());
+
+        // Then: 커밋 전에는 그대로
+        assertThat(savedFilterIndex.open(project.getId(), mine.getId()).orElseThrow().issueIds()).containsExactly(b.getId());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertThat(savedFilterIndex.open(project.getId(), mine.getId()).orElseThrow().issueIds()).containsExactly(a.getId());
+
+            // 다른 담당자에게 넘어가면 빠진다
+            a.setAssignee(dev2);
+            savedFilterIndex.record(a);
+            assertThat(savedFilterIndex.open(project.getId(), mine.getId()).orElseThrow().issueIds()).isEmpty();
+        } finally {
+            TestTransaction.start();
+            em.remove(em.find(SavedFilter.class, mine.getId()));
+            em.remove(em.find(Issue.class, a.getId()));
+            em.remove(em.find(Issue.class, b.getId()));
+            em.remove(em.find(Project.class, project.getId()));
+            em.remove(em.find(Member.class, reporter.getId()));
+            em.remove(em.find(Member.class, dev1.getId()));
+            em.remove(em.find(Member.class, dev2.getId()));
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    public void testOlderVersionArrivingLateIsIgnored() {
+        // Given: 버전 0 으로 필터에 들어간 이슈
+        Issue a = issue("login crash", dev1, State.ASSIGNED, Priority.MAJOR);
+        SavedFilter assigned = filter(reporter, "assigned", "state:ASSIGNED");
+        em.flush();
+        assertThat(savedFilterIndex.open(project.getId(), assigned.getId()).orElseThrow().issueIds()).containsExactly(a.getId());
+        TestTransaction.end();
+
+        // When: 커밋 뒤 콜백이 커밋 순서와 반대로 (버전 2, 1) 돈다
+        savedFilterIndex.record(committed(a, State.ASSIGNED, 2L));
+        savedFilterIndex.record(committed(a, State.FIXED, 1L));
+
+        // Then
+        assertThat(savedFilterIndex.open(project.getId(), assigned.getId()).orElseThrow().issueIds()).containsExactly(a.getId());
+
+        // 지운 뒤에 도착한 쓰기도 버린다
+        savedFilterIndex.remove(project.getId(), a.getId());
+        savedFilterIndex.record(committed(a, State.ASSIGNED, 3L));
+        assertThat(savedFilterIndex.open(project.getId(), assigned.getId()).orElseThrow().issueIds()).isEmpty();
+    }
+
+    private Member member(String id) {
+        return em.persist(Member.builder()
+                .id(id)
+                .password("password")
+                .name(id)
+                .mail(id + "@example.com")
+                .build());
+    }
+
+    private Issue issue(String title, Member assignee, State state, Priority priority) {
+        return em.persist(Issue.builder()
+                .title(title)
+                .description("description")
+                .project(project)
+                .reporter(reporter)
+                .assignee(assignee)
+                .state(state)
+                .priority(priority)
+                .build());
+    }
+
+    private SavedFilter filter(Member owner, String name, String query) {
+        return em.persist(SavedFilter.builder()
+                .projectId(project.getId())
+                .memberId(owner.getId())
+                .name(name)
+                .query(query)
+                .build());
+    }
+
+    // 커밋 뒤 콜백이 읽을 이슈 (상태와 버전만 다르다)
+    private Issue committed(Issue issue, State state, Long version) {
+        return Issue.builder()
+                .id(issue.getId())
+                .title(issue.getTitle())
+                .description(issue.getDescription())
+                .project(project)
+                .reporter(reporter)
+                .assignee(issue.getAssignee())
+                .state(state)
+                .priority(issue.getPriority())
+                .version(version)
+                .build();
+    }
+}
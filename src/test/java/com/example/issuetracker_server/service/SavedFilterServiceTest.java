@@ -0,0 +1,115 @@
+package com.example.issuetracker_server.service;
+
+import com.example.issuetracker_server.domain.savedfilter.SavedFilter;
+import com.example.issuetracker_server.domain.savedfilter.SavedFilterRepository;
+import com.example.issuetracker_server.dto.issue.IssueResponseDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterRequestDto;
+import com.example.issuetracker_server.dto.savedfilter.SavedFilterResponseDto;
+import com.example.issuetracker_server.service.issue.IssueService;
+import com.example.issuetracker_server.service.issuequery.IssueQueryPlanner;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterIndex;
+import com.example.issuetracker_server.service.savedfilter.SavedFilterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SavedFilterServiceTest {
+
+    @Mock
+    private SavedFilterRepository savedFilterRepository;
+
+    @Mock
+    private SavedFilterIndex savedFilterIndex;
+
+    @Spy
+    private IssueQueryPlanner issueQueryPlanner = new IssueQueryPlanner(16);
+
+    @Mock
+    private IssueService issueService;
+
+    @InjectMocks
+    private SavedFilterServiceImpl savedFilterService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCreateSavesValidQuery() {
+        // Given
+        when(savedFilterRepository.save(any(SavedFilter.class))).thenAnswer(invocation -> {
+            SavedFilter filter = invocation.getArgument(0);
+            filter.setId(7L);
+            return filter;
+        });
+
+        // When
+        SavedFilterResponseDto response = savedFilterService.create(1L, "dev1",
+                new SavedFilterRequestDto(" my open blockers ", "priority:BLOCKER assignee:me"));
+
+        // Then
+        assertEquals(7L, response.getFilter_id());
+        assertEquals("my open blockers", response.getName());
+        assertEquals("priority:BLOCKER assignee:me", response.getQuery());
+        verify(issueQueryPlanner).plan("priority:BLOCKER assignee:me", "dev1");
+    }
+
+    @Test
+    void testCreateRejectsInvalidFilters() {
+        // Given
+        when(savedFilterRepository.existsByProjectIdAndMemberIdAndName(1L, "dev1", "taken")).thenReturn(true);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> savedFilterService.create(1L, "dev1", new SavedFilterRequestDto("bad", "severity:high")));
+        assertThrows(IllegalArgumentException.class,
+                () -> savedFilterService.create(1L, "dev1", new SavedFilterRequestDto(" ", "state:NEW")));
+        assertThrows(IllegalArgumentException.class,
+                () -> savedFilterService.create(1L, "dev1", new SavedFilterRequestDto("taken", "state:NEW")));
+        verify(savedFilterRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetIssuesReadsIdsFromTheIndex() {
+        // Given
+        when(savedFilterIndex.open(1L, 7L)).thenReturn(Optional.of(new SavedFilterIndex.View(7L, "dev1", List.of(3L, 5L))));
+        List<IssueResponseDto> issues = List.of(IssueResponseDto.builder().id(3L).build(), IssueResponseDto.builder().id(5L).build());
+        when(issueService.getIssuesById(List.of(3L, 5L))).thenReturn(issues);
+
+        // When
+        Optional<List<IssueResponseDto>> mine = savedFilterService.getIssues(1L, "dev1", 7L);
+        Optional<List<IssueResponseDto>> others = savedFilterService.getIssues(1L, "dev2", 7L);
+
+        // Then
+        assertEquals(Optional.of(issues), mine);
+        assertTrue(others.isEmpty());
+        verify(issueService, times(1)).getIssuesById(any());
+        verifyNoInteractions(savedFilterRepository);
+    }
+
+    @Test
+    void testDeleteOnlyOwnFilter() {
+        // Given
+        SavedFilter filter = SavedFilter.builder().id(7L).projectId(1L).memberId("dev1").name("mine").query("assignee:me").build();
+        when(savedFilterRepository.findById(7L)).thenReturn(Optional.of(filter));
+
+        // When & Then
+        assertFalse(savedFilterService.delete(1L, "dev2", 7L));
+        assertFalse(savedFilterService.delete(2L, "dev1", 7L));
+        verify(savedFilterRepository, never()).delete(any());
+
+        assertTrue(savedFilterService.delete(1L, "dev1", 7L));
+        verify(savedFilterRepository).delete(filter);
+        verify(savedFilterIndex).forget(1L, 7L);
+    }
+}
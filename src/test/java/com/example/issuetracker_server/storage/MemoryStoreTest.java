@@ -0,0 +1,268 @@
+package com.example.issuetracker_server.storage;
+
+import com.example.issuetracker_server.domain.comment.Comment;
+import com.example.issuetracker_server.domain.issue.Issue;
+import com.example.issuetracker_server.domain.issue.Priority;
+import com.example.issuetracker_server.domain.issue.State;
+import com.example.issuetracker_server.domain.member.Member;
+import com.example.issuetracker_server.domain.project.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MemoryStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRecoverFromWriteAheadLog() throws Exception {
+        // Given
+        Long projectId;
+        Long issueId;
+        MemoryStore store = MemoryStore.open(dir, 0, 0);
+        try {
+            projectId = seedProject(store);
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+            issueId = issueRepository.findByProjectId(projectId).get(0).getId();
+            Issue issue = issueRepository.findById(issueId).orElseThrow();
+            issue.setState(State.ASSIGNED);
+            issue.setAssignee(Member.builder().id("dev").build());
+            issueRepository.save(issue);
+        } finally {
+            store.closeWithoutSnapshot();
+        }
+
+        // When
+        MemoryStore recovered = MemoryStore.open(dir, 0, 0);
+        try {
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(recovered);
+
+            // Then
+            assertThat(issueRepository.findByProjectId(projectId)).hasSize(2);
+            assertThat(issueRepository.findByProjectIdAndState(projectId, State.ASSIGNED))
+                    .extracting(Issue::getId).containsExactly(issueId);
+            assertThat(issueRepository.findByProjectIdAndAssigneeIdContainingIgnoreCase(projectId, "DE"))
+                    .extracting(Issue::getId).containsExactly(issueId);
+            assertThat(issueRepository.findById(issueId).orElseThrow().getVersion()).isEqualTo(1L);
+            assertThat(new MemoryCommentRepository(recovered).findByIssueId(issueId)).hasSize(1);
+
+            // 복구 후에도 id 는 이어서 발급된다
+            Issue created = issueRepository.save(issue(projectId, "reporter", "After restart"));
+            assertThat(created.getId()).isGreaterThan(issueId + 1);
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    public void testRecoverFromSnapshotAndLaterSegments() throws Exception {
+        // Given
+        Long projectId;
+        MemoryStore store = MemoryStore.open(dir, 100, 0);
+        try {
+            projectId = seedProject(store);
+            store.snapshot();
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+            issueRepository.save(issue(projectId, "reporter", "After snapshot"));
+            issueRepository.deleteById(issueRepository.findByProjectId(projectId).get(0).getId());
+        } finally {
+            store.closeWithoutSnapshot();
+        }
+
+        // When
+        MemoryStore recovered = MemoryStore.open(dir, 100, 0);
+        try {
+            // Then
+            List<Issue> issues = new MemoryIssueRepository(recovered).findByProjectId(projectId);
+            assertThat(issues).extracting(Issue::getTitle).containsExactly("Second", "After snapshot");
+            // 지운 이슈의 코멘트도 함께 지워진다
+            assertThat(new MemoryCommentRepository(recovered).count()).isZero();
+            assertThat(files()).anyMatch(name -> name.startsWith("snapshot-"));
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    public void testTornLastLineIsIgnored() throws Exception {
+        // Given
+        Long projectId;
+        MemoryStore store = MemoryStore.open(dir, 0, 0);
+        try {
+            projectId = seedProject(store);
+        } finally {
+            store.closeWithoutSnapshot();
+        }
+        Path segment = dir.resolve(files().stream()
+                .filter(name -> name.startsWith("wal-"))
+                .max(String::compareTo)
+                .orElseThrow());
+        Files.writeString(segment, "{\"op\":\"PUT\",\"table\":\"ISSUE\",\"rec", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        MemoryStore recovered = MemoryStore.open(dir, 0, 0);
+        try {
+            // Then
+            assertThat(new MemoryIssueRepository(recovered).findByProjectId(projectId)).hasSize(2);
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    public void testStaleVersionIsRejected() throws Exception {
+        // Given
+        MemoryStore store = MemoryStore.open(dir, 0, 0);
+        try {
+            Long projectId = seedProject(store);
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+            Long issueId = issueRepository.findByProjectId(projectId).get(0).getId();
+            Issue first = issueRepository.findById(issueId).orElseThrow();
+            Issue second = issueRepository.findById(issueId).orElseThrow();
+            first.setTitle("First writer");
+            issueRepository.save(first);
+
+            // When
+            second.setTitle("Second writer");
+
+            // Then
+            assertThatThrownBy(() -> issueRepository.save(second))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            assertThat(issueRepository.findById(issueId).orElseThrow().getTitle()).isEqualTo("First writer");
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testTransactionWritesApplyOnCommitOnly() throws Exception {
+        // Given
+        MemoryStore store = MemoryStore.open(dir, 0, 0);
+        try {
+            Long projectId = seedProject(store);
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+            Long issueId = issueRepository.findByProjectId(projectId).get(0).getId();
+
+            // When: 롤백되는 트랜잭션
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                issueRepository.deleteById(issueId);
+                issueRepository.save(issue(projectId, "dev", "Rolled back"));
+                // 같은 트랜잭션에서는 바뀐 행이 보인다
+                assertThat(issueRepository.findByProjectId(projectId)).extracting(Issue::getTitle)
+                        .containsExactly("Second", "Rolled back");
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // Then
+            assertThat(issueRepository.findByProjectId(projectId)).extracting(Issue::getTitle)
+                    .containsExactly("First", "Second");
+            assertThat(new MemoryCommentRepository(store).findByIssueId(issueId)).hasSize(1);
+
+            // When: 커밋되는 트랜잭션
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                issueRepository.deleteById(issueId);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // Then
+            assertThat(issueRepository.findByProjectId(projectId)).extracting(Issue::getTitle).containsExactly("Second");
+            assertThat(new MemoryCommentRepository(store).count()).isZero();
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testSortPageAndQueryByExample() throws Exception {
+        // Given
+        MemoryStore store = MemoryStore.open(dir, 0, 0);
+        try {
+            Long projectId = seedProject(store);
+            MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+            issueRepository.save(issue(projectId, "dev", "Another"));
+
+            // When
+            List<Issue> byTitle = issueRepository.findAll(Sort.by(Sort.Order.desc("title")));
+            Page<Issue> secondPage = issueRepository.findAll(PageRequest.of(1, 2, Sort.by("title")));
+            Issue probe = Issue.builder()
+                    .project(Project.builder().id(projectId).build())
+                    .reporter(Member.builder().id("REPORTER").build())
+                    .build();
+            List<Issue> reported = issueRepository.findAll(Example.of(probe, ExampleMatcher.matching().withIgnoreCase()),
+                    Sort.by("title"));
+
+            // Then
+            assertThat(byTitle).extracting(Issue::getTitle).containsExactly("Second", "First", "Another");
+            assertThat(secondPage.getContent()).extracting(Issue::getTitle).containsExactly("Second");
+            assertThat(secondPage.getTotalElements()).isEqualTo(3);
+            assertThat(reported).extracting(Issue::getTitle).containsExactly("First", "Second");
+            assertThat(issueRepository.count(Example.of(Issue.builder().title("Another").build()))).isEqualTo(1);
+            assertThat(issueRepository.findBy(Example.of(probe, ExampleMatcher.matching().withIgnoreCase()),
+                    query -> query.sortBy(Sort.by(Sort.Order.desc("title"))).firstValue().getTitle()))
+                    .isEqualTo("Second");
+        } finally {
+            store.close();
+        }
+    }
+
+    // 회원 둘, 프로젝트 하나, 이슈 둘(첫 이슈에 코멘트 하나)
+    private static Long seedProject(MemoryStore store) {
+        MemoryMemberRepository memberRepository = new MemoryMemberRepository(store);
+        memberRepository.save(Member.builder().id("reporter").password("pw").name("Reporter").mail("r@example.com").build());
+        memberRepository.save(Member.builder().id("dev").password("pw").name("Dev").mail("d@example.com").build());
+        Project project = new MemoryProjectRepository(store).save(Project.builder().title("Project").build());
+
+        MemoryIssueRepository issueRepository = new MemoryIssueRepository(store);
+        Issue first = issueRepository.save(issue(project.getId(), "reporter", "First"));
+        issueRepository.save(issue(project.getId(), "reporter", "Second"));
+        new MemoryCommentRepository(store).save(Comment.builder()
+                .author(Member.builder().id("dev").build())
+                .issue(first)
+                .content("Comment")
+                .build());
+        return project.getId();
+    }
+
+    private static Issue issue(Long projectId, String reporterId, String title) {
+        return Issue.builder()
+                .project(Project.builder().id(projectId).build())
+                .reporter(Member.builder().id(reporterId).build())
+                .title(title)
+                .description("Description")
+                .state(State.NEW)
+                .priority(Priority.MAJOR)
+                .build();
+    }
+
+    private List<String> files() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}